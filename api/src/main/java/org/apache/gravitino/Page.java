@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino;
+
+import com.google.common.base.Preconditions;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * A page of a paginated listing, with the token to fetch the next page.
+ *
+ * <p>The listings are ordered by name and the page token is an opaque cursor on the last name of
+ * the previous page, so that the pages are stable even if entries are created or dropped between
+ * two requests. The names are ordered by {@link #NAME_ORDER}, which is the order of the binary
+ * collations used by the relational entity store, so that the pages listed in memory and the pages
+ * listed by the store agree on where a cursor is.
+ *
+ * @param <T> The type of the items in the page.
+ */
+@Evolving
+public final class Page<T> {
+
+  /** The order of the names in a listing, which compares the names by Unicode code points. */
+  public static final Comparator<String> NAME_ORDER = Page::compareNames;
+
+  private final List<T> items;
+
+  @Nullable private final String nextPageToken;
+
+  private Page(List<T> items, @Nullable String nextPageToken) {
+    this.items = items;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Create a page with the given items and next page token.
+   *
+   * @param items The items of the page.
+   * @param nextPageToken The token of the next page, or null if it's the last page.
+   * @param <T> The type of the items in the page.
+   * @return The created page.
+   */
+  public static <T> Page<T> of(List<T> items, @Nullable String nextPageToken) {
+    Preconditions.checkArgument(items != null, "Cannot create a page with null items");
+    return new Page<>(Collections.unmodifiableList(items), nextPageToken);
+  }
+
+  /**
+   * Paginate a complete listing in memory, this is used by the catalogs which can't paginate the
+   * listing natively.
+   *
+   * @param all All the items of the listing.
+   * @param nameFunc The function to get the name of an item, the items are ordered by name.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of items in the page.
+   * @param <T> The type of the items in the page.
+   * @return The page of items after the page token.
+   */
+  public static <T> Page<T> paginate(
+      T[] all, Function<T, String> nameFunc, @Nullable String pageToken, int pageSize) {
+    checkPageSize(pageSize);
+    String lastName = pageToken == null ? null : decodePageToken(pageToken);
+    List<T> remaining =
+        Arrays.stream(all)
+            .filter(item -> lastName == null || compareNames(nameFunc.apply(item), lastName) > 0)
+            .sorted(Comparator.comparing(nameFunc, NAME_ORDER))
+            .limit(pageSize + 1L)
+            .collect(Collectors.toList());
+    return fromListing(remaining, nameFunc, pageSize);
+  }
+
+  /**
+   * Create a page from a listing of at most {@code pageSize + 1} items ordered by name. The extra
+   * item only tells that there is a next page, and is not included in the page.
+   *
+   * @param listing The items listed after the page token, ordered by name.
+   * @param nameFunc The function to get the name of an item.
+   * @param pageSize The maximum number of items in the page.
+   * @param <T> The type of the items in the page.
+   * @return The page of items.
+   */
+  public static <T> Page<T> fromListing(
+      List<T> listing, Function<T, String> nameFunc, int pageSize) {
+    if (listing.size() <= pageSize) {
+      return of(listing, null);
+    }
+
+    List<T> items = listing.subList(0, pageSize);
+    return of(items, encodePageToken(nameFunc.apply(items.get(pageSize - 1))));
+  }
+
+  /**
+   * Compare two names by their Unicode code points.
+   *
+   * @param name1 The first name.
+   * @param name2 The second name.
+   * @return A negative integer, zero, or a positive integer as the first name is before, equal to,
+   *     or after the second name.
+   */
+  public static int compareNames(String name1, String name2) {
+    int i = 0;
+    int j = 0;
+    while (i < name1.length() && j < name2.length()) {
+      int c1 = name1.codePointAt(i);
+      int c2 = name2.codePointAt(j);
+      if (c1 != c2) {
+        return Integer.compare(c1, c2);
+      }
+      i += Character.charCount(c1);
+      j += Character.charCount(c2);
+    }
+    return Boolean.compare(i < name1.length(), j < name2.length());
+  }
+
+  /**
+   * Encode the last name of a page into the token of the next page.
+   *
+   * @param lastName The name of the last item of the page.
+   * @return The token of the next page.
+   */
+  public static String encodePageToken(String lastName) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(lastName.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a page token into the name of the last item of the previous page.
+   *
+   * @param pageToken The page token.
+   * @return The name of the last item of the previous page.
+   * @throws IllegalArgumentException If the page token is malformed.
+   */
+  public static String decodePageToken(String pageToken) {
+    try {
+      return new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+    }
+  }
+
+  /**
+   * Check that the page size is valid.
+   *
+   * @param pageSize The page size.
+   * @throws IllegalArgumentException If the page size is not positive.
+   */
+  public static void checkPageSize(int pageSize) {
+    Preconditions.checkArgument(pageSize > 0, "Page size must be positive, but got %s", pageSize);
+  }
+
+  /**
+   * Get the items of the page.
+   *
+   * @return The items of the page.
+   */
+  public List<T> items() {
+    return items;
+  }
+
+  /**
+   * Get the token to fetch the next page.
+   *
+   * @return The token of the next page, or null if it's the last page.
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
+  /**
+   * Check if there are more items after this page.
+   *
+   * @return True if there are more items after this page, false otherwise.
+   */
+  public boolean hasNextPage() {
+    return nextPageToken != null;
+  }
+}
@@ -46,6 +46,22 @@ public interface SupportsSchemas {
    */
   String[] listSchemas() throws NoSuchCatalogException;
 
+  /**
+   * List the schemas from the catalog page by page, ordered by name.
+   *
+   * <p>The default implementation lists all the schemas and returns the requested page of them. The
+   * catalogs which can paginate the listing natively should override it.
+   *
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of schemas in the page.
+   * @return A page of schema names.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   * @throws IllegalArgumentException If the page token or the page size is invalid.
+   */
+  default Page<String> listSchemas(String pageToken, int pageSize) throws NoSuchCatalogException {
+    return Page.paginate(listSchemas(), name -> name, pageToken, pageSize);
+  }
+
   /**
    * Check if a schema exists.
    *
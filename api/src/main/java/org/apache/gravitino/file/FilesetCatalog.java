@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -47,6 +48,24 @@ public interface FilesetCatalog {
    */
   NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the filesets from the catalog page by page, ordered by name.
+   *
+   * <p>The default implementation lists all the filesets and returns the requested page of them.
+   * The catalogs which can paginate the listing natively should override it.
+   *
+   * @param namespace A schema namespace.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of filesets in the page.
+   * @return A page of fileset identifiers.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   * @throws IllegalArgumentException If the page token or the page size is invalid.
+   */
+  default Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return Page.paginate(listFilesets(namespace), NameIdentifier::name, pageToken, pageSize);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -185,4 +204,26 @@ public interface FilesetCatalog {
       throws NoSuchFilesetException, NoSuchLocationNameException {
     throw new UnsupportedOperationException("Not implemented");
   }
+
+  /**
+   * Get the actual locations of a batch of files or directories in a fileset by the location name.
+   *
+   * <p>The default implementation gets the locations one by one, the catalogs which can resolve
+   * them at once should override it.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @param locationName The location name. If null, the default location will be used.
+   * @return The actual locations of the files or directories, in the same order as the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   * @throws NoSuchLocationNameException If the location name does not exist.
+   */
+  default String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    String[] fileLocations = new String[subPaths.length];
+    for (int i = 0; i < subPaths.length; i++) {
+      fileLocations[i] = getFileLocation(ident, subPaths[i], locationName);
+    }
+    return fileLocations;
+  }
 }
@@ -24,6 +24,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.ModelAlreadyExistsException;
 import org.apache.gravitino.exceptions.ModelVersionAliasesAlreadyExistException;
@@ -48,6 +49,24 @@ public interface ModelCatalog {
    */
   NameIdentifier[] listModels(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the models from the catalog page by page, ordered by name.
+   *
+   * <p>The default implementation lists all the models and returns the requested page of them. The
+   * catalogs which can paginate the listing natively should override it.
+   *
+   * @param namespace A schema namespace.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of models in the page.
+   * @return A page of model identifiers.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   * @throws IllegalArgumentException If the page token or the page size is invalid.
+   */
+  default Page<NameIdentifier> listModels(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return Page.paginate(listModels(namespace), NameIdentifier::name, pageToken, pageSize);
+  }
+
   /**
    * Get a model metadata by {@link NameIdentifier} from the catalog.
    *
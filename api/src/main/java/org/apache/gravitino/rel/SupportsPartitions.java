@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.rel;
 
+import java.util.function.Function;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -44,6 +46,53 @@ public interface SupportsPartitions {
    */
   Partition[] listPartitions();
 
+  /**
+   * List the partition names of the table page by page, ordered by name, optionally keeping only
+   * the partitions matching a filter.
+   *
+   * <p>The filter is a predicate on the partition fields in the syntax of the underlying catalog,
+   * for example {@code dt >= "2024-01-01" and hour = "00"} for Hive tables. The default
+   * implementation doesn't support filters, it lists all the partition names and returns the
+   * requested page of them. The catalogs which can filter or paginate the listing natively should
+   * override it.
+   *
+   * @param filter The filter on the partition fields, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partition names in the page.
+   * @return A page of partition names.
+   * @throws UnsupportedOperationException If the filter is not supported.
+   * @throws IllegalArgumentException If the filter, the page token or the page size is invalid.
+   */
+  default Page<String> listPartitionNames(String filter, String pageToken, int pageSize) {
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filter is not supported");
+    }
+    return Page.paginate(listPartitionNames(), Function.identity(), pageToken, pageSize);
+  }
+
+  /**
+   * List the partitions of the table page by page, ordered by name, optionally keeping only the
+   * partitions matching a filter.
+   *
+   * <p>The filter has the same syntax as in {@link #listPartitionNames(String, String, int)}. The
+   * default implementation doesn't support filters, it lists all the partitions and returns the
+   * requested page of them. The catalogs which can filter or paginate the listing natively should
+   * override it.
+   *
+   * @param filter The filter on the partition fields, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partitions in the page.
+   * @return A page of partitions.
+   * @throws UnsupportedOperationException If the filter is not supported.
+   * @throws IllegalArgumentException If the filter, the page token or the page size is invalid.
+   */
+  default Page<Partition> listPartitions(String filter, String pageToken, int pageSize) {
+    if (filter != null) {
+      throw new UnsupportedOperationException("Partition filter is not supported");
+    }
+    return Page.paginate(listPartitions(), Partition::name, pageToken, pageSize);
+  }
+
   /**
    * Get a partition by partition name, you may get one of the following types of partitions:
    *
@@ -23,6 +23,7 @@ package org.apache.gravitino.rel;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -51,6 +52,24 @@ public interface TableCatalog {
    */
   NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the tables from the catalog page by page, ordered by name.
+   *
+   * <p>The default implementation lists all the tables and returns the requested page of them. The
+   * catalogs which can paginate the listing natively should override it.
+   *
+   * @param namespace A namespace.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of tables in the page.
+   * @return A page of table identifiers.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   * @throws IllegalArgumentException If the page token or the page size is invalid.
+   */
+  default Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return Page.paginate(listTables(namespace), NameIdentifier::name, pageToken, pageSize);
+  }
+
   /**
    * Load table metadata by {@link NameIdentifier} from the catalog.
    *
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestPage {
+
+  @Test
+  public void testPaginate() {
+    String[] names = new String[] {"c", "a", "e", "b", "d"};
+
+    Page<String> page = Page.paginate(names, name -> name, null, 2);
+    Assertions.assertEquals(Lists.newArrayList("a", "b"), page.items());
+    Assertions.assertTrue(page.hasNextPage());
+
+    page = Page.paginate(names, name -> name, page.nextPageToken(), 2);
+    Assertions.assertEquals(Lists.newArrayList("c", "d"), page.items());
+    Assertions.assertTrue(page.hasNextPage());
+
+    page = Page.paginate(names, name -> name, page.nextPageToken(), 2);
+    Assertions.assertEquals(Lists.newArrayList("e"), page.items());
+    Assertions.assertFalse(page.hasNextPage());
+    Assertions.assertNull(page.nextPageToken());
+
+    // A page exactly filling the remaining items is the last one.
+    page = Page.paginate(names, name -> name, null, 5);
+    Assertions.assertEquals(5, page.items().size());
+    Assertions.assertFalse(page.hasNextPage());
+  }
+
+  @Test
+  public void testPaginateWithChangedItems() {
+    NameIdentifier[] idents =
+        new NameIdentifier[] {
+          NameIdentifier.of("s", "t1"), NameIdentifier.of("s", "t2"), NameIdentifier.of("s", "t3")
+        };
+    Page<NameIdentifier> page = Page.paginate(idents, NameIdentifier::name, null, 2);
+    Assertions.assertEquals("t2", Page.decodePageToken(page.nextPageToken()));
+
+    // The next page starts after the last name of the previous one, even if items were dropped.
+    NameIdentifier[] remaining =
+        new NameIdentifier[] {NameIdentifier.of("s", "t1"), NameIdentifier.of("s", "t3")};
+    page = Page.paginate(remaining, NameIdentifier::name, page.nextPageToken(), 2);
+    List<NameIdentifier> items = page.items();
+    Assertions.assertEquals(Lists.newArrayList(NameIdentifier.of("s", "t3")), items);
+  }
+
+  @Test
+  public void testNameOrder() {
+    // Names are ordered by code points, as the binary collations of the relational store do, so a
+    // supplementary character is after every character of the basic multilingual plane.
+    String supplementary = new String(Character.toChars(0x1F600));
+    String[] names = new String[] {supplementary, "\uFF21", "B", "a"};
+
+    Page<String> page = Page.paginate(names, name -> name, null, 2);
+    Assertions.assertEquals(Lists.newArrayList("B", "a"), page.items());
+    page = Page.paginate(names, name -> name, page.nextPageToken(), 2);
+    Assertions.assertEquals(Lists.newArrayList("\uFF21", supplementary), page.items());
+    Assertions.assertFalse(page.hasNextPage());
+
+    Assertions.assertTrue(Page.compareNames("ab", "abc") < 0);
+    Assertions.assertEquals(0, Page.compareNames("abc", "abc"));
+  }
+
+  @Test
+  public void testFromListing() {
+    Page<String> page = Page.fromListing(Lists.newArrayList("a", "b", "c"), name -> name, 2);
+    Assertions.assertEquals(Lists.newArrayList("a", "b"), page.items());
+    Assertions.assertEquals("b", Page.decodePageToken(page.nextPageToken()));
+
+    page = Page.fromListing(Lists.newArrayList("c"), name -> name, 2);
+    Assertions.assertFalse(page.hasNextPage());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    String[] names = new String[] {"a"};
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Page.paginate(names, name -> name, null, 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> Page.paginate(names, name -> name, "not base64!", 1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> Page.of(null, null));
+  }
+}
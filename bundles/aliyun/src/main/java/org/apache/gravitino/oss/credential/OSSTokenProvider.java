@@ -24,6 +24,7 @@ import com.aliyun.credentials.models.CredentialModel;
 import com.aliyun.credentials.utils.AuthConstant;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.net.URI;
 import java.util.HashMap;
@@ -129,7 +130,8 @@ public class OSSTokenProvider implements CredentialProvider {
 
   // reference:
   // https://www.alibabacloud.com/help/en/oss/user-guide/tutorial-use-ram-policies-to-control-access-to-oss?spm=a2c63.p38356.help-menu-31815.d_2_4_5_1.5536471b56XPRQ
-  private String createPolicy(Set<String> readLocations, Set<String> writeLocations) {
+  @VisibleForTesting
+  String createPolicy(Set<String> readLocations, Set<String> writeLocations) {
     Policy.Builder policyBuilder = Policy.builder().version("1");
 
     // Allow read and write access to the specified locations
@@ -140,7 +142,7 @@ public class OSSTokenProvider implements CredentialProvider {
             .addAction("oss:GetObjectVersion");
 
     // Add support for bucket-level policies
-    Map<String, Statement.Builder> bucketListStatementBuilder = new HashMap<>();
+    Map<String, StringLike.Builder> bucketListPrefixBuilder = new HashMap<>();
     Map<String, Statement.Builder> bucketMetadataStatementBuilder = new HashMap<>();
 
     String arnPrefix = getArnPrefix();
@@ -151,15 +153,9 @@ public class OSSTokenProvider implements CredentialProvider {
               URI uri = URI.create(location);
               allowGetObjectStatementBuilder.addResource(getOssUriWithArn(arnPrefix, uri));
               String bucketArn = arnPrefix + getBucketName(uri);
-              // OSS use 'oss:ListObjects' to list objects in a bucket while s3 use 's3:ListBucket'
-              bucketListStatementBuilder.computeIfAbsent(
-                  bucketArn,
-                  key ->
-                      Statement.builder()
-                          .effect(Effect.ALLOW)
-                          .addAction("oss:ListObjects")
-                          .addResource(key)
-                          .condition(getCondition(uri)));
+              bucketListPrefixBuilder
+                  .computeIfAbsent(bucketArn, key -> StringLike.builder())
+                  .addPrefix(listPrefix(uri));
               // Add get bucket location and bucket info action.
               bucketMetadataStatementBuilder.computeIfAbsent(
                   bucketArn,
@@ -186,10 +182,17 @@ public class OSSTokenProvider implements CredentialProvider {
       policyBuilder.addStatement(allowPutObjectStatementBuilder.build());
     }
 
-    if (!bucketListStatementBuilder.isEmpty()) {
-      bucketListStatementBuilder
-          .values()
-          .forEach(statementBuilder -> policyBuilder.addStatement(statementBuilder.build()));
+    if (!bucketListPrefixBuilder.isEmpty()) {
+      // OSS use 'oss:ListObjects' to list objects in a bucket while s3 use 's3:ListBucket'
+      bucketListPrefixBuilder.forEach(
+          (bucketArn, prefixBuilder) ->
+              policyBuilder.addStatement(
+                  Statement.builder()
+                      .effect(Effect.ALLOW)
+                      .addAction("oss:ListObjects")
+                      .addResource(bucketArn)
+                      .condition(Condition.builder().stringLike(prefixBuilder.build()).build())
+                      .build()));
     } else {
       // add list privilege with 0 resources
       policyBuilder.addStatement(
@@ -207,13 +210,10 @@ public class OSSTokenProvider implements CredentialProvider {
     }
   }
 
-  private Condition getCondition(URI uri) {
-    return Condition.builder()
-        .stringLike(
-            StringLike.builder()
-                .addPrefix(concatPathWithSep(trimLeadingSlash(uri.getPath()), "*", "/"))
-                .build())
-        .build();
+  private String listPrefix(URI uri) {
+    String rawPath = trimLeadingSlash(uri.getPath());
+    // The whole bucket is listed for the bucket root, "/*" doesn't match any key
+    return rawPath.isEmpty() ? "*" : concatPathWithSep(rawPath, "*", "/");
   }
 
   private String getArnPrefix() {
@@ -19,8 +19,16 @@
 
 package org.apache.gravitino.oss.credential;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.gravitino.credential.CredentialPathCoalescer;
 import org.apache.gravitino.credential.OSSSecretKeyCredential;
 import org.apache.gravitino.credential.OSSTokenCredential;
+import org.apache.gravitino.credential.PathBasedCredentialContext;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +45,35 @@ public class TestCredentialProvider {
         OSSSecretKeyCredential.OSS_SECRET_KEY_CREDENTIAL_TYPE,
         ossSecretKeyProvider.credentialType());
   }
+
+  @Test
+  void testPolicyOfCoalescedPaths() throws IOException {
+    OSSTokenProvider ossTokenProvider = new OSSTokenProvider();
+    PathBasedCredentialContext context =
+        new PathBasedCredentialContext(
+            "user",
+            ImmutableSet.of(),
+            ImmutableSet.of("oss://bucket/db1/table", "oss://bucket/db2/table"));
+
+    String policy = ossTokenProvider.createPolicy(context.getReadPaths(), context.getWritePaths());
+    Assertions.assertEquals(ImmutableSet.of("db1/table/*", "db2/table/*"), listPrefixes(policy));
+
+    // The bucket root is listed as a whole
+    PathBasedCredentialContext coalescedContext =
+        (PathBasedCredentialContext) new CredentialPathCoalescer(0, 1024).coalesce(context);
+    Assertions.assertEquals(ImmutableSet.of("oss://bucket/"), coalescedContext.getReadPaths());
+    policy =
+        ossTokenProvider.createPolicy(
+            coalescedContext.getReadPaths(), coalescedContext.getWritePaths());
+    Assertions.assertEquals(ImmutableSet.of("*"), listPrefixes(policy));
+  }
+
+  private static Set<String> listPrefixes(String policy) throws IOException {
+    Set<String> prefixes = new HashSet<>();
+    for (JsonNode statement : new ObjectMapper().readTree(policy).get("Statement")) {
+      JsonNode prefixNode = statement.path("Condition").path("StringLike").path("oss:Prefix");
+      prefixNode.forEach(prefix -> prefixes.add(prefix.asText()));
+    }
+    return prefixes;
+  }
 }
@@ -24,7 +24,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -266,11 +268,7 @@ public class AwsIrsaCredentialProvider implements CredentialProvider {
                               .addAction("s3:ListBucket")
                               .addResource(key))
                   .addConditions(
-                      IamConditionOperator.STRING_LIKE,
-                      "s3:prefix",
-                      Arrays.asList(
-                          rawPath, // Get raw path metadata information
-                          addWildcardToPath(rawPath))); // Listing objects in raw path
+                      IamConditionOperator.STRING_LIKE, "s3:prefix", listPrefixes(rawPath));
 
               // Add get bucket location permissions
               bucketGetLocationStatementBuilder.computeIfAbsent(
@@ -320,6 +318,16 @@ public class AwsIrsaCredentialProvider implements CredentialProvider {
     return "arn:aws:s3:::";
   }
 
+  private static List<String> listPrefixes(String rawPath) {
+    // The whole bucket is listed for the bucket root, "/*" doesn't match any key
+    if (rawPath.isEmpty()) {
+      return Collections.singletonList("*");
+    }
+    return Arrays.asList(
+        rawPath, // Get raw path metadata information
+        addWildcardToPath(rawPath)); // Listing objects in raw path
+  }
+
   private static String addWildcardToPath(String path) {
     return path.endsWith("/") ? path + "*" : path + "/*";
   }
@@ -19,9 +19,12 @@
 
 package org.apache.gravitino.s3.credential;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -116,7 +119,8 @@ public class S3TokenProvider implements CredentialProvider {
     return builder.build();
   }
 
-  private IamPolicy createPolicy(
+  @VisibleForTesting
+  IamPolicy createPolicy(
       String roleArn, Set<String> readLocations, Set<String> writeLocations) {
     IamPolicy.Builder policyBuilder = IamPolicy.builder();
     IamStatement.Builder allowGetObjectStatementBuilder =
@@ -146,13 +150,7 @@ public class S3TokenProvider implements CredentialProvider {
                               .addAction("s3:ListBucket")
                               .addResource(key))
                   .addConditions(
-                      IamConditionOperator.STRING_LIKE,
-                      "s3:prefix",
-                      Arrays.asList(
-                          // Get raw path metadata information for AWS hadoop connector
-                          rawPath,
-                          // Listing objects in raw path
-                          concatPathWithSep(rawPath, "*", "/")));
+                      IamConditionOperator.STRING_LIKE, "s3:prefix", listPrefixes(rawPath));
               bucketGetLocationStatmentBuilder.computeIfAbsent(
                   bucketArn,
                   key ->
@@ -206,6 +204,18 @@ public class S3TokenProvider implements CredentialProvider {
     }
   }
 
+  private static List<String> listPrefixes(String rawPath) {
+    // The whole bucket is listed for the bucket root, "/*" doesn't match any key
+    if (rawPath.isEmpty()) {
+      return Collections.singletonList("*");
+    }
+    return Arrays.asList(
+        // Get raw path metadata information for AWS hadoop connector
+        rawPath,
+        // Listing objects in raw path
+        concatPathWithSep(rawPath, "*", "/"));
+  }
+
   private static String concatPathWithSep(String leftPath, String rightPath, String fileSep) {
     if (leftPath.endsWith(fileSep) && rightPath.startsWith(fileSep)) {
       return leftPath + rightPath.substring(1);
@@ -19,10 +19,17 @@
 
 package org.apache.gravitino.s3.credential;
 
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.gravitino.credential.CredentialPathCoalescer;
+import org.apache.gravitino.credential.PathBasedCredentialContext;
 import org.apache.gravitino.credential.S3SecretKeyCredential;
 import org.apache.gravitino.credential.S3TokenCredential;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.policybuilder.iam.IamCondition;
+import software.amazon.awssdk.policybuilder.iam.IamPolicy;
 
 public class TestCredentialProvider {
 
@@ -36,4 +43,34 @@ public class TestCredentialProvider {
     Assertions.assertEquals(
         S3SecretKeyCredential.S3_SECRET_KEY_CREDENTIAL_TYPE, s3SecretKeyProvider.credentialType());
   }
+
+  @Test
+  void testPolicyOfCoalescedPaths() {
+    S3TokenProvider s3TokenProvider = new S3TokenProvider();
+    String roleArn = "arn:aws:iam::123456789012:role/test";
+    PathBasedCredentialContext context =
+        new PathBasedCredentialContext(
+            "user", ImmutableSet.of(), ImmutableSet.of("s3://bucket/db/table"));
+
+    IamPolicy policy =
+        s3TokenProvider.createPolicy(roleArn, context.getReadPaths(), context.getWritePaths());
+    Assertions.assertEquals(ImmutableSet.of("db/table", "db/table/*"), listPrefixes(policy));
+
+    // The bucket root is listed as a whole
+    PathBasedCredentialContext coalescedContext =
+        (PathBasedCredentialContext) new CredentialPathCoalescer(0, 1024).coalesce(context);
+    Assertions.assertEquals(ImmutableSet.of("s3://bucket/"), coalescedContext.getReadPaths());
+    policy =
+        s3TokenProvider.createPolicy(
+            roleArn, coalescedContext.getReadPaths(), coalescedContext.getWritePaths());
+    Assertions.assertEquals(ImmutableSet.of("*"), listPrefixes(policy));
+  }
+
+  private static Set<String> listPrefixes(IamPolicy policy) {
+    return policy.statements().stream()
+        .flatMap(statement -> statement.conditions().stream())
+        .filter(condition -> condition.key().value().equals("s3:prefix"))
+        .map(IamCondition::value)
+        .collect(Collectors.toSet());
+  }
 }
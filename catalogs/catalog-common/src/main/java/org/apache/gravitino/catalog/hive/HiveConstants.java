@@ -30,6 +30,13 @@ public class HiveConstants {
   public static final String CHECK_INTERVAL_SEC = "kerberos.check-interval-sec";
   public static final String FETCH_TIMEOUT_SEC = "kerberos.keytab-fetch-timeout-sec";
   public static final String LIST_ALL_TABLES = "list-all-tables";
+  public static final String LIST_TABLES_SINGLE_PASS = "list-tables.single-pass";
+  public static final String LIST_TABLES_BATCH_SIZE = "list-tables.batch-size";
+  public static final String NOTIFICATION_SYNC_ENABLE = "notification-sync.enable";
+  public static final String NOTIFICATION_SYNC_INTERVAL_MS = "notification-sync.interval-ms";
+  public static final String NOTIFICATION_SYNC_MAX_EVENTS_PER_POLL =
+      "notification-sync.max-events-per-poll";
+  public static final String NOTIFICATION_SYNC_MAX_LAG_MS = "notification-sync.max-lag-ms";
 
   // table properties
   public static final String LOCATION = "location";
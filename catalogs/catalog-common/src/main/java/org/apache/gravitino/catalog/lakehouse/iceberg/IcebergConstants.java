@@ -69,12 +69,35 @@ public class IcebergConstants {
   public static final String ICEBERG_METRICS_STORE = "metricsStore";
   public static final String ICEBERG_METRICS_STORE_RETAIN_DAYS = "metricsStoreRetainDays";
   public static final String ICEBERG_METRICS_QUEUE_CAPACITY = "metricsQueueCapacity";
+  public static final String ICEBERG_METRICS_STORE_LOCAL_PATH = "metricsStoreLocalPath";
+  public static final String ICEBERG_METRICS_STORE_BUCKET_INTERVAL_MS =
+      "metricsStoreBucketIntervalMs";
+  public static final String ICEBERG_METRICS_STORE_FLUSH_INTERVAL_MS =
+      "metricsStoreFlushIntervalMs";
 
   public static final String GRAVITINO_ICEBERG_REST_SERVICE_NAME = "iceberg-rest";
 
   public static final String ICEBERG_REST_CATALOG_CACHE_EVICTION_INTERVAL =
       "catalog-cache-eviction-interval-ms";
 
+  public static final String ICEBERG_REST_TABLE_METADATA_CACHE_MAX_SIZE =
+      "table-metadata-cache-max-size";
+
+  public static final String ICEBERG_REST_TABLE_COMMIT_COALESCING_ENABLED =
+      "table-commit-coalescing-enabled";
+  public static final String ICEBERG_REST_TABLE_COMMIT_COALESCING_MAX_BATCH_SIZE =
+      "table-commit-coalescing-max-batch-size";
+
+  public static final String ICEBERG_REST_SCAN_PLANNING_ENABLED = "scan-planning-enabled";
+  public static final String ICEBERG_REST_SCAN_PLANNING_THREAD_POOL_SIZE =
+      "scan-planning-thread-pool-size";
+  public static final String ICEBERG_REST_SCAN_PLANNING_TASKS_PER_PLAN_TASK =
+      "scan-planning-tasks-per-plan-task";
+  public static final String ICEBERG_REST_SCAN_PLANNING_CACHE_MAX_TASKS =
+      "scan-planning-cache-max-tasks";
+  public static final String ICEBERG_REST_SCAN_PLANNING_CACHE_EXPIRE_MS =
+      "scan-planning-cache-expire-ms";
+
   public static final String ICEBERG_REST_CATALOG_CONFIG_PROVIDER = "catalog-config-provider";
   public static final String STATIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME = "static-config-provider";
   public static final String DYNAMIC_ICEBERG_CATALOG_CONFIG_PROVIDER_NAME =
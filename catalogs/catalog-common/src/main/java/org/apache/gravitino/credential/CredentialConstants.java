@@ -26,6 +26,13 @@ public class CredentialConstants {
   public static final String CREDENTIAL_PROVIDERS = "credential-providers";
   public static final String CREDENTIAL_CACHE_EXPIRE_RATIO = "credential-cache-expire-ratio";
   public static final String CREDENTIAL_CACHE_MAX_SIZE = "credential-cache-max-size";
+  public static final String CREDENTIAL_CACHE_REFRESH_RATIO = "credential-cache-refresh-ratio";
+  public static final String CREDENTIAL_CACHE_REFRESH_THREADS = "credential-cache-refresh-threads";
+  public static final String CREDENTIAL_PATH_COALESCING_ENABLED =
+      "credential-path-coalescing-enabled";
+  public static final String CREDENTIAL_PATH_COALESCING_DEPTH = "credential-path-coalescing-depth";
+  public static final String CREDENTIAL_PATH_COALESCING_MAX_LENGTH =
+      "credential-path-coalescing-max-length";
   public static final String S3_TOKEN_EXPIRE_IN_SECS = "s3-token-expire-in-secs";
   public static final String OSS_TOKEN_EXPIRE_IN_SECS = "oss-token-expire-in-secs";
   public static final String COS_TOKEN_EXPIRE_IN_SECS = "cos-token-expire-in-secs";
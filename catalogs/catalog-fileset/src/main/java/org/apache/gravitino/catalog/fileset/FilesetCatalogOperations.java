@@ -35,16 +35,26 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -58,6 +68,7 @@ import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
@@ -95,6 +106,7 @@ import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionTimeoutException;
@@ -110,6 +122,9 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
   // location placeholder pattern format: {{placeholder}}
   private static final Pattern LOCATION_PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{(.*?)\\}\\}");
   private static final Logger LOG = LoggerFactory.getLogger(FilesetCatalogOperations.class);
+  private static final String LOCAL_FILE_SCHEME = "file";
+  private static final int MAX_FILE_LISTINGS = 1000;
+  private static final long FILE_LISTING_EXPIRE_MINUTES = 10;
 
   private final EntityStore store;
 
@@ -132,6 +147,9 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
   @VisibleForTesting ScheduledThreadPoolExecutor scheduler;
   @VisibleForTesting Cache<FileSystemCacheKey, FileSystem> fileSystemCache;
 
+  // The paginated file listings in progress keyed by their page tokens.
+  private final Cache<String, FileListing> fileListings;
+
   FilesetCatalogOperations(EntityStore store) {
     this.store = store;
     scheduler =
@@ -155,6 +173,11 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
                 })
             .scheduler(Scheduler.forScheduledExecutorService(scheduler))
             .build();
+    this.fileListings =
+        Caffeine.newBuilder()
+            .maximumSize(MAX_FILE_LISTINGS)
+            .expireAfterAccess(FILE_LISTING_EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .build();
   }
 
   static class FileSystemCacheKey {
@@ -202,6 +225,30 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  /** The iterator of a directory in the depth-first traversal of a paginated file listing. */
+  private static class ListingFrame {
+    private final RemoteIterator<FileStatus> statuses;
+    // The path of the directory relative to the listed sub path, ends with a slash if not empty.
+    private final String relativeDir;
+
+    private ListingFrame(RemoteIterator<FileStatus> statuses, String relativeDir) {
+      this.statuses = statuses;
+      this.relativeDir = relativeDir;
+    }
+  }
+
+  // The state of a paginated file listing kept between its pages, it's bound to the listing
+  // arguments and the user who started it.
+  private static class FileListing {
+    private final String listingKey;
+    private final Deque<ListingFrame> frames;
+
+    private FileListing(String listingKey, Deque<ListingFrame> frames) {
+      this.listingKey = listingKey;
+      this.frames = frames;
+    }
+  }
+
   public FilesetCatalogOperations() {
     this(GravitinoEnv.getInstance().entityStore());
   }
@@ -280,6 +327,22 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  @Override
+  public Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    try {
+      NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
+      if (!store.exists(schemaIdent, Entity.EntityType.SCHEMA)) {
+        throw new NoSuchSchemaException(SCHEMA_DOES_NOT_EXIST_MSG, schemaIdent);
+      }
+
+      return listEntityPage(
+          namespace, FilesetEntity.class, Entity.EntityType.FILESET, pageToken, pageSize);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to list filesets under namespace " + namespace, e);
+    }
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     try {
@@ -328,16 +391,9 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     String filesetName = filesetIdent.name();
 
     try {
+      String parentPath = buildGVFSFilePath(catalogName, schemaName, filesetName, subPath);
       return Arrays.stream(fs.listStatus(formalizedPath))
-          .map(
-              status ->
-                  FileInfoDTO.builder()
-                      .name(status.getPath().getName())
-                      .isDir(status.isDirectory())
-                      .size(status.isDirectory() ? 0L : status.getLen())
-                      .lastModified(status.getModificationTime())
-                      .path(buildGVFSFilePath(catalogName, schemaName, filesetName, subPath))
-                      .build())
+          .map(status -> toFileInfo(status, parentPath))
           .toArray(FileInfo[]::new);
 
     } catch (IOException e) {
@@ -345,6 +401,112 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  @Override
+  public Page<FileInfo> listFiles(
+      NameIdentifier filesetIdent,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      @Nullable String glob,
+      @Nullable String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    if (disableFSOps) {
+      LOG.warn("Filesystem operations disabled, rejecting listFiles for {}", filesetIdent);
+      throw new UnsupportedOperationException("Filesystem operations are disabled on this server");
+    }
+
+    Page.checkPageSize(pageSize);
+    int maxFiles = Math.min(pageSize, MAX_LIST_FILES_PAGE_SIZE);
+    PathMatcher globMatcher =
+        glob == null ? null : FileSystems.getDefault().getPathMatcher("glob:" + glob);
+    String listingKey =
+        String.join(
+            "|",
+            filesetIdent.toString(),
+            String.valueOf(locationName),
+            subPath,
+            String.valueOf(recursive),
+            String.valueOf(glob),
+            PrincipalUtils.getCurrentPrincipal().getName());
+
+    String actualPath = getFileLocation(filesetIdent, subPath, locationName);
+    FileSystem fileSystem = getFileSystemWithCache(new Path(actualPath), conf);
+    Path formalizedPath =
+        new Path(actualPath).makeQualified(fileSystem.getUri(), fileSystem.getWorkingDirectory());
+    FileSystem fs = getFileSystemWithCache(formalizedPath, conf);
+
+    // The listing is a depth-first traversal which holds one directory iterator per level. The
+    // object stores don't list the entries ordered by name, so the iterators of a listing are kept
+    // between its pages rather than resuming from the last entry. A page token can be used once,
+    // which keeps the iterators from being shared by concurrent requests.
+    Deque<ListingFrame> frames;
+    if (pageToken != null) {
+      String listingId = Page.decodePageToken(pageToken);
+      FileListing listing = fileListings.getIfPresent(listingId);
+      if (listing == null
+          || !listing.listingKey.equals(listingKey)
+          || !fileListings.asMap().remove(listingId, listing)) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Page token %s is invalid or expired, please list the files from the first page",
+                pageToken));
+      }
+      frames = listing.frames;
+    } else {
+      frames = new ArrayDeque<>();
+      try {
+        frames.push(new ListingFrame(listDirectory(fs, formalizedPath), ""));
+      } catch (FileNotFoundException e) {
+        throw new IllegalArgumentException(
+            String.format("Path %s does not exist in fileset %s", formalizedPath, filesetIdent),
+            e);
+      }
+    }
+
+    String catalogName = filesetIdent.namespace().level(1);
+    String schemaName = filesetIdent.namespace().level(2);
+    String filesetName = filesetIdent.name();
+    List<FileInfo> files = new ArrayList<>();
+    while (files.size() < maxFiles && !frames.isEmpty()) {
+      ListingFrame frame = frames.peek();
+      if (!frame.statuses.hasNext()) {
+        frames.pop();
+        continue;
+      }
+
+      FileStatus status = frame.statuses.next();
+      String name = status.getPath().getName();
+      if (globMatcher == null || globMatcher.matches(Paths.get(name))) {
+        String parentSubPath =
+            frame.relativeDir.isEmpty()
+                ? subPath
+                : removeTrailingSlash(subPath) + SLASH + frame.relativeDir;
+        files.add(
+            toFileInfo(
+                status, buildGVFSFilePath(catalogName, schemaName, filesetName, parentSubPath)));
+      }
+      if (recursive && status.isDirectory()) {
+        pushSubDirectory(frames, fs, status.getPath(), frame.relativeDir + name);
+      }
+    }
+
+    boolean hasNextPage = false;
+    for (ListingFrame frame : frames) {
+      if (frame.statuses.hasNext()) {
+        hasNextPage = true;
+        break;
+      }
+    }
+    if (!hasNextPage) {
+      return Page.of(files, null);
+    }
+
+    String listingId = UUID.randomUUID().toString();
+    fileListings.put(listingId, new FileListing(listingKey, frames));
+    return Page.of(files, Page.encodePageToken(listingId));
+  }
+
   @Override
   public Fileset createMultipleLocationFileset(
       NameIdentifier ident,
@@ -666,11 +828,15 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
   public String getFileLocation(NameIdentifier ident, String subPath, String locationName)
       throws NoSuchFilesetException, NoSuchLocationNameException {
     Preconditions.checkArgument(subPath != null, "subPath must not be null");
-    String processedSubPath;
-    if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
-      processedSubPath = SLASH + subPath.trim();
-    } else {
-      processedSubPath = subPath.trim();
+    return getFileLocations(ident, new String[] {subPath}, locationName)[0];
+  }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    Preconditions.checkArgument(subPaths != null, "subPaths must not be null");
+    for (String subPath : subPaths) {
+      Preconditions.checkArgument(subPath != null, "subPath must not be null");
     }
 
     Fileset fileset = loadFileset(ident);
@@ -690,47 +856,61 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
           "Location name %s does not exist in fileset %s", targetLocationName, ident);
     }
 
+    FilesetDataOperation dataOperation = getCallerDataOperation();
+    String storageLocation = fileset.storageLocations().get(targetLocationName);
+    String[] fileLocations = new String[subPaths.length];
+    for (int i = 0; i < subPaths.length; i++) {
+      fileLocations[i] = resolveFileLocation(storageLocation, subPaths[i], dataOperation);
+    }
+    return fileLocations;
+  }
+
+  private FilesetDataOperation getCallerDataOperation() {
+    if (!hasCallerContext()) {
+      return null;
+    }
+
+    Map<String, String> contextMap = CallerContext.CallerContextHolder.get().context();
+    String operation =
+        contextMap.getOrDefault(
+            FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+            FilesetDataOperation.UNKNOWN.name());
+    if (!FilesetDataOperation.checkValid(operation)) {
+      LOG.warn(
+          "The data operation: {} is not valid, we cannot do some checks for this operation.",
+          operation);
+      return null;
+    }
+    return FilesetDataOperation.valueOf(operation);
+  }
+
+  private String resolveFileLocation(
+      String storageLocation, String subPath, FilesetDataOperation dataOperation) {
+    String processedSubPath;
+    if (!subPath.trim().isEmpty() && !subPath.trim().startsWith(SLASH)) {
+      processedSubPath = SLASH + subPath.trim();
+    } else {
+      processedSubPath = subPath.trim();
+    }
+
     // do checks for some data operations.
-    if (hasCallerContext()) {
-      Map<String, String> contextMap = CallerContext.CallerContextHolder.get().context();
-      String operation =
-          contextMap.getOrDefault(
-              FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
-              FilesetDataOperation.UNKNOWN.name());
-      if (!FilesetDataOperation.checkValid(operation)) {
-        LOG.warn(
-            "The data operation: {} is not valid, we cannot do some checks for this operation.",
-            operation);
-      } else {
-        FilesetDataOperation dataOperation = FilesetDataOperation.valueOf(operation);
-        switch (dataOperation) {
-          case RENAME:
-            // if the sub path is blank, it cannot be renamed otherwise the metadata in the
-            // Gravitino server may be inconsistent.
-            if (StringUtils.isBlank(processedSubPath)
-                || (processedSubPath.startsWith(SLASH) && processedSubPath.length() == 1)) {
-              throw new GravitinoRuntimeException(
-                  "subPath cannot be blank when need to rename a file or a directory.");
-            }
-            break;
-          default:
-            break;
-        }
+    if (dataOperation == FilesetDataOperation.RENAME) {
+      // if the sub path is blank, it cannot be renamed otherwise the metadata in the
+      // Gravitino server may be inconsistent.
+      if (StringUtils.isBlank(processedSubPath)
+          || (processedSubPath.startsWith(SLASH) && processedSubPath.length() == 1)) {
+        throw new GravitinoRuntimeException(
+            "subPath cannot be blank when need to rename a file or a directory.");
       }
     }
 
-    String fileLocation;
     // If the processed sub path is blank, we pass the storage location directly
     if (StringUtils.isBlank(processedSubPath)) {
-      fileLocation = fileset.storageLocations().get(targetLocationName);
-    } else {
-      // the processed sub path always starts with "/" if it is not blank,
-      // so we can safely remove the tailing slash if the storage location ends with "/".
-      String storageLocation =
-          removeTrailingSlash(fileset.storageLocations().get(targetLocationName));
-      fileLocation = String.format("%s%s", storageLocation, processedSubPath);
+      return storageLocation;
     }
-    return fileLocation;
+    // the processed sub path always starts with "/" if it is not blank,
+    // so we can safely remove the tailing slash if the storage location ends with "/".
+    return String.format("%s%s", removeTrailingSlash(storageLocation), processedSubPath);
   }
 
   @Override
@@ -982,6 +1162,10 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
               });
       fileSystemCache.cleanUp();
     }
+
+    if (fileListings != null) {
+      fileListings.invalidateAll();
+    }
   }
 
   private void validateLocationHierarchy(
@@ -1332,6 +1516,50 @@ public class FilesetCatalogOperations extends ManagedSchemaOperations
         });
   }
 
+  private FileInfo toFileInfo(FileStatus status, String parentPath) {
+    return FileInfoDTO.builder()
+        .name(status.getPath().getName())
+        .isDir(status.isDirectory())
+        .size(status.isDirectory() ? 0L : status.getLen())
+        .lastModified(status.getModificationTime())
+        .path(parentPath)
+        .build();
+  }
+
+  private RemoteIterator<FileStatus> listDirectory(FileSystem fs, Path dir) throws IOException {
+    if (!LOCAL_FILE_SCHEME.equals(fs.getUri().getScheme())) {
+      return fs.listStatusIterator(dir);
+    }
+
+    // The local file system lists the entries in no particular order, sort them so that the
+    // listing is stable.
+
+    FileStatus[] statuses = fs.listStatus(dir);
+    Arrays.sort(statuses, Comparator.comparing(status -> status.getPath().getName()));
+    Iterator<FileStatus> iterator = Arrays.asList(statuses).iterator();
+    return new RemoteIterator<FileStatus>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public FileStatus next() {
+        return iterator.next();
+      }
+    };
+  }
+
+  private void pushSubDirectory(
+      Deque<ListingFrame> frames, FileSystem fs, Path dir, String relativePath)
+      throws IOException {
+    try {
+      frames.push(new ListingFrame(listDirectory(fs, dir), relativePath + SLASH));
+    } catch (FileNotFoundException e) {
+      LOG.debug("Directory {} is removed during the listing, skip it", dir);
+    }
+  }
+
   private String buildGVFSFilePath(
       String catalogName, String schemaName, String filesetName, String subPath) {
     String prefix = String.join(SLASH, "/fileset", catalogName, schemaName, filesetName);
@@ -37,6 +37,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.UserPrincipal;
@@ -231,6 +232,12 @@ public class SecureFilesetCatalogOperations
     return filesetCatalogOperations.listSchemas(namespace);
   }
 
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    return filesetCatalogOperations.listSchemas(namespace, pageToken, pageSize);
+  }
+
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
     return filesetCatalogOperations.loadSchema(ident);
@@ -247,12 +254,32 @@ public class SecureFilesetCatalogOperations
     return filesetCatalogOperations.listFilesets(namespace);
   }
 
+  @Override
+  public Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return filesetCatalogOperations.listFilesets(namespace, pageToken, pageSize);
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
     return filesetCatalogOperations.listFiles(ident, locationName, subPath);
   }
 
+  @Override
+  public Page<FileInfo> listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String glob,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    return filesetCatalogOperations.listFiles(
+        ident, locationName, subPath, recursive, glob, pageToken, pageSize);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return filesetCatalogOperations.loadFileset(ident);
@@ -264,6 +291,12 @@ public class SecureFilesetCatalogOperations
     return filesetCatalogOperations.getFileLocation(ident, subPath, locationName);
   }
 
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    return filesetCatalogOperations.getFileLocations(ident, subPaths, locationName);
+  }
+
   @Override
   public void close() throws IOException {
     filesetCatalogOperations.close();
@@ -55,6 +55,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -72,6 +73,7 @@ import org.apache.gravitino.EntityStoreFactory;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
@@ -86,6 +88,7 @@ import org.apache.gravitino.connector.PropertyEntry;
 import org.apache.gravitino.credential.CredentialConstants;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
+import org.apache.gravitino.exceptions.NoSuchLocationNameException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
@@ -239,6 +242,13 @@ public class TestFilesetCatalogOperations {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_STRIPES)).thenReturn(1);
+    Mockito.when(config.get(Configs.CACHE_NEGATIVE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.STORE_GC_PARALLELISM)).thenReturn(4);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(0L);
+    Mockito.when(config.get(Configs.STORE_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_CONNECTION_USAGE)).thenReturn(0.8);
 
     store = EntityStoreFactory.createEntityStore(config);
     store.initialize(config);
@@ -947,6 +957,40 @@ public class TestFilesetCatalogOperations {
     }
   }
 
+  @Test
+  public void testListFilesetsByPage() throws IOException {
+    final long testId = generateTestId();
+    String schemaName = "schema" + testId;
+    String comment = "comment" + testId;
+    String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+
+    createSchema(testId, schemaName, comment, null, schemaPath);
+    for (String fileset : new String[] {"fileset_3", "fileset_1", "fileset_2"}) {
+      createFileset(fileset, schemaName, comment, Fileset.Type.MANAGED, null, null);
+    }
+
+    try (SecureFilesetCatalogOperations ops = new SecureFilesetCatalogOperations(store)) {
+      ops.initialize(Maps.newHashMap(), randomCatalogInfo(), FILESET_PROPERTIES_METADATA);
+      Namespace namespace = Namespace.of("m1", "c1", schemaName);
+
+      Page<NameIdentifier> page = ops.listFilesets(namespace, null, 2);
+      Assertions.assertEquals(
+          Arrays.asList(
+              NameIdentifier.of(namespace, "fileset_1"), NameIdentifier.of(namespace, "fileset_2")),
+          page.items());
+      Assertions.assertTrue(page.hasNextPage());
+
+      page = ops.listFilesets(namespace, page.nextPageToken(), 2);
+      Assertions.assertEquals(
+          Arrays.asList(NameIdentifier.of(namespace, "fileset_3")), page.items());
+      Assertions.assertFalse(page.hasNextPage());
+
+      Assertions.assertThrows(
+          NoSuchSchemaException.class,
+          () -> ops.listFilesets(Namespace.of("m1", "c1", "schema_not_exist"), null, 2));
+    }
+  }
+
   @Test
   public void testListFilesetFiles() throws IOException {
     final long testId = generateTestId();
@@ -997,6 +1041,92 @@ public class TestFilesetCatalogOperations {
     }
   }
 
+  @Test
+  public void testListFilesetFilesWithPagination() throws IOException {
+    final long testId = generateTestId();
+    final String schemaName = "schema" + testId;
+    final String comment = "comment" + testId;
+    final String filesetName = "fileset" + testId;
+    final String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    final NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, filesetName);
+
+    createSchema(testId, schemaName, comment, null, schemaPath);
+    createFileset(filesetName, schemaName, comment, Fileset.Type.MANAGED, null, null);
+
+    try (SecureFilesetCatalogOperations ops = new SecureFilesetCatalogOperations(store)) {
+      ops.initialize(Maps.newHashMap(), randomCatalogInfo(), FILESET_PROPERTIES_METADATA);
+
+      Path testDir = new Path(schemaPath + "/" + filesetName);
+      FileSystem fs = testDir.getFileSystem(new Configuration());
+      fs.mkdirs(testDir);
+      fs.create(new Path(testDir, "a.txt")).close();
+      fs.create(new Path(testDir, "b/b1.txt")).close();
+      fs.create(new Path(testDir, "b/b2.log")).close();
+      fs.create(new Path(testDir, "c.txt")).close();
+
+      Page<FileInfo> page = ops.listFiles(filesetIdent, null, "/", true, null, null, 2);
+      Assertions.assertEquals(
+          Arrays.asList("a.txt", "b"),
+          page.items().stream().map(FileInfo::name).collect(Collectors.toList()));
+      Assertions.assertTrue(page.hasNextPage());
+
+      page = ops.listFiles(filesetIdent, null, "/", true, null, page.nextPageToken(), 2);
+      Assertions.assertEquals(
+          Arrays.asList("b1.txt", "b2.log"),
+          page.items().stream().map(FileInfo::name).collect(Collectors.toList()));
+      Assertions.assertTrue(page.items().get(0).path().endsWith(filesetName + "/b"));
+      Assertions.assertTrue(page.hasNextPage());
+
+      String pageToken = page.nextPageToken();
+      // The page token is bound to the listing arguments
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> ops.listFiles(filesetIdent, null, "/", false, null, pageToken, 2));
+      page = ops.listFiles(filesetIdent, null, "/", true, null, pageToken, 2);
+      Assertions.assertEquals(
+          Collections.singletonList("c.txt"),
+          page.items().stream().map(FileInfo::name).collect(Collectors.toList()));
+      Assertions.assertFalse(page.hasNextPage());
+      // The page token can be used once
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> ops.listFiles(filesetIdent, null, "/", true, null, pageToken, 2));
+
+      // Each entry of a flat directory is listed once
+      for (int i = 0; i < 10; i++) {
+        fs.create(new Path(testDir, "b/f-" + i)).close();
+      }
+      Set<String> names = new HashSet<>();
+      int pages = 0;
+      String token = null;
+      do {
+        page = ops.listFiles(filesetIdent, null, "/b", false, null, token, 3);
+        page.items().forEach(file -> Assertions.assertTrue(names.add(file.name())));
+        token = page.nextPageToken();
+        pages++;
+      } while (token != null);
+      Assertions.assertEquals(12, names.size());
+      Assertions.assertEquals(4, pages);
+
+      // Test glob filter
+      page = ops.listFiles(filesetIdent, null, "/", true, "*.txt", null, 10);
+      Assertions.assertEquals(
+          Arrays.asList("a.txt", "b1.txt", "c.txt"),
+          page.items().stream().map(FileInfo::name).collect(Collectors.toList()));
+
+      // Test non-recursive listing
+      page = ops.listFiles(filesetIdent, null, "/", false, null, null, 10);
+      Assertions.assertEquals(
+          Arrays.asList("a.txt", "b", "c.txt"),
+          page.items().stream().map(FileInfo::name).collect(Collectors.toList()));
+      Assertions.assertFalse(page.hasNextPage());
+
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> ops.listFiles(filesetIdent, null, "/non_existent", false, null, null, 10));
+    }
+  }
+
   @Test
   public void testListFilesetFilesWithFSOpsDisabled() throws Exception {
     final long testId = generateTestId();
@@ -1452,6 +1582,8 @@ public class TestFilesetCatalogOperations {
       String subPath = "/test/test.parquet";
       when(mockOps.getFileLocation(filesetIdent, subPath)).thenCallRealMethod();
       when(mockOps.getFileLocation(filesetIdent, subPath, null)).thenCallRealMethod();
+      when(mockOps.getFileLocations(filesetIdent, new String[] {subPath}, null))
+          .thenCallRealMethod();
       when(mockOps.getFileSystem(Mockito.any(), Mockito.any()))
           .thenReturn(FileSystem.getLocal(new Configuration()));
       when(mockOps.getFileSystemWithCache(Mockito.any(), Mockito.any())).thenCallRealMethod();
@@ -1469,6 +1601,56 @@ public class TestFilesetCatalogOperations {
     }
   }
 
+  @Test
+  public void testGetFileLocations() throws IOException {
+    final long testId = generateTestId();
+    final String schemaName = "schema" + testId;
+    final String comment = "comment" + testId;
+    final String schemaPath = TEST_ROOT_PATH + "/" + schemaName;
+    final String filesetName = "fileset" + testId;
+    final String storageLocation = TEST_ROOT_PATH + "/" + schemaName + "/" + filesetName;
+
+    createSchema(testId, schemaName, comment, null, schemaPath);
+    Fileset fileset =
+        createFileset(
+            filesetName, schemaName, comment, Fileset.Type.MANAGED, null, storageLocation);
+
+    try (SecureFilesetCatalogOperations ops = new SecureFilesetCatalogOperations(store)) {
+      ops.initialize(Maps.newHashMap(), randomCatalogInfo(), FILESET_PROPERTIES_METADATA);
+      NameIdentifier filesetIdent = NameIdentifier.of("m1", "c1", schemaName, filesetName);
+      String[] fileLocations =
+          ops.getFileLocations(
+              filesetIdent, new String[] {"/test/a.parquet", "test/b.parquet", ""}, null);
+      Assertions.assertArrayEquals(
+          new String[] {
+            fileset.storageLocation() + "/test/a.parquet",
+            fileset.storageLocation() + "/test/b.parquet",
+            fileset.storageLocation()
+          },
+          fileLocations);
+
+      Assertions.assertThrows(
+          IllegalArgumentException.class,
+          () -> ops.getFileLocations(filesetIdent, new String[] {"/a", null}, null));
+      Assertions.assertThrows(
+          NoSuchLocationNameException.class,
+          () -> ops.getFileLocations(filesetIdent, new String[] {"/a"}, "not_exist"));
+
+      // the rename check applies to each sub path
+      Map<String, String> contextMap = Maps.newHashMap();
+      contextMap.put(
+          FilesetAuditConstants.HTTP_HEADER_FILESET_DATA_OPERATION,
+          FilesetDataOperation.RENAME.name());
+      CallerContext.CallerContextHolder.set(
+          CallerContext.builder().withContext(contextMap).build());
+      Assertions.assertThrows(
+          GravitinoRuntimeException.class,
+          () -> ops.getFileLocations(filesetIdent, new String[] {"/a", "/"}, null));
+    } finally {
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
   @Test
   public void testCreateSchemaWithDifferentUser() throws Exception {
     // Create schema with user "alice"
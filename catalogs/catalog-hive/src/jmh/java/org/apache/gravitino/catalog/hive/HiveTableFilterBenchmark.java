@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog.hive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * HiveTableFilterBenchmark compares the latency of filtering the non-Hive tables out of the table
+ * names of a database with {@link HiveTableFilter} and with the former list based filtering, which
+ * called {@code List#removeAll} with the Iceberg and Paimon tables and {@code List#removeIf} once
+ * per Hudi table.
+ *
+ * <p>The synthetic databases contain about {@link #tableCount} table names, {@link
+ * #ICEBERG_AND_PAIMON_RATIO} percent of the tables are Iceberg or Paimon tables and {@link
+ * #HUDI_RATIO} percent of them are Hudi tables listed with their {@code _ro} and {@code _rt}
+ * views. Run it with {@code ./gradlew :catalogs:catalog-hive:jmh}, the list based filtering takes
+ * seconds for the largest databases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class HiveTableFilterBenchmark {
+  public static final int ICEBERG_AND_PAIMON_RATIO = 10;
+  public static final int HUDI_RATIO = 5;
+
+  @Param({"1000", "10000", "60000", "200000"})
+  public int tableCount;
+
+  private List<String> allTables;
+  private List<String> icebergAndPaimonTables;
+  private List<String> hudiTables;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.allTables = new ArrayList<>(tableCount);
+    this.icebergAndPaimonTables = new ArrayList<>();
+    this.hudiTables = new ArrayList<>();
+
+    for (int i = 0; allTables.size() < tableCount; i++) {
+      String table = "table_" + i;
+      int bucket = i % 100;
+      if (bucket < ICEBERG_AND_PAIMON_RATIO) {
+        icebergAndPaimonTables.add(table);
+        allTables.add(table);
+      } else if (bucket < ICEBERG_AND_PAIMON_RATIO + HUDI_RATIO) {
+        hudiTables.add(table);
+        allTables.add(table);
+        allTables.add(table + "_ro");
+        allTables.add(table + "_rt");
+      } else {
+        allTables.add(table);
+      }
+    }
+  }
+
+  @Benchmark
+  public List<String> benchmarkSetBasedFilter() {
+    return HiveTableFilter.filterTableNames(allTables, icebergAndPaimonTables, hudiTables);
+  }
+
+  @Benchmark
+  public List<String> benchmarkListBasedFilter() {
+    List<String> tables = new ArrayList<>(allTables);
+    tables.removeAll(icebergAndPaimonTables);
+    for (String hudiTable : hudiTables) {
+      tables.removeIf(
+          t ->
+              t.equals(hudiTable)
+                  || t.startsWith(hudiTable + "_ro")
+                  || t.startsWith(hudiTable + "_rt"));
+    }
+    return tables;
+  }
+}
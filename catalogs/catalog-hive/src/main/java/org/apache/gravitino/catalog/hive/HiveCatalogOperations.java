@@ -18,8 +18,16 @@
  */
 package org.apache.gravitino.catalog.hive;
 
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.CLIENT_POOL_SIZE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.IMPERSONATION_ENABLE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_ALL_TABLES;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_TABLES_BATCH_SIZE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_TABLES_SINGLE_PASS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METASTORE_URIS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_ENABLE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_INTERVAL_MS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_MAX_EVENTS_PER_POLL;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.NOTIFICATION_SYNC_MAX_LAG_MS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.PRINCIPAL;
 import static org.apache.gravitino.catalog.hive.HiveTable.SUPPORT_TABLE_TYPES;
 import static org.apache.gravitino.catalog.hive.HiveTablePropertiesMetadata.COMMENT;
@@ -31,20 +39,29 @@ import static org.apache.hadoop.hive.metastore.TableType.EXTERNAL_TABLE;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.PrivilegedExceptionAction;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -58,6 +75,7 @@ import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.ProxyPlugin;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
@@ -108,6 +126,8 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
   @VisibleForTesting HiveConf hiveConf;
 
+  @VisibleForTesting HiveNotificationLogSync notificationLogSync;
+
   private CatalogInfo info;
 
   private HasPropertyMetadata propertiesMetadata;
@@ -116,6 +136,10 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   private String kerberosRealm;
   private ProxyPlugin proxyPlugin;
   private boolean listAllTables = true;
+  // The executor to fetch the table objects in parallel when listing tables in single pass, it's
+  // null if the single pass listing is disabled.
+  private ExecutorService listTablesExecutor;
+  private int listTablesBatchSize;
   // The maximum number of tables that can be returned by the listTableNamesByFilter function.
   // The default value is -1, which means that all tables are returned.
   private static final short MAX_TABLES = -1;
@@ -176,6 +200,74 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     this.clientPool = new CachedClientPool(hiveConf, conf);
 
     this.listAllTables = enableListAllTables(conf);
+
+    this.listTablesExecutor = createListTablesExecutorIfNecessary(conf);
+
+    this.notificationLogSync = createNotificationLogSyncIfNecessary(conf);
+  }
+
+  private ExecutorService createListTablesExecutorIfNecessary(Map<String, String> conf) {
+    PropertiesMetadata catalogPropertiesMetadata = propertiesMetadata.catalogPropertiesMetadata();
+    if (listAllTables
+        || !(boolean) catalogPropertiesMetadata.getOrDefault(conf, LIST_TABLES_SINGLE_PASS)) {
+      return null;
+    }
+
+    this.listTablesBatchSize =
+        (int) catalogPropertiesMetadata.getOrDefault(conf, LIST_TABLES_BATCH_SIZE);
+    Preconditions.checkArgument(
+        listTablesBatchSize > 0, "%s must be positive", LIST_TABLES_BATCH_SIZE);
+
+    // More threads than the clients in the pool only wait for a client to be released.
+    int parallelism = (int) catalogPropertiesMetadata.getOrDefault(conf, CLIENT_POOL_SIZE);
+    return Executors.newFixedThreadPool(
+        parallelism,
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("Hive-list-tables-" + info.name() + "-%d")
+            .build());
+  }
+
+  private HiveNotificationLogSync createNotificationLogSyncIfNecessary(Map<String, String> conf) {
+    PropertiesMetadata catalogPropertiesMetadata = propertiesMetadata.catalogPropertiesMetadata();
+    if (!(boolean) catalogPropertiesMetadata.getOrDefault(conf, NOTIFICATION_SYNC_ENABLE)) {
+      return null;
+    }
+
+    // The snapshot is shared by all the users, it can't respect the privileges of the impersonated
+    // users in Hive Metastore.
+    Preconditions.checkArgument(
+        !(boolean) catalogPropertiesMetadata.getOrDefault(conf, IMPERSONATION_ENABLE),
+        "%s can't be enabled together with %s",
+        NOTIFICATION_SYNC_ENABLE,
+        IMPERSONATION_ENABLE);
+
+    HiveNotificationLogSync sync =
+        new HiveNotificationLogSync(
+            clientPool,
+            new HiveNotificationSyncMetricsSource(info.namespace().level(0), info.name()),
+            (long) catalogPropertiesMetadata.getOrDefault(conf, NOTIFICATION_SYNC_INTERVAL_MS),
+            (int)
+                catalogPropertiesMetadata.getOrDefault(
+                    conf, NOTIFICATION_SYNC_MAX_EVENTS_PER_POLL),
+            (long) catalogPropertiesMetadata.getOrDefault(conf, NOTIFICATION_SYNC_MAX_LAG_MS));
+    sync.start();
+    return sync;
+  }
+
+  /**
+   * Whether to serve the read operations from the snapshot of the notification log sync, the
+   * operations call Hive Metastore directly if the sync is disabled or falls behind.
+   */
+  private boolean useSnapshot() {
+    if (notificationLogSync == null) {
+      return false;
+    }
+    if (notificationLogSync.isFresh()) {
+      return true;
+    }
+    notificationLogSync.recordFallback();
+    return false;
   }
 
   private void initKerberosIfNecessary(Map<String, String> conf, Configuration hadoopConf) {
@@ -294,6 +386,16 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   /** Closes the Hive catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (notificationLogSync != null) {
+      notificationLogSync.close();
+      notificationLogSync = null;
+    }
+
+    if (listTablesExecutor != null) {
+      listTablesExecutor.shutdownNow();
+      listTablesExecutor = null;
+    }
+
     if (clientPool != null) {
       clientPool.close();
       clientPool = null;
@@ -323,6 +425,12 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
+    if (useSnapshot()) {
+      return notificationLogSync.listDatabases().stream()
+          .map(db -> NameIdentifier.of(namespace, db))
+          .toArray(NameIdentifier[]::new);
+    }
+
     try {
       NameIdentifier[] schemas =
           clientPool.run(
@@ -377,6 +485,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      refreshSnapshotDatabase(ident.name());
       LOG.info("Created Hive schema (database) {} in Hive Metastore", ident.name());
       return hiveSchema;
 
@@ -403,7 +512,16 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public HiveSchema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
     try {
-      Database database = clientPool.run(client -> client.getDatabase(ident.name()));
+      Database database =
+          useSnapshot()
+              ? notificationLogSync
+                  .getDatabase(ident.name())
+                  .orElseThrow(
+                      () ->
+                          new NoSuchSchemaException(
+                              "Hive schema (database) does not exist: %s in Hive Metastore",
+                              ident.name()))
+              : clientPool.run(client -> client.getDatabase(ident.name()));
       HiveSchema hiveSchema = HiveSchema.fromHiveDB(database);
 
       LOG.info("Loaded Hive schema (database) {} from Hive Metastore ", ident.name());
@@ -467,6 +585,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      refreshSnapshotDatabase(ident.name());
       LOG.info("Altered Hive schema (database) {} in Hive Metastore", ident.name());
       return HiveSchema.fromHiveDB(alteredDatabase);
 
@@ -499,6 +618,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             client.dropDatabase(ident.name(), false, false, cascade);
             return null;
           });
+      refreshSnapshotDatabase(ident.name());
       LOG.info("Dropped Hive schema (database) {}", ident.name());
       return true;
 
@@ -533,6 +653,12 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       throw new NoSuchSchemaException("Schema (database) does not exist %s", namespace);
     }
 
+    if (useSnapshot()) {
+      return listTableNamesFromSnapshot(schemaIdent.name()).stream()
+          .map(tbName -> NameIdentifier.of(namespace, tbName))
+          .toArray(NameIdentifier[]::new);
+    }
+
     try {
       // When a table is created using the HMS interface without specifying the `tableType`,
       // although Hive treats it as a `MANAGED_TABLE`, it cannot be queried through the `getTable`
@@ -546,7 +672,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
       // then based on
       // those names we can obtain metadata for each individual table and get the type we needed.
       List<String> allTables = clientPool.run(c -> c.getAllTables(schemaIdent.name()));
-      if (!listAllTables) {
+      if (!listAllTables && listTablesExecutor != null) {
+        // Fetch the table objects, which carry the table types, and filter them in one pass.
+        allTables =
+            HiveTableFilter.filterTables(getTableObjectsInBatches(schemaIdent.name(), allTables));
+      } else if (!listAllTables) {
         // The reason for using the listTableNamesByFilter function is that the
         // getTableObjectiesByName function has poor performance. Currently, we focus on the
         // Iceberg, Paimon and Hudi table. In the future, if necessary, we will need to filter out
@@ -557,7 +687,6 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
                 c ->
                     c.listTableNamesByFilter(
                         schemaIdent.name(), icebergAndPaimonFilter, MAX_TABLES));
-        allTables.removeAll(icebergAndPaimonTables);
 
         // filter out the Hudi tables
         String hudiFilter =
@@ -566,7 +695,8 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
         List<String> hudiTables =
             clientPool.run(
                 c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES));
-        removeHudiTables(allTables, hudiTables);
+        allTables =
+            HiveTableFilter.filterTableNames(allTables, icebergAndPaimonTables, hudiTables);
       }
       return allTables.stream()
           .map(tbName -> NameIdentifier.of(namespace, tbName))
@@ -585,6 +715,68 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     }
   }
 
+  private List<String> listTableNamesFromSnapshot(String dbName) {
+    List<org.apache.hadoop.hive.metastore.api.Table> tables =
+        notificationLogSync
+            .listTables(dbName)
+            .orElseThrow(
+                () ->
+                    new NoSuchSchemaException(
+                        "Schema (database) does not exist %s in Hive Metastore", dbName));
+    if (listAllTables) {
+      return tables.stream()
+          .map(org.apache.hadoop.hive.metastore.api.Table::getTableName)
+          .collect(Collectors.toList());
+    }
+
+    // Apply the same filters as listing the tables from Hive Metastore on the table parameters.
+    return HiveTableFilter.filterTables(tables);
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Table> getTableObjectsInBatches(
+      String dbName, List<String> tableNames) throws TException, InterruptedException {
+    UserGroupInformation currentUser;
+    try {
+      currentUser = UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    // Run the requests as the current user, the client pool and the impersonation are bound to it.
+    List<Future<List<org.apache.hadoop.hive.metastore.api.Table>>> futures = new ArrayList<>();
+    for (List<String> batch : Lists.partition(tableNames, listTablesBatchSize)) {
+      futures.add(
+          listTablesExecutor.submit(
+              () ->
+                  currentUser.doAs(
+                      (PrivilegedExceptionAction<List<org.apache.hadoop.hive.metastore.api.Table>>)
+                          () -> clientPool.run(c -> c.getTableObjectsByName(dbName, batch)))));
+    }
+
+    List<org.apache.hadoop.hive.metastore.api.Table> tables = new ArrayList<>(tableNames.size());
+    try {
+      for (Future<List<org.apache.hadoop.hive.metastore.api.Table>> future : futures) {
+        tables.addAll(future.get());
+      }
+      return tables;
+
+    } catch (ExecutionException e) {
+      // UserGroupInformation#doAs wraps the checked exceptions except IOException and
+      // InterruptedException in an UndeclaredThrowableException.
+      Throwable cause =
+          e.getCause() instanceof UndeclaredThrowableException
+              ? e.getCause().getCause()
+              : e.getCause();
+      Throwables.throwIfInstanceOf(cause, TException.class);
+      Throwables.throwIfInstanceOf(cause, InterruptedException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new RuntimeException(cause);
+
+    } finally {
+      futures.forEach(f -> f.cancel(true));
+    }
+  }
+
   private static String getIcebergAndPaimonFilter() {
     String icebergFilter =
         String.format(
@@ -595,16 +787,6 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return String.format("%s or %s", icebergFilter, paimonFilter);
   }
 
-  private void removeHudiTables(List<String> allTables, List<String> hudiTables) {
-    for (String hudiTable : hudiTables) {
-      allTables.removeIf(
-          t ->
-              t.equals(hudiTable)
-                  || t.startsWith(hudiTable + "_ro")
-                  || t.startsWith(hudiTable + "_rt"));
-    }
-  }
-
   /**
    * Loads a table from the Hive Metastore.
    *
@@ -626,6 +808,21 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   }
 
   private org.apache.hadoop.hive.metastore.api.Table loadHiveTable(NameIdentifier tableIdent) {
+    if (!useSnapshot()) {
+      return loadHiveTableFromMetastore(tableIdent);
+    }
+
+    NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
+    return notificationLogSync
+        .getTable(schemaIdent.name(), tableIdent.name())
+        .orElseThrow(
+            () ->
+                new NoSuchTableException(
+                    "Hive table does not exist: %s in Hive Metastore", tableIdent.name()));
+  }
+
+  private org.apache.hadoop.hive.metastore.api.Table loadHiveTableFromMetastore(
+      NameIdentifier tableIdent) {
     NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
 
     try {
@@ -809,6 +1006,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      refreshSnapshotTable(schemaIdent.name(), tableIdent.name());
       LOG.info("Created Hive table {} in Hive Metastore", tableIdent.name());
       return hiveTable;
 
@@ -845,7 +1043,12 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
     try {
       // TODO(@Minghuang): require a table lock to avoid race condition
-      HiveTable table = (HiveTable) loadTable(tableIdent);
+      // Always alter the latest table in Hive Metastore rather than the snapshot.
+      HiveTable table =
+          HiveTable.fromHiveTable(loadHiveTableFromMetastore(tableIdent))
+              .withProxyPlugin(proxyPlugin)
+              .withClientPool(clientPool)
+              .build();
       org.apache.hadoop.hive.metastore.api.Table alteredHiveTable =
           table.toHiveTable(propertiesMetadata.tablePropertiesMetadata());
 
@@ -909,6 +1112,10 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      refreshSnapshotTable(schemaIdent.name(), tableIdent.name());
+      if (!tableIdent.name().equals(alteredHiveTable.getTableName())) {
+        refreshSnapshotTable(schemaIdent.name(), alteredHiveTable.getTableName());
+      }
       LOG.info("Altered Hive table {} in Hive Metastore", tableIdent.name());
       return HiveTable.fromHiveTable(alteredHiveTable)
           .withProxyPlugin(proxyPlugin)
@@ -1143,6 +1350,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      refreshSnapshotTable(schemaIdent.name(), tableIdent.name());
       LOG.info("Dropped Hive table {}", tableIdent.name());
       return true;
 
@@ -1157,6 +1365,18 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     }
   }
 
+  private void refreshSnapshotDatabase(String dbName) {
+    if (notificationLogSync != null) {
+      notificationLogSync.refreshDatabase(dbName);
+    }
+  }
+
+  private void refreshSnapshotTable(String dbName, String tableName) {
+    if (notificationLogSync != null) {
+      notificationLogSync.refreshTable(dbName, tableName);
+    }
+  }
+
   CachedClientPool getClientPool() {
     return clientPool;
   }
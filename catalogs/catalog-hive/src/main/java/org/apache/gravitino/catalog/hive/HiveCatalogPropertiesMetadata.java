@@ -49,6 +49,21 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
 
   public static final boolean DEFAULT_LIST_ALL_TABLES = false;
 
+  public static final String LIST_TABLES_SINGLE_PASS = HiveConstants.LIST_TABLES_SINGLE_PASS;
+
+  public static final String LIST_TABLES_BATCH_SIZE = HiveConstants.LIST_TABLES_BATCH_SIZE;
+
+  public static final String NOTIFICATION_SYNC_ENABLE = HiveConstants.NOTIFICATION_SYNC_ENABLE;
+
+  public static final String NOTIFICATION_SYNC_INTERVAL_MS =
+      HiveConstants.NOTIFICATION_SYNC_INTERVAL_MS;
+
+  public static final String NOTIFICATION_SYNC_MAX_EVENTS_PER_POLL =
+      HiveConstants.NOTIFICATION_SYNC_MAX_EVENTS_PER_POLL;
+
+  public static final String NOTIFICATION_SYNC_MAX_LAG_MS =
+      HiveConstants.NOTIFICATION_SYNC_MAX_LAG_MS;
+
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -109,6 +124,62 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                   DEFAULT_LIST_ALL_TABLES,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              LIST_TABLES_SINGLE_PASS,
+              PropertyEntry.booleanPropertyEntry(
+                  LIST_TABLES_SINGLE_PASS,
+                  "Filters out the non-Hive tables by fetching the table objects in parallel "
+                      + "batches instead of listing the table names by filters",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* defaultValue */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              LIST_TABLES_BATCH_SIZE,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  LIST_TABLES_BATCH_SIZE,
+                  "The number of table objects to fetch in one request when listing tables in "
+                      + "single pass",
+                  false /* immutable */,
+                  100 /* defaultValue */,
+                  false /* hidden */))
+          .put(
+              NOTIFICATION_SYNC_ENABLE,
+              PropertyEntry.booleanPropertyEntry(
+                  NOTIFICATION_SYNC_ENABLE,
+                  "Serve the list and load operations from a snapshot of the Hive Metastore kept "
+                      + "up to date with the notification log",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* defaultValue */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              NOTIFICATION_SYNC_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  NOTIFICATION_SYNC_INTERVAL_MS,
+                  "The interval in milliseconds to poll the Hive Metastore notification log",
+                  false /* immutable */,
+                  1000L /* defaultValue */,
+                  false /* hidden */))
+          .put(
+              NOTIFICATION_SYNC_MAX_EVENTS_PER_POLL,
+              PropertyEntry.integerOptionalPropertyEntry(
+                  NOTIFICATION_SYNC_MAX_EVENTS_PER_POLL,
+                  "The maximum number of notification events to fetch in one request",
+                  false /* immutable */,
+                  1000 /* defaultValue */,
+                  false /* hidden */))
+          .put(
+              NOTIFICATION_SYNC_MAX_LAG_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  NOTIFICATION_SYNC_MAX_LAG_MS,
+                  "The maximum time in milliseconds since the last successful poll to serve "
+                      + "requests from the snapshot, requests go to the Hive Metastore after it",
+                  false /* immutable */,
+                  10_000L /* defaultValue */,
+                  false /* hidden */))
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
 
@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog.hive;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.utils.ClientPool;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.api.UnknownDBException;
+import org.apache.hadoop.hive.metastore.messaging.MessageDeserializer;
+import org.apache.hadoop.hive.metastore.messaging.json.JSONMessageDeserializer;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HiveNotificationLogSync keeps an in-process snapshot of the databases and tables of a Hive
+ * Metastore, so the Hive catalog could serve the list, exists and load operations without calling
+ * the metastore.
+ *
+ * <p>The snapshot is bootstrapped from the metastore at the current notification event ID, and then
+ * kept up to date by polling the notification log of the metastore with {@code
+ * getNextNotification} from the last applied event ID. The events only tell which database or table
+ * changed, the changed object is always reloaded from the metastore, so applying an event twice or
+ * out of order converges to the latest state. The snapshot is bootstrapped again if the events
+ * after the last applied event ID were already cleaned up by the metastore, the new snapshot is
+ * loaded aside and swapped in once it's complete, so the reads and the refreshes of the changes
+ * made by this catalog aren't blocked by the bootstrap.
+ *
+ * <p>The notification log is only written by the metastore with the {@code DbNotificationListener}
+ * configured in {@code hive.metastore.transactional.event.listeners}. The snapshot is only used
+ * while it's fresh, see {@link #isFresh()}, the callers should fall back to call the metastore
+ * otherwise.
+ */
+class HiveNotificationLogSync implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(HiveNotificationLogSync.class);
+
+  @VisibleForTesting static final String CREATE_DATABASE = "CREATE_DATABASE";
+  @VisibleForTesting static final String ALTER_DATABASE = "ALTER_DATABASE";
+  @VisibleForTesting static final String DROP_DATABASE = "DROP_DATABASE";
+  @VisibleForTesting static final String CREATE_TABLE = "CREATE_TABLE";
+  @VisibleForTesting static final String ALTER_TABLE = "ALTER_TABLE";
+  @VisibleForTesting static final String DROP_TABLE = "DROP_TABLE";
+
+  // The maximum number of tables to load with one getTableObjectsByName call.
+  private static final int LOAD_TABLES_BATCH_SIZE = 100;
+
+  // The message format written by the JSONMessageFactory of DbNotificationListener.
+  private static final String JSON_MESSAGE_FORMAT_PREFIX = "json";
+  private static final MessageDeserializer JSON_MESSAGE_DESERIALIZER =
+      new JSONMessageDeserializer();
+
+  private final ClientPool<IMetaStoreClient, TException> clientPool;
+  private final int maxEventsPerPoll;
+  private final long maxLagMs;
+  private final long syncIntervalMs;
+  private final ScheduledThreadPoolExecutor syncExecutor;
+
+  private volatile Snapshot snapshot = new Snapshot();
+  // Guards the changes of the current snapshot, the bootstrap only holds it to swap the snapshot.
+  private final Object snapshotLock = new Object();
+  // The refreshes applied while a bootstrap is loading a new snapshot, they're applied to the new
+  // snapshot again before it's swapped in, null if no bootstrap is in progress.
+  private List<SnapshotRefresh> bootstrapRefreshes;
+
+  // The last applied event ID, -1 means the snapshot needs to be bootstrapped.
+  private volatile long lastEventId = -1L;
+  // The latest event ID of the metastore seen by the poller, only used for the lag metric.
+  private volatile long latestEventId = -1L;
+  private volatile long lastSyncTimeMs = 0L;
+
+  private final HiveNotificationSyncMetricsSource metricsSource;
+  private final Counter appliedEventsCounter;
+  private final Counter fallbackCounter;
+
+  HiveNotificationLogSync(
+      ClientPool<IMetaStoreClient, TException> clientPool,
+      HiveNotificationSyncMetricsSource metricsSource,
+      long syncIntervalMs,
+      int maxEventsPerPoll,
+      long maxLagMs) {
+    this.clientPool = clientPool;
+    this.syncIntervalMs = syncIntervalMs;
+    this.maxEventsPerPoll = maxEventsPerPoll;
+    this.maxLagMs = maxLagMs;
+
+    this.metricsSource = metricsSource;
+    this.appliedEventsCounter =
+        metricsSource.getCounter(MetricNames.HIVE_NOTIFICATION_SYNC_APPLIED_EVENTS);
+    this.fallbackCounter = metricsSource.getCounter(MetricNames.HIVE_NOTIFICATION_SYNC_FALLBACK);
+    metricsSource.registerGauge(
+        MetricNames.HIVE_NOTIFICATION_SYNC_LAG_EVENTS,
+        (Gauge<Long>) () -> lastEventId < 0 ? 0L : Math.max(0L, latestEventId - lastEventId));
+    metricsSource.registerGauge(
+        MetricNames.HIVE_NOTIFICATION_SYNC_LAG_MS,
+        (Gauge<Long>)
+            () -> lastSyncTimeMs == 0L ? 0L : System.currentTimeMillis() - lastSyncTimeMs);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    this.syncExecutor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("hive-notification-sync-%d")
+                .build());
+  }
+
+  /** Starts to bootstrap the snapshot and poll the notification log in the background. */
+  void start() {
+    syncExecutor.scheduleWithFixedDelay(
+        this::syncQuietly, 0, syncIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Whether the snapshot is fresh enough to serve the requests, which means the notification log
+   * has been successfully polled within the maximum lag.
+   *
+   * @return true if the snapshot could be used, false if the callers should call the metastore.
+   */
+  boolean isFresh() {
+    return lastEventId >= 0 && System.currentTimeMillis() - lastSyncTimeMs <= maxLagMs;
+  }
+
+  /** Counts a request which calls the metastore because the snapshot isn't fresh. */
+  void recordFallback() {
+    fallbackCounter.inc();
+  }
+
+  List<String> listDatabases() {
+    return Lists.newArrayList(snapshot.databases.keySet());
+  }
+
+  Optional<Database> getDatabase(String dbName) {
+    return Optional.ofNullable(snapshot.databases.get(normalize(dbName))).map(Database::deepCopy);
+  }
+
+  /**
+   * Lists the tables of a database in the snapshot.
+   *
+   * @param dbName The name of the database.
+   * @return The tables of the database, or empty if the database doesn't exist.
+   */
+  Optional<List<Table>> listTables(String dbName) {
+    return Optional.ofNullable(snapshot.tables.get(normalize(dbName)))
+        .map(dbTables -> Lists.newArrayList(dbTables.values()));
+  }
+
+  Optional<Table> getTable(String dbName, String tableName) {
+    return Optional.ofNullable(snapshot.tables.get(normalize(dbName)))
+        .map(dbTables -> dbTables.get(normalize(tableName)))
+        .map(Table::deepCopy);
+  }
+
+  /**
+   * Reloads a database from the metastore, it's used to make the changes made by this catalog
+   * visible without waiting for the next poll. A dropped database is removed with its tables.
+   *
+   * @param dbName The name of the database.
+   */
+  void refreshDatabase(String dbName) {
+    refresh(s -> reloadDatabase(s, dbName, false));
+  }
+
+  /**
+   * Reloads a table from the metastore, it's used to make the changes made by this catalog visible
+   * without waiting for the next poll. A dropped table is removed.
+   *
+   * @param dbName The name of the database.
+   * @param tableName The name of the table.
+   */
+  void refreshTable(String dbName, String tableName) {
+    refresh(s -> reloadTable(s, dbName, tableName));
+  }
+
+  @Override
+  public void close() {
+    syncExecutor.shutdownNow();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  @VisibleForTesting
+  long lastEventId() {
+    return lastEventId;
+  }
+
+  @VisibleForTesting
+  synchronized void sync() throws TException, InterruptedException {
+    if (lastEventId < 0) {
+      bootstrap();
+    }
+
+    while (true) {
+      long fromEventId = lastEventId;
+      NotificationEventResponse response =
+          clientPool.run(c -> c.getNextNotification(fromEventId, maxEventsPerPoll, null));
+      List<NotificationEvent> events = response.getEvents();
+      if (events == null || events.isEmpty()) {
+        break;
+      }
+
+      if (events.get(0).getEventId() > fromEventId + 1) {
+        LOG.warn(
+            "Hive Metastore notification events after {} are missing, the first event is {}, "
+                + "bootstrap the snapshot again",
+            fromEventId,
+            events.get(0).getEventId());
+        bootstrap();
+        continue;
+      }
+
+      for (NotificationEvent event : events) {
+        synchronized (snapshotLock) {
+          applyEvent(snapshot, event);
+        }
+        lastEventId = event.getEventId();
+        appliedEventsCounter.inc();
+      }
+
+      if (events.size() < maxEventsPerPoll) {
+        break;
+      }
+    }
+
+    latestEventId = Math.max(lastEventId, latestEventId);
+    lastSyncTimeMs = System.currentTimeMillis();
+  }
+
+  private void syncQuietly() {
+    try {
+      latestEventId = clientPool.run(c -> c.getCurrentNotificationEventId().getEventId());
+      sync();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOG.warn("Failed to sync the Hive Metastore notification log", e);
+    }
+  }
+
+  private void refresh(SnapshotRefresh refresh) {
+    // The snapshot being bootstrapped will be caught up with the following events.
+    if (lastEventId < 0) {
+      return;
+    }
+
+    synchronized (snapshotLock) {
+      try {
+        refresh.apply(snapshot);
+        if (bootstrapRefreshes != null) {
+          bootstrapRefreshes.add(refresh);
+        }
+      } catch (Exception e) {
+        invalidate(e);
+      }
+    }
+  }
+
+  private void bootstrap() throws TException, InterruptedException {
+    long start = System.currentTimeMillis();
+    // Record the event ID first, the changes made during the bootstrap will be applied again by
+    // the following polls.
+    long eventId = clientPool.run(c -> c.getCurrentNotificationEventId().getEventId());
+    synchronized (snapshotLock) {
+      bootstrapRefreshes = new ArrayList<>();
+    }
+
+    try {
+      Snapshot newSnapshot = new Snapshot();
+      List<String> dbNames = clientPool.run(IMetaStoreClient::getAllDatabases);
+      for (String dbName : dbNames) {
+        reloadDatabase(newSnapshot, dbName, true);
+      }
+
+      synchronized (snapshotLock) {
+        for (SnapshotRefresh refresh : bootstrapRefreshes) {
+          refresh.apply(newSnapshot);
+        }
+        snapshot = newSnapshot;
+        lastEventId = eventId;
+      }
+      LOG.info(
+          "Bootstrapped the Hive Metastore snapshot with {} databases at event {} in {} ms",
+          newSnapshot.databases.size(),
+          eventId,
+          System.currentTimeMillis() - start);
+
+    } finally {
+      synchronized (snapshotLock) {
+        bootstrapRefreshes = null;
+      }
+    }
+  }
+
+  private void applyEvent(Snapshot s, NotificationEvent event)
+      throws TException, InterruptedException {
+    String dbName = event.getDbName();
+    String tableName = event.getTableName();
+    switch (event.getEventType()) {
+      case CREATE_DATABASE:
+      case ALTER_DATABASE:
+        reloadDatabase(s, dbName, false);
+        break;
+      case DROP_DATABASE:
+        s.databases.remove(normalize(dbName));
+        s.tables.remove(normalize(dbName));
+        break;
+      case CREATE_TABLE:
+        reloadTable(s, dbName, tableName);
+        break;
+      case ALTER_TABLE:
+        // The event carries the new name of a renamed table, the old name is in the message.
+        Optional<Table> tableBefore = alteredTableBefore(event);
+        if (!tableBefore.isPresent()) {
+          // Reconcile the table names of the database to remove the old name.
+          reloadTableNames(s, dbName);
+        } else if (!normalize(tableBefore.get().getDbName()).equals(normalize(dbName))
+            || !normalize(tableBefore.get().getTableName()).equals(normalize(tableName))) {
+          Optional.ofNullable(s.tables.get(normalize(tableBefore.get().getDbName())))
+              .ifPresent(dbTables -> dbTables.remove(normalize(tableBefore.get().getTableName())));
+        }
+        reloadTable(s, dbName, tableName);
+        break;
+      case DROP_TABLE:
+        Optional.ofNullable(s.tables.get(normalize(dbName)))
+            .ifPresent(dbTables -> dbTables.remove(normalize(tableName)));
+        break;
+      default:
+        // Other events like the partition events don't change the databases and tables.
+        break;
+    }
+  }
+
+  /**
+   * Parses the table before the change from the message of an ALTER_TABLE event.
+   *
+   * @param event The ALTER_TABLE event.
+   * @return The table before the change, or empty if the message can't be parsed.
+   */
+  @VisibleForTesting
+  static Optional<Table> alteredTableBefore(NotificationEvent event) {
+    if (event.getMessageFormat() == null
+        || !event.getMessageFormat().startsWith(JSON_MESSAGE_FORMAT_PREFIX)) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.ofNullable(
+          JSON_MESSAGE_DESERIALIZER.getAlterTableMessage(event.getMessage()).getTableObjBefore());
+    } catch (Exception e) {
+      LOG.debug("Failed to parse the message of event {}", event.getEventId(), e);
+      return Optional.empty();
+    }
+  }
+
+  private void reloadDatabase(Snapshot s, String dbName, boolean withTables)
+      throws TException, InterruptedException {
+    String key = normalize(dbName);
+    try {
+      Database database = clientPool.run(c -> c.getDatabase(dbName));
+      s.databases.put(key, database);
+      if (!withTables) {
+        s.tables.putIfAbsent(key, new ConcurrentHashMap<>());
+        return;
+      }
+
+      List<String> tableNames = clientPool.run(c -> c.getAllTables(dbName));
+      Map<String, Table> dbTables = new ConcurrentHashMap<>();
+      for (List<String> batch : Lists.partition(tableNames, LOAD_TABLES_BATCH_SIZE)) {
+        clientPool
+            .run(c -> c.getTableObjectsByName(dbName, batch))
+            .forEach(table -> dbTables.put(normalize(table.getTableName()), table));
+      }
+      s.tables.put(key, dbTables);
+
+    } catch (NoSuchObjectException | UnknownDBException e) {
+      s.databases.remove(key);
+      s.tables.remove(key);
+    }
+  }
+
+  private void reloadTableNames(Snapshot s, String dbName)
+      throws TException, InterruptedException {
+    Map<String, Table> dbTables = s.tables.get(normalize(dbName));
+    if (dbTables == null) {
+      return;
+    }
+
+    try {
+      Set<String> tableNames = Sets.newHashSet();
+      clientPool.run(c -> c.getAllTables(dbName)).forEach(name -> tableNames.add(normalize(name)));
+      dbTables.keySet().retainAll(tableNames);
+    } catch (NoSuchObjectException | UnknownDBException e) {
+      s.databases.remove(normalize(dbName));
+      s.tables.remove(normalize(dbName));
+    }
+  }
+
+  private void reloadTable(Snapshot s, String dbName, String tableName)
+      throws TException, InterruptedException {
+    Map<String, Table> dbTables = s.tables.get(normalize(dbName));
+    if (dbTables == null) {
+      // The database is not in the snapshot yet, load it with all the tables.
+      reloadDatabase(s, dbName, true);
+      return;
+    }
+
+    try {
+      Table table = clientPool.run(c -> c.getTable(dbName, tableName));
+      dbTables.put(normalize(tableName), table);
+    } catch (NoSuchObjectException e) {
+      dbTables.remove(normalize(tableName));
+    }
+  }
+
+  private void invalidate(Exception e) {
+    // The snapshot may miss the change, fall back to the metastore until it's bootstrapped again.
+    LOG.warn("Failed to refresh the Hive Metastore snapshot, bootstrap it again", e);
+    lastEventId = -1L;
+  }
+
+  private static String normalize(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+
+  // The snapshot of the metastore, keyed by the lower case database and table names like HMS.
+  private static class Snapshot {
+    private final Map<String, Database> databases = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Table>> tables = new ConcurrentHashMap<>();
+  }
+
+  @FunctionalInterface
+  private interface SnapshotRefresh {
+    void apply(Snapshot snapshot) throws TException, InterruptedException;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog.hive;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.hadoop.hive.metastore.api.Table;
+
+/**
+ * Filters the non-Hive tables, i.e. Iceberg, Paimon and Hudi tables, out of the table names of a
+ * Hive database.
+ *
+ * <p>All the lookups are done against hash sets, so filtering is linear in the number of tables.
+ * The read-optimized and real-time views of a Hudi table are named after the table with a {@code
+ * _ro} or {@code _rt} suffix, they are matched by looking up every prefix of a table name that is
+ * followed by one of the suffixes in the set of the Hudi tables.
+ */
+final class HiveTableFilter {
+
+  @VisibleForTesting static final String TABLE_TYPE_PARAM = "table_type";
+  @VisibleForTesting static final String PROVIDER_PARAM = "provider";
+
+  private static final String ICEBERG_TABLE_TYPE = "ICEBERG";
+  private static final String PAIMON_TABLE_TYPE = "PAIMON";
+  private static final String HUDI_PROVIDER = "hudi";
+  private static final String HUDI_SUFFIX_PREFIX = "_r";
+  private static final String HUDI_READ_OPTIMIZED_SUFFIX = "_ro";
+  private static final String HUDI_REAL_TIME_SUFFIX = "_rt";
+
+  private HiveTableFilter() {}
+
+  /**
+   * Removes the Iceberg, Paimon and Hudi tables from the table names.
+   *
+   * @param allTables The names of all the tables in a database.
+   * @param icebergAndPaimonTables The names of the Iceberg and Paimon tables.
+   * @param hudiTables The names of the Hudi tables, the tables named after them with a {@code _ro}
+   *     or {@code _rt} suffix are removed as well.
+   * @return The names of the remaining tables, in the order of {@code allTables}.
+   */
+  static List<String> filterTableNames(
+      List<String> allTables,
+      Collection<String> icebergAndPaimonTables,
+      Collection<String> hudiTables) {
+    Set<String> excludedTables = Sets.newHashSetWithExpectedSize(icebergAndPaimonTables.size());
+    excludedTables.addAll(icebergAndPaimonTables);
+    Set<String> hudiTableSet = Sets.newHashSet(hudiTables);
+
+    return allTables.stream()
+        .filter(t -> !excludedTables.contains(t) && !isHudiTable(t, hudiTableSet))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Removes the Iceberg, Paimon and Hudi tables from the table objects, the type of each table is
+   * read from its parameters the same way as the filters passed to {@code listTableNamesByFilter}.
+   *
+   * @param tables The table objects of all the tables in a database.
+   * @return The names of the remaining tables, in the order of {@code tables}.
+   */
+  static List<String> filterTables(List<Table> tables) {
+    List<String> allTables = tables.stream().map(Table::getTableName).collect(Collectors.toList());
+    List<String> icebergAndPaimonTables =
+        tables.stream()
+            .filter(
+                t ->
+                    ICEBERG_TABLE_TYPE.equalsIgnoreCase(parameter(t, TABLE_TYPE_PARAM))
+                        || PAIMON_TABLE_TYPE.equalsIgnoreCase(parameter(t, TABLE_TYPE_PARAM)))
+            .map(Table::getTableName)
+            .collect(Collectors.toList());
+    List<String> hudiTables =
+        tables.stream()
+            .filter(t -> HUDI_PROVIDER.equalsIgnoreCase(parameter(t, PROVIDER_PARAM)))
+            .map(Table::getTableName)
+            .collect(Collectors.toList());
+    return filterTableNames(allTables, icebergAndPaimonTables, hudiTables);
+  }
+
+  private static boolean isHudiTable(String table, Set<String> hudiTables) {
+    if (hudiTables.isEmpty()) {
+      return false;
+    }
+
+    if (hudiTables.contains(table)) {
+      return true;
+    }
+
+    // Same as checking `table.startsWith(hudiTable + "_ro")` or `table.startsWith(hudiTable +
+    // "_rt")` for every Hudi table, but only the prefixes followed by a suffix are looked up.
+    int index = table.indexOf(HUDI_SUFFIX_PREFIX);
+    while (index >= 0) {
+      if ((table.startsWith(HUDI_READ_OPTIMIZED_SUFFIX, index)
+              || table.startsWith(HUDI_REAL_TIME_SUFFIX, index))
+          && hudiTables.contains(table.substring(0, index))) {
+        return true;
+      }
+      index = table.indexOf(HUDI_SUFFIX_PREFIX, index + 1);
+    }
+    return false;
+  }
+
+  private static String parameter(Table table, String key) {
+    Map<String, String> parameters = table.getParameters();
+    return parameters == null ? null : parameters.get(key);
+  }
+}
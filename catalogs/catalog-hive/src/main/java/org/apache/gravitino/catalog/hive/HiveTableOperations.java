@@ -19,14 +19,20 @@
 package org.apache.gravitino.catalog.hive;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.connector.TableOperations;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -40,6 +46,7 @@ import org.apache.gravitino.rel.partitions.Partition;
 import org.apache.gravitino.rel.partitions.Partitions;
 import org.apache.hadoop.hive.common.FileUtils;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
@@ -54,6 +61,9 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
 
   private static final String PARTITION_NAME_DELIMITER = "/";
   private static final String PARTITION_VALUE_DELIMITER = "=";
+  private static final String PAGE_TOKEN_DELIMITER = ":";
+  // The maximum number of partitions to fetch in one getPartitionsByNames request.
+  private static final int GET_PARTITIONS_BATCH_SIZE = 100;
 
   private final HiveTable table;
 
@@ -99,6 +109,212 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
         .toArray(Partition[]::new);
   }
 
+  /**
+   * Lists a page of the partition names. Without a filter only the names are fetched from Hive
+   * Metastore, with a filter the filter is pushed down to Hive Metastore.
+   *
+   * @param filter The filter on the partition fields in the Hive Metastore filter syntax, e.g.
+   *     {@code dt >= "2024-01-01" and hour = "00"}, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partition names in the page.
+   * @return A page of partition names.
+   */
+  @Override
+  public Page<String> listPartitionNames(String filter, String pageToken, int pageSize) {
+    Page.checkPageSize(pageSize);
+    try {
+      if (filter == null) {
+        return listPartitionNamesPage(pageToken, pageSize);
+      }
+
+      List<String> partCols = partitionColumnNames();
+      Page<org.apache.hadoop.hive.metastore.api.Partition> page =
+          listPartitionsByFilterPage(filter, partCols, pageToken, pageSize);
+      return Page.of(
+          page.items().stream()
+              .map(p -> FileUtils.makePartName(partCols, p.getValues()))
+              .collect(Collectors.toList()),
+          page.nextPageToken());
+
+    } catch (TException | InterruptedException e) {
+      throw toListPartitionsException(filter, e);
+    }
+  }
+
+  /**
+   * Lists a page of the partitions. Without a filter the names of the page are listed first and
+   * only the partitions of the page are fetched from Hive Metastore in batches, with a filter the
+   * filter is pushed down to Hive Metastore.
+   *
+   * @param filter The filter on the partition fields in the Hive Metastore filter syntax, e.g.
+   *     {@code dt >= "2024-01-01" and hour = "00"}, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partitions in the page.
+   * @return A page of partitions.
+   */
+  @Override
+  public Page<Partition> listPartitions(String filter, String pageToken, int pageSize) {
+    Page.checkPageSize(pageSize);
+    List<String> partCols = partitionColumnNames();
+    try {
+      if (filter != null) {
+        Page<org.apache.hadoop.hive.metastore.api.Partition> page =
+            listPartitionsByFilterPage(filter, partCols, pageToken, pageSize);
+        return Page.of(
+            page.items().stream()
+                .map(p -> fromHivePartition(FileUtils.makePartName(partCols, p.getValues()), p))
+                .collect(Collectors.toList()),
+            page.nextPageToken());
+      }
+
+      Page<String> names = listPartitionNamesPage(pageToken, pageSize);
+      List<Partition> partitions = new ArrayList<>(names.items().size());
+      for (List<String> batch : Lists.partition(names.items(), GET_PARTITIONS_BATCH_SIZE)) {
+        List<org.apache.hadoop.hive.metastore.api.Partition> hivePartitions =
+            table
+                .clientPool()
+                .run(c -> c.getPartitionsByNames(table.schemaName(), table.name(), batch));
+        hivePartitions.forEach(
+            p ->
+                partitions.add(
+                    fromHivePartition(FileUtils.makePartName(partCols, p.getValues()), p)));
+      }
+      // The partitions dropped after listing the names are absent from the page.
+      partitions.sort(Comparator.comparing(Partition::name));
+      return Page.of(partitions, names.nextPageToken());
+
+    } catch (TException | InterruptedException e) {
+      throw toListPartitionsException(filter, e);
+    }
+  }
+
+  private Page<String> listPartitionNamesPage(String pageToken, int pageSize)
+      throws TException, InterruptedException {
+    // The names are much lighter than the partition objects, the partitions of a page are fetched
+    // by the names of the page.
+    return listBoundedPage(
+        maxParts ->
+            table
+                .clientPool()
+                .run(c -> c.listPartitionNames(table.schemaName(), table.name(), maxParts)),
+        name -> name,
+        pageToken,
+        pageSize);
+  }
+
+  private Page<org.apache.hadoop.hive.metastore.api.Partition> listPartitionsByFilterPage(
+      String filter, List<String> partCols, String pageToken, int pageSize)
+      throws TException, InterruptedException {
+    // Hive Metastore can't list the partition names by a filter, so the partitions are listed up to
+    // the end of the page.
+    return listBoundedPage(
+        maxParts ->
+            table
+                .clientPool()
+                .run(
+                    c ->
+                        c.listPartitionsByFilter(
+                            table.schemaName(), table.name(), filter, maxParts)),
+        p -> FileUtils.makePartName(partCols, p.getValues()),
+        pageToken,
+        pageSize);
+  }
+
+  /**
+   * Lists a page of the items which Hive Metastore returns ordered by name. Hive Metastore can't
+   * list the items after a name but can limit the number of items, so the page token keeps the
+   * number of items before the page besides the last name, and only the items up to the end of the
+   * page are listed.
+   */
+  private <T> Page<T> listBoundedPage(
+      BoundedListing<T> listing, Function<T, String> nameFunc, String pageToken, int pageSize)
+      throws TException, InterruptedException {
+    long offset = 0;
+    String lastName = null;
+    if (pageToken != null) {
+      String token = Page.decodePageToken(pageToken);
+      int delimiter = token.indexOf(PAGE_TOKEN_DELIMITER);
+      try {
+        offset = Long.parseLong(token.substring(0, Math.max(delimiter, 0)));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid page token: " + pageToken, e);
+      }
+      Preconditions.checkArgument(offset >= 0, "Invalid page token: %s", pageToken);
+      lastName = token.substring(delimiter + 1);
+    }
+
+    short maxParts = toMaxParts(offset + pageSize + 1);
+    List<T> items = listing.list(maxParts);
+    int start = pageStart(items, nameFunc, offset, lastName);
+    // The items added before the page since the previous page push the end of the page beyond the
+    // limit, list all the items in that case.
+    if (maxParts != -1 && items.size() >= maxParts && items.size() - start <= pageSize) {
+      items = listing.list((short) -1);
+      start = pageStart(items, nameFunc, offset, lastName);
+    }
+
+    int end = Math.min(start + pageSize, items.size());
+    List<T> page = new ArrayList<>(items.subList(start, end));
+    String nextPageToken =
+        end < items.size()
+            ? Page.encodePageToken(
+                end + PAGE_TOKEN_DELIMITER + nameFunc.apply(items.get(end - 1)))
+            : null;
+    return Page.of(page, nextPageToken);
+  }
+
+  private static <T> int pageStart(
+      List<T> items, Function<T, String> nameFunc, long offset, String lastName) {
+    if (lastName == null) {
+      return 0;
+    }
+    // The last item of the previous page is usually still at the same position.
+    if (offset > 0 && offset <= items.size()) {
+      if (lastName.equals(nameFunc.apply(items.get((int) offset - 1)))) {
+        return (int) offset;
+      }
+    }
+    for (int i = 0; i < items.size(); i++) {
+      if (Page.compareNames(nameFunc.apply(items.get(i)), lastName) > 0) {
+        return i;
+      }
+    }
+    return items.size();
+  }
+
+  @FunctionalInterface
+  private interface BoundedListing<T> {
+    List<T> list(short maxParts) throws TException, InterruptedException;
+  }
+
+  private static short toMaxParts(long count) {
+    return count > Short.MAX_VALUE ? (short) -1 : (short) count;
+  }
+
+  private List<String> partitionColumnNames() {
+    return table.buildPartitionKeys().stream()
+        .map(FieldSchema::getName)
+        .collect(Collectors.toList());
+  }
+
+  private RuntimeException toListPartitionsException(String filter, Exception e) {
+    if (e instanceof NoSuchObjectException) {
+      return new NoSuchTableException(
+          e, "Hive table %s does not exist in Hive Metastore", table.name());
+    }
+
+    // Hive Metastore reports the filters it can't parse or apply with a MetaException.
+    if (filter != null
+        && e instanceof MetaException
+        && StringUtils.containsIgnoreCase(e.getMessage(), "filter")) {
+      return new IllegalArgumentException(
+          String.format("Invalid partition filter %s: %s", filter, e.getMessage()), e);
+    }
+
+    return new RuntimeException(
+        "Failed to list partitions of table " + table.name() + " from Hive Metastore", e);
+  }
+
   @Override
   public Partition getPartition(String partitionName) throws NoSuchPartitionException {
     try {
@@ -244,31 +460,24 @@ public class HiveTableOperations implements TableOperations, SupportsPartitions
       // Get partitions that need to drop
       // If the partition has child partition, then drop all the child partitions
       // If the partition has no subpartitions, then just drop the partition
-      List<org.apache.hadoop.hive.metastore.api.Partition> partitions =
+      // Only the names are listed, the partition objects are not needed to drop them.
+      List<String> partitionNames =
           table
               .clientPool()
               .run(
                   c ->
-                      c.listPartitions(
+                      c.listPartitionNames(
                           table.schemaName(),
                           table.name(),
                           getFilterPartitionValueList(hiveTable, partitionName),
                           (short) -1));
-      if (partitions.isEmpty()) {
+      if (partitionNames.isEmpty()) {
         throw new NoSuchPartitionException(
             "Hive partition %s does not exist in Hive Metastore", partitionName);
       }
       // Delete partitions iteratively
-      for (org.apache.hadoop.hive.metastore.api.Partition partition : partitions) {
-        table
-            .clientPool()
-            .run(
-                c ->
-                    c.dropPartition(
-                        partition.getDbName(),
-                        partition.getTableName(),
-                        partition.getValues(),
-                        false));
+      for (String name : partitionNames) {
+        table.clientPool().run(c -> c.dropPartition(table.schemaName(), table.name(), name, false));
       }
     } catch (NoSuchPartitionException e) {
       return false;
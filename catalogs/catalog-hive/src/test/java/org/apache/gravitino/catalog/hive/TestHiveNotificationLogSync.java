@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog.hive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.util.Collections;
+import java.util.Optional;
+import org.apache.gravitino.hive.hms.MiniHiveMetastoreService;
+import org.apache.gravitino.utils.ClientPool;
+import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.FieldSchema;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.SerDeInfo;
+import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TJSONProtocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestHiveNotificationLogSync extends MiniHiveMetastoreService {
+
+  private HiveMetaStoreClient client;
+  private HiveNotificationLogSync sync;
+
+  @BeforeEach
+  public void setUp() {
+    // The embedded metastore doesn't write the notification log without DbNotificationListener,
+    // the events are stubbed on a spy of the real client.
+    client = Mockito.spy(metastoreClient);
+    ClientPool<IMetaStoreClient, TException> clientPool =
+        new ClientPool<IMetaStoreClient, TException>() {
+          @Override
+          public <R> R run(Action<R, IMetaStoreClient, TException> action) throws TException {
+            return action.run(client);
+          }
+
+          @Override
+          public <R> R run(Action<R, IMetaStoreClient, TException> action, boolean retry)
+              throws TException {
+            return action.run(client);
+          }
+        };
+    sync =
+        new HiveNotificationLogSync(
+            clientPool,
+            new HiveNotificationSyncMetricsSource("metalake", "catalog"),
+            60_000L,
+            100,
+            60_000L);
+  }
+
+  @AfterEach
+  public void tearDown() throws TException {
+    sync.close();
+    for (String table : metastoreClient.getAllTables(DB_NAME)) {
+      metastoreClient.dropTable(DB_NAME, table);
+    }
+  }
+
+  @Test
+  public void testApplyNotificationEvents() throws Exception {
+    metastoreClient.createTable(newHiveTable("t1"));
+    Assertions.assertFalse(sync.isFresh());
+
+    sync.sync();
+    long bootstrapEventId = sync.lastEventId();
+    Assertions.assertTrue(sync.isFresh());
+    Assertions.assertTrue(sync.listDatabases().contains(DB_NAME));
+    Assertions.assertTrue(sync.getDatabase(DB_NAME).isPresent());
+    Assertions.assertTrue(sync.getTable(DB_NAME, "t1").isPresent());
+    Assertions.assertFalse(sync.getTable(DB_NAME, "t2").isPresent());
+    Assertions.assertFalse(sync.listTables("not_exist").isPresent());
+
+    // The table created outside is only visible after its event is applied.
+    metastoreClient.createTable(newHiveTable("t2"));
+    Assertions.assertFalse(sync.getTable(DB_NAME, "t2").isPresent());
+    stubEvents(
+        bootstrapEventId,
+        newEvent(bootstrapEventId + 1, HiveNotificationLogSync.CREATE_TABLE, "t2"));
+    sync.sync();
+    Assertions.assertEquals(bootstrapEventId + 1, sync.lastEventId());
+    Assertions.assertTrue(sync.getTable(DB_NAME, "t2").isPresent());
+
+    // The event of a renamed table carries the new name only.
+    Table t2 = metastoreClient.getTable(DB_NAME, "t2");
+    t2.setTableName("t3");
+    metastoreClient.alter_table(DB_NAME, "t2", t2);
+    stubEvents(
+        bootstrapEventId + 1,
+        newEvent(bootstrapEventId + 2, HiveNotificationLogSync.ALTER_TABLE, "t3"));
+    sync.sync();
+    Assertions.assertFalse(sync.getTable(DB_NAME, "t2").isPresent());
+    Assertions.assertTrue(sync.getTable(DB_NAME, "t3").isPresent());
+
+    metastoreClient.dropTable(DB_NAME, "t3");
+    stubEvents(
+        bootstrapEventId + 2,
+        newEvent(bootstrapEventId + 3, HiveNotificationLogSync.DROP_TABLE, "t3"));
+    sync.sync();
+    Assertions.assertFalse(sync.getTable(DB_NAME, "t3").isPresent());
+    Assertions.assertEquals(
+        Optional.of(Collections.singletonList("t1")),
+        sync.listTables(DB_NAME).map(tables -> Lists.transform(tables, Table::getTableName)));
+
+    // The missing events trigger a bootstrap from the current event ID of the metastore.
+    metastoreClient.createTable(newHiveTable("t4"));
+    Mockito.reset(client);
+    stubEvents(
+        bootstrapEventId + 3,
+        newEvent(bootstrapEventId + 10, HiveNotificationLogSync.CREATE_TABLE, "t5"));
+    sync.sync();
+    Assertions.assertEquals(bootstrapEventId, sync.lastEventId());
+    Assertions.assertTrue(sync.getTable(DB_NAME, "t4").isPresent());
+  }
+
+  @Test
+  public void testApplyRenameEventWithMessage() throws Exception {
+    metastoreClient.createTable(newHiveTable("t1"));
+    sync.sync();
+    long bootstrapEventId = sync.lastEventId();
+
+    Table before = metastoreClient.getTable(DB_NAME, "t1");
+    Table after = before.deepCopy();
+    after.setTableName("t2");
+    metastoreClient.alter_table(DB_NAME, "t1", after);
+    NotificationEvent event =
+        newEvent(bootstrapEventId + 1, HiveNotificationLogSync.ALTER_TABLE, "t2");
+    event.setMessageFormat("json-0.2");
+    event.setMessage(alterTableMessage(before, after));
+    Assertions.assertEquals(
+        Optional.of("t1"),
+        HiveNotificationLogSync.alteredTableBefore(event).map(Table::getTableName));
+
+    // The old name is taken from the message without listing the tables of the database.
+    Mockito.clearInvocations(client);
+    stubEvents(bootstrapEventId, event);
+    sync.sync();
+    Mockito.verify(client, Mockito.never()).getAllTables(DB_NAME);
+    Assertions.assertFalse(sync.getTable(DB_NAME, "t1").isPresent());
+    Assertions.assertTrue(sync.getTable(DB_NAME, "t2").isPresent());
+
+    // The message of an unknown format falls back to reconcile the table names.
+    NotificationEvent unknownEvent =
+        newEvent(bootstrapEventId + 2, HiveNotificationLogSync.ALTER_TABLE, "t2");
+    unknownEvent.setMessageFormat("unknown");
+    Assertions.assertFalse(HiveNotificationLogSync.alteredTableBefore(unknownEvent).isPresent());
+  }
+
+  @Test
+  public void testRefreshTable() throws Exception {
+    // The refresh is skipped before the snapshot is bootstrapped.
+    metastoreClient.createTable(newHiveTable("t1"));
+    sync.refreshTable(DB_NAME, "t1");
+    Assertions.assertFalse(sync.getTable(DB_NAME, "t1").isPresent());
+
+    sync.sync();
+    metastoreClient.createTable(newHiveTable("t2"));
+    sync.refreshTable(DB_NAME, "t2");
+    Assertions.assertTrue(sync.getTable(DB_NAME, "t2").isPresent());
+
+    metastoreClient.dropTable(DB_NAME, "t2");
+    sync.refreshTable(DB_NAME, "t2");
+    Assertions.assertFalse(sync.getTable(DB_NAME, "t2").isPresent());
+
+    // The snapshot returns copies of the tables.
+    sync.getTable(DB_NAME, "t1").get().setTableName("changed");
+    Assertions.assertEquals("t1", sync.getTable(DB_NAME, "t1").get().getTableName());
+  }
+
+  private void stubEvents(long lastEventId, NotificationEvent... events) throws TException {
+    doReturn(new NotificationEventResponse(Lists.newArrayList(events)))
+        .when(client)
+        .getNextNotification(eq(lastEventId), anyInt(), any());
+  }
+
+  private NotificationEvent newEvent(long eventId, String eventType, String tableName) {
+    NotificationEvent event =
+        new NotificationEvent(eventId, (int) (System.currentTimeMillis() / 1000), eventType, "");
+    event.setDbName(DB_NAME);
+    event.setTableName(tableName);
+    return event;
+  }
+
+  private static String alterTableMessage(Table before, Table after) throws TException {
+    TSerializer serializer = new TSerializer(new TJSONProtocol.Factory());
+    return String.format(
+        "{\"server\":\"\",\"servicePrincipal\":\"\",\"db\":\"%s\",\"table\":\"%s\","
+            + "\"tableType\":\"%s\",\"tableObjBeforeJson\":\"%s\","
+            + "\"tableObjAfterJson\":\"%s\",\"timestamp\":0}",
+        after.getDbName(),
+        after.getTableName(),
+        after.getTableType(),
+        escapeJson(serializer.toString(before, "UTF-8")),
+        escapeJson(serializer.toString(after, "UTF-8")));
+  }
+
+  private static String escapeJson(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  private Table newHiveTable(String name) {
+    StorageDescriptor sd = new StorageDescriptor();
+    sd.setCols(Lists.newArrayList(new FieldSchema("col_1", "int", null)));
+    sd.setSerdeInfo(new SerDeInfo());
+    sd.setInputFormat("org.apache.hadoop.mapred.TextInputFormat");
+    sd.setOutputFormat("org.apache.hadoop.hive.ql.io.HiveIgnoreKeyTextOutputFormat");
+
+    Table table = new Table();
+    table.setDbName(DB_NAME);
+    table.setTableName(name);
+    table.setSd(sd);
+    table.setPartitionKeys(Lists.newArrayList());
+    table.setParameters(Maps.newHashMap(ImmutableMap.of("key", "value")));
+    return table;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog.hive;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHiveTableFilter {
+
+  @Test
+  void testFilterTableNames() {
+    List<String> allTables =
+        Arrays.asList(
+            "t1",
+            "iceberg_t",
+            "paimon_t",
+            "hudi_t",
+            "hudi_t_ro",
+            "hudi_t_rt",
+            "hudi_t_rt_1",
+            "hudi_t_r",
+            "hudi_tx_ro",
+            "t_ro",
+            "a_rt_b_ro",
+            "a_rt_b");
+
+    List<String> result =
+        HiveTableFilter.filterTableNames(
+            allTables,
+            ImmutableList.of("iceberg_t", "paimon_t"),
+            ImmutableList.of("hudi_t", "a_rt_b"));
+
+    Assertions.assertEquals(ImmutableList.of("t1", "hudi_t_r", "hudi_tx_ro", "t_ro"), result);
+  }
+
+  @Test
+  void testFilterTableNamesWithoutNonHiveTables() {
+    List<String> allTables = Arrays.asList("t1", "t1_ro", "t1_rt");
+    Assertions.assertEquals(
+        allTables,
+        HiveTableFilter.filterTableNames(allTables, ImmutableList.of(), ImmutableList.of()));
+  }
+
+  @Test
+  void testFilterTables() {
+    List<Table> tables =
+        ImmutableList.of(
+            newTable("t1", ImmutableMap.of()),
+            newTable("t2", null),
+            newTable("iceberg_t", ImmutableMap.of(HiveTableFilter.TABLE_TYPE_PARAM, "iceberg")),
+            newTable("paimon_t", ImmutableMap.of(HiveTableFilter.TABLE_TYPE_PARAM, "PAIMON")),
+            newTable("hudi_t", ImmutableMap.of(HiveTableFilter.PROVIDER_PARAM, "hudi")),
+            newTable("hudi_t_ro", ImmutableMap.of()));
+
+    Assertions.assertEquals(ImmutableList.of("t1", "t2"), HiveTableFilter.filterTables(tables));
+  }
+
+  private static Table newTable(String name, Map<String, String> parameters) {
+    Table table = new Table();
+    table.setTableName(name);
+    table.setParameters(parameters);
+    return table;
+  }
+}
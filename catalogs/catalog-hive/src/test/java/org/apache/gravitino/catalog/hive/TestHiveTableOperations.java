@@ -26,11 +26,13 @@ import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveCatalog;
 import static org.apache.gravitino.catalog.hive.TestHiveTable.initHiveSchema;
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.identity;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.hive.hms.MiniHiveMetastoreService;
 import org.apache.gravitino.rel.Column;
@@ -110,6 +112,78 @@ public class TestHiveTableOperations extends MiniHiveMetastoreService {
         partitions.length > 0 && Arrays.asList(partitions).contains(existingPartition));
   }
 
+  @Test
+  public void testListPartitionsByPage() {
+    NameIdentifier ident =
+        NameIdentifier.of(META_LAKE_NAME, HIVE_CATALOG_NAME, HIVE_SCHEMA_NAME, genRandomName());
+    HiveColumn col0 =
+        HiveColumn.builder().withName("name").withType(Types.StringType.get()).build();
+    HiveColumn col1 = HiveColumn.builder().withName("p").withType(Types.StringType.get()).build();
+    HiveTable table =
+        (HiveTable)
+            hiveCatalogOperations.createTable(
+                ident,
+                new Column[] {col0, col1},
+                HIVE_COMMENT,
+                Maps.newHashMap(),
+                new Transform[] {identity(col1.name())});
+    SupportsPartitions partitions = table.supportPartitions();
+    for (String value : ImmutableList.of("e", "c", "a", "d", "b")) {
+      partitions.addPartition(
+          Partitions.identity(
+              new String[][] {{col1.name()}}, new Literal<?>[] {Literals.stringLiteral(value)}));
+    }
+
+    Page<String> namePage = partitions.listPartitionNames(null, null, 2);
+    Assertions.assertEquals(ImmutableList.of("p=a", "p=b"), namePage.items());
+    namePage = partitions.listPartitionNames(null, namePage.nextPageToken(), 2);
+    Assertions.assertEquals(ImmutableList.of("p=c", "p=d"), namePage.items());
+    namePage = partitions.listPartitionNames(null, namePage.nextPageToken(), 2);
+    Assertions.assertEquals(ImmutableList.of("p=e"), namePage.items());
+    Assertions.assertFalse(namePage.hasNextPage());
+
+    Page<Partition> partitionPage = partitions.listPartitions(null, null, 3);
+    Assertions.assertEquals(3, partitionPage.items().size());
+    Assertions.assertEquals(partitions.getPartition("p=a"), partitionPage.items().get(0));
+    partitionPage = partitions.listPartitions(null, partitionPage.nextPageToken(), 3);
+    Assertions.assertEquals(2, partitionPage.items().size());
+    Assertions.assertEquals(partitions.getPartition("p=e"), partitionPage.items().get(1));
+    Assertions.assertFalse(partitionPage.hasNextPage());
+
+    // The filter is pushed down to Hive Metastore
+    namePage = partitions.listPartitionNames("p > \"b\"", null, 2);
+    Assertions.assertEquals(ImmutableList.of("p=c", "p=d"), namePage.items());
+    namePage = partitions.listPartitionNames("p > \"b\"", namePage.nextPageToken(), 2);
+    Assertions.assertEquals(ImmutableList.of("p=e"), namePage.items());
+    Assertions.assertFalse(namePage.hasNextPage());
+
+    partitionPage = partitions.listPartitions("p = \"c\"", null, 10);
+    Assertions.assertEquals(1, partitionPage.items().size());
+    Assertions.assertEquals("p=c", partitionPage.items().get(0).name());
+
+    // The partitions added or dropped before the page don't shift the later pages
+    namePage = partitions.listPartitionNames(null, null, 2);
+    partitions.addPartition(
+        Partitions.identity(
+            new String[][] {{col1.name()}}, new Literal<?>[] {Literals.stringLiteral("aa")}));
+    namePage = partitions.listPartitionNames(null, namePage.nextPageToken(), 2);
+    Assertions.assertEquals(ImmutableList.of("p=c", "p=d"), namePage.items());
+    partitions.dropPartition("p=a");
+    namePage = partitions.listPartitionNames(null, namePage.nextPageToken(), 2);
+    Assertions.assertEquals(ImmutableList.of("p=e"), namePage.items());
+    Assertions.assertFalse(namePage.hasNextPage());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitionNames("p >", null, 10));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> partitions.listPartitionNames(null, Page.encodePageToken("p=b"), 10));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> partitions.listPartitionNames(null, null, 0));
+
+    hiveCatalogOperations.dropTable(ident);
+  }
+
   @Test
   public void testGetPartition() {
     SupportsPartitions partitions = hiveTable.supportPartitions();
@@ -333,6 +333,40 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     String tableName = tableIdent.name();
     JdbcTable load = tableOperation.load(databaseName, tableName);
+    return toGravitinoTable(databaseName, load);
+  }
+
+  /**
+   * Loads all the tables under the specified namespace in bulk.
+   *
+   * @param namespace The namespace to load tables for.
+   * @return An array of the loaded JdbcTable instances.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  public Table[] loadTables(Namespace namespace) throws NoSuchSchemaException {
+    return loadTables(namespace, null);
+  }
+
+  /**
+   * Loads the given tables under the specified namespace in bulk, the metadata of the tables is
+   * fetched with a few queries instead of several queries per table. The tables which do not exist
+   * are skipped.
+   *
+   * @param namespace The namespace to load tables for.
+   * @param tableNames The names of the tables to load, or null to load all the tables.
+   * @return An array of the loaded JdbcTable instances.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  public Table[] loadTables(Namespace namespace, List<String> tableNames)
+      throws NoSuchSchemaException {
+    String databaseName = NameIdentifier.of(namespace.levels()).name();
+    return tableOperation.loadTables(databaseName, tableNames).stream()
+        .map(table -> toGravitinoTable(databaseName, table))
+        .toArray(Table[]::new);
+  }
+
+  private Table toGravitinoTable(String databaseName, JdbcTable load) {
+    String tableName = load.name();
     Map<String, String> properties =
         load.properties() == null
             ? Maps.newHashMap()
@@ -28,6 +28,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -82,6 +85,8 @@ public abstract class JdbcTableOperations implements TableOperation {
 
   protected JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
+  private volatile String driverVersion;
+
   @Override
   public void initialize(
       DataSource dataSource,
@@ -144,7 +149,7 @@ public abstract class JdbcTableOperations implements TableOperation {
     try (Connection connection = getConnection(databaseName);
         ResultSet tables = getTables(connection)) {
       while (tables.next()) {
-        if (Objects.equals(tables.getString("TABLE_CAT"), databaseName)) {
+        if (isTableInDatabase(tables, databaseName)) {
           names.add(tables.getString("TABLE_NAME"));
         }
       }
@@ -246,6 +251,170 @@ public abstract class JdbcTableOperations implements TableOperation {
     }
   }
 
+  /**
+   * Loads the tables of a database in bulk. Instead of querying the metadata of each table like
+   * {@link #load(String, String)}, the tables, columns, indexes and properties of the whole
+   * database are fetched with a few queries and the tables are assembled in memory. Only the
+   * information without a bulk source is still fetched per table by {@link #loadTableDetails}.
+   */
+  @Override
+  public List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    Set<String> requestedTables = tableNames == null ? null : new HashSet<>(tableNames);
+    try (Connection connection = getConnection(databaseName)) {
+      // 1. Get the information of the tables
+      Map<String, JdbcTable.Builder> tableBuilders = new LinkedHashMap<>();
+      try (ResultSet tables = getTables(connection)) {
+        while (tables.next()) {
+          String tableName = tables.getString("TABLE_NAME");
+          if (isTableInDatabase(tables, databaseName)
+              && (requestedTables == null || requestedTables.contains(tableName))) {
+            tableBuilders.put(
+                tableName, getBasicJdbcTableInfo(tables).withDatabaseName(databaseName));
+          }
+        }
+      }
+      if (tableBuilders.isEmpty()) {
+        return Collections.emptyList();
+      }
+
+      // 2. Get the columns, indexes and properties of all the tables
+      Set<String> loadedTables = tableBuilders.keySet();
+      Map<String, List<JdbcColumn>> columns =
+          getTablesColumns(connection, databaseName, loadedTables);
+      Map<String, List<Index>> indexes = getTablesIndexes(connection, databaseName, loadedTables);
+      Map<String, Map<String, String>> properties =
+          getTablesProperties(connection, databaseName, loadedTables);
+
+      // 3. Assemble the tables
+      List<JdbcTable> jdbcTables = new ArrayList<>(tableBuilders.size());
+      for (Map.Entry<String, JdbcTable.Builder> entry : tableBuilders.entrySet()) {
+        String tableName = entry.getKey();
+        JdbcTable.Builder jdbcTableBuilder = entry.getValue();
+        List<JdbcColumn> tableColumns = columns.getOrDefault(tableName, Collections.emptyList());
+        jdbcTableBuilder.withColumns(tableColumns.toArray(new JdbcColumn[0]));
+        List<Index> tableIndexes = indexes.getOrDefault(tableName, Collections.emptyList());
+        jdbcTableBuilder.withIndexes(tableIndexes.toArray(new Index[0]));
+        jdbcTableBuilder.withProperties(properties.get(tableName));
+        try {
+          loadTableDetails(connection, databaseName, tableName, jdbcTableBuilder);
+        } catch (NoSuchTableException e) {
+          LOG.debug("Table {} in database {} is dropped while loading", tableName, databaseName);
+          continue;
+        }
+        jdbcTables.add(jdbcTableBuilder.withTableOperation(this).build());
+      }
+      LOG.info(
+          "Finished loading tables size {} for database name {}", jdbcTables.size(), databaseName);
+      return jdbcTables;
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  /**
+   * Check whether a row of the result set of {@link #getTables(Connection)} belongs to the
+   * database.
+   *
+   * @param tablesResult The result set of the tables, positioned on the row to check.
+   * @param databaseName The name of the database.
+   * @return true if the table of the row belongs to the database.
+   * @throws SQLException if a database access error occurs.
+   */
+  protected boolean isTableInDatabase(ResultSet tablesResult, String databaseName)
+      throws SQLException {
+    return Objects.equals(tablesResult.getString("TABLE_CAT"), databaseName);
+  }
+
+  /**
+   * Get the columns of the tables with one query, the columns of each table are in ordinal order.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableNames The names of the tables
+   * @return The columns grouped by table name.
+   * @throws SQLException if a database access error occurs
+   */
+  protected Map<String, List<JdbcColumn>> getTablesColumns(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, List<JdbcColumn>> columns = new HashMap<>();
+    // A null table name pattern matches the columns of all the tables.
+    try (ResultSet columnsResult = getColumns(connection, databaseName, null)) {
+      while (columnsResult.next()) {
+        String tableName = columnsResult.getString("TABLE_NAME");
+        if (!tableNames.contains(tableName)) {
+          continue;
+        }
+        JdbcColumn.Builder columnBuilder = getColumnBuilder(columnsResult, databaseName, tableName);
+        if (columnBuilder != null) {
+          columnBuilder.withAutoIncrement(getAutoIncrementInfo(columnsResult));
+          columns.computeIfAbsent(tableName, k -> new ArrayList<>()).add(columnBuilder.build());
+        }
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Get the indexes of the tables. The default implementation gets the indexes table by table, and
+   * the catalogs exposing the indexes in a system table should override it with one query.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableNames The names of the tables
+   * @return The indexes grouped by table name.
+   * @throws SQLException if a database access error occurs
+   */
+  protected Map<String, List<Index>> getTablesIndexes(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, List<Index>> indexes = new HashMap<>();
+    for (String tableName : tableNames) {
+      indexes.put(tableName, getIndexes(connection, databaseName, tableName));
+    }
+    return indexes;
+  }
+
+  /**
+   * Get the properties of the tables with one query. The default implementation returns an empty
+   * map, the properties of the tables missing in the result are got per table by {@link
+   * #loadTableDetails}.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableNames The names of the tables
+   * @return The properties grouped by table name.
+   * @throws SQLException if a database access error occurs
+   */
+  protected Map<String, Map<String, String>> getTablesProperties(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Get the information of a table which can not be loaded in bulk, like the partitioning and the
+   * distribution, and attach it to the table builder.
+   *
+   * @param connection jdbc connection
+   * @param databaseName The name of the database
+   * @param tableName table name
+   * @param jdbcTableBuilder The builder of the table, with the columns, indexes and the properties
+   *     loaded in bulk
+   * @throws SQLException if a database access error occurs
+   */
+  protected void loadTableDetails(
+      Connection connection,
+      String databaseName,
+      String tableName,
+      JdbcTable.Builder jdbcTableBuilder)
+      throws SQLException {
+    if (jdbcTableBuilder.properties() == null) {
+      jdbcTableBuilder.withProperties(getTableProperties(connection, tableName));
+    }
+    jdbcTableBuilder.withPartitioning(getTablePartitioning(connection, databaseName, tableName));
+    jdbcTableBuilder.withDistribution(getDistributionInfo(connection, databaseName, tableName));
+    correctJdbcTableFields(connection, databaseName, tableName, jdbcTableBuilder);
+  }
+
   /**
    * Get all properties values of the table, including properties outside Gravitino management. The
    * JdbcCatalogOperations#loadTable method will filter out unnecessary properties.
@@ -389,7 +558,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -424,7 +592,17 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
-    // Assemble into Index
+    return assembleIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Assemble the index information of a table into indexes.
+   *
+   * @param jdbcIndexBeans The index information of a table, one bean per index column.
+   * @return The indexes of the table.
+   */
+  protected List<Index> assembleIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
@@ -690,10 +868,16 @@ public abstract class JdbcTableOperations implements TableOperation {
    * @return the driver version string, or null if not available
    */
   protected String getMySQLDriverVersion() {
+    // The driver does not change for a data source, cache the version instead of borrowing a
+    // connection for each datetime column.
+    if (driverVersion != null) {
+      return driverVersion;
+    }
     try {
       if (dataSource != null) {
         try (Connection connection = dataSource.getConnection()) {
-          return connection.getMetaData().getDriverVersion();
+          driverVersion = connection.getMetaData().getDriverVersion();
+          return driverVersion;
         }
       }
     } catch (SQLException e) {
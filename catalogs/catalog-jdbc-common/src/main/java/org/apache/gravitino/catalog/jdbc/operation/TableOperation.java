@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.catalog.jdbc.operation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -95,6 +96,31 @@ public interface TableOperation {
    */
   JdbcTable load(String databaseName, String tableName) throws NoSuchTableException;
 
+  /**
+   * Loads the given tables of a database, the tables which do not exist are skipped. The default
+   * implementation loads the tables one by one, implementations should override it to fetch the
+   * metadata of all the tables in bulk.
+   *
+   * @param databaseName The name of the database.
+   * @param tableNames The names of the tables to load, or null to load all the tables of the
+   *     database.
+   * @return The information objects of the loaded JDBC tables.
+   * @throws NoSuchSchemaException if the specified database does not exist
+   */
+  default List<JdbcTable> loadTables(String databaseName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    List<String> names = tableNames == null ? listTables(databaseName) : tableNames;
+    List<JdbcTable> tables = new ArrayList<>(names.size());
+    for (String tableName : names) {
+      try {
+        tables.add(load(databaseName, tableName));
+      } catch (NoSuchTableException e) {
+        // The table may be dropped after being listed, skip it.
+      }
+    }
+    return tables;
+  }
+
   /**
    * @param databaseName The name of the database.
    * @param oldTableName The name of the table to rename.
@@ -118,6 +118,12 @@ public class SqliteTableOperations extends JdbcTableOperations {
     return false;
   }
 
+  @Override
+  protected boolean isTableInDatabase(ResultSet tablesResult, String databaseName) {
+    // tables.getString("TABLE_CAT") is always null.
+    return true;
+  }
+
   @Override
   public List<String> listTables(String databaseName) throws NoSuchSchemaException {
     try (Connection connection = getConnection(databaseName)) {
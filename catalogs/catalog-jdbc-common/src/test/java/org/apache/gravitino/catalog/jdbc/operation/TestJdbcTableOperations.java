@@ -211,6 +211,44 @@ public class TestJdbcTableOperations {
         JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, newName), "table should be non-existent");
   }
 
+  @Test
+  public void testLoadTables() {
+    String table1 = "bulk_table1";
+    String table2 = "bulk_table2";
+    for (String tableName : Arrays.asList(table1, table2)) {
+      JDBC_TABLE_OPERATIONS.create(
+          DATABASE_NAME,
+          tableName,
+          generateRandomColumn(1, 4),
+          null,
+          Collections.emptyMap(),
+          null,
+          Distributions.NONE,
+          Indexes.EMPTY_INDEXES);
+    }
+
+    try {
+      // load all the tables
+      List<JdbcTable> tables = JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, null);
+      Assertions.assertEquals(2, tables.size());
+      for (JdbcTable table : tables) {
+        JdbcTable loadTable = JDBC_TABLE_OPERATIONS.load(DATABASE_NAME, table.name());
+        Assertions.assertArrayEquals(loadTable.columns(), table.columns());
+        Assertions.assertEquals(loadTable.index().length, table.index().length);
+        Assertions.assertEquals(loadTable.properties(), table.properties());
+        Assertions.assertEquals(loadTable.comment(), table.comment());
+      }
+
+      // load the given tables, the non-existent table is skipped
+      tables = JDBC_TABLE_OPERATIONS.loadTables(DATABASE_NAME, Arrays.asList(table2, "no_exist"));
+      Assertions.assertEquals(1, tables.size());
+      Assertions.assertEquals(table2, tables.get(0).name());
+    } finally {
+      JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, table1);
+      JDBC_TABLE_OPERATIONS.drop(DATABASE_NAME, table2);
+    }
+  }
+
   @Test
   public void testDriverVersionParsing() {
     // Test supported MySQL versions
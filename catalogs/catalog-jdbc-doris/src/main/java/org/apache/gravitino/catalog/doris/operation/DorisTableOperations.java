@@ -352,6 +352,34 @@ public class DorisTableOperations extends JdbcTableOperations {
   protected Map<String, String> getTableProperties(Connection connection, String tableName)
       throws SQLException {
 
+    String createTableSql = getCreateTableSql(connection, tableName);
+    return Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql));
+  }
+
+  @Override
+  protected void loadTableDetails(
+      Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
+      throws SQLException {
+    // The properties, partitioning and distribution are all extracted from the create table SQL,
+    // get it once instead of once for each of them.
+    String createTableSql = getCreateTableSql(connection, tableName);
+    tableBuilder
+        .withProperties(
+            Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql)))
+        .withPartitioning(
+            DorisUtils.extractPartitionInfoFromSql(createTableSql)
+                .map(t -> new Transform[] {t})
+                .orElse(Transforms.EMPTY_TRANSFORM))
+        .withDistribution(DorisUtils.extractDistributionInfoFromSql(createTableSql));
+
+    // Unlike correctJdbcTableFields, the status of the schema change jobs is not logged here to
+    // avoid one more query per table.
+    if (StringUtils.isEmpty(tableBuilder.comment())) {
+      tableBuilder.withComment(getTableComment(connection, databaseName, tableName));
+    }
+  }
+
+  private String getCreateTableSql(Connection connection, String tableName) throws SQLException {
     String showCreateTableSQL = String.format("SHOW CREATE TABLE `%s`", tableName);
 
     StringBuilder createTableSqlSb = new StringBuilder();
@@ -368,8 +396,7 @@ public class DorisTableOperations extends JdbcTableOperations {
       throw new NoSuchTableException(
           "Table %s does not exist in %s.", tableName, connection.getCatalog());
     }
-
-    return Collections.unmodifiableMap(DorisUtils.extractPropertiesFromSql(createTableSql));
+    return createTableSql;
   }
 
   @Override
@@ -397,17 +424,9 @@ public class DorisTableOperations extends JdbcTableOperations {
   @Override
   protected Transform[] getTablePartitioning(
       Connection connection, String databaseName, String tableName) throws SQLException {
-    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
-    try (Statement statement = connection.createStatement();
-        ResultSet result = statement.executeQuery(showCreateTableSql)) {
-      StringBuilder createTableSql = new StringBuilder();
-      if (result.next()) {
-        createTableSql.append(result.getString("Create Table"));
-      }
-      Optional<Transform> transform =
-          DorisUtils.extractPartitionInfoFromSql(createTableSql.toString());
-      return transform.map(t -> new Transform[] {t}).orElse(Transforms.EMPTY_TRANSFORM);
-    }
+    Optional<Transform> transform =
+        DorisUtils.extractPartitionInfoFromSql(getCreateTableSql(connection, tableName));
+    return transform.map(t -> new Transform[] {t}).orElse(Transforms.EMPTY_TRANSFORM);
   }
 
   @Override
@@ -418,6 +437,11 @@ public class DorisTableOperations extends JdbcTableOperations {
       return;
     }
 
+    tableBuilder.withComment(getTableComment(connection, databaseName, tableName));
+    getTableStatus(connection, databaseName, tableName);
+  }
+
+  private String getTableComment(Connection connection, String databaseName, String tableName) {
     // Doris Cannot get comment from JDBC 8.x, so we need to get comment from sql
     StringBuilder comment = new StringBuilder();
     String sql =
@@ -431,12 +455,10 @@ public class DorisTableOperations extends JdbcTableOperations {
           comment.append(resultSet.getString("TABLE_COMMENT"));
         }
       }
-      tableBuilder.withComment(comment.toString());
+      return comment.toString();
     } catch (SQLException e) {
       throw exceptionMapper.toGravitinoException(e);
     }
-
-    getTableStatus(connection, databaseName, tableName);
   }
 
   protected void getTableStatus(Connection connection, String databaseName, String tableName) {
@@ -787,13 +809,7 @@ public class DorisTableOperations extends JdbcTableOperations {
   protected Distribution getDistributionInfo(
       Connection connection, String databaseName, String tableName) throws SQLException {
 
-    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
-    try (Statement statement = connection.createStatement();
-        ResultSet result = statement.executeQuery(showCreateTableSql)) {
-      result.next();
-      String createTableSyntax = result.getString("Create Table");
-      return DorisUtils.extractDistributionInfoFromSql(createTableSyntax);
-    }
+    return DorisUtils.extractDistributionInfoFromSql(getCreateTableSql(connection, tableName));
   }
 
   @Override
@@ -28,6 +28,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +36,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -44,6 +46,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
@@ -173,17 +176,7 @@ public class MysqlTableOperations extends JdbcTableOperations {
         while (resultSet.next()) {
           String name = resultSet.getString("NAME");
           if (Objects.equals(name, tableName)) {
-            return Collections.unmodifiableMap(
-                new HashMap<String, String>() {
-                  {
-                    put(COMMENT, resultSet.getString(COMMENT));
-                    put(MYSQL_ENGINE_KEY, resultSet.getString(MYSQL_ENGINE_KEY));
-                    String autoIncrement = resultSet.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
-                    if (StringUtils.isNotEmpty(autoIncrement)) {
-                      put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
-                    }
-                  }
-                });
+            return getTableStatusProperties(resultSet);
           }
         }
 
@@ -193,6 +186,72 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected Map<String, Map<String, String>> getTablesProperties(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    Map<String, Map<String, String>> properties = new HashMap<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SHOW TABLE STATUS")) {
+      while (resultSet.next()) {
+        String name = resultSet.getString("NAME");
+        if (tableNames.contains(name)) {
+          properties.put(name, getTableStatusProperties(resultSet));
+        }
+      }
+    }
+    return properties;
+  }
+
+  private static Map<String, String> getTableStatusProperties(ResultSet tableStatus)
+      throws SQLException {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(COMMENT, tableStatus.getString(COMMENT));
+    properties.put(MYSQL_ENGINE_KEY, tableStatus.getString(MYSQL_ENGINE_KEY));
+    String autoIncrement = tableStatus.getString(MYSQL_AUTO_INCREMENT_OFFSET_KEY);
+    if (StringUtils.isNotEmpty(autoIncrement)) {
+      properties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+    }
+    return Collections.unmodifiableMap(properties);
+  }
+
+  @Override
+  protected Map<String, List<Index>> getTablesIndexes(
+      Connection connection, String databaseName, Set<String> tableNames) throws SQLException {
+    // The primary key is the unique index named PRIMARY in MySQL.
+    String sql =
+        "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX"
+            + " FROM information_schema.STATISTICS"
+            + " WHERE TABLE_SCHEMA = ? AND NON_UNIQUE = 0";
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, databaseName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("TABLE_NAME");
+          String columnName = resultSet.getString("COLUMN_NAME");
+          // The column name of a functional key part is null.
+          if (!tableNames.contains(tableName) || columnName == null) {
+            continue;
+          }
+          String indexName = resultSet.getString("INDEX_NAME");
+          Index.IndexType indexType =
+              Indexes.DEFAULT_MYSQL_PRIMARY_KEY_NAME.equals(indexName)
+                  ? Index.IndexType.PRIMARY_KEY
+                  : Index.IndexType.UNIQUE_KEY;
+          indexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      indexType, columnName, indexName, resultSet.getInt("SEQ_IN_INDEX")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> indexes = new HashMap<>();
+    indexBeans.forEach((tableName, beans) -> indexes.put(tableName, assembleIndexes(beans)));
+    return indexes;
+  }
+
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
@@ -600,6 +600,74 @@ public class TestMysqlTableOperations extends TestMysql {
         tableName, tableComment, columns, properties, indexes, Transforms.EMPTY_TRANSFORM, loaded);
   }
 
+  @Test
+  public void testLoadTables() {
+    String databaseName = RandomNameUtils.genRandomName("bulk_db_");
+    DATABASE_OPERATIONS.create(databaseName, null, null);
+    String tableName1 = "bulk_table_1";
+    String tableName2 = "bulk_table_2";
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(INT)
+            .withNullable(false)
+            .withComment("id")
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_2")
+            .withType(VARCHAR)
+            .withNullable(false)
+            .withComment("name")
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_3")
+            .withType(VARCHAR)
+            .withNullable(true)
+            .withDefaultValue(Literals.NULL)
+            .build());
+    Map<String, String> properties = new HashMap<>();
+    Index[] indexes =
+        new Index[] {
+          Indexes.createMysqlPrimaryKey(new String[][] {{"col_1"}}),
+          Indexes.unique("uk_col_2_3", new String[][] {{"col_2"}, {"col_3"}})
+        };
+    for (String tableName : Arrays.asList(tableName1, tableName2)) {
+      TABLE_OPERATIONS.create(
+          databaseName,
+          tableName,
+          columns.toArray(new JdbcColumn[0]),
+          "test_comment",
+          properties,
+          null,
+          Distributions.NONE,
+          indexes);
+    }
+
+    List<JdbcTable> tables = TABLE_OPERATIONS.loadTables(databaseName, null);
+    Assertions.assertEquals(2, tables.size());
+    for (JdbcTable table : tables) {
+      assertionsTableInfo(
+          table.name(),
+          "test_comment",
+          columns,
+          properties,
+          indexes,
+          Transforms.EMPTY_TRANSFORM,
+          table);
+      Assertions.assertEquals(
+          TABLE_OPERATIONS.load(databaseName, table.name()).properties(), table.properties());
+    }
+
+    tables = TABLE_OPERATIONS.loadTables(databaseName, Arrays.asList(tableName2, "no_exist"));
+    Assertions.assertEquals(1, tables.size());
+    Assertions.assertEquals(tableName2, tables.get(0).name());
+
+    DATABASE_OPERATIONS.delete(databaseName, true);
+  }
+
   @Test
   public void testCreateAllTypeTable() {
     String tableName = RandomNameUtils.genRandomName("type_table_");
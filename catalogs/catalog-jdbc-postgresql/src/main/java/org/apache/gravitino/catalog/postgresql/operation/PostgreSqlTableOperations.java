@@ -25,13 +25,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.collections4.MapUtils;
@@ -41,6 +44,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
@@ -118,6 +122,70 @@ public class PostgreSqlTableOperations extends JdbcTableOperations
     }
   }
 
+  @Override
+  public List<JdbcTable> loadTables(String schemaName, List<String> tableNames)
+      throws NoSuchSchemaException {
+    try (Connection connection = getConnection(schemaName)) {
+      if (!schemaOperations.schemaExists(connection, schemaName)) {
+        throw new NoSuchSchemaException("No such schema: %s", schemaName);
+      }
+    } catch (final SQLException se) {
+      throw this.exceptionMapper.toGravitinoException(se);
+    }
+    return super.loadTables(schemaName, tableNames);
+  }
+
+  @Override
+  protected boolean isTableInDatabase(ResultSet tablesResult, String schemaName)
+      throws SQLException {
+    return Objects.equals(tablesResult.getString("TABLE_SCHEM"), schemaName);
+  }
+
+  @Override
+  protected Map<String, List<Index>> getTablesIndexes(
+      Connection connection, String schemaName, Set<String> tableNames) throws SQLException {
+    // The columns of the primary keys and unique indexes of all the tables in the schema, the
+    // expression indexes have no column and are not matched.
+    String sql =
+        "SELECT ct.relname AS table_name, ci.relname AS index_name, a.attname AS column_name,"
+            + " k.ord AS ordinal_position, i.indisprimary AS is_primary"
+            + " FROM pg_catalog.pg_index i"
+            + " JOIN pg_catalog.pg_class ct ON ct.oid = i.indrelid"
+            + " JOIN pg_catalog.pg_class ci ON ci.oid = i.indexrelid"
+            + " JOIN pg_catalog.pg_namespace n ON n.oid = ct.relnamespace"
+            + " JOIN LATERAL unnest(i.indkey) WITH ORDINALITY AS k(attnum, ord) ON TRUE"
+            + " JOIN pg_catalog.pg_attribute a ON a.attrelid = ct.oid AND a.attnum = k.attnum"
+            + " WHERE n.nspname = ? AND (i.indisprimary OR i.indisunique)";
+    Map<String, List<JdbcIndexBean>> indexBeans = new HashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setString(1, schemaName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String tableName = resultSet.getString("table_name");
+          if (!tableNames.contains(tableName)) {
+            continue;
+          }
+          Index.IndexType indexType =
+              resultSet.getBoolean("is_primary")
+                  ? Index.IndexType.PRIMARY_KEY
+                  : Index.IndexType.UNIQUE_KEY;
+          indexBeans
+              .computeIfAbsent(tableName, k -> new ArrayList<>())
+              .add(
+                  new JdbcIndexBean(
+                      indexType,
+                      resultSet.getString("column_name"),
+                      resultSet.getString("index_name"),
+                      resultSet.getInt("ordinal_position")));
+        }
+      }
+    }
+
+    Map<String, List<Index>> indexes = new HashMap<>();
+    indexBeans.forEach((tableName, beans) -> indexes.put(tableName, assembleIndexes(beans)));
+    return indexes;
+  }
+
   @Override
   protected JdbcTable.Builder getTableBuilder(
       ResultSet tablesResult, String databaseName, String tableName) throws SQLException {
@@ -208,6 +208,29 @@ public class StarRocksTableOperations extends JdbcTableOperations {
   protected Map<String, String> getTableProperties(Connection connection, String tableName)
       throws SQLException {
 
+    String createTableSql = getCreateTableSql(connection, tableName);
+    return Collections.unmodifiableMap(StarRocksUtils.extractPropertiesFromSql(createTableSql));
+  }
+
+  @Override
+  protected void loadTableDetails(
+      Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
+      throws SQLException {
+    // The properties, partitioning, distribution and comment are all extracted from the create
+    // table SQL, get it once instead of once for each of them.
+    String createTableSql = getCreateTableSql(connection, tableName);
+    tableBuilder
+        .withProperties(
+            Collections.unmodifiableMap(StarRocksUtils.extractPropertiesFromSql(createTableSql)))
+        .withPartitioning(
+            StarRocksUtils.extractPartitionInfoFromSql(createTableSql)
+                .map(t -> new Transform[] {t})
+                .orElse(Transforms.EMPTY_TRANSFORM))
+        .withDistribution(StarRocksUtils.extractDistributionInfoFromSql(createTableSql))
+        .withComment(StarRocksUtils.extractTableCommentFromSql(createTableSql));
+  }
+
+  private String getCreateTableSql(Connection connection, String tableName) throws SQLException {
     String showCreateTableSQL = String.format("SHOW CREATE TABLE `%s`", tableName);
 
     StringBuilder createTableSqlSb = new StringBuilder();
@@ -224,8 +247,7 @@ public class StarRocksTableOperations extends JdbcTableOperations {
       throw new NoSuchTableException(
           "Table %s does not exist in %s.", tableName, connection.getCatalog());
     }
-
-    return Collections.unmodifiableMap(StarRocksUtils.extractPropertiesFromSql(createTableSql));
+    return createTableSql;
   }
 
   @Override
@@ -253,33 +275,18 @@ public class StarRocksTableOperations extends JdbcTableOperations {
   @Override
   protected Transform[] getTablePartitioning(
       Connection connection, String databaseName, String tableName) throws SQLException {
-    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
-    try (Statement statement = connection.createStatement();
-        ResultSet result = statement.executeQuery(showCreateTableSql)) {
-      StringBuilder createTableSql = new StringBuilder();
-      if (result.next()) {
-        createTableSql.append(result.getString("Create Table"));
-      }
-      Optional<Transform> transform =
-          StarRocksUtils.extractPartitionInfoFromSql(createTableSql.toString());
-      return transform.map(t -> new Transform[] {t}).orElse(Transforms.EMPTY_TRANSFORM);
-    }
+    Optional<Transform> transform =
+        StarRocksUtils.extractPartitionInfoFromSql(getCreateTableSql(connection, tableName));
+    return transform.map(t -> new Transform[] {t}).orElse(Transforms.EMPTY_TRANSFORM);
   }
 
   @Override
   protected void correctJdbcTableFields(
       Connection connection, String databaseName, String tableName, JdbcTable.Builder tableBuilder)
       throws SQLException {
-    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
-    try (Statement statement = connection.createStatement();
-        ResultSet result = statement.executeQuery(showCreateTableSql)) {
-      StringBuilder createTableSql = new StringBuilder();
-      if (result.next()) {
-        createTableSql.append(result.getString("Create Table"));
-      }
-      String tableComment = StarRocksUtils.extractTableCommentFromSql(createTableSql.toString());
-      tableBuilder.withComment(tableComment);
-    }
+    String tableComment =
+        StarRocksUtils.extractTableCommentFromSql(getCreateTableSql(connection, tableName));
+    tableBuilder.withComment(tableComment);
   }
 
   @Override
@@ -303,13 +310,7 @@ public class StarRocksTableOperations extends JdbcTableOperations {
   protected Distribution getDistributionInfo(
       Connection connection, String databaseName, String tableName) throws SQLException {
 
-    String showCreateTableSql = String.format("SHOW CREATE TABLE `%s`", tableName);
-    try (Statement statement = connection.createStatement();
-        ResultSet result = statement.executeQuery(showCreateTableSql)) {
-      result.next();
-      String createTableSyntax = result.getString("Create Table");
-      return StarRocksUtils.extractDistributionInfoFromSql(createTableSyntax);
-    }
+    return StarRocksUtils.extractDistributionInfoFromSql(getCreateTableSql(connection, tableName));
   }
 
   public StringBuilder appendColumnDefinition(JdbcColumn column, StringBuilder sqlBuilder) {
@@ -164,6 +164,13 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_STRIPES)).thenReturn(1);
+    Mockito.when(config.get(Configs.CACHE_NEGATIVE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.STORE_GC_PARALLELISM)).thenReturn(4);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(0L);
+    Mockito.when(config.get(Configs.STORE_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_CONNECTION_USAGE)).thenReturn(0.8);
 
     // Mock
     MetalakeMetaService metalakeMetaService = MetalakeMetaService.getInstance();
@@ -35,6 +35,7 @@ import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.ManagedSchemaOperations;
 import org.apache.gravitino.connector.CatalogInfo;
@@ -110,6 +111,22 @@ public class ModelCatalogOperations extends ManagedSchemaOperations
     }
   }
 
+  @Override
+  public Page<NameIdentifier> listModels(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    NamespaceUtil.checkModel(namespace);
+
+    try {
+      return listEntityPage(
+          namespace, ModelEntity.class, Entity.EntityType.MODEL, pageToken, pageSize);
+
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchSchemaException(e, "Schema %s does not exist", namespace);
+    } catch (IOException ioe) {
+      throw new RuntimeException("Failed to list models under namespace " + namespace, ioe);
+    }
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     NameIdentifierUtil.checkModel(ident);
@@ -54,6 +54,7 @@ import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.EntityStoreFactory;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.model.ModelCatalogOperations;
@@ -128,6 +129,13 @@ public class TestModelCatalogOperations {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_STRIPES)).thenReturn(1);
+    Mockito.when(config.get(Configs.CACHE_NEGATIVE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.STORE_GC_PARALLELISM)).thenReturn(4);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(0L);
+    Mockito.when(config.get(Configs.STORE_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_CONNECTION_USAGE)).thenReturn(0.8);
 
     store = EntityStoreFactory.createEntityStore(config);
     store.initialize(config);
@@ -350,6 +358,37 @@ public class TestModelCatalogOperations {
         () -> ops.listModels(Namespace.of(METALAKE_NAME, CATALOG_NAME, "non-existent-schema")));
   }
 
+  @Test
+  public void testListModelsByPage() {
+    String schemaName = randomSchemaName();
+    createSchema(schemaName);
+
+    for (String modelName : new String[] {"model3", "model1", "model2"}) {
+      NameIdentifier modelIdent =
+          NameIdentifierUtil.ofModel(METALAKE_NAME, CATALOG_NAME, schemaName, modelName);
+      StringIdentifier stringId = StringIdentifier.fromId(idGenerator.nextId());
+      ops.registerModel(modelIdent, null, StringIdentifier.newPropertiesWithId(stringId, null));
+    }
+
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, schemaName);
+    Page<NameIdentifier> page = ops.listModels(namespace, null, 2);
+    Assertions.assertEquals(
+        Arrays.asList(
+            NameIdentifier.of(namespace, "model1"), NameIdentifier.of(namespace, "model2")),
+        page.items());
+    Assertions.assertTrue(page.hasNextPage());
+
+    page = ops.listModels(namespace, page.nextPageToken(), 2);
+    Assertions.assertEquals(Arrays.asList(NameIdentifier.of(namespace, "model3")), page.items());
+    Assertions.assertFalse(page.hasNextPage());
+
+    Assertions.assertThrows(
+        NoSuchSchemaException.class,
+        () ->
+            ops.listModels(
+                Namespace.of(METALAKE_NAME, CATALOG_NAME, "non-existent-schema"), null, 2));
+  }
+
   @Test
   public void testRegisterAndDeleteModel() {
     String schemaName = randomSchemaName();
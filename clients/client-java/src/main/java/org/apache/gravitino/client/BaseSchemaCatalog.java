@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.client;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.SupportsSchemas;
@@ -142,6 +144,30 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  /**
+   * List the schemas in the catalog page by page, ordered by name.
+   *
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of schemas in the page.
+   * @return A page of schema names.
+   * @throws NoSuchCatalogException if the catalog with specified namespace does not exist.
+   */
+  @Override
+  public Page<String> listSchemas(String pageToken, int pageSize) throws NoSuchCatalogException {
+    EntityListResponse resp =
+        restClient.get(
+            formatSchemaRequestPath(schemaNamespace()),
+            pageQueryParams(pageToken, pageSize),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler());
+    resp.validate();
+
+    return Page.of(
+        Arrays.stream(resp.identifiers()).map(NameIdentifier::name).collect(Collectors.toList()),
+        resp.nextPageToken());
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
@@ -308,6 +334,23 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Namespace.of(catalogNamespace.level(0), this.name());
   }
 
+  /**
+   * Build the query parameters of a paginated listing request.
+   *
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of entries in the page.
+   * @return The query parameters.
+   */
+  static Map<String, String> pageQueryParams(String pageToken, int pageSize) {
+    Page.checkPageSize(pageSize);
+    ImmutableMap.Builder<String, String> params = ImmutableMap.builder();
+    params.put("pageSize", String.valueOf(pageSize));
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    return params.build();
+  }
+
   static String formatSchemaRequestPath(Namespace ns) {
     return new StringBuilder()
         .append("api/metalakes/")
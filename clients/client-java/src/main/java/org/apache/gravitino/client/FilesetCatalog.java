@@ -30,17 +30,20 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.credential.Credential;
 import org.apache.gravitino.credential.SupportsCredentials;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -101,6 +104,38 @@ class FilesetCatalog extends BaseSchemaCatalog
         .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
         .toArray(NameIdentifier[]::new);
   }
+  /**
+   * List the filesets in a schema namespace page by page, ordered by name.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of filesets in the page.
+   * @return A page of fileset identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatFilesetRequestPath(fullNamespace),
+            pageQueryParams(pageToken, pageSize),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler());
+    resp.validate();
+
+    return Page.of(
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .collect(Collectors.toList()),
+        resp.nextPageToken());
+  }
+
 
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
@@ -269,6 +304,47 @@ class FilesetCatalog extends BaseSchemaCatalog
     }
   }
 
+  /**
+   * Get the actual locations of a batch of files or directories in a fileset by one request.
+   *
+   * @param ident The identifier of the fileset.
+   * @param subPaths The sub paths of the files or directories.
+   * @param locationName The name of the location to be accessed.
+   * @return The actual locations of the files or directories, in the same order as the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   */
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    checkFilesetNameIdentifier(ident);
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+
+    try {
+      CallerContext callerContext = CallerContext.CallerContextHolder.get();
+
+      FileLocationsRequest req = new FileLocationsRequest(subPaths, locationName);
+      req.validate();
+      FileLocationsResponse resp =
+          restClient.post(
+              formatFileLocationsRequestPath(fullNamespace, ident.name()),
+              req,
+              FileLocationsResponse.class,
+              callerContext != null ? callerContext.context() : Collections.emptyMap(),
+              ErrorHandlers.filesetErrorHandler());
+      resp.validate();
+      Preconditions.checkState(
+          resp.getFileLocations().length == subPaths.length,
+          "The number of file locations %s does not match the number of sub paths %s",
+          resp.getFileLocations().length,
+          subPaths.length);
+
+      return resp.getFileLocations();
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
+
   @Override
   public SupportsCredentials supportsCredentials() throws UnsupportedOperationException {
     return this;
@@ -303,6 +379,19 @@ class FilesetCatalog extends BaseSchemaCatalog
         .toString();
   }
 
+  @VisibleForTesting
+  static String formatFileLocationsRequestPath(Namespace ns, String name) {
+    Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
+    return new StringBuilder()
+        .append(formatSchemaRequestPath(schemaNs))
+        .append("/")
+        .append(RESTUtils.encodeString(ns.level(2)))
+        .append("/filesets/")
+        .append(RESTUtils.encodeString(name))
+        .append("/locations")
+        .toString();
+  }
+
   /**
    * Check whether the namespace of a fileset is valid.
    *
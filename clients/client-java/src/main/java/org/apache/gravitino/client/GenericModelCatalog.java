@@ -30,6 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.requests.ModelRegisterRequest;
@@ -95,6 +96,28 @@ class GenericModelCatalog extends BaseSchemaCatalog implements ModelCatalog {
         .map(id -> NameIdentifier.of(id.namespace().level(2), id.name()))
         .toArray(NameIdentifier[]::new);
   }
+  @Override
+  public Page<NameIdentifier> listModels(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    checkModelNamespace(namespace);
+
+    Namespace modelFullNs = modelFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatModelRequestPath(modelFullNs),
+            pageQueryParams(pageToken, pageSize),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.modelErrorHandler());
+    resp.validate();
+
+    return Page.of(
+        Arrays.stream(resp.identifiers())
+            .map(id -> NameIdentifier.of(id.namespace().level(2), id.name()))
+            .collect(Collectors.toList()),
+        resp.nextPageToken());
+  }
+
 
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
@@ -33,6 +33,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
@@ -103,6 +104,38 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
         .toArray(NameIdentifier[]::new);
   }
+  /**
+   * List the tables in a schema namespace page by page, ordered by name.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of tables in the page.
+   * @return A page of table identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    EntityListResponse resp =
+        restClient.get(
+            formatTableRequestPath(fullNamespace),
+            pageQueryParams(pageToken, pageSize),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    return Page.of(
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .collect(Collectors.toList()),
+        resp.nextPageToken());
+  }
+
 
   /**
    * Load the table with specified identifier.
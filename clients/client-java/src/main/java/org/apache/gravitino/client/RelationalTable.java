@@ -34,6 +34,7 @@ import org.apache.gravitino.Audit;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.authorization.SupportsRoles;
 import org.apache.gravitino.dto.rel.TableDTO;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
@@ -243,6 +244,58 @@ class RelationalTable
     return resp.getPartitions();
   }
 
+  /**
+   * Returns a page of the partition names of the table.
+   *
+   * @param filter The filter on the partition fields, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partition names in the page.
+   * @return A page of partition names.
+   */
+  @Override
+  public Page<String> listPartitionNames(String filter, String pageToken, int pageSize) {
+    PartitionNameListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            partitionPageQueryParams(false, filter, pageToken, pageSize),
+            PartitionNameListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    resp.validate();
+    return Page.of(Arrays.asList(resp.partitionNames()), resp.nextPageToken());
+  }
+
+  /**
+   * Returns a page of the partitions of the table.
+   *
+   * @param filter The filter on the partition fields, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partitions in the page.
+   * @return A page of partitions.
+   */
+  @Override
+  public Page<Partition> listPartitions(String filter, String pageToken, int pageSize) {
+    PartitionListResponse resp =
+        restClient.get(
+            getPartitionRequestPath(),
+            partitionPageQueryParams(true, filter, pageToken, pageSize),
+            PartitionListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.partitionErrorHandler());
+    return Page.of(Arrays.asList(resp.getPartitions()), resp.getNextPageToken());
+  }
+
+  private static Map<String, String> partitionPageQueryParams(
+      boolean details, @Nullable String filter, @Nullable String pageToken, int pageSize) {
+    Map<String, String> params =
+        new HashMap<>(BaseSchemaCatalog.pageQueryParams(pageToken, pageSize));
+    params.put("details", String.valueOf(details));
+    if (filter != null) {
+      params.put("filter", filter);
+    }
+    return params;
+  }
+
   /**
    * Returns the partition with the given name.
    *
@@ -46,6 +46,7 @@ import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -54,6 +55,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.AlreadyExistsException;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
@@ -522,6 +524,52 @@ public class TestFilesetCatalog extends TestBase {
         "location name not found");
   }
 
+  @Test
+  public void testGetFileLocations() throws JsonProcessingException {
+    NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
+    String locationsPath =
+        withSlash(
+            FilesetCatalog.formatFileLocationsRequestPath(
+                Namespace.of(metalakeName, catalogName, "schema1"), fileset.name()));
+    String[] subPaths = new String[] {"a/b", "c"};
+    String[] mockFileLocations = new String[] {"file:/fileset/a/b", "file:/fileset/c"};
+    FileLocationsRequest req = new FileLocationsRequest(subPaths, "location1");
+    FileLocationsResponse resp = new FileLocationsResponse(mockFileLocations);
+    buildMockResource(Method.POST, locationsPath, req, resp, SC_OK);
+
+    String[] actualFileLocations =
+        catalog
+            .asFilesetCatalog()
+            .getFileLocations(
+                NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                subPaths,
+                "location1");
+    Assertions.assertArrayEquals(mockFileLocations, actualFileLocations);
+
+    ErrorResponse errResp =
+        ErrorResponse.notFound(NoSuchFilesetException.class.getSimpleName(), "fileset not found");
+    buildMockResource(Method.POST, locationsPath, req, errResp, SC_NOT_FOUND);
+    Assertions.assertThrows(
+        NoSuchFilesetException.class,
+        () ->
+            catalog
+                .asFilesetCatalog()
+                .getFileLocations(
+                    NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                    subPaths,
+                    "location1"));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            catalog
+                .asFilesetCatalog()
+                .getFileLocations(
+                    NameIdentifier.of(fileset.namespace().level(2), fileset.name()),
+                    new String[0],
+                    null));
+  }
+
   @Test
   public void testCallerContextToHeader() throws JsonProcessingException {
     NameIdentifier fileset = NameIdentifier.of(metalakeName, catalogName, "schema1", "fileset1");
@@ -40,6 +40,7 @@ import java.util.stream.IntStream;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SupportsSchemas;
 import org.apache.gravitino.dto.AuditDTO;
@@ -360,6 +361,45 @@ public class TestRelationalCatalog extends TestBase {
         Assertions.assertThrows(RuntimeException.class, () -> tableCatalog.listTables(namespace1));
     Assertions.assertTrue(ex2.getMessage().contains("unparsed error"));
   }
+  @Test
+  public void testListTablesByPage() throws JsonProcessingException {
+    NameIdentifier table1 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalakeName, catalogName, "schema1", "table2");
+    String tablePath = withSlash(RelationalCatalog.formatTableRequestPath(table1.namespace()));
+
+    // The expectation of the second page is registered first, as the query parameters of the first
+    // page are a subset of them.
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "1", "pageToken", "token"),
+        null,
+        new EntityListResponse(new NameIdentifier[] {table2}, null),
+        SC_OK);
+    buildMockResource(
+        Method.GET,
+        tablePath,
+        ImmutableMap.of("pageSize", "1"),
+        null,
+        new EntityListResponse(new NameIdentifier[] {table1}, "token"),
+        SC_OK);
+
+    TableCatalog tableCatalog = catalog.asTableCatalog();
+    Page<NameIdentifier> page = tableCatalog.listTables(Namespace.of("schema1"), null, 1);
+    Assertions.assertEquals(
+        Collections.singletonList(NameIdentifier.of("schema1", "table1")), page.items());
+    Assertions.assertEquals("token", page.nextPageToken());
+
+    page = tableCatalog.listTables(Namespace.of("schema1"), page.nextPageToken(), 1);
+    Assertions.assertEquals(
+        Collections.singletonList(NameIdentifier.of("schema1", "table2")), page.items());
+    Assertions.assertFalse(page.hasNextPage());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> tableCatalog.listTables(Namespace.of("schema1"), null, 0));
+  }
+
 
   @Test
   public void testCreateTable() throws JsonProcessingException {
@@ -26,10 +26,13 @@ import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_NOT_IMPLEMENTED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.dto.SchemaDTO;
 import org.apache.gravitino.dto.rel.ColumnDTO;
 import org.apache.gravitino.dto.rel.DistributionDTO;
@@ -167,6 +170,24 @@ public class TestRelationalTable extends TestRelationalCatalog {
     Assertions.assertEquals("table does not support partition operations", exception.getMessage());
   }
 
+  @Test
+  public void testListPartitionNamesByPage() throws JsonProcessingException {
+    String partitionPath =
+        withSlash(((RelationalTable) partitionedTable).getPartitionRequestPath());
+    PartitionNameListResponse resp = new PartitionNameListResponse(new String[] {"p2"}, "next");
+    buildMockResource(
+        Method.GET,
+        partitionPath,
+        ImmutableMap.of("details", "false", "filter", "p > 1", "pageSize", "1"),
+        null,
+        resp,
+        SC_OK);
+
+    Page<String> page = partitionedTable.supportPartitions().listPartitionNames("p > 1", null, 1);
+    Assertions.assertEquals(ImmutableList.of("p2"), page.items());
+    Assertions.assertEquals("next", page.nextPageToken());
+  }
+
   @Test
   public void testListPartitions() throws JsonProcessingException {
     String partitionName = "p1";
@@ -22,6 +22,8 @@ import static org.apache.gravitino.file.Fileset.PROPERTY_DEFAULT_LOCATION_NAME;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_CURRENT_LOCATION_NAME;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_CATALOG_CACHE_ENABLE;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_CATALOG_CACHE_ENABLE_DEFAULT;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE;
+import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE_DEFAULT;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.extractIdentifier;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.getConfigMap;
 import static org.apache.gravitino.filesystem.hadoop.GravitinoVirtualFileSystemUtils.getSubPathFromGvfsPath;
@@ -132,6 +134,8 @@ public abstract class BaseGVFSOperations implements Closeable {
 
   private final boolean enableCredentialVending;
 
+  private final boolean resolveLocationLocally;
+
   /**
    * Constructs a new {@link BaseGVFSOperations} with the given {@link Configuration}.
    *
@@ -175,6 +179,19 @@ public abstract class BaseGVFSOperations implements Closeable {
         configuration.getBoolean(
             GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ENABLE_CREDENTIAL_VENDING,
             GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_ENABLE_CREDENTIAL_VENDING_DEFAULT);
+
+    boolean enableResolveLocationLocally =
+        configuration.getBoolean(
+            FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE,
+            FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE_DEFAULT);
+    if (enableResolveLocationLocally && !enableFilesetCatalogCache) {
+      LOG.warn(
+          "'{}' takes effect only when '{}' is true, the file locations are resolved by the "
+              + "Gravitino server.",
+          FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE,
+          FS_GRAVITINO_FILESET_CATALOG_CACHE_ENABLE);
+    }
+    this.resolveLocationLocally = enableResolveLocationLocally && enableFilesetCatalogCache;
     this.conf = configuration;
   }
 
@@ -405,13 +422,18 @@ public abstract class BaseGVFSOperations implements Closeable {
         NameIdentifier.of(filesetIdent.namespace().level(0), filesetIdent.namespace().level(1));
     String fileLocation;
     try {
-      FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
-      setCallerContextForGetFileLocation(operation);
-      fileLocation =
-          filesetCatalog.getFileLocation(
-              NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
-              subPath,
-              locationName);
+      if (resolveLocationLocally) {
+        fileLocation =
+            resolveFileLocation(getFileset(filesetIdent), subPath, locationName, operation);
+      } else {
+        FilesetCatalog filesetCatalog = getFilesetCatalog(catalogIdent);
+        setCallerContextForGetFileLocation(operation);
+        fileLocation =
+            filesetCatalog.getFileLocation(
+                NameIdentifier.of(filesetIdent.namespace().level(2), filesetIdent.name()),
+                subPath,
+                locationName);
+      }
     } catch (NoSuchCatalogException | CatalogNotInUseException e) {
       String message = String.format("Cannot get fileset catalog by identifier: %s", catalogIdent);
       LOG.warn(message, e);
@@ -441,6 +463,47 @@ public abstract class BaseGVFSOperations implements Closeable {
     return new Path(fileLocation);
   }
 
+  /**
+   * Resolve the actual file location from the fileset metadata in the same way as the Gravitino
+   * server does, used to avoid a server round trip for each file.
+   */
+  private String resolveFileLocation(
+      Fileset fileset, String subPath, String locationName, FilesetDataOperation operation) {
+    String targetLocationName;
+    if (locationName == null) {
+      targetLocationName =
+          fileset.storageLocations().size() == 1
+              // to be compatible with the old version, the fileset in old version only has one
+              // location and does not have the default-location-name property
+              ? fileset.storageLocations().keySet().iterator().next()
+              : fileset.properties().get(PROPERTY_DEFAULT_LOCATION_NAME);
+    } else {
+      targetLocationName = locationName;
+    }
+    if (!fileset.storageLocations().containsKey(targetLocationName)) {
+      throw new NoSuchLocationNameException(
+          "Location name %s does not exist in fileset %s", targetLocationName, fileset.name());
+    }
+
+    String processedSubPath = subPath.trim();
+    if (!processedSubPath.isEmpty() && !processedSubPath.startsWith(SLASH)) {
+      processedSubPath = SLASH + processedSubPath;
+    }
+    // if the sub path is blank, it cannot be renamed otherwise the metadata in the Gravitino
+    // server may be inconsistent.
+    if (operation == FilesetDataOperation.RENAME
+        && (processedSubPath.isEmpty() || processedSubPath.equals(SLASH))) {
+      throw new GravitinoRuntimeException(
+          "subPath cannot be blank when need to rename a file or a directory.");
+    }
+
+    String storageLocation = fileset.storageLocations().get(targetLocationName);
+    if (processedSubPath.isEmpty()) {
+      return storageLocation;
+    }
+    return StringUtils.removeEnd(storageLocation, SLASH) + processedSubPath;
+  }
+
   private void createFilesetLocationIfNeed(
       NameIdentifier filesetIdent, FileSystem fs, Path filesetPath) {
     NameIdentifier catalogIdent =
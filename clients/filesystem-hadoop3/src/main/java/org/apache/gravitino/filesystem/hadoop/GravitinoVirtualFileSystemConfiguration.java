@@ -175,5 +175,18 @@ public class GravitinoVirtualFileSystemConfiguration {
   /** The default value for whether to enable fileset catalog cache. */
   public static final boolean FS_GRAVITINO_FILESET_CATALOG_CACHE_ENABLE_DEFAULT = false;
 
+  /**
+   * The configuration key for whether to resolve the actual file locations on the client side from
+   * the cached fileset metadata, instead of asking the Gravitino server for each file. It only
+   * takes effect when the fileset catalog cache is enabled. Note that the server doesn't see the
+   * file accesses in this case, so the server-side audit logs and events of getting file locations
+   * are not generated. The default is false.
+   */
+  public static final String FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE =
+      "fs.gravitino.resolveLocationLocally.enable";
+
+  /** The default value for whether to resolve the actual file locations on the client side. */
+  public static final boolean FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE_DEFAULT = false;
+
   private GravitinoVirtualFileSystemConfiguration() {}
 }
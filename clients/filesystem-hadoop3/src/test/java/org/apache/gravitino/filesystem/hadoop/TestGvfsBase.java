@@ -695,6 +695,33 @@ public class TestGvfsBase extends GravitinoMockServerBase {
     }
   }
 
+  @Test
+  public void testResolveLocationLocally() throws IOException {
+    String filesetName = "testResolveLocationLocally";
+    Path managedFilesetPath =
+        FileSystemTestUtils.createFilesetPath(catalogName, schemaName, filesetName, true);
+    Path localPath = FileSystemTestUtils.createLocalDirPrefix(catalogName, schemaName, filesetName);
+    Configuration configuration = new Configuration(conf);
+    configuration.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_FILESET_CATALOG_CACHE_ENABLE, true);
+    configuration.setBoolean(
+        GravitinoVirtualFileSystemConfiguration.FS_GRAVITINO_RESOLVE_LOCATION_LOCALLY_ENABLE,
+        true);
+    try (FileSystem gravitinoFileSystem = managedFilesetPath.getFileSystem(configuration);
+        FileSystem localFileSystem = localPath.getFileSystem(conf)) {
+      FileSystemTestUtils.mkdirs(localPath, localFileSystem);
+      assertTrue(localFileSystem.exists(localPath));
+
+      // The file location endpoint is not mocked, the location is resolved from the fileset.
+      buildMockResourceForCredential(filesetName, localPath.toString());
+
+      Path subPath = new Path(managedFilesetPath, "sub_dir");
+      assertTrue(gravitinoFileSystem.mkdirs(subPath));
+      assertTrue(localFileSystem.exists(new Path(localPath, "sub_dir")));
+      assertTrue(gravitinoFileSystem.getFileStatus(subPath).isDirectory());
+    }
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {"testListStatus", "testListStatus%2Fabc"})
   public void testListStatus(String filesetName) throws IOException {
@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino.dto.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -30,20 +31,36 @@ public class PartitionNameListResponse extends BaseResponse {
   @JsonProperty("names")
   private final String[] partitionNames;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty("nextPageToken")
+  private final String nextPageToken;
+
   /**
    * Constructor for PartitionNameListResponse.
    *
    * @param partitionNames The array of partition names.
    */
   public PartitionNameListResponse(String[] partitionNames) {
+    this(partitionNames, null);
+  }
+
+  /**
+   * Constructor for PartitionNameListResponse of a paginated listing.
+   *
+   * @param partitionNames The array of partition names in the page.
+   * @param nextPageToken The token of the next page, or null if it's the last page.
+   */
+  public PartitionNameListResponse(String[] partitionNames, String nextPageToken) {
     super(0);
     this.partitionNames = partitionNames;
+    this.nextPageToken = nextPageToken;
   }
 
   /** Default constructor for PartitionNameListResponse. (Used for Jackson deserialization.) */
   public PartitionNameListResponse() {
     super();
     this.partitionNames = null;
+    this.nextPageToken = null;
   }
 
   /** @return The array of partition names. */
@@ -51,6 +68,16 @@ public class PartitionNameListResponse extends BaseResponse {
     return partitionNames;
   }
 
+  /**
+   * Returns the token of the next page of a paginated listing.
+   *
+   * @return The token of the next page, or null if it's the last page or the listing isn't
+   *     paginated.
+   */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   /**
    * Validates the response data.
    *
@@ -21,6 +21,7 @@ package org.apache.gravitino.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableMap;
 import java.time.Instant;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.responses.BaseResponse;
@@ -64,6 +65,16 @@ public class TestResponseJsonSerDe {
     EntityListResponse deserResponse =
         JsonUtils.objectMapper().readValue(serJson, EntityListResponse.class);
     Assertions.assertEquals(response, deserResponse);
+    Assertions.assertFalse(serJson.contains("nextPageToken"));
+
+    response =
+        new EntityListResponse(
+            new NameIdentifier[] {NameIdentifier.of("metalake", "catalog", "schema", "table")},
+            "token");
+    serJson = JsonUtils.objectMapper().writeValueAsString(response);
+    deserResponse = JsonUtils.objectMapper().readValue(serJson, EntityListResponse.class);
+    Assertions.assertEquals(response, deserResponse);
+    Assertions.assertEquals("token", deserResponse.nextPageToken());
   }
 
   @Test
@@ -106,7 +106,7 @@ jmh {
   warmupIterations = 5
   iterations = 10
   fork = 1
-  threads = 10
+  threads = (project.findProperty("jmhThreads") as String?)?.toInt() ?: 10
   resultFormat = "csv"
   resultsFile = file("$buildDir/reports/jmh/results.csv")
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * StripedLockEntityCacheBenchmark compares the throughput of a mixed get/put/invalidate workload on
+ * the {@link CaffeineEntityCache} with a single global lock ({@code lockStripes = 1}) and with
+ * locks striped by metalake and catalog.
+ *
+ * <p>The workload is spread over {@link #CATALOG_CNT} catalogs of one metalake and is made of:
+ *
+ * <ul>
+ *   <li>80% {@code get} operations, loading the entity under the cache lock on a miss like {@code
+ *       RelationalEntityStore#get} does
+ *   <li>15% {@code put} operations
+ *   <li>5% {@code invalidate} operations on a table
+ * </ul>
+ *
+ * <p>The number of threads is driven by JMH, e.g. run it with {@code ./gradlew :core:jmh
+ * -PjmhThreads=64} or with the {@code -t} option of the JMH runner for 1 to 64 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StripedLockEntityCacheBenchmark {
+  public static final int CATALOG_CNT = 16;
+  public static final int SCHEMA_CNT = 4;
+  public static final int TABLE_CNT = 64;
+  public static final int GET_RATIO = 80;
+  public static final int PUT_RATIO = 15;
+
+  @Param({"1", "16", "64"})
+  public int lockStripes;
+
+  private EntityCache cache;
+  private List<TableEntity> entities;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_LOCK_STRIPES, lockStripes);
+    this.cache = new CaffeineEntityCache(config);
+    this.entities = new ArrayList<>(CATALOG_CNT * SCHEMA_CNT * TABLE_CNT);
+
+    long id = 0;
+    for (int c = 0; c < CATALOG_CNT; c++) {
+      for (int s = 0; s < SCHEMA_CNT; s++) {
+        Namespace namespace = Namespace.of("m1", "c" + c, "s" + s);
+        for (int t = 0; t < TABLE_CNT; t++) {
+          entities.add(TestUtil.getTestTableEntity(id++, "t" + t, namespace));
+        }
+      }
+    }
+
+    entities.forEach(cache::put);
+  }
+
+  @Benchmark
+  public Entity benchmarkMixedOps() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    TableEntity entity = entities.get(random.nextInt(entities.size()));
+    int op = random.nextInt(100);
+
+    if (op < GET_RATIO) {
+      return cache.withCacheLock(
+          entity.nameIdentifier(),
+          () -> {
+            Optional<TableEntity> entityFromCache =
+                cache.getIfPresent(entity.nameIdentifier(), entity.type());
+            if (entityFromCache.isPresent()) {
+              return entityFromCache.get();
+            }
+
+            cache.put(entity);
+            return entity;
+          });
+    }
+
+    if (op < GET_RATIO + PUT_RATIO) {
+      cache.put(entity);
+    } else {
+      cache.invalidate(entity.nameIdentifier(), entity.type());
+    }
+
+    return entity;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lock;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TreeLockBenchmark measures the throughput of {@link TreeLockUtils#doWithTreeLock} with READ locks
+ * on the tables of a single metalake, whose root and metalake nodes are locked by every request.
+ * It compares a single read-write lock per node ({@code readLockStripes = 1}) with striped read
+ * locks on the root, metalake and catalog nodes.
+ *
+ * <p>The number of threads is driven by JMH, e.g. run it with {@code ./gradlew :core:jmh
+ * -PjmhThreads=64} or with the {@code -t} option of the JMH runner for 1 to 64 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TreeLockBenchmark {
+  public static final int CATALOG_CNT = 4;
+  public static final int SCHEMA_CNT = 4;
+  public static final int TABLE_CNT = 64;
+
+  @Param({"1", "16", "64"})
+  public int readLockStripes;
+
+  private NameIdentifier[] tables;
+
+  @Setup(Level.Trial)
+  public void setup() throws IllegalAccessException {
+    Config config = new Config(false) {};
+    config.set(Configs.TREE_LOCK_READ_LOCK_STRIPES, readLockStripes);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+
+    this.tables = new NameIdentifier[CATALOG_CNT * SCHEMA_CNT * TABLE_CNT];
+    int i = 0;
+    for (int c = 0; c < CATALOG_CNT; c++) {
+      for (int s = 0; s < SCHEMA_CNT; s++) {
+        for (int t = 0; t < TABLE_CNT; t++) {
+          tables[i++] = NameIdentifier.of("m1", "c" + c, "s" + s, "t" + t);
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public NameIdentifier benchmarkReadLock() {
+    NameIdentifier table = tables[ThreadLocalRandom.current().nextInt(tables.length)];
+    return TreeLockUtils.doWithTreeLock(table, LockType.READ, () -> table);
+  }
+}
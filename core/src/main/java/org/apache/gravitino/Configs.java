@@ -58,6 +58,15 @@ public class Configs {
   public static final String ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY =
       "gravitino.entity.store.relational.storagePath";
 
+  public static final String ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED_KEY =
+      "gravitino.entity.store.relational.idPathCache.enabled";
+
+  public static final String ENTITY_RELATIONAL_ID_PATH_CACHE_MAX_ENTRIES_KEY =
+      "gravitino.entity.store.relational.idPathCache.maxEntries";
+
+  public static final String ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRATION_TIME_KEY =
+      "gravitino.entity.store.relational.idPathCache.expireTimeInMs";
+
   public static final Long DEFAULT_DELETE_AFTER_TIME = 604800000L; // 7 days
 
   // Config for data keep time after soft deletion, in milliseconds.
@@ -163,6 +172,34 @@ public class Configs {
           .longConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLISECONDS);
 
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED =
+      new ConfigBuilder(ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED_KEY)
+          .doc(
+              "Whether to cache the IDs of the metalake, catalog and schema resolved from a "
+                  + "namespace, so that the relational backend doesn't resolve them on every "
+                  + "operation")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_ID_PATH_CACHE_MAX_ENTRIES =
+      new ConfigBuilder(ENTITY_RELATIONAL_ID_PATH_CACHE_MAX_ENTRIES_KEY)
+          .doc("The maximum number of namespaces in the ID path cache")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRATION_TIME =
+      new ConfigBuilder(ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRATION_TIME_KEY)
+          .doc(
+              "The time-to-live in milliseconds of the entries in the ID path cache, it bounds "
+                  + "how long a rename or drop done by another server stays invisible")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60_000L);
+
   public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_PATH =
       new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY)
           .doc(
@@ -188,6 +225,16 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Long> CATALOG_TABLE_CACHE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.catalog.tableCache.maxEntries")
+          .doc(
+              "The maximum number of loaded tables to keep in the table cache of the catalogs "
+                  + "that enable it")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000L);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc(
@@ -256,6 +303,44 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final ConfigEntry<Integer> STORE_GC_PARALLELISM =
+      new ConfigBuilder("gravitino.entity.store.gc.parallelism")
+          .doc("The number of entity types whose garbage is deleted in parallel")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Long> STORE_GC_MAX_ROWS_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.gc.maxRowsPerSecond")
+          .doc(
+              "The maximum number of rows deleted per second by the garbage collector across all "
+                  + "the entity types, 0 means unlimited")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Long> STORE_GC_TARGET_BATCH_LATENCY_MS =
+      new ConfigBuilder("gravitino.entity.store.gc.targetBatchLatencyMs")
+          .doc(
+              "The target latency in milliseconds of a garbage deletion statement, the batch size "
+                  + "grows when the statements are faster and shrinks when they are slower")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(500L);
+
+  public static final ConfigEntry<Double> STORE_GC_MAX_CONNECTION_USAGE =
+      new ConfigBuilder("gravitino.entity.store.gc.maxConnectionUsage")
+          .doc(
+              "The ratio of active to maximum connections of the relational backend pool above "
+                  + "which the garbage collector pauses")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .doubleConf()
+          .checkValue(value -> value > 0 && value <= 1, "The value must be in (0, 1]")
+          .createWithDefault(0.8);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -279,6 +364,17 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<Integer> TREE_LOCK_READ_LOCK_STRIPES =
+      new ConfigBuilder("gravitino.lock.readLockStripes")
+          .doc(
+              "The number of stripes of the read-write locks of the root, metalake and catalog "
+                  + "tree lock nodes. With more than one stripe, a reader only locks the stripe of "
+                  + "its thread and a writer locks all the stripes")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -293,6 +389,26 @@ public class Configs {
           .stringConf()
           .createWithDefault("org.apache.gravitino.server.authorization.jcasbin.JcasbinAuthorizer");
 
+  public static final ConfigEntry<Integer> AUTHORIZATION_PRIVILEGE_INDEX_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.authorization.privilegeIndex.maxEntries")
+          .doc(
+              "The maximum number of users, roles and metadata owners kept in the privilege index "
+                  + "of the `PrivilegeIndexAuthorizer`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000);
+
+  public static final ConfigEntry<Long> AUTHORIZATION_PRIVILEGE_INDEX_EXPIRATION_TIME =
+      new ConfigBuilder("gravitino.authorization.privilegeIndex.expireTimeInMs")
+          .doc(
+              "The time in milliseconds after which the privileges of an inactive user are "
+                  + "evicted from the privilege index of the `PrivilegeIndexAuthorizer`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 60 * 1000L);
+
   public static final ConfigEntry<List<String>> SERVICE_ADMINS =
       new ConfigBuilder("gravitino.authorization.serviceAdmins")
           .doc("The admins of Gravitino service")
@@ -399,6 +515,68 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  // Number of lock stripes used by the cache
+  public static final ConfigEntry<Integer> CACHE_LOCK_STRIPES =
+      new ConfigBuilder("gravitino.cache.lockStripes")
+          .doc(
+              "Number of locks used to guard cache mutations. 1 means a single global lock, a "
+                  + "larger value stripes the locks by metalake and catalog so that mutations "
+                  + "in unrelated catalogs do not block each other.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  // Whether to enable the negative lookup cache
+  public static final ConfigEntry<Boolean> CACHE_NEGATIVE_ENABLED =
+      new ConfigBuilder("gravitino.cache.negative.enabled")
+          .doc(
+              "Whether to cache the entities that are not found in the entity store, so that "
+                  + "repeated lookups of non-existent entities are answered in memory.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Negative lookup cache entry expiration time
+  public static final ConfigEntry<Long> CACHE_NEGATIVE_EXPIRATION_TIME =
+      new ConfigBuilder("gravitino.cache.negative.expireTimeInMs")
+          .doc(
+              "Time-to-live (TTL) for each negative lookup entry and name bloom filter after it "
+                  + "is written, in milliseconds. Default is 5,000 ms.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5_000L);
+
+  // Maximum number of entries in the negative lookup cache
+  public static final ConfigEntry<Integer> CACHE_NEGATIVE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.cache.negative.maxEntries")
+          .doc("Maximum number of entries allowed in the negative lookup cache.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000);
+
+  // Whether to enable the per-namespace name bloom filters of the negative lookup cache
+  public static final ConfigEntry<Boolean> CACHE_NEGATIVE_BLOOM_FILTER_ENABLED =
+      new ConfigBuilder("gravitino.cache.negative.enableBloomFilter")
+          .doc(
+              "Whether to build a bloom filter of the entity names of a namespace when it is "
+                  + "listed, so that lookups of names missing from the filter are answered in "
+                  + "memory.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // False positive probability of the name bloom filters
+  public static final ConfigEntry<Double> CACHE_NEGATIVE_BLOOM_FILTER_FPP =
+      new ConfigBuilder("gravitino.cache.negative.bloomFilterFpp")
+          .doc("The expected false positive probability of the name bloom filters.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .doubleConf()
+          .checkValue(value -> value > 0 && value < 1, "The value must be in (0, 1)")
+          .createWithDefault(0.01);
+
   // Provider name for cache
   public static final ConfigEntry<String> CACHE_IMPLEMENTATION =
       new ConfigBuilder("gravitino.cache.implementation")
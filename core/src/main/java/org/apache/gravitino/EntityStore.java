@@ -20,8 +20,11 @@ package org.apache.gravitino;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -84,6 +87,33 @@ public interface EntityStore extends Closeable {
     throw new UnsupportedOperationException("Don't support to skip fields");
   }
 
+  /**
+   * List a page of the entities in the given namespace, ordered by name in {@link Page#NAME_ORDER}.
+   * The pages are chained by passing the name of the last entity of a page as the {@code
+   * afterName} of the next one.
+   *
+   * <p>The default implementation lists all the entities and returns the requested page of them,
+   * the stores which can paginate the listing natively should override it.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param afterName the name after which the entities are listed, or null to list from the first
+   * @param limit the maximum number of entities to list
+   * @return the list of entities ordered by name
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String afterName, int limit)
+      throws IOException {
+    return list(namespace, type, entityType).stream()
+        .filter(e -> afterName == null || Page.compareNames(e.name(), afterName) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name, Page.NAME_ORDER))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Check if the entity with the specified {@link org.apache.gravitino.NameIdentifier} exists.
    *
@@ -166,6 +196,34 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Get the entities with the specified {@link org.apache.gravitino.NameIdentifier}s from the
+   * underlying storage. The entities that don't exist are skipped, so the returned list may be
+   * smaller than the identifiers and the order of the entities is not guaranteed.
+   *
+   * <p>The default implementation gets the entities one by one, the implementation can override it
+   * to get the entities in batch.
+   *
+   * @param idents the unique identifiers of the entities
+   * @param entityType the general type of the entities
+   * @param e the entity class instance
+   * @param <E> the class of entity
+   * @return the entities retrieved from the underlying storage
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e) throws IOException {
+    List<E> entities = new ArrayList<>();
+    for (NameIdentifier ident : idents) {
+      try {
+        entities.add(get(ident, entityType, e));
+      } catch (NoSuchEntityException nse) {
+        // Skip the entity that doesn't exist.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Delete the entity from the underlying storage by the specified {@link
    * org.apache.gravitino.NameIdentifier}.
@@ -189,6 +189,17 @@ public interface AuditLog {
     return EventSource.GRAVITINO_SERVER;
   }
 
+  /**
+   * Append the audit log line, which is the same as {@link #toString()}, to the builder. The
+   * implementations could override it to format without creating an intermediate string.
+   *
+   * @param builder The builder to append the audit log line to.
+   * @since 1.0.0
+   */
+  default void formatTo(StringBuilder builder) {
+    builder.append(this);
+  }
+
   /** Define user metadata operation. */
   enum Operation {
     CREATE_METALAKE,
@@ -19,21 +19,52 @@
 
 package org.apache.gravitino.audit;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.AuditLogMetricsSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * DefaultFileAuditWriter is the default implementation of AuditLogWriter, which writes audit logs
  * to a file.
+ *
+ * <p>The audit logs are put into a bounded ring buffer and written by a dedicated thread, which
+ * formats a batch of audit logs into a reused buffer, writes them at once and flushes them
+ * together, so writing the audit logs doesn't wait for the file system. The file is rotated by size
+ * or time, and the rotated files are optionally compressed by gzip in the background.
  */
 public class FileAuditWriter implements AuditLogWriter {
   private static final Logger Log = LoggerFactory.getLogger(FileAuditWriter.class);
@@ -41,15 +72,51 @@ public class FileAuditWriter implements AuditLogWriter {
   private static final String AUDIT_LOG_FILE_NAME = "fileName";
   private static final String APPEND = "append";
   private static final String FLUSH_INTERVAL_SECS = "flushIntervalSecs";
+  private static final String IMMEDIATE_FLUSH = "immediateFlush";
+  private static final String BUFFER_CAPACITY = "bufferCapacity";
+  private static final String ROTATE_SIZE_MB = "rotateSizeMB";
+  private static final String ROTATE_INTERVAL_SECS = "rotateIntervalSecs";
+  private static final String COMPRESSION = "compression";
+  private static final String COMPRESSION_NONE = "none";
+  private static final String COMPRESSION_GZIP = "gzip";
+  private static final String GZIP_FILE_SUFFIX = ".gz";
   private static final String LINE_SEPARATOR = System.lineSeparator();
 
+  private static final int MAX_BATCH_SIZE = 1000;
+  private static final long POLL_TIMEOUT_MS = 100L;
+  private static final long CLOSE_TIMEOUT_MS = 10_000L;
+  private static final DateTimeFormatter ROTATED_FILE_TIME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+
   @VisibleForTesting Writer outWriter;
   @VisibleForTesting String fileName;
 
   private Formatter formatter;
   private boolean append;
   private int flushIntervalSecs;
+  private boolean immediateFlush;
+  private long rotateSizeBytes;
+  private long rotateIntervalMs;
   private Instant nextFlushTime = Instant.now();
+  private long nextRotateTimeMs;
+
+  // The bytes of the file before it's opened by the writer, and the bytes written by the writer
+  private long initialFileSize;
+  private CountingOutputStream countingStream;
+
+  private BlockingQueue<AuditLog> ringBuffer;
+  private final List<AuditLog> batch = new ArrayList<>(MAX_BATCH_SIZE);
+  // Reused to format the audit logs of a batch
+  private final StringBuilder formatBuffer = new StringBuilder();
+  private char[] charBuffer = new char[8192];
+  private Thread writerThread;
+  // Null if the rotated files are not compressed
+  private ExecutorService compressionExecutor;
+  private volatile boolean closed = false;
+
+  private MetricsSource metricsSource;
+  private Timer writeTimer;
+  private Counter writeFailureCounter;
 
   @Override
   public Formatter getFormatter() {
@@ -65,35 +132,100 @@ public class FileAuditWriter implements AuditLogWriter {
             + properties.getOrDefault(AUDIT_LOG_FILE_NAME, "gravitino_audit.log");
     this.append = Boolean.parseBoolean(properties.getOrDefault(APPEND, "true"));
     this.flushIntervalSecs = Integer.parseInt(properties.getOrDefault(FLUSH_INTERVAL_SECS, "10"));
+    this.immediateFlush = Boolean.parseBoolean(properties.getOrDefault(IMMEDIATE_FLUSH, "false"));
+    int bufferCapacity = Integer.parseInt(properties.getOrDefault(BUFFER_CAPACITY, "10000"));
+    Preconditions.checkArgument(
+        bufferCapacity > 0, "%s must be positive, but got %s", BUFFER_CAPACITY, bufferCapacity);
+    this.rotateSizeBytes =
+        Long.parseLong(properties.getOrDefault(ROTATE_SIZE_MB, "0")) * 1024 * 1024;
+    long rotateIntervalSecs = Long.parseLong(properties.getOrDefault(ROTATE_INTERVAL_SECS, "0"));
+    this.rotateIntervalMs = TimeUnit.SECONDS.toMillis(rotateIntervalSecs);
+    String compression =
+        properties.getOrDefault(COMPRESSION, COMPRESSION_NONE).toLowerCase(Locale.ROOT);
+    Preconditions.checkArgument(
+        COMPRESSION_NONE.equals(compression) || COMPRESSION_GZIP.equals(compression),
+        "Unsupported audit log compression %s, the supported compressions are %s and %s",
+        compression,
+        COMPRESSION_NONE,
+        COMPRESSION_GZIP);
+
     try {
-      OutputStream outputStream = new FileOutputStream(fileName, append);
-      this.outWriter = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+      openFile(append);
     } catch (Exception e) {
       throw new GravitinoRuntimeException(
           e, "Init audit log writer fail, filename is %s", fileName);
     }
+
+    if (COMPRESSION_GZIP.equals(compression)) {
+      this.compressionExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("audit-log-compressor-%d")
+                  .build());
+    }
+
+    this.ringBuffer = new ArrayBlockingQueue<>(bufferCapacity);
+    this.metricsSource = new AuditLogMetricsSource();
+    this.writeTimer = metricsSource.getTimer(MetricNames.AUDIT_LOG_WRITE_DURATION);
+    this.writeFailureCounter = metricsSource.getCounter(MetricNames.AUDIT_LOG_WRITE_FAILURES);
+    metricsSource.registerGauge(MetricNames.AUDIT_LOG_BACKLOG, (Gauge<Integer>) ringBuffer::size);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // The metrics system is not initialized in some test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    this.writerThread = new Thread(this::processAuditLogs, "audit-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
   }
 
   @Override
   public void doWrite(AuditLog auditLog) {
-    String log = auditLog.toString();
+    if (closed) {
+      Log.warn("Audit log writer is closed, failed to write audit log: {}", auditLog);
+      return;
+    }
+
     try {
-      outWriter.write(log + LINE_SEPARATOR);
-      tryFlush();
-    } catch (Exception e) {
-      Log.warn("Failed to write audit log: {}", log, e);
+      // Block if the ring buffer is full rather than losing the audit log
+      ringBuffer.put(auditLog);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      Log.warn("Interrupted while writing audit log: {}", auditLog);
     }
   }
 
   @Override
   public void close() {
-    if (outWriter != null) {
+    closed = true;
+    if (writerThread != null) {
       try {
-        outWriter.close();
-      } catch (Exception e) {
-        Log.warn("Failed to close writer", e);
+        // Wait for the audit logs in the ring buffer to be written
+        writerThread.join(CLOSE_TIMEOUT_MS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
       }
     }
+
+    synchronized (this) {
+      if (outWriter != null) {
+        try {
+          outWriter.close();
+        } catch (Exception e) {
+          Log.warn("Failed to close writer", e);
+        }
+      }
+    }
+
+    if (compressionExecutor != null) {
+      compressionExecutor.shutdown();
+    }
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && metricsSource != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   @Override
@@ -101,21 +233,175 @@ public class FileAuditWriter implements AuditLogWriter {
     return "file";
   }
 
-  private void tryFlush() {
+  @VisibleForTesting
+  synchronized void flush() throws IOException {
+    outWriter.flush();
+  }
+
+  @VisibleForTesting
+  long writeFailureCount() {
+    return writeFailureCounter.getCount();
+  }
+
+  private void processAuditLogs() {
+    while (!closed || !ringBuffer.isEmpty()) {
+      try {
+        AuditLog auditLog = ringBuffer.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (auditLog == null) {
+          onIdle();
+          continue;
+        }
+
+        // Group the pending audit logs into one write and flush
+        batch.add(auditLog);
+        ringBuffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+        writeBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        Log.warn("Audit log writer thread is interrupted");
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private synchronized void writeBatch(List<AuditLog> auditLogs) {
+    try (Timer.Context ignored = writeTimer.time()) {
+      formatBuffer.setLength(0);
+      for (AuditLog auditLog : auditLogs) {
+        auditLog.formatTo(formatBuffer);
+        formatBuffer.append(LINE_SEPARATOR);
+      }
+
+      int length = formatBuffer.length();
+      if (charBuffer.length < length) {
+        charBuffer = new char[Math.max(length, charBuffer.length * 2)];
+      }
+      formatBuffer.getChars(0, length, charBuffer, 0);
+      outWriter.write(charBuffer, 0, length);
+
+      if (immediateFlush) {
+        outWriter.flush();
+      } else {
+        tryFlush();
+      }
+    } catch (Exception e) {
+      writeFailureCounter.inc(auditLogs.size());
+      Log.warn("Failed to write {} audit logs", auditLogs.size(), e);
+    }
+
+    // The audit logs are already written, a failed rotation is retried by the next write
+    try {
+      tryRotate();
+    } catch (Exception e) {
+      Log.warn("Failed to rotate audit log", e);
+    }
+  }
+
+  private synchronized void onIdle() {
+    try {
+      tryFlush();
+      tryRotate();
+    } catch (Exception e) {
+      Log.warn("Failed to flush or rotate audit log", e);
+    }
+  }
+
+  private void tryFlush() throws IOException {
     Instant now = Instant.now();
     if (now.isAfter(nextFlushTime)) {
       nextFlushTime = now.plusSeconds(flushIntervalSecs);
-      doFlush();
+      outWriter.flush();
     }
   }
 
-  private void doFlush() {
-    if (outWriter != null) {
+  private void tryRotate() throws IOException {
+    long now = System.currentTimeMillis();
+    long fileSize = initialFileSize + countingStream.getByteCount();
+    boolean rotateBySize = rotateSizeBytes > 0 && fileSize >= rotateSizeBytes;
+    boolean rotateByTime = now >= nextRotateTimeMs;
+    if (!rotateBySize && !rotateByTime) {
+      return;
+    }
+
+    // Don't rotate an empty file
+    if (fileSize == 0) {
+      nextRotateTimeMs = nextRotateTime(now);
+      return;
+    }
+
+    // Move the file before switching to a new one, the current writer keeps writing to the moved
+    // file, so a failed rotation leaves a working writer.
+    outWriter.flush();
+    File file = new File(fileName);
+    File rotatedFile = rotatedFile();
+    moveFile(file, rotatedFile);
+    Writer rotatedWriter = outWriter;
+    try {
+      openFile(false);
+    } catch (IOException e) {
       try {
-        outWriter.flush();
-      } catch (Exception e) {
-        Log.warn("Flush audit log failed,", e);
+        moveFile(rotatedFile, file);
+      } catch (IOException moveBackException) {
+        e.addSuppressed(moveBackException);
+      }
+      throw e;
+    }
+    try {
+      rotatedWriter.close();
+    } catch (IOException e) {
+      Log.warn("Failed to close the rotated audit log file {}", rotatedFile, e);
+    }
+    Log.info("Rotate audit log file {} to {}", fileName, rotatedFile);
+
+    if (compressionExecutor != null) {
+      compressionExecutor.execute(() -> compress(rotatedFile));
+    }
+  }
+
+  @VisibleForTesting
+  void moveFile(File source, File target) throws IOException {
+    Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private void openFile(boolean append) throws IOException {
+    File file = new File(fileName);
+    long fileSize = append && file.exists() ? file.length() : 0;
+    CountingOutputStream stream = new CountingOutputStream(new FileOutputStream(file, append));
+    this.initialFileSize = fileSize;
+    this.countingStream = stream;
+    this.outWriter = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+    this.nextRotateTimeMs = nextRotateTime(System.currentTimeMillis());
+  }
+
+  private long nextRotateTime(long now) {
+    return rotateIntervalMs > 0 ? now + rotateIntervalMs : Long.MAX_VALUE;
+  }
+
+  private File rotatedFile() {
+    String prefix = fileName + "." + ROTATED_FILE_TIME_FORMATTER.format(Instant.now());
+    File file = new File(prefix);
+    for (int i = 1; file.exists() || new File(file.getPath() + GZIP_FILE_SUFFIX).exists(); i++) {
+      file = new File(prefix + "." + i);
+    }
+    return file;
+  }
+
+  private static void compress(File file) {
+    File compressedFile = new File(file.getPath() + GZIP_FILE_SUFFIX);
+    try (OutputStream out = new GZIPOutputStream(new FileOutputStream(compressedFile))) {
+      Files.copy(file.toPath(), out);
+    } catch (Exception e) {
+      Log.warn("Failed to compress audit log file {}", file, e);
+      if (compressedFile.exists() && !compressedFile.delete()) {
+        Log.warn("Failed to delete the partially compressed audit log file {}", compressedFile);
       }
+      return;
+    }
+
+    if (!file.delete()) {
+      Log.warn("Failed to delete the compressed audit log file {}", file);
     }
   }
 }
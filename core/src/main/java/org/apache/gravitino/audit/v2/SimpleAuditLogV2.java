@@ -19,7 +19,9 @@
 
 package org.apache.gravitino.audit.v2;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.gravitino.NameIdentifier;
@@ -35,6 +37,9 @@ import org.apache.gravitino.listener.api.event.OperationType;
  */
 public class SimpleAuditLogV2 implements AuditLog {
 
+  private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
   private final BaseEvent event;
 
   public SimpleAuditLogV2(BaseEvent event) {
@@ -93,16 +98,29 @@ public class SimpleAuditLogV2 implements AuditLog {
     return event.customInfo();
   }
 
+  @Override
+  public void formatTo(StringBuilder builder) {
+    builder.append('[');
+    TIMESTAMP_FORMATTER.formatTo(Instant.ofEpochMilli(timestamp()), builder);
+    builder
+        .append("]\t")
+        .append(user())
+        .append('\t')
+        .append(operationType())
+        .append('\t')
+        .append(identifier())
+        .append('\t')
+        .append(operationStatus())
+        .append('\t')
+        .append(eventSource())
+        .append('\t')
+        .append(remoteAddress());
+  }
+
   @Override
   public String toString() {
-    return String.format(
-        "[%s]\t%s\t%s\t%s\t%s\t%s\t%s",
-        new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(timestamp()),
-        user(),
-        operationType(),
-        identifier(),
-        operationStatus(),
-        eventSource(),
-        remoteAddress());
+    StringBuilder builder = new StringBuilder();
+    formatTo(builder);
+    return builder.toString();
   }
 }
@@ -19,6 +19,7 @@ package org.apache.gravitino.authorization;
 
 import java.io.Closeable;
 import java.security.Principal;
+import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
@@ -50,6 +51,29 @@ public interface GravitinoAuthorizer extends Closeable {
       MetadataObject metadataObject,
       Privilege.Name privilege);
 
+  /**
+   * Perform authorization for a list of metadata objects and return the authorization results. It
+   * is used to filter a list of metadata, the implementations can resolve the user and the metadata
+   * ids in batch rather than for every metadata object.
+   *
+   * @param principal the user principal
+   * @param metalake the metalake
+   * @param metadataObjects the metadata objects.
+   * @param privilege for example, CREATE_CATALOG, CREATE_TABLE, etc.
+   * @return authorization results, in the order of the metadata objects.
+   */
+  default boolean[] authorizeAll(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = authorize(principal, metalake, metadataObjects.get(i), privilege);
+    }
+    return results;
+  }
+
   boolean deny(
       Principal principal,
       String metalake,
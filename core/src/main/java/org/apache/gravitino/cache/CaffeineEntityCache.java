@@ -23,14 +23,16 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
 import com.googlecode.concurrenttrees.radix.RadixTree;
 import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFactory;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -76,13 +78,20 @@ public class CaffeineEntityCache extends BaseEntityCache {
           new ThreadPoolExecutor.CallerRunsPolicy());
 
   private static final Logger LOG = LoggerFactory.getLogger(CaffeineEntityCache.class.getName());
-  private final ReentrantLock opLock = new ReentrantLock();
+  /**
+   * Locks guarding the consistency between the data and the index. With a single lock all the
+   * mutations are serialized, otherwise the locks are striped by the metalake and catalog of the
+   * identifier.
+   */
+  private final ReentrantLock[] opLocks;
+
+  private final List<ReentrantLock> allOpLocks;
 
   /** Cache part */
   private final Cache<EntityCacheKey, List<Entity>> cacheData;
 
   /** Index part */
-  private RadixTree<EntityCacheKey> cacheIndex;
+  private volatile RadixTree<EntityCacheKey> cacheIndex;
 
   private ScheduledExecutorService scheduler;
 
@@ -93,6 +102,12 @@ public class CaffeineEntityCache extends BaseEntityCache {
    */
   public CaffeineEntityCache(Config cacheConfig) {
     super(cacheConfig);
+    int lockStripes = cacheConfig.get(Configs.CACHE_LOCK_STRIPES);
+    this.opLocks = new ReentrantLock[lockStripes];
+    for (int i = 0; i < lockStripes; i++) {
+      opLocks[i] = new ReentrantLock();
+    }
+    this.allOpLocks = ImmutableList.copyOf(opLocks);
     this.cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
 
     Caffeine<EntityCacheKey, List<Entity>> cacheDataBuilder = newBaseBuilder(cacheConfig);
@@ -156,7 +171,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
       NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType) {
     checkArguments(ident, type, relType);
 
-    return withLock(() -> invalidateEntities(ident));
+    return withLock(ident, () -> invalidateEntities(ident));
   }
 
   /** {@inheritDoc} */
@@ -164,7 +179,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public boolean invalidate(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
-    return withLock(() -> invalidateEntities(ident));
+    return withLock(ident, () -> invalidateEntities(ident));
   }
 
   /** {@inheritDoc} */
@@ -192,6 +207,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
   @Override
   public void clear() {
     withLock(
+        null,
         () -> {
           cacheData.invalidateAll();
           cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
@@ -208,6 +224,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
     checkArguments(ident, type, relType);
     Preconditions.checkArgument(entities != null, "Entities cannot be null");
     withLock(
+        ident,
         () -> {
           if (entities.isEmpty()) {
             return;
@@ -223,11 +240,12 @@ public class CaffeineEntityCache extends BaseEntityCache {
   @Override
   public <E extends Entity & HasIdentifier> void put(E entity) {
     Preconditions.checkArgument(entity != null, "Entity cannot be null");
+    NameIdentifier identifier = getIdentFromEntity(entity);
 
     withLock(
+        identifier,
         () -> {
           invalidateOnKeyChange(entity);
-          NameIdentifier identifier = getIdentFromEntity(entity);
           EntityCacheKey entityCacheKey = EntityCacheKey.of(identifier, entity.type());
 
           syncEntitiesToCache(entityCacheKey, Lists.newArrayList(entity));
@@ -251,7 +269,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public <E extends Exception> void withCacheLock(ThrowingRunnable<E> action) throws E {
     Preconditions.checkArgument(action != null, "Action cannot be null");
 
-    withLockAndThrow(action);
+    withLockAndThrow(null, action);
   }
 
   /** {@inheritDoc} */
@@ -259,7 +277,17 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public <E, T extends Exception> E withCacheLock(ThrowingSupplier<E, T> action) throws T {
     Preconditions.checkArgument(action != null, "Action cannot be null");
 
-    return withLockAndThrow(action);
+    return withLockAndThrow(null, action);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E, T extends Exception> E withCacheLock(
+      NameIdentifier ident, ThrowingSupplier<E, T> action) throws T {
+    Preconditions.checkArgument(ident != null, "NameIdentifier cannot be null");
+    Preconditions.checkArgument(action != null, "Action cannot be null");
+
+    return withLockAndThrow(ident, action);
   }
 
   /**
@@ -270,10 +298,24 @@ public class CaffeineEntityCache extends BaseEntityCache {
    */
   @Override
   protected void invalidateExpiredItem(EntityCacheKey key) {
-    withLock(
-        () -> {
-          cacheIndex.remove(key.toString());
-        });
+    if (opLocks.length == 1) {
+      withLock(
+          null,
+          () -> {
+            cacheIndex.remove(key.toString());
+          });
+      return;
+    }
+
+    // With striped locks the removal listener may run on a caller thread that already holds
+    // another stripe, so the index is fixed up without locking to avoid lock-order deadlocks. If
+    // the key has been put back concurrently, the index entry is restored.
+    if (cacheData.policy().getIfPresentQuietly(key) == null) {
+      cacheIndex.remove(key.toString());
+      if (cacheData.policy().getIfPresentQuietly(key) != null) {
+        cacheIndex.put(key.toString(), key);
+      }
+    }
   }
 
   /**
@@ -339,6 +381,13 @@ public class CaffeineEntityCache extends BaseEntityCache {
     List<EntityCacheKey> entityKeysToRemove =
         Lists.newArrayList(cacheIndex.getValuesForKeysStartingWith(identifier.toString()));
 
+    // The string prefix may match the keys of a sibling catalog (e.g. "m1.c1" and "m1.c10"), which
+    // are guarded by another stripe, only the keys in the same stripe are removed in that case.
+    String stripeKey = stripeKeyOf(identifier);
+    if (opLocks.length > 1 && stripeKey != null) {
+      entityKeysToRemove.removeIf(key -> !stripeKey.equals(stripeKeyOf(key.identifier())));
+    }
+
     cacheData.invalidateAll(entityKeysToRemove);
     entityKeysToRemove.forEach(key -> cacheIndex.remove(key.toString()));
 
@@ -348,86 +397,133 @@ public class CaffeineEntityCache extends BaseEntityCache {
   /**
    * Runs the given action with the lock.
    *
+   * @param scope The identifier the action operates on, null means the whole cache
    * @param action The action to run with the lock
    */
-  private void withLock(Runnable action) {
+  private void withLock(NameIdentifier scope, Runnable action) {
+    List<ReentrantLock> locks = acquireLocks(scope);
     try {
-      opLock.lockInterruptibly();
-      try {
-        action.run();
-      } finally {
-        opLock.unlock();
-      }
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
+      action.run();
+    } finally {
+      releaseLocks(locks);
     }
   }
 
   /**
    * Runs the given action with the lock and returns the result.
    *
+   * @param scope The identifier the action operates on, null means the whole cache
    * @param action The action to run with the lock
    * @param <T> The type of the result
    * @return The result of the action
    */
-  private <T> T withLock(Supplier<T> action) {
+  private <T> T withLock(NameIdentifier scope, Supplier<T> action) {
+    List<ReentrantLock> locks = acquireLocks(scope);
     try {
-      opLock.lockInterruptibly();
-      try {
-        return action.get();
-      } finally {
-        opLock.unlock();
-      }
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
+      return action.get();
+    } finally {
+      releaseLocks(locks);
     }
   }
 
   /**
    * Runs the given action with the lock and throws the exception if it occurs.
    *
+   * @param scope The identifier the action operates on, null means the whole cache
    * @param action The action to run with the lock
    * @param <T> The type of the result
    * @return The result of the action
-   * @throws IOException If an exception occurs during the action
+   * @throws E If an exception occurs during the action
    */
-  private <T, E extends Exception> T withLockAndThrow(ThrowingSupplier<T, E> action) throws E {
+  private <T, E extends Exception> T withLockAndThrow(
+      NameIdentifier scope, ThrowingSupplier<T, E> action) throws E {
+    List<ReentrantLock> locks = acquireLocks(scope);
     try {
-      opLock.lockInterruptibly();
-      try {
-        return action.get();
-      } finally {
-        opLock.unlock();
-      }
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
+      return action.get();
+    } finally {
+      releaseLocks(locks);
     }
   }
 
   /**
    * Runs the given action with the lock and throws the exception if it occurs.
    *
+   * @param scope The identifier the action operates on, null means the whole cache
    * @param action The action to run with the lock
    * @param <E> The type of the exception
    * @throws E If an exception occurs during the action
    */
-  private <E extends Exception> void withLockAndThrow(ThrowingRunnable<E> action) throws E {
+  private <E extends Exception> void withLockAndThrow(
+      NameIdentifier scope, ThrowingRunnable<E> action) throws E {
+    List<ReentrantLock> locks = acquireLocks(scope);
+    try {
+      action.run();
+    } finally {
+      releaseLocks(locks);
+    }
+  }
+
+  /**
+   * Acquires the locks guarding the given scope. The locks are always acquired in the stripe order
+   * to avoid deadlocks between a whole-cache action and a striped one.
+   *
+   * @param scope The identifier to lock, null means the whole cache
+   * @return The acquired locks
+   */
+  private List<ReentrantLock> acquireLocks(NameIdentifier scope) {
+    List<ReentrantLock> locks = locksOf(scope);
+    int acquired = 0;
     try {
-      opLock.lockInterruptibly();
-      try {
-        action.run();
-      } finally {
-        opLock.unlock();
+      for (ReentrantLock lock : locks) {
+        lock.lockInterruptibly();
+        acquired++;
       }
+      return locks;
     } catch (InterruptedException e) {
+      releaseLocks(locks.subList(0, acquired));
       Thread.currentThread().interrupt();
       throw new IllegalStateException("Thread was interrupted while waiting for lock", e);
     }
   }
 
+  private void releaseLocks(List<ReentrantLock> locks) {
+    for (int i = locks.size() - 1; i >= 0; i--) {
+      locks.get(i).unlock();
+    }
+  }
+
+  private List<ReentrantLock> locksOf(NameIdentifier scope) {
+    if (opLocks.length == 1) {
+      return allOpLocks;
+    }
+
+    String stripeKey = scope == null ? null : stripeKeyOf(scope);
+    if (stripeKey == null) {
+      return allOpLocks;
+    }
+
+    int hash = stripeKey.hashCode();
+    return Collections.singletonList(opLocks[Math.floorMod(hash ^ (hash >>> 16), opLocks.length)]);
+  }
+
+  /**
+   * Returns the stripe key of the identifier, which is made of the first two levels of the
+   * identifier, e.g. "metalake.catalog" for all the entities under a catalog. An identifier with
+   * only one level (e.g. a metalake) may cover several stripes, null is returned in this case.
+   *
+   * @param ident The identifier
+   * @return The stripe key, or null if the identifier spans several stripes
+   */
+  @VisibleForTesting
+  static String stripeKeyOf(NameIdentifier ident) {
+    String[] levels = ident.namespace().levels();
+    if (levels.length == 0) {
+      return null;
+    }
+
+    return levels[0] + "." + (levels.length == 1 ? ident.name() : levels[1]);
+  }
+
   /** Starts the cache stats monitor. */
   private void startCacheStatsMonitor() {
     scheduler.scheduleAtFixedRate(
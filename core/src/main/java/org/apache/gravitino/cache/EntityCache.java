@@ -20,6 +20,7 @@
 package org.apache.gravitino.cache;
 
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 
 /**
  * {@code EntityCache} is a cache interface in Gravitino designed to accelerate metadata access for
@@ -60,6 +61,21 @@ public interface EntityCache extends SupportsEntityStoreCache, SupportsRelationE
    */
   <T, E extends Exception> T withCacheLock(ThrowingSupplier<T, E> action) throws E;
 
+  /**
+   * Executes the given action within a cache context scoped to the given identifier and returns
+   * the result. Implementations may only guard the subtree the identifier belongs to, so that
+   * actions on unrelated metalakes or catalogs can run concurrently.
+   *
+   * @param ident The identifier the action operates on
+   * @param action The action to cache
+   * @return The result of the action
+   * @param <E> The type of exception that may be thrown
+   * @param <T> The type of the result
+   * @throws E if the action throws an exception of type E
+   */
+  <T, E extends Exception> T withCacheLock(NameIdentifier ident, ThrowingSupplier<T, E> action)
+      throws E;
+
   /**
    * A functional interface that represents a supplier that may throw an exception.
    *
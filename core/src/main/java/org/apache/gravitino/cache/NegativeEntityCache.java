@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityCacheMetricsSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * {@code NegativeEntityCache} remembers the entities that are known not to exist in the entity
+ * store, so that repeated lookups of non-existent entities, e.g. a {@code tableExists} before a
+ * {@code createTable}, are answered in memory instead of hitting the backend.
+ *
+ * <p>It consists of two parts:
+ *
+ * <ul>
+ *   <li>Tombstones, which are recorded when the backend reports an entity as missing, and expire
+ *       after a short TTL.
+ *   <li>Optional bloom filters of the entity names of a namespace, which are built from the result
+ *       of listing that namespace. A name that is not in the filter definitely does not exist.
+ * </ul>
+ *
+ * <p>Both parts are invalidated when an entity is inserted or updated through the entity store. The
+ * TTL bounds the staleness of changes made by other Gravitino servers sharing the same backend.
+ *
+ * <p>A lookup may race with a write: the backend read misses the entity, the write inserts it and
+ * invalidates the cache, and only then the lookup records the miss. To avoid recording such a stale
+ * miss, every invalidation bumps a write stamp. The caller takes the stamp with {@link
+ * #writeStamp()} before reading the backend, and the miss is only recorded if no invalidation
+ * happened in between.
+ */
+public class NegativeEntityCache implements Closeable {
+  private static final int MIN_BLOOM_FILTER_INSERTIONS = 1024;
+
+  private final Cache<EntityCacheKey, Boolean> tombstones;
+
+  /** The name bloom filters keyed by namespace and entity type, null if it's disabled. */
+  private final Cache<Pair<Namespace, Entity.EntityType>, BloomFilter<CharSequence>> nameFilters;
+
+  private final double bloomFilterFpp;
+
+  /** Bumped by every invalidation, before the negative entries are removed. */
+  private final AtomicLong writeStamp = new AtomicLong();
+
+  private final MetricsSource metricsSource;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter bloomFilterHitCounter;
+  private final Counter bloomFilterFalsePositiveCounter;
+
+  /**
+   * Constructs a new {@link NegativeEntityCache}.
+   *
+   * @param config The cache configuration
+   */
+  public NegativeEntityCache(Config config) {
+    Preconditions.checkArgument(config != null, "Config must not be null");
+
+    long expireTimeMs = config.get(Configs.CACHE_NEGATIVE_EXPIRATION_TIME);
+    this.tombstones =
+        Caffeine.newBuilder()
+            .maximumSize(config.get(Configs.CACHE_NEGATIVE_MAX_ENTRIES))
+            .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+            .build();
+    this.nameFilters =
+        config.get(Configs.CACHE_NEGATIVE_BLOOM_FILTER_ENABLED)
+            ? Caffeine.newBuilder()
+                .maximumSize(config.get(Configs.CACHE_NEGATIVE_MAX_ENTRIES))
+                .expireAfterWrite(expireTimeMs, TimeUnit.MILLISECONDS)
+                .build()
+            : null;
+    this.bloomFilterFpp = config.get(Configs.CACHE_NEGATIVE_BLOOM_FILTER_FPP);
+
+    this.metricsSource = new EntityCacheMetricsSource();
+    this.hitCounter = metricsSource.getCounter(MetricNames.ENTITY_CACHE_NEGATIVE_HIT);
+    this.missCounter = metricsSource.getCounter(MetricNames.ENTITY_CACHE_NEGATIVE_MISS);
+    this.bloomFilterHitCounter =
+        metricsSource.getCounter(MetricNames.ENTITY_CACHE_NEGATIVE_BLOOM_FILTER_HIT);
+    this.bloomFilterFalsePositiveCounter =
+        metricsSource.getCounter(MetricNames.ENTITY_CACHE_NEGATIVE_BLOOM_FILTER_FALSE_POSITIVE);
+    metricsSource.registerGauge(
+        MetricNames.ENTITY_CACHE_NEGATIVE_SIZE, (Gauge<Long>) tombstones::estimatedSize);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // The metrics system is not initialized in some test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Checks whether the entity is known not to exist.
+   *
+   * @param ident The identifier of the entity
+   * @param type The type of the entity
+   * @return true if the entity definitely does not exist, false if it's unknown
+   */
+  public boolean isAbsent(NameIdentifier ident, Entity.EntityType type) {
+    if (tombstones.getIfPresent(EntityCacheKey.of(ident, type)) != null) {
+      hitCounter.inc();
+      return true;
+    }
+
+    BloomFilter<CharSequence> nameFilter = nameFilterOf(ident, type);
+    if (nameFilter != null && !nameFilter.mightContain(ident.name())) {
+      bloomFilterHitCounter.inc();
+      return true;
+    }
+
+    missCounter.inc();
+    return false;
+  }
+
+  /**
+   * Returns the current write stamp, which must be taken before reading the backend and passed to
+   * {@link #recordAbsent} or {@link #recordListing}.
+   *
+   * @return The current write stamp
+   */
+  public long writeStamp() {
+    return writeStamp.get();
+  }
+
+  /**
+   * Records that the entity is not found in the backend, unless the cache was invalidated since the
+   * write stamp was taken.
+   *
+   * @param ident The identifier of the entity
+   * @param type The type of the entity
+   * @param stamp The write stamp taken before reading the backend
+   */
+  public void recordAbsent(NameIdentifier ident, Entity.EntityType type, long stamp) {
+    if (writeStamp.get() != stamp) {
+      return;
+    }
+
+    BloomFilter<CharSequence> nameFilter = nameFilterOf(ident, type);
+    if (nameFilter != null && nameFilter.mightContain(ident.name())) {
+      bloomFilterFalsePositiveCounter.inc();
+    }
+
+    EntityCacheKey key = EntityCacheKey.of(ident, type);
+    tombstones.put(key, Boolean.TRUE);
+    // An invalidation may have run between the check and the put, its removal may have missed the
+    // tombstone, so the tombstone is withdrawn.
+    if (writeStamp.get() != stamp) {
+      tombstones.invalidate(key);
+    }
+  }
+
+  /**
+   * Records the complete listing of a namespace, which builds the name bloom filter of the
+   * namespace if the bloom filter is enabled. The listing is not recorded if the cache was
+   * invalidated since the write stamp was taken.
+   *
+   * @param namespace The listed namespace
+   * @param type The type of the listed entities
+   * @param entities All the entities of the type in the namespace
+   * @param stamp The write stamp taken before listing the backend
+   * @param <E> The type of the entities
+   */
+  public <E extends Entity & HasIdentifier> void recordListing(
+      Namespace namespace, Entity.EntityType type, List<E> entities, long stamp) {
+    if (nameFilters == null || writeStamp.get() != stamp) {
+      return;
+    }
+
+    BloomFilter<CharSequence> nameFilter =
+        BloomFilter.create(
+            Funnels.stringFunnel(StandardCharsets.UTF_8),
+            Math.max(entities.size() * 2, MIN_BLOOM_FILTER_INSERTIONS),
+            bloomFilterFpp);
+    entities.forEach(e -> nameFilter.put(e.name()));
+    Pair<Namespace, Entity.EntityType> key = Pair.of(namespace, type);
+    nameFilters.put(key, nameFilter);
+    if (writeStamp.get() != stamp) {
+      nameFilters.asMap().remove(key, nameFilter);
+    }
+  }
+
+  /**
+   * Invalidates the negative entries of an entity that has been inserted or updated. If the entity
+   * can contain other entities, the negative entries of all its descendants are invalidated too.
+   *
+   * @param ident The identifier of the entity
+   * @param type The type of the entity
+   */
+  public void invalidate(NameIdentifier ident, Entity.EntityType type) {
+    writeStamp.incrementAndGet();
+    tombstones.invalidate(EntityCacheKey.of(ident, type));
+
+    BloomFilter<CharSequence> nameFilter = nameFilterOf(ident, type);
+    if (nameFilter != null) {
+      nameFilter.put(ident.name());
+    }
+
+    if (type == Entity.EntityType.METALAKE
+        || type == Entity.EntityType.CATALOG
+        || type == Entity.EntityType.SCHEMA) {
+      String identStr = ident.toString();
+      tombstones
+          .asMap()
+          .keySet()
+          .removeIf(key -> isSelfOrDescendant(key.identifier().namespace(), identStr));
+      if (nameFilters != null) {
+        nameFilters.asMap().keySet().removeIf(key -> isSelfOrDescendant(key.getLeft(), identStr));
+      }
+    }
+  }
+
+  /** Clears all the negative entries. */
+  public void clear() {
+    writeStamp.incrementAndGet();
+    tombstones.invalidateAll();
+    if (nameFilters != null) {
+      nameFilters.invalidateAll();
+    }
+  }
+
+  /**
+   * Returns the approximate number of tombstones.
+   *
+   * @return The approximate number of tombstones
+   */
+  public long size() {
+    return tombstones.estimatedSize();
+  }
+
+  @Override
+  public void close() {
+    clear();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private BloomFilter<CharSequence> nameFilterOf(NameIdentifier ident, Entity.EntityType type) {
+    if (nameFilters == null || !ident.hasNamespace()) {
+      return null;
+    }
+
+    return nameFilters.getIfPresent(Pair.of(ident.namespace(), type));
+  }
+
+  private static boolean isSelfOrDescendant(Namespace namespace, String identStr) {
+    String namespaceStr = namespace.toString();
+    return namespaceStr.equals(identStr) || namespaceStr.startsWith(identStr + ".");
+  }
+}
@@ -90,6 +90,13 @@ public class NoOpsCache extends BaseEntityCache {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public <T, E extends Exception> T withCacheLock(
+      NameIdentifier ident, ThrowingSupplier<T, E> action) throws E {
+    return withCacheLock(action);
+  }
+
   /** {@inheritDoc} */
   @Override
   public <E extends Entity & HasIdentifier> Optional<E> getIfPresent(
@@ -280,6 +280,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   @Getter private final Cache<NameIdentifier, CatalogWrapper> catalogCache;
 
+  @Getter private final TableCache tableCache;
+
   private final EntityStore store;
 
   private final IdGenerator idGenerator;
@@ -296,6 +298,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     this.store = store;
     this.idGenerator = idGenerator;
 
+    this.tableCache = new TableCache(config);
+
     long cacheEvictionIntervalInMs = config.get(Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS);
     this.catalogCache =
         Caffeine.newBuilder()
@@ -304,6 +308,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                 (k, v, c) -> {
                   LOG.info("Closing catalog {}.", k);
                   ((CatalogWrapper) v).close();
+                  // The catalog is altered, disabled or dropped, or it expires
+                  tableCache.invalidateAll((NameIdentifier) k);
                 })
             .scheduler(
                 Scheduler.forScheduledExecutorService(
@@ -323,6 +329,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   @Override
   public void close() {
     catalogCache.invalidateAll();
+    tableCache.close();
   }
 
   /**
@@ -778,6 +785,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                   });
             }
             catalogCache.invalidate(ident);
+            tableCache.removeCatalog(ident);
             return store.delete(ident, EntityType.CATALOG, true);
 
           } catch (NoSuchMetalakeException | NoSuchCatalogException ignored) {
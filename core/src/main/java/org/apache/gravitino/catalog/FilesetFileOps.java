@@ -20,7 +20,9 @@
 package org.apache.gravitino.catalog;
 
 import java.io.IOException;
+import javax.annotation.Nullable;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.file.FileInfo;
 
@@ -31,6 +33,9 @@ import org.apache.gravitino.file.FileInfo;
  */
 public interface FilesetFileOps {
 
+  /** The maximum number of files in a page of the paginated file listing. */
+  int MAX_LIST_FILES_PAGE_SIZE = 10000;
+
   /**
    * List the files in a fileset with a specific location name and sub path.
    *
@@ -44,4 +49,35 @@ public interface FilesetFileOps {
     throw new UnsupportedOperationException(
         "listFiles not supported by " + getClass().getSimpleName());
   }
+
+  /**
+   * List the files in a fileset page by page, without holding the whole listing in memory.
+   *
+   * <p>The entries are returned in the listing order of the underlying file system, which isn't
+   * necessarily ordered by name. In a recursive listing, a directory is followed by the entries
+   * under it. The page token refers to the listing kept by the server since the previous page, it
+   * can be used once and expires if the next page isn't requested in time.
+   *
+   * @param ident A fileset identifier.
+   * @param locationName The location name. If null, the default location will be used.
+   * @param subPath The sub path under the fileset.
+   * @param recursive Whether to list the entries under the sub directories as well.
+   * @param glob The glob pattern to filter the entries by name, or null to return all entries.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of files in the page, capped to {@link
+   *     #MAX_LIST_FILES_PAGE_SIZE}.
+   * @return A page of file information objects.
+   */
+  default Page<FileInfo> listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      @Nullable String glob,
+      @Nullable String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    throw new UnsupportedOperationException(
+        "listFiles not supported by " + getClass().getSimpleName());
+  }
 }
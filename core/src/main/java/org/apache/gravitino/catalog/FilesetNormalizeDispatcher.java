@@ -23,10 +23,12 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -54,12 +56,41 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    Page<NameIdentifier> page = dispatcher.listFilesets(caseSensitiveNs, pageToken, pageSize);
+    NameIdentifier[] identifiers = page.items().toArray(new NameIdentifier[0]);
+    return Page.of(Arrays.asList(normalizeCaseSensitive(identifiers)), page.nextPageToken());
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
     return dispatcher.listFiles(normalizeCaseSensitive(ident), locationName, subPath);
   }
 
+  @Override
+  public Page<FileInfo> listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String glob,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    return dispatcher.listFiles(
+        normalizeCaseSensitive(ident),
+        locationName,
+        subPath,
+        recursive,
+        glob,
+        pageToken,
+        pageSize);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -111,6 +142,14 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return dispatcher.getFileLocation(normalizeCaseSensitive(ident), subPath, locationName);
   }
 
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.getFileLocations(normalizeCaseSensitive(ident), subPaths, locationName);
+  }
+
   private NameIdentifier normalizeNameIdentifier(NameIdentifier ident) {
     Capability capabilities = getCapability(ident, catalogManager);
     return applyCapabilities(ident, Capability.Scope.FILESET, capabilities);
@@ -26,6 +26,7 @@ import java.util.Map;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
@@ -72,6 +73,29 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 NoSuchSchemaException.class));
   }
 
+  /**
+   * Lists the filesets within a schema page by page.
+   *
+   * @param namespace The namespace of the schema containing the filesets.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of filesets in the page.
+   * @return A page of {@link NameIdentifier} objects representing the identifiers of the filesets
+   *     in the schema.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithFilesetOps(f -> f.listFilesets(namespace, pageToken, pageSize)),
+                NoSuchSchemaException.class));
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -114,6 +138,37 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 NoSuchFilesetException.class));
   }
 
+  @Override
+  public Page<FileInfo> listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String glob,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(ident);
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                catalogIdent,
+                c ->
+                    c.doWithFilesetFileOps(
+                        f ->
+                            f.listFiles(
+                                ident,
+                                locationName,
+                                subPath,
+                                recursive,
+                                glob,
+                                pageToken,
+                                pageSize)),
+                NoSuchFilesetException.class));
+  }
+
   /**
    * Create a fileset metadata in the catalog.
    *
@@ -266,4 +321,27 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
                 c -> c.doWithFilesetOps(f -> f.getFileLocation(ident, subPath, locationName)),
                 NonEmptyEntityException.class));
   }
+
+  /**
+   * Get the actual locations of a batch of files or directories in a fileset by the location name.
+   *
+   * @param ident A fileset identifier.
+   * @param subPaths The sub paths to the files or directories.
+   * @param locationName The location name.
+   * @return The actual locations of the files or directories, in the same order as the sub paths.
+   * @throws NoSuchFilesetException If the fileset does not exist.
+   * @throws NoSuchLocationNameException If the location name does not exist.
+   */
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException {
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(ident),
+                c -> c.doWithFilesetOps(f -> f.getFileLocations(ident, subPaths, locationName)),
+                NonEmptyEntityException.class));
+  }
 }
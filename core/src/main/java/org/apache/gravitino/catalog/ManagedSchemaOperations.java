@@ -24,10 +24,13 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
@@ -88,6 +91,20 @@ public abstract class ManagedSchemaOperations implements SupportsSchemas {
     }
   }
 
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    try {
+      return listEntityPage(
+          namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, pageToken, pageSize);
+
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchCatalogException(e, "Catalog %s does not exist", namespace);
+    } catch (IOException ioe) {
+      throw new RuntimeException("Failed to list schemas under namespace " + namespace, ioe);
+    }
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
@@ -231,4 +248,35 @@ public abstract class ManagedSchemaOperations implements SupportsSchemas {
                 .build())
         .build();
   }
+
+  /**
+   * List a page of the entities under the namespace from the store. The store lists the page
+   * after the name in the page token, so only one more entity than the page holds is loaded.
+   *
+   * @param namespace The namespace of the entities.
+   * @param type The class of the entities.
+   * @param entityType The type of the entities.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of entities in the page.
+   * @param <E> The type of the entities.
+   * @return The page of the entity identifiers.
+   * @throws IOException If the store fails to list the entities.
+   */
+  protected <E extends Entity & HasIdentifier> Page<NameIdentifier> listEntityPage(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String pageToken,
+      int pageSize)
+      throws IOException {
+    Page.checkPageSize(pageSize);
+    String afterName = pageToken == null ? null : Page.decodePageToken(pageToken);
+    // One more entity is listed to tell whether there is a next page.
+    int limit = pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1;
+    List<NameIdentifier> identifiers =
+        store().list(namespace, type, entityType, afterName, limit).stream()
+            .map(e -> NameIdentifier.of(namespace, e.name()))
+            .collect(Collectors.toList());
+    return Page.fromListing(identifiers, NameIdentifier::name, pageSize);
+  }
 }
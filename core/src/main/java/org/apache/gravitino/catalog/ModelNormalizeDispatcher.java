@@ -22,10 +22,12 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.ModelAlreadyExistsException;
 import org.apache.gravitino.exceptions.ModelVersionAliasesAlreadyExistException;
@@ -56,6 +58,15 @@ public class ModelNormalizeDispatcher implements ModelDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Page<NameIdentifier> listModels(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    Page<NameIdentifier> page = dispatcher.listModels(caseSensitiveNs, pageToken, pageSize);
+    NameIdentifier[] identifiers = page.items().toArray(new NameIdentifier[0]);
+    return Page.of(Arrays.asList(normalizeCaseSensitive(identifiers)), page.nextPageToken());
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -28,6 +28,7 @@ import java.util.function.Supplier;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.PropertiesMetadata;
@@ -66,6 +67,29 @@ public class ModelOperationDispatcher extends OperationDispatcher implements Mod
                 NoSuchSchemaException.class));
   }
 
+  /**
+   * Lists the models within a schema page by page.
+   *
+   * @param namespace The namespace of the schema containing the models.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of models in the page.
+   * @return A page of {@link NameIdentifier} objects representing the identifiers of the models
+   *     in the schema.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listModels(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithModelOps(m -> m.listModels(namespace, pageToken, pageSize)),
+                NoSuchSchemaException.class));
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
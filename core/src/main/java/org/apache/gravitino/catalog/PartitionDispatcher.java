@@ -19,6 +19,7 @@
 package org.apache.gravitino.catalog;
 
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
 import org.apache.gravitino.rel.SupportsPartitions;
@@ -47,6 +48,32 @@ public interface PartitionDispatcher {
    */
   Partition[] listPartitions(NameIdentifier tableIdent);
 
+  /**
+   * List the partition names of the table page by page, optionally filtered.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter on the partition fields, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partition names in the page.
+   * @return A page of partition names.
+   * @see SupportsPartitions#listPartitionNames(String, String, int)
+   */
+  Page<String> listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int pageSize);
+
+  /**
+   * List the partitions of the table page by page, optionally filtered.
+   *
+   * @param tableIdent The identifier of the table.
+   * @param filter The filter on the partition fields, or null to list all the partitions.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of partitions in the page.
+   * @return A page of partitions.
+   * @see SupportsPartitions#listPartitions(String, String, int)
+   */
+  Page<Partition> listPartitions(
+      NameIdentifier tableIdent, String filter, String pageToken, int pageSize);
+
   /**
    * Get a partition by name from the table.
    *
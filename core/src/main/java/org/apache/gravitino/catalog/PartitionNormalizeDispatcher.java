@@ -23,7 +23,9 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitiveO
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
 import java.util.Arrays;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -61,6 +63,40 @@ public class PartitionNormalizeDispatcher implements PartitionDispatcher {
     return applyCaseSensitive(partitions, capabilities);
   }
 
+  @Override
+  public Page<String> listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int pageSize) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Page<String> page =
+        dispatcher.listPartitionNames(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            pageToken,
+            pageSize);
+    return Page.of(
+        page.items().stream()
+            .map(name -> applyCaseSensitiveOnName(Capability.Scope.PARTITION, name, capabilities))
+            .collect(Collectors.toList()),
+        page.nextPageToken());
+  }
+
+  @Override
+  public Page<Partition> listPartitions(
+      NameIdentifier tableIdent, String filter, String pageToken, int pageSize) {
+    Capability capabilities = getCapability(tableIdent, catalogManager);
+    Page<Partition> page =
+        dispatcher.listPartitions(
+            applyCaseSensitive(tableIdent, Capability.Scope.TABLE, capabilities),
+            filter,
+            pageToken,
+            pageSize);
+    return Page.of(
+        page.items().stream()
+            .map(partition -> applyCaseSensitive(partition, capabilities))
+            .collect(Collectors.toList()),
+        page.nextPageToken());
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
@@ -20,6 +20,7 @@ package org.apache.gravitino.catalog;
 
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -64,6 +65,32 @@ public class PartitionOperationDispatcher extends OperationDispatcher
                 tableIdent, SupportsPartitions::listPartitions, NoSuchTableException.class));
   }
 
+  @Override
+  public Page<String> listPartitionNames(
+      NameIdentifier tableIdent, String filter, String pageToken, int pageSize) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitionNames(filter, pageToken, pageSize),
+                NoSuchTableException.class));
+  }
+
+  @Override
+  public Page<Partition> listPartitions(
+      NameIdentifier tableIdent, String filter, String pageToken, int pageSize) {
+    return TreeLockUtils.doWithTreeLock(
+        tableIdent,
+        LockType.READ,
+        () ->
+            doWithTable(
+                tableIdent,
+                p -> p.listPartitions(filter, pageToken, pageSize),
+                NoSuchTableException.class));
+  }
+
   @Override
   public Partition getPartition(NameIdentifier tableIdent, String partitionName)
       throws NoSuchPartitionException {
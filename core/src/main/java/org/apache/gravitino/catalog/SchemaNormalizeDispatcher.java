@@ -22,10 +22,12 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCaseSensitive;
 import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.connector.capability.Capability;
@@ -51,6 +53,14 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    Page<NameIdentifier> page = dispatcher.listSchemas(namespace, pageToken, pageSize);
+    NameIdentifier[] identifiers = page.items().toArray(new NameIdentifier[0]);
+    return Page.of(Arrays.asList(normalizeCaseSensitive(identifiers)), page.nextPageToken());
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -28,6 +28,7 @@ import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
@@ -51,6 +52,8 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
 
   private static final Logger LOG = LoggerFactory.getLogger(SchemaOperationDispatcher.class);
 
+  private final TableCache tableCache;
+
   /**
    * Creates a new SchemaOperationDispatcher instance.
    *
@@ -61,6 +64,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
   public SchemaOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
     super(catalogManager, store, idGenerator);
+    this.tableCache = catalogManager.getTableCache();
   }
 
   /**
@@ -83,6 +87,29 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
                 NoSuchCatalogException.class));
   }
 
+  /**
+   * Lists the schemas within the specified namespace page by page.
+   *
+   * @param namespace The namespace in which to list schemas.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of schemas in the page.
+   * @return A page of NameIdentifier objects representing the schemas within the specified
+   *     namespace.
+   * @throws NoSuchCatalogException If the catalog namespace does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithSchemaOps(s -> s.listSchemas(namespace, pageToken, pageSize)),
+                NoSuchCatalogException.class));
+  }
+
   /**
    * Creates a new schema.
    *
@@ -311,6 +338,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         catalogIdent,
         LockType.WRITE,
         () -> {
+          tableCache.invalidateAll(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.metrics.source.TableCacheMetricsSource;
+import org.apache.gravitino.rel.Table;
+
+/**
+ * TableCache is a read-through cache of the tables loaded by {@link TableOperationDispatcher}. It
+ * is only used for the catalogs that set the {@code table-cache.enabled} property, and each cached
+ * table expires after the {@code table-cache.ttl-ms} of its catalog, which bounds the staleness of
+ * the changes made directly in the underlying source.
+ *
+ * <p>The tables created, altered or dropped through Gravitino are invalidated by the dispatchers,
+ * and all the tables of a schema or a catalog are invalidated when it's dropped, or when the
+ * catalog is altered or disabled. Each catalog keeps an invalidation version, a table loaded
+ * concurrently with an invalidation of its catalog is returned to the caller but not kept in the
+ * cache, so a stale table can't be cached after the change that invalidated it.
+ *
+ * <p>The hits, misses, hit ratio and load duration are reported per catalog.
+ */
+public class TableCache implements Closeable {
+
+  private final Cache<NameIdentifier, CachedTable> tables;
+
+  private final ConcurrentMap<NameIdentifier, CatalogStats> catalogStats =
+      new ConcurrentHashMap<>();
+
+  private final MetricsSource metricsSource;
+
+  /**
+   * Constructs a new {@link TableCache}.
+   *
+   * @param config The configuration of Gravitino server
+   */
+  public TableCache(Config config) {
+    Preconditions.checkArgument(config != null, "Config must not be null");
+
+    this.tables =
+        Caffeine.newBuilder()
+            .maximumSize(config.get(Configs.CATALOG_TABLE_CACHE_MAX_ENTRIES))
+            .expireAfter(
+                new Expiry<NameIdentifier, CachedTable>() {
+                  @Override
+                  public long expireAfterCreate(
+                      NameIdentifier key, CachedTable value, long currentTime) {
+                    return value.ttlNanos;
+                  }
+
+                  @Override
+                  public long expireAfterUpdate(
+                      NameIdentifier key,
+                      CachedTable value,
+                      long currentTime,
+                      long currentDuration) {
+                    return value.ttlNanos;
+                  }
+
+                  @Override
+                  public long expireAfterRead(
+                      NameIdentifier key,
+                      CachedTable value,
+                      long currentTime,
+                      long currentDuration) {
+                    return currentDuration;
+                  }
+                })
+            .build();
+
+    this.metricsSource = new TableCacheMetricsSource();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // The metrics system is not initialized in some test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Gets the table from the cache, or loads and caches it if it's absent.
+   *
+   * @param ident The identifier of the table
+   * @param ttlMs The time in milliseconds to keep the loaded table in the cache
+   * @param loader The function to load the table on a cache miss
+   * @return The cached or loaded table
+   */
+  public Table get(NameIdentifier ident, long ttlMs, Supplier<Table> loader) {
+    CatalogStats stats = statsOf(getCatalogIdentifier(ident));
+    CachedTable cachedTable = tables.getIfPresent(ident);
+    if (cachedTable != null) {
+      stats.hitCounter.inc();
+      return cachedTable.table;
+    }
+
+    stats.missCounter.inc();
+    long version = stats.version.get();
+    Table table;
+    try (Timer.Context ignored = stats.loadTimer.time()) {
+      table = loader.get();
+    }
+
+    tables.put(ident, new CachedTable(table, TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+    // The table may have been changed while loading it, drop what we put in that case.
+    if (stats.version.get() != version) {
+      tables.invalidate(ident);
+    }
+    return table;
+  }
+
+  /**
+   * Invalidates the cached table.
+   *
+   * @param ident The identifier of the table
+   */
+  public void invalidate(NameIdentifier ident) {
+    bumpVersion(getCatalogIdentifier(ident));
+    tables.invalidate(ident);
+  }
+
+  /**
+   * Invalidates all the cached tables under the given catalog or schema.
+   *
+   * @param ident The identifier of the catalog or schema
+   */
+  public void invalidateAll(NameIdentifier ident) {
+    bumpVersion(getCatalogIdentifier(ident));
+    String[] parentLevels = ArrayUtils.add(ident.namespace().levels(), ident.name());
+    tables.asMap().keySet().removeIf(key -> isUnder(key, parentLevels));
+  }
+
+  /**
+   * Invalidates all the cached tables of the catalog and removes its metrics, it's called when the
+   * catalog is dropped.
+   *
+   * @param catalogIdent The identifier of the catalog
+   */
+  public void removeCatalog(NameIdentifier catalogIdent) {
+    invalidateAll(catalogIdent);
+    catalogStats.remove(catalogIdent);
+    metricsSource
+        .getMetricRegistry()
+        .removeMatching(MetricFilter.startsWith(prefixOf(catalogIdent)));
+  }
+
+  @Override
+  public void close() {
+    tables.invalidateAll();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private CatalogStats statsOf(NameIdentifier catalogIdent) {
+    return catalogStats.computeIfAbsent(
+        catalogIdent, ident -> new CatalogStats(metricsSource, prefixOf(ident)));
+  }
+
+  private void bumpVersion(NameIdentifier catalogIdent) {
+    // No table of the catalog has been loaded through the cache if there are no stats
+    CatalogStats stats = catalogStats.get(catalogIdent);
+    if (stats != null) {
+      stats.version.incrementAndGet();
+    }
+  }
+
+  private static String prefixOf(NameIdentifier catalogIdent) {
+    // The metric names are "{metalake}.{catalog}.{name}" in the metrics source
+    return catalogIdent.namespace().level(0) + "." + catalogIdent.name() + ".";
+  }
+
+  private static boolean isUnder(NameIdentifier tableIdent, String[] parentLevels) {
+    String[] levels = tableIdent.namespace().levels();
+    return levels.length >= parentLevels.length
+        && Arrays.equals(Arrays.copyOf(levels, parentLevels.length), parentLevels);
+  }
+
+  private static class CachedTable {
+    private final Table table;
+    private final long ttlNanos;
+
+    private CachedTable(Table table, long ttlNanos) {
+      this.table = table;
+      this.ttlNanos = ttlNanos;
+    }
+  }
+
+  private static class CatalogStats {
+    private final AtomicLong version = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer loadTimer;
+
+    private CatalogStats(MetricsSource metricsSource, String prefix) {
+      this.hitCounter = metricsSource.getCounter(prefix + MetricNames.TABLE_CACHE_HIT);
+      this.missCounter = metricsSource.getCounter(prefix + MetricNames.TABLE_CACHE_MISS);
+      this.loadTimer = metricsSource.getTimer(prefix + MetricNames.TABLE_CACHE_LOAD_DURATION);
+      metricsSource.registerGauge(
+          prefix + MetricNames.TABLE_CACHE_HIT_RATIO,
+          (Gauge<Double>)
+              () -> {
+                long hits = hitCounter.getCount();
+                long total = hits + missCounter.getCount();
+                return total == 0 ? 0.0 : (double) hits / total;
+              });
+    }
+  }
+}
@@ -21,6 +21,9 @@ package org.apache.gravitino.catalog;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.catalog.CapabilityHelpers.applyCapabilities;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
+import static org.apache.gravitino.connector.BaseCatalog.TABLE_CACHE_ENABLED;
+import static org.apache.gravitino.connector.BaseCatalog.TABLE_CACHE_TTL_MS;
+import static org.apache.gravitino.connector.BaseCatalogPropertiesMetadata.BASIC_CATALOG_PROPERTIES_METADATA;
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
@@ -40,6 +43,7 @@ import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
 import org.apache.gravitino.connector.capability.Capability;
@@ -71,6 +75,8 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  private final TableCache tableCache;
+
   /**
    * Creates a new TableOperationDispatcher instance.
    *
@@ -81,6 +87,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
     super(catalogManager, store, idGenerator);
+    this.tableCache = catalogManager.getTableCache();
   }
 
   /**
@@ -104,7 +111,31 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   }
 
   /**
-   * Loads a table.
+   * Lists the tables within a schema page by page.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of tables in the page.
+   * @return A page of {@link NameIdentifier} objects representing the identifiers of the tables
+   *     in the schema.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public Page<NameIdentifier> listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithTableOps(t -> t.listTables(namespace, pageToken, pageSize)),
+                NoSuchSchemaException.class));
+  }
+
+  /**
+   * Loads a table. If the catalog enables the table cache, the table is served from the cache
+   * until it expires or it's altered or dropped through Gravitino.
    *
    * @param ident The identifier of the table to load.
    * @return The loaded {@link Table} object representing the requested table.
@@ -112,6 +143,19 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
+    long cacheTtlMs =
+        doWithCatalog(
+            getCatalogIdentifier(ident),
+            TableOperationDispatcher::tableCacheTtlMs,
+            NoSuchTableException.class);
+    if (cacheTtlMs <= 0) {
+      return internalLoadAndImportTable(ident);
+    }
+
+    return tableCache.get(ident, cacheTtlMs, () -> internalLoadAndImportTable(ident));
+  }
+
+  private Table internalLoadAndImportTable(NameIdentifier ident) {
     EntityCombinedTable entityCombinedTable =
         TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
 
@@ -210,6 +254,17 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         nameIdentifierForLock,
         LockType.WRITE,
         () -> {
+          // Invalidate the cached table under the write lock, a table loaded before the change
+          // won't be cached after it, see TableCache.
+          tableCache.invalidate(ident);
+          Arrays.stream(changes)
+              .filter(c -> c instanceof TableChange.RenameTable)
+              .map(
+                  c ->
+                      NameIdentifier.of(
+                          ident.namespace(), ((TableChange.RenameTable) c).getNewName()))
+              .forEach(tableCache::invalidate);
+
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           Table alteredTable =
               doWithCatalog(
@@ -303,6 +358,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         schemaIdentifier,
         LockType.WRITE,
         () -> {
+          tableCache.invalidate(ident);
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
@@ -357,6 +413,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         schemaIdentifier,
         LockType.WRITE,
         () -> {
+          tableCache.invalidate(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
@@ -519,6 +576,9 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       Distribution distribution,
       SortOrder[] sortOrders,
       Index[] indexes) {
+    // The table may have been dropped from the underlying source while it's cached
+    tableCache.invalidate(ident);
+
     NameIdentifier catalogIdent = getCatalogIdentifier(ident);
     doWithCatalog(
         catalogIdent,
@@ -745,4 +805,13 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                 "UPDATE",
                 combinedTable.tableFromGravitino().id()));
   }
+
+  private static long tableCacheTtlMs(CatalogManager.CatalogWrapper catalog) {
+    Map<String, String> properties = catalog.catalog().entity().getProperties();
+    boolean enabled =
+        (boolean) BASIC_CATALOG_PROPERTIES_METADATA.getOrDefault(properties, TABLE_CACHE_ENABLED);
+    return enabled
+        ? (long) BASIC_CATALOG_PROPERTIES_METADATA.getOrDefault(properties, TABLE_CACHE_TTL_MS)
+        : 0;
+  }
 }
@@ -61,6 +61,14 @@ public abstract class BaseCatalog<T extends BaseCatalog>
   // The object you used is not stable, don't use it unless you know what you are doing.
   public static final String CATALOG_OPERATION_IMPL = "ops-impl";
 
+  // Whether Gravitino server caches the tables loaded from this catalog, the cached tables are
+  // invalidated when they are altered or dropped through Gravitino, or when they expire.
+  public static final String TABLE_CACHE_ENABLED = "table-cache.enabled";
+
+  // The time in milliseconds that a cached table of this catalog can be served before it is
+  // loaded from the underlying source again.
+  public static final String TABLE_CACHE_TTL_MS = "table-cache.ttl-ms";
+
   // Underlying access control system plugin for this catalog.
   private volatile AuthorizationPlugin authorizationPlugin;
 
@@ -263,7 +271,8 @@ public abstract class BaseCatalog<T extends BaseCatalog>
     if (catalogCredentialManager == null) {
       synchronized (this) {
         if (catalogCredentialManager == null) {
-          this.catalogCredentialManager = new CatalogCredentialManager(name(), properties());
+          this.catalogCredentialManager =
+              new CatalogCredentialManager(entity.namespace().level(0), name(), properties());
         }
       }
     }
@@ -88,6 +88,20 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   PROPERTY_IN_USE,
                   "The property indicating the catalog is in use",
                   true /* default value */,
+                  false /* hidden */),
+              PropertyEntry.booleanPropertyEntry(
+                  BaseCatalog.TABLE_CACHE_ENABLED,
+                  "Whether to cache the tables loaded from the catalog",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */),
+              PropertyEntry.longOptionalPropertyEntry(
+                  BaseCatalog.TABLE_CACHE_TTL_MS,
+                  "The time in milliseconds that a cached table can be served before reloading it",
+                  false /* immutable */,
+                  60_000L /* default value */,
                   false /* hidden */)),
           PropertyEntry::getName);
 
@@ -23,6 +23,7 @@ package org.apache.gravitino.connector;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.annotation.Evolving;
@@ -51,6 +52,24 @@ public interface SupportsSchemas {
    */
   NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException;
 
+  /**
+   * List schemas under a namespace page by page, ordered by name.
+   *
+   * <p>The default implementation lists all the schemas and returns the requested page of them.
+   * The catalogs which can paginate the listing natively should override it.
+   *
+   * @param namespace The namespace to list.
+   * @param pageToken The token returned by the previous page, or null for the first page.
+   * @param pageSize The maximum number of schemas in the page.
+   * @return A page of schema identifiers under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   * @throws IllegalArgumentException If the page token or the page size is invalid.
+   */
+  default Page<NameIdentifier> listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    return Page.paginate(listSchemas(namespace), NameIdentifier::name, pageToken, pageSize);
+  }
+
   /**
    * Check if a schema exists.
    *
@@ -20,9 +20,19 @@
 package org.apache.gravitino.credential;
 
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.credential.config.CredentialConfig;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CredentialCacheMetricsSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,20 +44,63 @@ public class CatalogCredentialManager implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CatalogCredentialManager.class);
 
+  // The refresh requests beyond the capacity are dropped and retried by the later requests.
+  private static final int REFRESH_QUEUE_CAPACITY = 1000;
+
   private final CredentialCache<CredentialCacheKey> credentialCache;
+  private final ExecutorService refreshExecutor;
+  private final MetricsSource metricsSource;
+  // Null if the path coalescing is disabled
+  private final CredentialPathCoalescer pathCoalescer;
 
   private final String catalogName;
   private final Map<String, CredentialProvider> credentialProviders;
 
-  public CatalogCredentialManager(String catalogName, Map<String, String> catalogProperties) {
+  public CatalogCredentialManager(
+      String metalakeName, String catalogName, Map<String, String> catalogProperties) {
     this.catalogName = catalogName;
     this.credentialProviders = CredentialUtils.loadCredentialProviders(catalogProperties);
-    this.credentialCache = new CredentialCache();
-    credentialCache.initialize(catalogProperties);
+
+    CredentialConfig credentialConfig = new CredentialConfig(catalogProperties);
+    this.pathCoalescer =
+        credentialConfig.get(CredentialConfig.CREDENTIAL_PATH_COALESCING_ENABLED)
+            ? new CredentialPathCoalescer(
+                credentialConfig.get(CredentialConfig.CREDENTIAL_PATH_COALESCING_DEPTH),
+                credentialConfig.get(CredentialConfig.CREDENTIAL_PATH_COALESCING_MAX_LENGTH))
+            : null;
+
+    int refreshThreads = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_REFRESH_THREADS);
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            refreshThreads,
+            refreshThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("credential-cache-refresh-%d")
+                .build());
+    // Don't keep the refresh threads of the catalogs without credential requests.
+    executor.allowCoreThreadTimeOut(true);
+    this.refreshExecutor = executor;
+
+    this.metricsSource = new CredentialCacheMetricsSource(metalakeName, catalogName);
+    this.credentialCache = new CredentialCache<>();
+    credentialCache.initialize(catalogProperties, refreshExecutor, metricsSource);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // The metrics system is not initialized in some test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   public Credential getCredential(String credentialType, CredentialContext context) {
-    CredentialCacheKey credentialCacheKey = new CredentialCacheKey(credentialType, context);
+    // The credentials of the coalesced paths are shared by all the paths under the same prefixes
+    CredentialContext credentialContext =
+        pathCoalescer == null ? context : pathCoalescer.coalesce(context);
+    CredentialCacheKey credentialCacheKey =
+        new CredentialCacheKey(credentialType, credentialContext);
     return credentialCache.getCredential(credentialCacheKey, cacheKey -> doGetCredential(cacheKey));
   }
 
@@ -78,11 +131,17 @@ public class CatalogCredentialManager implements Closeable {
                     e);
               }
             });
+    refreshExecutor.shutdownNow();
     try {
       credentialCache.close();
     } catch (IOException e) {
       LOG.warn("Close credential cache failed, catalog: {}", catalogName, e);
     }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   private Credential doGetCredential(CredentialCacheKey credentialCacheKey) {
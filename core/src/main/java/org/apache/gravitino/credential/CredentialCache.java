@@ -19,24 +19,41 @@
 
 package org.apache.gravitino.credential;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import org.apache.gravitino.credential.config.CredentialConfig;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Caches the credentials generated by the credential providers.
+ *
+ * <p>A credential is removed from the cache once the expire ratio of its lifetime has passed. Once
+ * the refresh ratio of its lifetime has passed, the next request triggers a refresh in the
+ * background and keeps getting the cached credential until the new one is ready, so that only the
+ * first request of a key pays for generating the credential.
+ */
 public class CredentialCache<T> implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CredentialCache.class);
 
   // Calculates the credential expire time in the cache.
-  static class CredentialExpireTimeCalculator<T> implements Expiry<T, Credential> {
+  static class CredentialExpireTimeCalculator<T> implements Expiry<T, CachedCredential> {
 
     private double credentialCacheExpireRatio;
 
@@ -46,8 +63,8 @@ public class CredentialCache<T> implements Closeable {
 
     // Set expire time after add a credential in the cache.
     @Override
-    public long expireAfterCreate(T key, Credential credential, long currentTime) {
-      long credentialExpireTime = credential.expireTimeInMs();
+    public long expireAfterCreate(T key, CachedCredential credential, long currentTime) {
+      long credentialExpireTime = credential.credential.expireTimeInMs();
       long timeToExpire = credentialExpireTime - System.currentTimeMillis();
       if (timeToExpire <= 0) {
         return 0;
@@ -57,38 +74,117 @@ public class CredentialCache<T> implements Closeable {
       return TimeUnit.MILLISECONDS.toNanos(timeToExpire);
     }
 
-    // Not change expire time after update credential, this should not happen.
+    // Reset expire time after the credential is refreshed in the background.
     @Override
-    public long expireAfterUpdate(T key, Credential value, long currentTime, long currentDuration) {
-      return currentDuration;
+    public long expireAfterUpdate(
+        T key, CachedCredential credential, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, credential, currentTime);
     }
 
     // Not change expire time after read credential.
     @Override
-    public long expireAfterRead(T key, Credential value, long currentTime, long currentDuration) {
+    public long expireAfterRead(
+        T key, CachedCredential credential, long currentTime, long currentDuration) {
       return currentDuration;
     }
   }
 
-  private Cache<T, Credential> credentialCache;
+  // A cached credential with the time to refresh it in the background.
+  static class CachedCredential {
+    private final Credential credential;
+    private final long refreshTimeInMs;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
 
-  public void initialize(Map<String, String> catalogProperties) {
+    CachedCredential(Credential credential, long refreshTimeInMs) {
+      this.credential = credential;
+      this.refreshTimeInMs = refreshTimeInMs;
+    }
+  }
+
+  private Cache<T, CachedCredential> credentialCache;
+  private double refreshRatio;
+  private Executor refreshExecutor;
+
+  private Counter hitCounter;
+  private Counter missCounter;
+  private Counter refreshFailureCounter;
+  private Timer generateTimer;
+
+  /**
+   * Initialize the credential cache.
+   *
+   * @param catalogProperties The properties of the catalog.
+   * @param refreshExecutor The executor to refresh the credentials in the background.
+   * @param metricsSource The metrics source to report the cache metrics to.
+   */
+  public void initialize(
+      Map<String, String> catalogProperties,
+      Executor refreshExecutor,
+      MetricsSource metricsSource) {
     CredentialConfig credentialConfig = new CredentialConfig(catalogProperties);
     long cacheSize = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_MAX_SIZE);
     double cacheExpireRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_EXPIRE_RATIO);
+    this.refreshRatio = credentialConfig.get(CredentialConfig.CREDENTIAL_CACHE_REFRESH_RATIO);
+    // A credential is removed from the cache before it's due to refresh, so it's never refreshed.
+    if (refreshRatio > 0 && refreshRatio >= cacheExpireRatio) {
+      LOG.warn(
+          "The credential cache refresh ratio {} is not less than the expire ratio {}, the "
+              + "background refresh is disabled.",
+          refreshRatio,
+          cacheExpireRatio);
+      this.refreshRatio = 0;
+    }
+    this.refreshExecutor = refreshExecutor;
 
     this.credentialCache =
         Caffeine.newBuilder()
-            .expireAfter(new CredentialExpireTimeCalculator(cacheExpireRatio))
+            .expireAfter(new CredentialExpireTimeCalculator<T>(cacheExpireRatio))
             .maximumSize(cacheSize)
             .removalListener(
-                (cacheKey, credential, c) ->
-                    LOG.debug("Credential expire, cache key: {}.", cacheKey))
+                (cacheKey, credential, cause) ->
+                    LOG.debug("Credential removed, cache key: {}, cause: {}.", cacheKey, cause))
             .build();
+
+    this.hitCounter = metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_HIT);
+    this.missCounter = metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_MISS);
+    this.refreshFailureCounter =
+        metricsSource.getCounter(MetricNames.CREDENTIAL_CACHE_REFRESH_FAILURES);
+    this.generateTimer = metricsSource.getTimer(MetricNames.CREDENTIAL_CACHE_GENERATE_DURATION);
+    metricsSource.registerGauge(
+        MetricNames.CREDENTIAL_CACHE_HIT_RATIO,
+        (Gauge<Double>)
+            () -> {
+              long hits = hitCounter.getCount();
+              long total = hits + missCounter.getCount();
+              return total == 0 ? 0.0 : (double) hits / total;
+            });
   }
 
   public Credential getCredential(T cacheKey, Function<T, Credential> credentialSupplier) {
-    return credentialCache.get(cacheKey, key -> credentialSupplier.apply(cacheKey));
+    CachedCredential cachedCredential = credentialCache.getIfPresent(cacheKey);
+    if (cachedCredential != null) {
+      hitCounter.inc();
+      if (System.currentTimeMillis() >= cachedCredential.refreshTimeInMs) {
+        refreshInBackground(cacheKey, cachedCredential, credentialSupplier);
+      }
+      return cachedCredential.credential;
+    }
+
+    missCounter.inc();
+    // Concurrent requests of the same key wait for the credential generated by the first one.
+    cachedCredential =
+        credentialCache.get(cacheKey, key -> generateCredential(key, credentialSupplier));
+    return cachedCredential == null ? null : cachedCredential.credential;
+  }
+
+  @VisibleForTesting
+  double refreshRatio() {
+    return refreshRatio;
+  }
+
+  @VisibleForTesting
+  long refreshFailureCount() {
+    return refreshFailureCounter.getCount();
   }
 
   @Override
@@ -98,4 +194,54 @@ public class CredentialCache<T> implements Closeable {
       credentialCache = null;
     }
   }
+
+  private CachedCredential generateCredential(
+      T cacheKey, Function<T, Credential> credentialSupplier) {
+    Credential credential;
+    try (Timer.Context ignored = generateTimer.time()) {
+      credential = credentialSupplier.apply(cacheKey);
+    }
+    if (credential == null) {
+      return null;
+    }
+
+    long refreshTime = Long.MAX_VALUE;
+    if (refreshRatio > 0) {
+      long currentTime = System.currentTimeMillis();
+      long timeToExpire = Math.max(0, credential.expireTimeInMs() - currentTime);
+      refreshTime = currentTime + (long) (timeToExpire * refreshRatio);
+    }
+    return new CachedCredential(credential, refreshTime);
+  }
+
+  private void refreshInBackground(
+      T cacheKey, CachedCredential cachedCredential, Function<T, Credential> credentialSupplier) {
+    // Only one refresh is in flight for a cached credential.
+    if (!cachedCredential.refreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    Cache<T, CachedCredential> cache = credentialCache;
+    try {
+      refreshExecutor.execute(
+          () -> {
+            try {
+              CachedCredential refreshed = generateCredential(cacheKey, credentialSupplier);
+              if (refreshed == null) {
+                throw new IllegalStateException("No credential is generated");
+              }
+              // Skip the refreshed credential if the cached one is removed or replaced meanwhile.
+              cache.asMap().replace(cacheKey, cachedCredential, refreshed);
+            } catch (Exception e) {
+              refreshFailureCounter.inc();
+              LOG.warn("Refresh credential failed, cache key: {}.", cacheKey, e);
+              // Keep serving the cached credential and retry with the next request.
+              cachedCredential.refreshing.set(false);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      LOG.debug("Refresh credential is rejected, cache key: {}.", cacheKey);
+      cachedCredential.refreshing.set(false);
+    }
+  }
 }
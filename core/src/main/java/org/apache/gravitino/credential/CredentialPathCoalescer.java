@@ -0,0 +1,124 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.credential;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Coalesces the paths of a {@link PathBasedCredentialContext} to their common prefixes, so that the
+ * credential generated for a prefix is cached and reused by all the paths under it.
+ *
+ * <p>A path like "s3://bucket/db/table" is coalesced to "s3://bucket/db/" with depth 1 and to
+ * "s3://bucket/" with depth 0, the prefixes under another prefix are dropped. If the total length
+ * of the prefixes exceeds the max length, the depth is decreased until they fit or the prefixes are
+ * the buckets, since the storage providers put every path into the size limited access policy. The
+ * paths without a scheme or an authority are kept as they are.
+ */
+public class CredentialPathCoalescer {
+
+  private final int depth;
+  private final int maxLength;
+
+  /**
+   * Creates a coalescer.
+   *
+   * @param depth The number of path segments under the bucket to keep in a prefix.
+   * @param maxLength The max total length of the prefixes of a context.
+   */
+  public CredentialPathCoalescer(int depth, int maxLength) {
+    this.depth = depth;
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * Coalesces the paths of the context to their common prefixes.
+   *
+   * @param context The credential context.
+   * @return The context with the coalesced paths, or the context itself if it isn't path based.
+   */
+  public CredentialContext coalesce(CredentialContext context) {
+    if (!(context instanceof PathBasedCredentialContext)) {
+      return context;
+    }
+
+    PathBasedCredentialContext pathContext = (PathBasedCredentialContext) context;
+    Set<String> writePaths;
+    Set<String> readPaths;
+    int currentDepth = depth;
+    while (true) {
+      writePaths = coalesce(pathContext.getWritePaths(), currentDepth);
+      readPaths = coalesce(pathContext.getReadPaths(), currentDepth);
+      if (currentDepth == 0 || totalLength(writePaths) + totalLength(readPaths) <= maxLength) {
+        break;
+      }
+      currentDepth--;
+    }
+
+    return new PathBasedCredentialContext(pathContext.getUserName(), writePaths, readPaths);
+  }
+
+  @VisibleForTesting
+  static Set<String> coalesce(Set<String> paths, int depth) {
+    // The sorted prefixes put a prefix right before the prefixes under it
+    Set<String> prefixes = new TreeSet<>();
+    paths.forEach(path -> prefixes.add(prefixOf(path, depth)));
+
+    Set<String> coalescedPaths = new LinkedHashSet<>();
+    String lastPrefix = null;
+    for (String prefix : prefixes) {
+      if (lastPrefix != null && lastPrefix.endsWith("/") && prefix.startsWith(lastPrefix)) {
+        continue;
+      }
+      coalescedPaths.add(prefix);
+      lastPrefix = prefix;
+    }
+    return coalescedPaths;
+  }
+
+  private static String prefixOf(String path, int depth) {
+    URI uri;
+    try {
+      uri = new URI(path);
+    } catch (URISyntaxException e) {
+      return path;
+    }
+    if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+      return path;
+    }
+
+    StringBuilder prefix =
+        new StringBuilder(uri.getScheme()).append("://").append(uri.getRawAuthority()).append('/');
+    String[] segments = StringUtils.split(uri.getRawPath(), '/');
+    for (int i = 0; i < Math.min(depth, segments.length); i++) {
+      prefix.append(segments[i]).append('/');
+    }
+    return prefix.toString();
+  }
+
+  private static int totalLength(Set<String> paths) {
+    return paths.stream().mapToInt(String::length).sum();
+  }
+}
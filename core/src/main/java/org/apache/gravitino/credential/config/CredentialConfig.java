@@ -34,6 +34,11 @@ public class CredentialConfig extends Config {
 
   private static final long DEFAULT_CREDENTIAL_CACHE_MAX_SIZE = 10_000L;
   private static final double DEFAULT_CREDENTIAL_CACHE_EXPIRE_RATIO = 0.15d;
+  private static final double DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO = 0.1d;
+  private static final int DEFAULT_CREDENTIAL_CACHE_REFRESH_THREADS = 2;
+  private static final boolean DEFAULT_CREDENTIAL_PATH_COALESCING_ENABLED = false;
+  private static final int DEFAULT_CREDENTIAL_PATH_COALESCING_DEPTH = 0;
+  private static final int DEFAULT_CREDENTIAL_PATH_COALESCING_MAX_LENGTH = 1024;
 
   public static final Map<String, PropertyEntry<?>> CREDENTIAL_PROPERTY_ENTRIES =
       new ImmutableMap.Builder<String, PropertyEntry<?>>()
@@ -67,6 +72,60 @@ public class CredentialConfig extends Config {
                   DEFAULT_CREDENTIAL_CACHE_MAX_SIZE /* default value */,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+              PropertyEntry.doublePropertyEntry(
+                  CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+                  "Ratio of the credential's expiration time when Gravitino refreshes the cached "
+                      + "credential in the background, 0 disables the background refresh.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_CACHE_REFRESH_THREADS,
+              PropertyEntry.integerPropertyEntry(
+                  CredentialConstants.CREDENTIAL_CACHE_REFRESH_THREADS,
+                  "The number of threads to refresh the cached credentials in the background.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_CACHE_REFRESH_THREADS /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_PATH_COALESCING_ENABLED,
+              PropertyEntry.booleanPropertyEntry(
+                  CredentialConstants.CREDENTIAL_PATH_COALESCING_ENABLED,
+                  "Whether to generate the credentials for the common path prefixes, so that the "
+                      + "paths under the same prefix share the same credential.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_PATH_COALESCING_ENABLED /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_PATH_COALESCING_DEPTH,
+              PropertyEntry.integerPropertyEntry(
+                  CredentialConstants.CREDENTIAL_PATH_COALESCING_DEPTH,
+                  "The number of path segments after the bucket kept in the common path prefix, "
+                      + "0 means the bucket.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_PATH_COALESCING_DEPTH /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              CredentialConstants.CREDENTIAL_PATH_COALESCING_MAX_LENGTH,
+              PropertyEntry.integerPropertyEntry(
+                  CredentialConstants.CREDENTIAL_PATH_COALESCING_MAX_LENGTH,
+                  "The maximum total length of the path prefixes of a credential, the prefixes "
+                      + "are shortened until they fit to keep the access policy small.",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_CREDENTIAL_PATH_COALESCING_MAX_LENGTH /* default value */,
+                  false /* hidden */,
+                  false /* reserved */))
           .build();
 
   public static final ConfigEntry<List<String>> CREDENTIAL_PROVIDERS =
@@ -97,6 +156,58 @@ public class CredentialConfig extends Config {
           .longConf()
           .createWithDefault(DEFAULT_CREDENTIAL_CACHE_MAX_SIZE);
 
+  public static final ConfigEntry<Double> CREDENTIAL_CACHE_REFRESH_RATIO =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO)
+          .doc(
+              "Ratio of the credential's expiration time when Gravitino refreshes the cached "
+                  + "credential in the background, 0 disables the background refresh. The old "
+                  + "credential is served until the new one is ready.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .doubleConf()
+          .checkValue(
+              ratio -> ratio >= 0 && ratio < 1,
+              "Ratio of the credential's expiration time should greater than or equal to 0 "
+                  + "and less than 1.")
+          .createWithDefault(DEFAULT_CREDENTIAL_CACHE_REFRESH_RATIO);
+
+  public static final ConfigEntry<Integer> CREDENTIAL_CACHE_REFRESH_THREADS =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_CACHE_REFRESH_THREADS)
+          .doc("The number of threads to refresh the cached credentials in the background.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_CREDENTIAL_CACHE_REFRESH_THREADS);
+
+  public static final ConfigEntry<Boolean> CREDENTIAL_PATH_COALESCING_ENABLED =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_PATH_COALESCING_ENABLED)
+          .doc(
+              "Whether to generate the credentials for the common path prefixes, so that the "
+                  + "paths under the same prefix share the same credential. It grants access to "
+                  + "the whole prefix, so it's disabled by default.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(DEFAULT_CREDENTIAL_PATH_COALESCING_ENABLED);
+
+  public static final ConfigEntry<Integer> CREDENTIAL_PATH_COALESCING_DEPTH =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_PATH_COALESCING_DEPTH)
+          .doc(
+              "The number of path segments after the bucket kept in the common path prefix, "
+                  + "0 means the bucket.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_CREDENTIAL_PATH_COALESCING_DEPTH);
+
+  public static final ConfigEntry<Integer> CREDENTIAL_PATH_COALESCING_MAX_LENGTH =
+      new ConfigBuilder(CredentialConstants.CREDENTIAL_PATH_COALESCING_MAX_LENGTH)
+          .doc(
+              "The maximum total length of the path prefixes of a credential, the prefixes are "
+                  + "shortened until they fit to keep the access policy small.")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_CREDENTIAL_PATH_COALESCING_MAX_LENGTH);
+
   public CredentialConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
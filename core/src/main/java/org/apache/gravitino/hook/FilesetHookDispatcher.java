@@ -25,6 +25,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerDispatcher;
@@ -56,12 +57,31 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     return dispatcher.listFilesets(namespace);
   }
 
+  @Override
+  public Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return dispatcher.listFilesets(namespace, pageToken, pageSize);
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
     return dispatcher.listFiles(ident, locationName, subPath);
   }
 
+  @Override
+  public Page<FileInfo> listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String glob,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    return dispatcher.listFiles(ident, locationName, subPath, recursive, glob, pageToken, pageSize);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return dispatcher.loadFileset(ident);
@@ -133,4 +153,10 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
       throws NoSuchFilesetException, NoSuchLocationNameException {
     return dispatcher.getFileLocation(ident, subPath, locationName);
   }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    return dispatcher.getFileLocations(ident, subPaths, locationName);
+  }
 }
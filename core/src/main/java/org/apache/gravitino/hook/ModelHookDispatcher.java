@@ -24,6 +24,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.OwnerDispatcher;
@@ -59,6 +60,12 @@ public class ModelHookDispatcher implements ModelDispatcher {
     return dispatcher.listModels(namespace);
   }
 
+  @Override
+  public Page<NameIdentifier> listModels(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return dispatcher.listModels(namespace, pageToken, pageSize);
+  }
+
   @Override
   public Model getModel(NameIdentifier ident) throws NoSuchModelException {
     return dispatcher.getModel(ident);
@@ -19,19 +19,31 @@
 
 package org.apache.gravitino.listener;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EventListenerMetricsSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,36 +52,89 @@ import org.slf4j.LoggerFactory;
  * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
  * contain multi listeners share with one queue and dispatcher thread. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>With multiple dispatcher threads, each thread owns a queue and the events are routed to the
+ * queues by the hash of their identifiers, so the events of the same resource are still dispatched
+ * in order. A dispatcher thread drains up to {@code batchSize} events at once, the consecutive
+ * post-events of the batch are delivered with {@link EventListenerPlugin#onPostEvents(List)}.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
   private static final float HIGH_WATERMARK_RATIO = 0.9f;
 
+  /** The policy to apply when the queue of the dispatcher is full. */
+  public enum OverflowPolicy {
+    /** Drop the new event. */
+    DROP_NEWEST,
+    /** Drop the oldest event in the queue to make room for the new event. */
+    DROP_OLDEST,
+    /** Block the caller until there is room in the queue, drop the new event after a timeout. */
+    BLOCK;
+
+    static boolean isValid(String value) {
+      return value != null
+          && Arrays.stream(values()).anyMatch(policy -> policy.name().equalsIgnoreCase(value));
+    }
+
+    static OverflowPolicy fromString(String value) {
+      return valueOf(value.toUpperCase());
+    }
+  }
+
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<BaseEvent> queue;
-  private final Thread asyncProcessor;
+  private final List<BlockingQueue<BaseEvent>> queues;
+  private final List<Thread> asyncProcessors;
   private final int dispatcherJoinSeconds;
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+  private final long overflowBlockTimeoutMs;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
   private Instant lastRecordDropEventTime = Instant.EPOCH;
   private final String asyncQueueListenerName;
   private final int highWatermarkThreshold;
+  private final MetricsSource metricsSource;
+  private final Counter droppedEventsCounter;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
-      int dispatcherJoinSeconds) {
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int batchSize,
+      OverflowPolicy overflowPolicy,
+      long overflowBlockTimeoutMs) {
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    this.highWatermarkThreshold = (int) (queueCapacity * HIGH_WATERMARK_RATIO);
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+    this.overflowBlockTimeoutMs = overflowBlockTimeoutMs;
+
+    // The capacity is split between the dispatcher threads to keep the total number of queued
+    // events bounded by the configured capacity.
+    int capacityPerQueue = Math.max(1, queueCapacity / dispatcherThreads);
+    this.highWatermarkThreshold = (int) (capacityPerQueue * HIGH_WATERMARK_RATIO);
+    this.queues = new ArrayList<>(dispatcherThreads);
+    this.asyncProcessors = new ArrayList<>(dispatcherThreads);
+    for (int i = 0; i < dispatcherThreads; i++) {
+      BlockingQueue<BaseEvent> queue = new LinkedBlockingQueue<>(capacityPerQueue);
+      Thread asyncProcessor = new Thread(() -> processEvents(queue));
+      asyncProcessor.setDaemon(true);
+      asyncProcessor.setName(
+          dispatcherThreads == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i);
+      queues.add(queue);
+      asyncProcessors.add(asyncProcessor);
+    }
+
+    this.metricsSource = new EventListenerMetricsSource(name);
+    this.droppedEventsCounter = metricsSource.getCounter(MetricNames.EVENT_LISTENER_DROPPED_EVENTS);
+    metricsSource.registerGauge(
+        MetricNames.EVENT_LISTENER_QUEUE_DEPTH,
+        (Gauge<Integer>) () -> queues.stream().mapToInt(BlockingQueue::size).sum());
   }
 
   @Override
@@ -91,24 +156,37 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    asyncProcessors.forEach(Thread::start);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
+    asyncProcessors.forEach(Thread::interrupt);
+    long deadline = System.currentTimeMillis() + dispatcherJoinSeconds * 1000L;
     try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
+      for (Thread asyncProcessor : asyncProcessors) {
+        asyncProcessor.join(Math.max(1L, deadline - System.currentTimeMillis()));
+      }
     } catch (InterruptedException e) {
       LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   public boolean isHighWatermark() {
-    return queue.size() > highWatermarkThreshold;
+    return queues.stream().anyMatch(queue -> queue.size() > highWatermarkThreshold);
   }
 
   @VisibleForTesting
@@ -116,22 +194,27 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
-  private void processEvents() {
+  @VisibleForTesting
+  long getDroppedEventsCount() {
+    return droppedEventsCounter.getCount();
+  }
+
+  private void processEvents(BlockingQueue<BaseEvent> queue) {
+    List<BaseEvent> batch = new ArrayList<>(batchSize);
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        BaseEvent baseEvent = queue.take();
-        if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
-        } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
-        } else {
-          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+        batch.add(queue.take());
+        if (batchSize > 1) {
+          queue.drainTo(batch, batchSize - 1);
         }
+        dispatchEvents(batch);
       } catch (InterruptedException e) {
         LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
         break;
       } catch (Exception e) {
         LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+      } finally {
+        batch.clear();
       }
     }
 
@@ -143,7 +226,42 @@ public class AsyncQueueListener implements EventListenerPlugin {
     }
   }
 
+  private void dispatchEvents(List<BaseEvent> batch) {
+    List<Event> postEvents = new ArrayList<>();
+    for (BaseEvent baseEvent : batch) {
+      if (baseEvent instanceof Event) {
+        postEvents.add((Event) baseEvent);
+        continue;
+      }
+
+      // Flush the pending post-events first to keep the order of the events.
+      dispatchPostEvents(postEvents);
+      if (baseEvent instanceof PreEvent) {
+        this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
+      } else {
+        LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+      }
+    }
+    dispatchPostEvents(postEvents);
+  }
+
+  private void dispatchPostEvents(List<Event> postEvents) {
+    if (postEvents.isEmpty()) {
+      return;
+    }
+
+    if (postEvents.size() == 1) {
+      Event postEvent = postEvents.get(0);
+      this.eventListeners.forEach(listener -> listener.onPostEvent(postEvent));
+    } else {
+      List<Event> events = ImmutableList.copyOf(postEvents);
+      this.eventListeners.forEach(listener -> listener.onPostEvents(events));
+    }
+    postEvents.clear();
+  }
+
   private void logDropEventsIfNecessary() {
+    droppedEventsCounter.inc();
     long currentDropEvents = dropEventCounters.incrementAndGet();
     long lastDropEvents = lastDropEventCounters.get();
     // dropEvents may less than zero in such conditions:
@@ -163,6 +281,13 @@ public class AsyncQueueListener implements EventListenerPlugin {
     }
   }
 
+  private BlockingQueue<BaseEvent> selectQueue(BaseEvent baseEvent) {
+    if (queues.size() == 1) {
+      return queues.get(0);
+    }
+    return queues.get(Math.floorMod(Objects.hashCode(baseEvent.identifier()), queues.size()));
+  }
+
   private void enqueueEvent(BaseEvent baseEvent) {
     if (stopped.get()) {
       LOG.warn(
@@ -172,10 +297,34 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
+    BlockingQueue<BaseEvent> queue = selectQueue(baseEvent);
     if (queue.offer(baseEvent)) {
       return;
     }
 
+    switch (overflowPolicy) {
+      case DROP_OLDEST:
+        // Other producers may take the room we made, so retry until the event is enqueued.
+        while (!queue.offer(baseEvent)) {
+          if (queue.poll() != null) {
+            logDropEventsIfNecessary();
+          }
+        }
+        return;
+      case BLOCK:
+        try {
+          if (queue.offer(baseEvent, overflowBlockTimeoutMs, TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        break;
+      case DROP_NEWEST:
+      default:
+        break;
+    }
+
     logDropEventsIfNecessary();
   }
 }
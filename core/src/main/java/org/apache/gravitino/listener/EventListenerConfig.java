@@ -49,6 +49,46 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of dispatcher threads of an async event listener, the events of the same "
+                  + "resource are always dispatched by the same thread in order")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> DISPATCHER_BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_BATCH_SIZE)
+          .doc("The maximum number of events an async event dispatcher thread drains at once")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<String> OVERFLOW_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY)
+          .doc(
+              "The policy to apply when the async event queue is full, the supported policies are "
+                  + "`drop_newest`, `drop_oldest` and `block`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(
+              value -> AsyncQueueListener.OverflowPolicy.isValid(value),
+              "The value must be one of `drop_newest`, `drop_oldest` and `block`")
+          .createWithDefault(AsyncQueueListener.OverflowPolicy.DROP_NEWEST.name().toLowerCase());
+
+  static final ConfigEntry<Long> OVERFLOW_BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_BLOCK_TIMEOUT_MS)
+          .doc(
+              "The maximum time in milliseconds to wait for the space of a full async event queue "
+                  + "with the `block` overflow policy, the event is dropped after the timeout")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
@@ -54,17 +54,31 @@ public class EventListenerManager {
   public static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   public static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_BATCH_SIZE = "dispatcherBatchSize";
+  static final String GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY = "overflowPolicy";
+  static final String GRAVITINO_EVENT_LISTENER_OVERFLOW_BLOCK_TIMEOUT_MS = "overflowBlockTimeoutMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int dispatcherThreads;
+  private int dispatcherBatchSize;
+  private AsyncQueueListener.OverflowPolicy overflowPolicy;
+  private long overflowBlockTimeoutMs;
   private List<EventListenerPlugin> eventListeners;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.dispatcherBatchSize = config.get(EventListenerConfig.DISPATCHER_BATCH_SIZE);
+    this.overflowPolicy =
+        AsyncQueueListener.OverflowPolicy.fromString(
+            config.get(EventListenerConfig.OVERFLOW_POLICY));
+    this.overflowBlockTimeoutMs = config.get(EventListenerConfig.OVERFLOW_BLOCK_TIMEOUT_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -116,11 +130,9 @@ public class EventListenerManager {
                     case SYNC:
                       return new EventListenerPluginWrapper(listenerName, listener);
                     case ASYNC_ISOLATED:
-                      return new AsyncQueueListener(
+                      return createAsyncQueueListener(
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
-                          listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          listenerName);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -133,13 +145,24 @@ public class EventListenerManager {
             .collect(Collectors.toList());
 
     if (!sharedQueueListeners.isEmpty()) {
-      listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+      listeners.add(createAsyncQueueListener(sharedQueueListeners, "default"));
     }
     return listeners;
   }
 
+  private AsyncQueueListener createAsyncQueueListener(
+      List<EventListenerPlugin> listeners, String name) {
+    return new AsyncQueueListener(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        dispatcherThreads,
+        dispatcherBatchSize,
+        overflowPolicy,
+        overflowBlockTimeoutMs);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
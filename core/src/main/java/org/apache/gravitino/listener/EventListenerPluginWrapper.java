@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
@@ -38,10 +39,12 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  private boolean batchListener;
 
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.batchListener = overridesOnPostEvents(userEventListener);
   }
 
   @Override
@@ -75,6 +78,23 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    // Deliver the events one by one to the listeners that don't opt into the batch callback, so a
+    // failed event doesn't skip the remaining events of the batch.
+    if (!batchListener) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn(
+          "Event listener {} process a batch of {} events failed,", listenerName, events.size(), e);
+    }
+  }
+
   @Override
   public void onPreEvent(PreEvent preEvent) {
     try {
@@ -109,6 +129,15 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     return userEventListener;
   }
 
+  private static boolean overridesOnPostEvents(EventListenerPlugin listener) {
+    try {
+      return !EventListenerPlugin.class.equals(
+          listener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   private void printExceptionInEventProcess(String listenerName, BaseEvent baseEvent, Exception e) {
     LOG.warn(
         "Event listener {} process event {} failed,",
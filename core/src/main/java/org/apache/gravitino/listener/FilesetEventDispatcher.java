@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
@@ -86,6 +87,21 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     }
   }
 
+  @Override
+  public Page<NameIdentifier> listFilesets(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    eventBus.dispatchEvent(new ListFilesetPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    try {
+      Page<NameIdentifier> page = dispatcher.listFilesets(namespace, pageToken, pageSize);
+      eventBus.dispatchEvent(new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
   @Override
   public FileInfo[] listFiles(NameIdentifier ident, String locationName, String subPath)
       throws NoSuchFilesetException, IOException {
@@ -104,6 +120,32 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     }
   }
 
+  @Override
+  public Page<FileInfo> listFiles(
+      NameIdentifier ident,
+      String locationName,
+      String subPath,
+      boolean recursive,
+      String glob,
+      String pageToken,
+      int pageSize)
+      throws NoSuchFilesetException, IOException {
+    eventBus.dispatchEvent(
+        new ListFilesPreEvent(PrincipalUtils.getCurrentUserName(), ident, locationName, subPath));
+    try {
+      Page<FileInfo> page =
+          dispatcher.listFiles(ident, locationName, subPath, recursive, glob, pageToken, pageSize);
+      eventBus.dispatchEvent(
+          new ListFilesEvent(PrincipalUtils.getCurrentUserName(), ident, locationName, subPath));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListFilesFailureEvent(
+              PrincipalUtils.getCurrentUserName(), ident, locationName, subPath, e));
+      throw e;
+    }
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     eventBus.dispatchEvent(new LoadFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
@@ -214,4 +256,37 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
       throw e;
     }
   }
+
+  @Override
+  public String[] getFileLocations(NameIdentifier ident, String[] subPaths, String locationName)
+      throws NoSuchFilesetException, NoSuchLocationNameException {
+    // Dispatch the events for each sub path, so the listeners like the audit log see the same
+    // events as getting the locations one by one. The asynchronous listeners receive them in
+    // batches.
+    String user = PrincipalUtils.getCurrentUserName();
+    for (String subPath : subPaths) {
+      eventBus.dispatchEvent(new GetFileLocationPreEvent(user, ident, subPath, locationName));
+    }
+    try {
+      String[] actualFileLocations = dispatcher.getFileLocations(ident, subPaths, locationName);
+      ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+      CallerContext callerContext = CallerContext.CallerContextHolder.get();
+      if (callerContext != null && callerContext.context() != null) {
+        builder.putAll(callerContext.context());
+      }
+      Map<String, String> context = builder.build();
+      for (int i = 0; i < subPaths.length; i++) {
+        eventBus.dispatchEvent(
+            new GetFileLocationEvent(
+                user, ident, actualFileLocations[i], subPaths[i], locationName, context));
+      }
+      return actualFileLocations;
+    } catch (Exception e) {
+      for (String subPath : subPaths) {
+        eventBus.dispatchEvent(
+            new GetFileLocationFailureEvent(user, ident, subPath, locationName, e));
+      }
+      throw e;
+    }
+  }
 }
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.ModelDispatcher;
 import org.apache.gravitino.exceptions.ModelAlreadyExistsException;
 import org.apache.gravitino.exceptions.ModelVersionAliasesAlreadyExistException;
@@ -199,6 +200,23 @@ public class ModelEventDispatcher implements ModelDispatcher {
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Page<NameIdentifier> listModels(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    String user = PrincipalUtils.getCurrentUserName();
+
+    eventBus.dispatchEvent(new ListModelPreEvent(user, namespace));
+    try {
+      Page<NameIdentifier> models = dispatcher.listModels(namespace, pageToken, pageSize);
+      eventBus.dispatchEvent(new ListModelEvent(user, namespace));
+      return models;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(new ListModelFailureEvent(user, namespace, e));
+      throw e;
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public void linkModelVersion(
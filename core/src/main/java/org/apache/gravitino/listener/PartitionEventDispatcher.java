@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.exceptions.NoSuchPartitionException;
 import org.apache.gravitino.exceptions.PartitionAlreadyExistsException;
@@ -157,6 +158,38 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     }
   }
 
+  @Override
+  public Page<Partition> listPartitions(
+      NameIdentifier ident, String filter, String pageToken, int pageSize) {
+    eventBus.dispatchEvent(new ListPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      Page<Partition> page = dispatcher.listPartitions(ident, filter, pageToken, pageSize);
+      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Page<String> listPartitionNames(
+      NameIdentifier ident, String filter, String pageToken, int pageSize) {
+    eventBus.dispatchEvent(
+        new ListPartitionNamesPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    try {
+      Page<String> page = dispatcher.listPartitionNames(ident, filter, pageToken, pageSize);
+      eventBus.dispatchEvent(
+          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+      return page;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+      throw e;
+    }
+  }
+
   @Override
   public boolean partitionExists(NameIdentifier ident, String partitionName) {
     try {
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.List;
 import java.util.Map;
 import javax.validation.constraints.NotNull;
 import org.apache.gravitino.annotation.DeveloperApi;
@@ -110,6 +111,23 @@ public interface EventListenerPlugin {
    */
   default void onPostEvent(Event postEvent) throws RuntimeException {}
 
+  /**
+   * Handle a batch of post-events in ASYNC mode.
+   *
+   * <p>The async dispatcher drains up to {@code gravitino.eventListener.dispatcherBatchSize} events
+   * at once and delivers the consecutive post-events to this method, in the order they were
+   * generated. Plugins could override this method to amortize the cost of processing the events,
+   * like writing them to an external system in one request. The default implementation invokes
+   * {@link #onPostEvent(Event)} for each event. This method is not used in SYNC mode.
+   *
+   * @param postEvents The post events to be processed, the list is immutable.
+   * @throws RuntimeException Indicates issues encountered during event processing, this has no
+   *     affect to the operation.
+   */
+  default void onPostEvents(List<Event> postEvents) throws RuntimeException {
+    postEvents.forEach(this::onPostEvent);
+  }
+
   /**
    * Handle pre-events generated before the operation.
    *
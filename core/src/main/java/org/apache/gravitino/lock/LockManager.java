@@ -22,6 +22,7 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_READ_LOCK_STRIPES;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -52,6 +53,9 @@ public class LockManager {
 
   static final NameIdentifier ROOT = NameIdentifier.of("/");
 
+  // The root, metalake and catalog nodes use striped read locks if there is more than one stripe.
+  private static final int STRIPED_LEVELS = 3;
+
   @VisibleForTesting TreeLockNode treeLockRootNode;
   final AtomicLong totalNodeCount = new AtomicLong(1);
 
@@ -64,6 +68,9 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // The number of stripes of the read-write locks of the root, metalake and catalog nodes.
+  @VisibleForTesting int readLockStripes;
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -99,6 +106,7 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+    this.readLockStripes = config.get(TREE_LOCK_READ_LOCK_STRIPES);
   }
 
   private void startDeadLockChecker() {
@@ -181,11 +189,11 @@ public class LockManager {
   }
 
   public LockManager(Config config) {
-    treeLockRootNode = new TreeLockNode(ROOT.name());
-
     // Init the parameters.
     initParameters(config);
 
+    treeLockRootNode = new TreeLockNode(ROOT.name(), readLockStripes, STRIPED_LEVELS);
+
     // Start tree lock cleaner.
     startNodeCleaner();
 
@@ -214,9 +222,10 @@ public class LockManager {
     // Handle self node.
     if (treeNode.getReference() == 0) {
       synchronized (parent) {
-        // Once goes here, the parent node has been locked, so the reference of child (treeNode)
-        // could not be changed.
-        if (treeNode.getReference() == 0) {
+        // Once goes here, the parent node has been locked, so no new child (treeNode) can be
+        // created. A TreeLock may still reference the existing child without the object lock of
+        // the parent, see createTreeLock, so mark it as evicted atomically before removing it.
+        if (treeNode.markEvicted()) {
           parent.removeChild(treeNode.getName());
           long leftNodeCount = totalNodeCount.decrementAndGet();
           if (LOG.isTraceEnabled()) {
@@ -258,12 +267,17 @@ public class LockManager {
 
       TreeLockNode child;
       for (String level : levels) {
-        synchronized (lockNode) {
-          Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
-          child = pair.getKey();
-          // If the child node is newly created, we should increase the total node counts.
-          if (pair.getValue()) {
-            totalNodeCount.incrementAndGet();
+        // Most of the nodes already exist, reference them without locking the parent node, which
+        // is the hotspot of all the requests under it.
+        child = lockNode.getChildIfPresent(level);
+        if (child == null) {
+          synchronized (lockNode) {
+            Pair<TreeLockNode, Boolean> pair = lockNode.getOrCreateChild(level);
+            child = pair.getKey();
+            // If the child node is newly created, we should increase the total node counts.
+            if (pair.getValue()) {
+              totalNodeCount.incrementAndGet();
+            }
           }
         }
         treeLockNodes.add(child);
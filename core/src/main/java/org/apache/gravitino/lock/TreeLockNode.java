@@ -39,18 +39,29 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Each node will have a read-write lock to protect the node. The node will also have a map to
  * store the children. For more, please refer to {@link TreeLock}.
+ *
+ * <p>The nodes near the root are locked by almost every request, so their read-write lock can be
+ * split into several stripes: a reader only locks the stripe of its thread, and a writer locks all
+ * the stripes. Readers on different stripes don't contend on the same lock state.
  */
 public class TreeLockNode {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLockNode.class);
+  private static final long EVICTED = Long.MIN_VALUE;
+
   private final String name;
-  private final ReentrantReadWriteLock readWriteLock;
+  private final ReentrantReadWriteLock[] readWriteLocks;
+  // The number of read lock stripes, only the nodes in the first stripedLevels levels of the tree
+  // use more than one stripe.
+  private final int readLockStripes;
+  private final int stripedLevels;
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
 
   private final Map<ThreadIdentifier, Long> holdingThreadTimestamp = new ConcurrentHashMap<>();
 
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
-  // using this node, and this node can be removed from the tree.
+  // using this node, and this node can be removed from the tree. It's set to EVICTED once the node
+  // is removed, so that it can't be referenced again.
   private final AtomicLong referenceCount = new AtomicLong();
 
   /**
@@ -100,8 +111,17 @@ public class TreeLockNode {
   }
 
   protected TreeLockNode(String name) {
+    this(name, 1, 0);
+  }
+
+  TreeLockNode(String name, int readLockStripes, int stripedLevels) {
     this.name = name;
-    this.readWriteLock = new ReentrantReadWriteLock();
+    this.readLockStripes = readLockStripes;
+    this.stripedLevels = stripedLevels;
+    this.readWriteLocks = new ReentrantReadWriteLock[stripedLevels > 0 ? readLockStripes : 1];
+    for (int i = 0; i < readWriteLocks.length; i++) {
+      readWriteLocks[i] = new ReentrantReadWriteLock();
+    }
     this.childMap = new ConcurrentHashMap<>();
   }
 
@@ -125,7 +145,7 @@ public class TreeLockNode {
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void addReference() {
+  void addReference() {
     referenceCount.getAndIncrement();
   }
 
@@ -133,10 +153,39 @@ public class TreeLockNode {
    * Decrease the reference count of this node. The reference count should always be greater than or
    * equal to 0.
    */
-  synchronized void decReference() {
+  void decReference() {
     referenceCount.getAndDecrement();
   }
 
+  /**
+   * Increase the reference count of this node if it has not been evicted. Unlike {@link
+   * #addReference()}, it doesn't require the object lock of the parent node.
+   *
+   * @return true if the reference count is increased, false if the node has been evicted.
+   */
+  boolean tryAddReference() {
+    long reference;
+    do {
+      reference = referenceCount.get();
+      if (reference == EVICTED) {
+        return false;
+      }
+    } while (!referenceCount.compareAndSet(reference, reference + 1));
+    return true;
+  }
+
+  /**
+   * Mark this node as evicted if it's not referenced by any TreeLock. An evicted node can't be
+   * referenced again.
+   *
+   * <p>Note: This method should be guarded by the object lock of the parent node.
+   *
+   * @return true if the node is marked as evicted, false if it's referenced.
+   */
+  boolean markEvicted() {
+    return referenceCount.compareAndSet(0, EVICTED);
+  }
+
   long getReference() {
     return referenceCount.get();
   }
@@ -149,9 +198,11 @@ public class TreeLockNode {
    */
   void lock(LockType lockType) {
     if (lockType == LockType.READ) {
-      readWriteLock.readLock().lock();
+      readWriteLocks[stripeOfCurrentThread()].readLock().lock();
     } else {
-      readWriteLock.writeLock().lock();
+      for (ReentrantReadWriteLock readWriteLock : readWriteLocks) {
+        readWriteLock.writeLock().lock();
+      }
     }
   }
 
@@ -164,9 +215,11 @@ public class TreeLockNode {
    */
   void unlock(LockType lockType) {
     if (lockType == LockType.READ) {
-      readWriteLock.readLock().unlock();
+      readWriteLocks[stripeOfCurrentThread()].readLock().unlock();
     } else {
-      readWriteLock.writeLock().unlock();
+      for (int i = readWriteLocks.length - 1; i >= 0; i--) {
+        readWriteLocks[i].writeLock().unlock();
+      }
     }
 
     this.referenceCount.decrementAndGet();
@@ -187,7 +240,7 @@ public class TreeLockNode {
         childMap.computeIfAbsent(
             name,
             k -> {
-              TreeLockNode newNode = new TreeLockNode(name);
+              TreeLockNode newNode = new TreeLockNode(name, readLockStripes, stripedLevels - 1);
               if (LOG.isTraceEnabled()) {
                 LOG.trace("Create tree lock node '{}' as a child of '{}'", name, this.name);
               }
@@ -199,6 +252,18 @@ public class TreeLockNode {
     return Pair.of(childNode, newCreated[0]);
   }
 
+  /**
+   * Get the child node by the given name and increase its reference count without holding the
+   * object lock of this node.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @return The child node, or null if the child doesn't exist or has been evicted.
+   */
+  TreeLockNode getChildIfPresent(String name) {
+    TreeLockNode childNode = childMap.get(name);
+    return childNode != null && childNode.tryAddReference() ? childNode : null;
+  }
+
   /**
    * Get all the children of this node. The returned list is unmodifiable and the order is random.
    * The reason why we return a random order list is that we want to avoid the cases that the first
@@ -225,6 +290,12 @@ public class TreeLockNode {
     childMap.remove(name);
   }
 
+  private int stripeOfCurrentThread() {
+    return readWriteLocks.length == 1
+        ? 0
+        : (int) (Thread.currentThread().getId() % readWriteLocks.length);
+  }
+
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("TreeLockNode{");
@@ -28,6 +28,36 @@ public class MetricNames {
       "entity-store.relation-datasource.idle-connections";
   public static final String ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS =
       "entity-store.relation-datasource.max-connections";
+  public static final String ENTITY_CACHE_NEGATIVE_HIT = "entity-cache.negative.hit";
+  public static final String ENTITY_CACHE_NEGATIVE_MISS = "entity-cache.negative.miss";
+  public static final String ENTITY_CACHE_NEGATIVE_BLOOM_FILTER_HIT =
+      "entity-cache.negative.bloom-filter.hit";
+  public static final String ENTITY_CACHE_NEGATIVE_BLOOM_FILTER_FALSE_POSITIVE =
+      "entity-cache.negative.bloom-filter.false-positive";
+  public static final String ENTITY_CACHE_NEGATIVE_SIZE = "entity-cache.negative.size";
+  public static final String TABLE_CACHE_HIT = "hit";
+  public static final String TABLE_CACHE_MISS = "miss";
+  public static final String TABLE_CACHE_HIT_RATIO = "hit-ratio";
+  public static final String TABLE_CACHE_LOAD_DURATION = "load-duration-seconds";
+  public static final String ENTITY_STORE_GC_DELETED_LEGACY_ROWS = "deleted-legacy-rows";
+  public static final String ENTITY_STORE_GC_DELETED_OLD_VERSION_ROWS = "deleted-old-version-rows";
+  public static final String ENTITY_STORE_GC_DRAINING_ENTITY_TYPES = "draining-entity-types";
+  public static final String ENTITY_STORE_GC_PAUSES = "pauses";
+  public static final String ENTITY_STORE_GC_BATCH_DURATION = "batch-duration-seconds";
+  public static final String CREDENTIAL_CACHE_HIT = "hit";
+  public static final String CREDENTIAL_CACHE_MISS = "miss";
+  public static final String CREDENTIAL_CACHE_HIT_RATIO = "hit-ratio";
+  public static final String CREDENTIAL_CACHE_GENERATE_DURATION = "generate-duration-seconds";
+  public static final String CREDENTIAL_CACHE_REFRESH_FAILURES = "refresh-failures";
+  public static final String AUDIT_LOG_WRITE_DURATION = "write-duration-seconds";
+  public static final String AUDIT_LOG_WRITE_FAILURES = "write-failures";
+  public static final String AUDIT_LOG_BACKLOG = "backlog";
+  public static final String EVENT_LISTENER_QUEUE_DEPTH = "queue-depth";
+  public static final String EVENT_LISTENER_DROPPED_EVENTS = "dropped-events";
+  public static final String HIVE_NOTIFICATION_SYNC_APPLIED_EVENTS = "applied-events";
+  public static final String HIVE_NOTIFICATION_SYNC_FALLBACK = "fallback";
+  public static final String HIVE_NOTIFICATION_SYNC_LAG_EVENTS = "lag-events";
+  public static final String HIVE_NOTIFICATION_SYNC_LAG_MS = "lag-ms";
 
   private MetricNames() {}
 }
@@ -177,7 +177,23 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.TABLE_CACHE_METRIC_NAME + ".*.*.*",
+            MetricsSource.TABLE_CACHE_METRIC_NAME + "_${2}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}")),
+        new MapperConfig(
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + ".*.*",
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + "_${1}",
+            ImmutableMap.of("listener", "${0}")),
+        new MapperConfig(
+            MetricsSource.HIVE_NOTIFICATION_SYNC_METRIC_NAME + ".*.*.*",
+            MetricsSource.HIVE_NOTIFICATION_SYNC_METRIC_NAME + "_${2}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}")),
+        new MapperConfig(
+            MetricsSource.CREDENTIAL_CACHE_METRIC_NAME + ".*.*.*",
+            MetricsSource.CREDENTIAL_CACHE_METRIC_NAME + "_${2}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
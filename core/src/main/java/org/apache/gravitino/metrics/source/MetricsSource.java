@@ -41,6 +41,13 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String ENTITY_CACHE_METRIC_NAME = "entity-cache";
+  public static final String TABLE_CACHE_METRIC_NAME = "table-cache";
+  public static final String ENTITY_STORE_GC_METRIC_NAME = "entity-store-gc";
+  public static final String CREDENTIAL_CACHE_METRIC_NAME = "credential-cache";
+  public static final String AUDIT_LOG_METRIC_NAME = "audit-log";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
+  public static final String HIVE_NOTIFICATION_SYNC_METRIC_NAME = "hive-notification-sync";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
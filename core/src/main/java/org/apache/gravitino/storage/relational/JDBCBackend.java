@@ -25,11 +25,13 @@ import static org.apache.gravitino.Entity.EntityType.TABLE;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -61,6 +63,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.JobMetaService;
@@ -105,6 +108,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    CommonMetaService.getInstance().initialize(config);
   }
 
   @Override
@@ -154,16 +158,97 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws IOException {
+    switch (entityType) {
+      case SCHEMA:
+        return (List<E>)
+            SchemaMetaService.getInstance().listSchemasByNamespace(namespace, afterName, limit);
+      case FILESET:
+        return (List<E>)
+            FilesetMetaService.getInstance().listFilesetsByNamespace(namespace, afterName, limit);
+      case MODEL:
+        return (List<E>)
+            ModelMetaService.getInstance().listModelsByNamespace(namespace, afterName, limit);
+      default:
+        return RelationalBackend.super.list(namespace, entityType, afterName, limit);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     try {
-      Entity entity = get(ident, entityType);
-      return entity != null;
+      // Only query the IDs for the entities having an ID selector, this avoids deserializing the
+      // whole entity just to check the existence. The ID selectors throw NoSuchEntityException if
+      // the entity doesn't exist.
+      switch (entityType) {
+        case METALAKE:
+        case CATALOG:
+        case SCHEMA:
+          CommonMetaService.getInstance()
+              .getParentEntityIdByNamespace(
+                  Namespace.of(ArrayUtils.add(ident.namespace().levels(), ident.name())));
+          return true;
+        case TABLE:
+          TableMetaService.getInstance()
+              .getTableIdBySchemaIdAndName(getSchemaId(ident), ident.name());
+          return true;
+        case FILESET:
+          FilesetMetaService.getInstance()
+              .getFilesetIdBySchemaIdAndName(getSchemaId(ident), ident.name());
+          return true;
+        case TOPIC:
+          TopicMetaService.getInstance()
+              .getTopicIdBySchemaIdAndName(getSchemaId(ident), ident.name());
+          return true;
+        default:
+          Entity entity = get(ident, entityType);
+          return entity != null;
+      }
     } catch (NoSuchEntityException ne) {
       return false;
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    if (entityType != Entity.EntityType.TABLE && entityType != Entity.EntityType.FILESET) {
+      return RelationalBackend.super.batchGet(idents, entityType);
+    }
+
+    // The names are only unique under the same schema, so query the entities of each schema with
+    // one "IN" query.
+    Map<Namespace, List<String>> namesByNamespace = Maps.newLinkedHashMap();
+    idents.forEach(
+        ident ->
+            namesByNamespace
+                .computeIfAbsent(ident.namespace(), k -> Lists.newArrayList())
+                .add(ident.name()));
+
+    List<E> entities = Lists.newArrayList();
+    for (Map.Entry<Namespace, List<String>> entry : namesByNamespace.entrySet()) {
+      try {
+        if (entityType == Entity.EntityType.TABLE) {
+          entities.addAll(
+              (List<E>)
+                  TableMetaService.getInstance()
+                      .batchGetTablesByNamespaceAndNames(entry.getKey(), entry.getValue()));
+        } else {
+          entities.addAll(
+              (List<E>)
+                  FilesetMetaService.getInstance()
+                      .batchGetFilesetsByNamespaceAndNames(entry.getKey(), entry.getValue()));
+        }
+      } catch (NoSuchEntityException ne) {
+        // The parent schema doesn't exist, so none of the entities under it exists.
+      }
+    }
+    return entities;
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException {
@@ -206,42 +291,50 @@ public class JDBCBackend implements RelationalBackend {
       throw new UnsupportedEntityTypeException(
           "Unsupported entity type: %s for insert operation", e.getClass());
     }
+
+    if (overwritten) {
+      invalidateEntityIdPath(e.nameIdentifier(), e.type());
+    }
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    switch (entityType) {
-      case METALAKE:
-        return (E) MetalakeMetaService.getInstance().updateMetalake(ident, updater);
-      case CATALOG:
-        return (E) CatalogMetaService.getInstance().updateCatalog(ident, updater);
-      case SCHEMA:
-        return (E) SchemaMetaService.getInstance().updateSchema(ident, updater);
-      case TABLE:
-        return (E) TableMetaService.getInstance().updateTable(ident, updater);
-      case FILESET:
-        return (E) FilesetMetaService.getInstance().updateFileset(ident, updater);
-      case TOPIC:
-        return (E) TopicMetaService.getInstance().updateTopic(ident, updater);
-      case USER:
-        return (E) UserMetaService.getInstance().updateUser(ident, updater);
-      case GROUP:
-        return (E) GroupMetaService.getInstance().updateGroup(ident, updater);
-      case ROLE:
-        return (E) RoleMetaService.getInstance().updateRole(ident, updater);
-      case TAG:
-        return (E) TagMetaService.getInstance().updateTag(ident, updater);
-      case MODEL:
-        return (E) ModelMetaService.getInstance().updateModel(ident, updater);
-      case MODEL_VERSION:
-        return (E) ModelVersionMetaService.getInstance().updateModelVersion(ident, updater);
-      case POLICY:
-        return (E) PolicyMetaService.getInstance().updatePolicy(ident, updater);
-      default:
-        throw new UnsupportedEntityTypeException(
-            "Unsupported entity type: %s for update operation", entityType);
+    try {
+      switch (entityType) {
+        case METALAKE:
+          return (E) MetalakeMetaService.getInstance().updateMetalake(ident, updater);
+        case CATALOG:
+          return (E) CatalogMetaService.getInstance().updateCatalog(ident, updater);
+        case SCHEMA:
+          return (E) SchemaMetaService.getInstance().updateSchema(ident, updater);
+        case TABLE:
+          return (E) TableMetaService.getInstance().updateTable(ident, updater);
+        case FILESET:
+          return (E) FilesetMetaService.getInstance().updateFileset(ident, updater);
+        case TOPIC:
+          return (E) TopicMetaService.getInstance().updateTopic(ident, updater);
+        case USER:
+          return (E) UserMetaService.getInstance().updateUser(ident, updater);
+        case GROUP:
+          return (E) GroupMetaService.getInstance().updateGroup(ident, updater);
+        case ROLE:
+          return (E) RoleMetaService.getInstance().updateRole(ident, updater);
+        case TAG:
+          return (E) TagMetaService.getInstance().updateTag(ident, updater);
+        case MODEL:
+          return (E) ModelMetaService.getInstance().updateModel(ident, updater);
+        case MODEL_VERSION:
+          return (E) ModelVersionMetaService.getInstance().updateModelVersion(ident, updater);
+        case POLICY:
+          return (E) PolicyMetaService.getInstance().updatePolicy(ident, updater);
+        default:
+          throw new UnsupportedEntityTypeException(
+              "Unsupported entity type: %s for update operation", entityType);
+      }
+    } finally {
+      invalidateEntityIdPath(ident, entityType);
     }
   }
 
@@ -289,113 +382,105 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
-    switch (entityType) {
-      case METALAKE:
-        return MetalakeMetaService.getInstance().deleteMetalake(ident, cascade);
-      case CATALOG:
-        return CatalogMetaService.getInstance().deleteCatalog(ident, cascade);
-      case SCHEMA:
-        return SchemaMetaService.getInstance().deleteSchema(ident, cascade);
-      case TABLE:
-        return TableMetaService.getInstance().deleteTable(ident);
-      case FILESET:
-        return FilesetMetaService.getInstance().deleteFileset(ident);
-      case TOPIC:
-        return TopicMetaService.getInstance().deleteTopic(ident);
-      case USER:
-        return UserMetaService.getInstance().deleteUser(ident);
-      case GROUP:
-        return GroupMetaService.getInstance().deleteGroup(ident);
-      case ROLE:
-        return RoleMetaService.getInstance().deleteRole(ident);
-      case TAG:
-        return TagMetaService.getInstance().deleteTag(ident);
-      case MODEL:
-        return ModelMetaService.getInstance().deleteModel(ident);
-      case MODEL_VERSION:
-        return ModelVersionMetaService.getInstance().deleteModelVersion(ident);
-      case POLICY:
-        return PolicyMetaService.getInstance().deletePolicy(ident);
-      case JOB_TEMPLATE:
-        return JobTemplateMetaService.getInstance().deleteJobTemplate(ident);
-      case JOB:
-        return JobMetaService.getInstance().deleteJob(ident);
-      default:
-        throw new UnsupportedEntityTypeException(
-            "Unsupported entity type: %s for delete operation", entityType);
+    try {
+      switch (entityType) {
+        case METALAKE:
+          return MetalakeMetaService.getInstance().deleteMetalake(ident, cascade);
+        case CATALOG:
+          return CatalogMetaService.getInstance().deleteCatalog(ident, cascade);
+        case SCHEMA:
+          return SchemaMetaService.getInstance().deleteSchema(ident, cascade);
+        case TABLE:
+          return TableMetaService.getInstance().deleteTable(ident);
+        case FILESET:
+          return FilesetMetaService.getInstance().deleteFileset(ident);
+        case TOPIC:
+          return TopicMetaService.getInstance().deleteTopic(ident);
+        case USER:
+          return UserMetaService.getInstance().deleteUser(ident);
+        case GROUP:
+          return GroupMetaService.getInstance().deleteGroup(ident);
+        case ROLE:
+          return RoleMetaService.getInstance().deleteRole(ident);
+        case TAG:
+          return TagMetaService.getInstance().deleteTag(ident);
+        case MODEL:
+          return ModelMetaService.getInstance().deleteModel(ident);
+        case MODEL_VERSION:
+          return ModelVersionMetaService.getInstance().deleteModelVersion(ident);
+        case POLICY:
+          return PolicyMetaService.getInstance().deletePolicy(ident);
+        case JOB_TEMPLATE:
+          return JobTemplateMetaService.getInstance().deleteJobTemplate(ident);
+        case JOB:
+          return JobMetaService.getInstance().deleteJob(ident);
+        default:
+          throw new UnsupportedEntityTypeException(
+              "Unsupported entity type: %s for delete operation", entityType);
+      }
+    } finally {
+      invalidateEntityIdPath(ident, entityType);
     }
   }
 
   @Override
   public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
       throws IOException {
+    return hardDeleteLegacyData(
+        entityType, legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  @Override
+  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
+      throws IOException {
     switch (entityType) {
       case METALAKE:
         return MetalakeMetaService.getInstance()
-            .deleteMetalakeMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteMetalakeMetasByLegacyTimeline(legacyTimeline, limit);
       case CATALOG:
         return CatalogMetaService.getInstance()
-            .deleteCatalogMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteCatalogMetasByLegacyTimeline(legacyTimeline, limit);
       case SCHEMA:
         return SchemaMetaService.getInstance()
-            .deleteSchemaMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteSchemaMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE:
         return TableMetaService.getInstance()
-            .deleteTableMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTableMetasByLegacyTimeline(legacyTimeline, limit);
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case TOPIC:
         return TopicMetaService.getInstance()
-            .deleteTopicMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTopicMetasByLegacyTimeline(legacyTimeline, limit);
       case USER:
-        return UserMetaService.getInstance()
-            .deleteUserMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return UserMetaService.getInstance().deleteUserMetasByLegacyTimeline(legacyTimeline, limit);
       case GROUP:
         return GroupMetaService.getInstance()
-            .deleteGroupMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteGroupMetasByLegacyTimeline(legacyTimeline, limit);
       case ROLE:
-        return RoleMetaService.getInstance()
-            .deleteRoleMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return RoleMetaService.getInstance().deleteRoleMetasByLegacyTimeline(legacyTimeline, limit);
       case TAG:
-        return TagMetaService.getInstance()
-            .deleteTagMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return TagMetaService.getInstance().deleteTagMetasByLegacyTimeline(legacyTimeline, limit);
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case COLUMN:
         return TableColumnMetaService.getInstance()
-            .deleteColumnsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteColumnsByLegacyTimeline(legacyTimeline, limit);
       case MODEL:
         return ModelMetaService.getInstance()
-            .deleteModelMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelMetasByLegacyTimeline(legacyTimeline, limit);
       case MODEL_VERSION:
         return ModelVersionMetaService.getInstance()
-            .deleteModelVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE_STATISTIC:
         return StatisticMetaService.getInstance()
-            .deleteStatisticsByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteStatisticsByLegacyTimeline(legacyTimeline, limit);
       case JOB_TEMPLATE:
         return JobTemplateMetaService.getInstance()
-            .deleteJobTemplatesByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteJobTemplatesByLegacyTimeline(legacyTimeline, limit);
       case JOB:
-        return JobMetaService.getInstance()
-            .deleteJobsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return JobMetaService.getInstance().deleteJobsByLegacyTimeline(legacyTimeline, limit);
       case AUDIT:
         return 0;
         // TODO: Implement hard delete logic for these entity types.
@@ -409,6 +494,13 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
       throws IOException {
+    return deleteOldVersionData(
+        entityType, versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  @Override
+  public int deleteOldVersionData(
+      Entity.EntityType entityType, long versionRetentionCount, int limit) throws IOException {
     switch (entityType) {
       case METALAKE:
       case CATALOG:
@@ -431,13 +523,11 @@ public class JDBCBackend implements RelationalBackend {
 
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetVersionsByRetentionCount(versionRetentionCount, limit);
 
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyVersionsByRetentionCount(versionRetentionCount, limit);
 
       default:
         throw new IllegalArgumentException(
@@ -447,6 +537,7 @@ public class JDBCBackend implements RelationalBackend {
 
   @Override
   public void close() throws IOException {
+    CommonMetaService.getInstance().close();
     SqlSessionFactoryHelper.getInstance().close();
     SQLExceptionConverterFactory.close();
 
@@ -718,4 +809,16 @@ public class JDBCBackend implements RelationalBackend {
       throw new RuntimeException("Failed to create and initialize JDBCBackend.", e);
     }
   }
+
+  private static Long getSchemaId(NameIdentifier ident) {
+    return CommonMetaService.getInstance().getParentEntityIdByNamespace(ident.namespace());
+  }
+
+  private static void invalidateEntityIdPath(NameIdentifier ident, Entity.EntityType entityType) {
+    if (entityType == Entity.EntityType.METALAKE
+        || entityType == Entity.EntityType.CATALOG
+        || entityType == Entity.EntityType.SCHEMA) {
+      CommonMetaService.getInstance().invalidateEntityIdPath(ident);
+    }
+  }
 }
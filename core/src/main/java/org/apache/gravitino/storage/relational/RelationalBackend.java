@@ -20,8 +20,11 @@ package org.apache.gravitino.storage.relational;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
@@ -29,6 +32,7 @@ import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.tag.SupportsTagOperations;
@@ -64,6 +68,33 @@ public interface RelationalBackend
       Namespace namespace, Entity.EntityType entityType, boolean allFields)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists a page of the entities associated with the given parent namespace and entityType, ordered
+   * by name in {@link Page#NAME_ORDER}.
+   *
+   * <p>The default implementation lists all the entities and returns the requested page of them.
+   *
+   * @param <E> The entity type.
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param afterName The name after which the entities are listed, or null to list from the first.
+   * @param limit The maximum number of entities to list.
+   * @return The list of entities ordered by name.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws NoSuchEntityException, IOException {
+    List<E> entities = list(namespace, entityType, true);
+    return entities.stream()
+        .filter(e -> afterName == null || Page.compareNames(e.name(), afterName) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name, Page.NAME_ORDER))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
@@ -115,6 +146,34 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, Entity.EntityType entityType)
       throws IOException;
 
+  /**
+   * Retrieves the entities associated with the identifiers and the entity type. The entities that
+   * don't exist are skipped.
+   *
+   * <p>The default implementation retrieves the entities one by one.
+   *
+   * @param <E> The type of the entities returned.
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The existing entities associated with the identifiers, the order is not guaranteed.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  default <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    List<E> entities = new ArrayList<>();
+    for (NameIdentifier ident : idents) {
+      try {
+        E entity = get(ident, entityType);
+        if (entity != null) {
+          entities.add(entity);
+        }
+      } catch (NoSuchEntityException e) {
+        // Skip the entity that doesn't exist.
+      }
+    }
+    return entities;
+  }
+
   /**
    * Soft deletes the entity associated with the identifier and the entity type.
    *
@@ -161,6 +220,23 @@ public interface RelationalBackend
    */
   int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline) throws IOException;
 
+  /**
+   * Permanently deletes at most {@code limit} rows of the legacy data that has been marked as
+   * deleted before the given legacy timeline.
+   *
+   * <p>The default implementation ignores the limit and uses the backend's own batch size.
+   *
+   * @param entityType The type of the entity.
+   * @param legacyTimeline The time before which the data has been marked as deleted.
+   * @param limit The maximum count of the data to delete.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  default int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
+      throws IOException {
+    return hardDeleteLegacyData(entityType, legacyTimeline);
+  }
+
   /**
    * Soft deletes the old version data that is older than or equal to the given version retention
    * count.
@@ -172,4 +248,21 @@ public interface RelationalBackend
    */
   int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
       throws IOException;
+
+  /**
+   * Soft deletes at most {@code limit} rows of the old version data that is older than or equal to
+   * the given version retention count.
+   *
+   * <p>The default implementation ignores the limit and uses the backend's own batch size.
+   *
+   * @param entityType The type of the entity.
+   * @param versionRetentionCount The count of versions to retain.
+   * @param limit The maximum count of the data to delete.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  default int deleteOldVersionData(
+      Entity.EntityType entityType, long versionRetentionCount, int limit) throws IOException {
+    return deleteOldVersionData(entityType, versionRetentionCount);
+  }
 }
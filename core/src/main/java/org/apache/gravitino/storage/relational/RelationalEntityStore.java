@@ -21,10 +21,16 @@ package org.apache.gravitino.storage.relational;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -38,6 +44,7 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.cache.CacheFactory;
 import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.cache.NegativeEntityCache;
 import org.apache.gravitino.cache.NoOpsCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TagEntity;
@@ -60,6 +67,8 @@ public class RelationalEntityStore
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
   private EntityCache cache;
+  // The negative lookup cache, null if it's disabled
+  private NegativeEntityCache negativeCache;
 
   @Override
   public void initialize(Config config) throws RuntimeException {
@@ -70,6 +79,8 @@ public class RelationalEntityStore
         config.get(Configs.CACHE_ENABLED)
             ? CacheFactory.getEntityCache(config)
             : new NoOpsCache(config);
+    this.negativeCache =
+        config.get(Configs.CACHE_NEGATIVE_ENABLED) ? new NegativeEntityCache(config) : null;
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -93,26 +104,59 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType, false);
+    return list(namespace, type, entityType, false);
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType, boolean allFields)
       throws IOException {
-    return backend.list(namespace, entityType, allFields);
+    if (negativeCache == null) {
+      return backend.list(namespace, entityType, allFields);
+    }
+
+    long stamp = negativeCache.writeStamp();
+    List<E> entities = backend.list(namespace, entityType, allFields);
+    negativeCache.recordListing(namespace, entityType, entities, stamp);
+
+    return entities;
+  }
+
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, Entity.EntityType entityType, String afterName, int limit)
+      throws IOException {
+    // A page isn't a complete listing, so it isn't recorded in the negative cache.
+    return backend.list(namespace, entityType, afterName, limit);
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
-    boolean existsInCache = cache.contains(ident, entityType);
-    return existsInCache || backend.exists(ident, entityType);
+    if (cache.contains(ident, entityType)) {
+      return true;
+    }
+
+    if (negativeCache == null) {
+      return backend.exists(ident, entityType);
+    }
+
+    if (negativeCache.isAbsent(ident, entityType)) {
+      return false;
+    }
+
+    long stamp = negativeCache.writeStamp();
+    boolean exists = backend.exists(ident, entityType);
+    if (!exists) {
+      negativeCache.recordAbsent(ident, entityType, stamp);
+    }
+    return exists;
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
     backend.insert(e, overwritten);
+    invalidateNegativeCache(e);
     cache.put(e);
   }
 
@@ -121,7 +165,9 @@ public class RelationalEntityStore
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     cache.invalidate(ident, entityType);
-    return backend.update(ident, entityType, updater);
+    E updatedEntity = backend.update(ident, entityType, updater);
+    invalidateNegativeCache(updatedEntity);
+    return updatedEntity;
   }
 
   @Override
@@ -129,18 +175,77 @@ public class RelationalEntityStore
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
     return cache.withCacheLock(
+        ident,
         () -> {
           Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
           if (entityFromCache.isPresent()) {
             return entityFromCache.get();
           }
 
-          E entity = backend.get(ident, entityType);
-          cache.put(entity);
-          return entity;
+          if (negativeCache == null) {
+            E entity = backend.get(ident, entityType);
+            cache.put(entity);
+            return entity;
+          }
+
+          if (negativeCache.isAbsent(ident, entityType)) {
+            throw new NoSuchEntityException(
+                NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+                entityType.name().toLowerCase(Locale.ROOT),
+                ident);
+          }
+
+          long stamp = negativeCache.writeStamp();
+          try {
+            E entity = backend.get(ident, entityType);
+            cache.put(entity);
+            return entity;
+          } catch (NoSuchEntityException nse) {
+            negativeCache.recordAbsent(ident, entityType, stamp);
+            throw nse;
+          }
         });
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> batchGet(
+      List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> e) throws IOException {
+    // Serve the cached entities and the known absent ones from the caches, and only fetch the
+    // misses from the backend in batch.
+    Map<NameIdentifier, E> entities = Maps.newHashMap();
+    List<NameIdentifier> misses = Lists.newArrayList();
+    for (NameIdentifier ident : idents) {
+      Optional<E> entityFromCache = cache.getIfPresent(ident, entityType);
+      if (entityFromCache.isPresent()) {
+        entities.put(ident, entityFromCache.get());
+      } else if (negativeCache == null || !negativeCache.isAbsent(ident, entityType)) {
+        misses.add(ident);
+      }
+    }
+
+    if (!misses.isEmpty()) {
+      long stamp = negativeCache == null ? 0L : negativeCache.writeStamp();
+      List<E> entitiesFromBackend = backend.batchGet(misses, entityType);
+      for (E entity : entitiesFromBackend) {
+        cache.put(entity);
+        entities.put(entity.nameIdentifier(), entity);
+      }
+
+      if (negativeCache != null) {
+        misses.stream()
+            .filter(ident -> !entities.containsKey(ident))
+            .forEach(ident -> negativeCache.recordAbsent(ident, entityType, stamp));
+      }
+    }
+
+    // Keep the order of the identifiers.
+    return idents.stream()
+        .distinct()
+        .map(entities::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -160,6 +265,9 @@ public class RelationalEntityStore
   @Override
   public void close() throws IOException {
     cache.clear();
+    if (negativeCache != null) {
+      negativeCache.close();
+    }
     garbageCollector.close();
     backend.close();
   }
@@ -210,6 +318,7 @@ public class RelationalEntityStore
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
     return cache.withCacheLock(
+        nameIdentifier,
         () -> {
           Optional<List<E>> entities = cache.getIfPresent(relType, nameIdentifier, identType);
           if (entities.isPresent()) {
@@ -273,5 +382,12 @@ public class RelationalEntityStore
   public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
     backend.batchPut(entities, overwritten);
+    entities.forEach(this::invalidateNegativeCache);
+  }
+
+  private <E extends Entity & HasIdentifier> void invalidateNegativeCache(E entity) {
+    if (negativeCache != null) {
+      negativeCache.invalidate(entity.nameIdentifier(), entity.type());
+    }
   }
 }
@@ -19,28 +19,87 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.STORE_GC_MAX_CONNECTION_USAGE;
+import static org.apache.gravitino.Configs.STORE_GC_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.STORE_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.STORE_GC_TARGET_BATCH_LATENCY_MS;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityStoreGCMetricsSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * The garbage collector of the relational entity store. It physically deletes the legacy data and
+ * softly deletes the old version data of all the entity types periodically.
+ *
+ * <p>The entity types are cleaned in parallel in batches. The batch size of each entity type grows
+ * while the deletion statements are faster than the target latency and shrinks when they are
+ * slower, the deleted rows of all the entity types are throttled by a rows-per-second budget, and
+ * the deletion pauses while the connection pool of the backend is saturated, so that the garbage
+ * collection doesn't starve the metadata operations.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
+
+  @VisibleForTesting static final int MIN_BATCH_SIZE = 10;
+  @VisibleForTesting static final int MAX_BATCH_SIZE = 10_000;
+  private static final long PAUSE_INTERVAL_MS = 1000L;
+
   private final RelationalBackend backend;
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final long targetBatchLatencyMs;
+  private final double maxConnectionUsage;
+  private final int maxBatchSize;
+  private final DoubleSupplier connectionUsage;
+  // Null if the deletion rate is unlimited
+  private final RateLimiter rateLimiter;
+
+  // The batch sizes learned by the previous runs
+  private final Map<Entity.EntityType, Integer> legacyBatchSizes = new ConcurrentHashMap<>();
+  private final Map<Entity.EntityType, Integer> oldVersionBatchSizes = new ConcurrentHashMap<>();
+
+  // The count of the entity types whose garbage is not drained yet in the current run
+  private final AtomicInteger drainingEntityTypes = new AtomicInteger();
+  private final MetricsSource metricsSource;
+  private final Counter deletedLegacyRows;
+  private final Counter deletedOldVersionRows;
+  private final Counter pauses;
+  private final Timer batchTimer;
+  private volatile boolean closed = false;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
@@ -53,10 +112,58 @@ public final class RelationalGarbageCollector implements Closeable {
           },
           new ThreadPoolExecutor.AbortPolicy());
 
+  private final ExecutorService deletionPool;
+
   public RelationalGarbageCollector(RelationalBackend backend, Config config) {
+    this(backend, config, SqlSessionFactoryHelper.getInstance()::getConnectionUsage);
+  }
+
+  @VisibleForTesting
+  RelationalGarbageCollector(
+      RelationalBackend backend, Config config, DoubleSupplier connectionUsage) {
     this.backend = backend;
+    this.connectionUsage = connectionUsage;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    targetBatchLatencyMs = config.get(STORE_GC_TARGET_BATCH_LATENCY_MS);
+    maxConnectionUsage = config.get(STORE_GC_MAX_CONNECTION_USAGE);
+
+    long maxRowsPerSecond = config.get(STORE_GC_MAX_ROWS_PER_SECOND);
+    rateLimiter = maxRowsPerSecond > 0 ? RateLimiter.create(maxRowsPerSecond) : null;
+    // A batch shouldn't be larger than the rows allowed in a second, otherwise the rate limiter
+    // has to block for a long time after it.
+    maxBatchSize =
+        maxRowsPerSecond > 0
+            ? (int) Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, maxRowsPerSecond))
+            : MAX_BATCH_SIZE;
+
+    int parallelism = config.get(STORE_GC_PARALLELISM);
+    deletionPool =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("RelationalBackend-Garbage-Deleter-%d")
+                .build());
+
+    metricsSource = new EntityStoreGCMetricsSource();
+    deletedLegacyRows = metricsSource.getCounter(MetricNames.ENTITY_STORE_GC_DELETED_LEGACY_ROWS);
+    deletedOldVersionRows =
+        metricsSource.getCounter(MetricNames.ENTITY_STORE_GC_DELETED_OLD_VERSION_ROWS);
+    pauses = metricsSource.getCounter(MetricNames.ENTITY_STORE_GC_PAUSES);
+    batchTimer = metricsSource.getTimer(MetricNames.ENTITY_STORE_GC_BATCH_DURATION);
+    metricsSource.registerGauge(
+        MetricNames.ENTITY_STORE_GC_DRAINING_ENTITY_TYPES,
+        (Gauge<Integer>) drainingEntityTypes::get);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    // The metrics system is not initialized in some test environments
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   public void start() {
@@ -76,36 +183,22 @@ public final class RelationalGarbageCollector implements Closeable {
     try {
       LOG.debug("Start to collect and delete legacy data by thread {}", threadId);
       long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
-        }
-      }
+      deleteInParallel(
+          "legacy",
+          legacyBatchSizes,
+          deletedLegacyRows,
+          (entityType, limit) -> backend.hardDeleteLegacyData(entityType, legacyTimeline, limit));
 
       LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
-        }
-      }
+      deleteInParallel(
+          "old version",
+          oldVersionBatchSizes,
+          deletedOldVersionRows,
+          (entityType, limit) ->
+              backend.deleteOldVersionData(entityType, versionRetentionCount, limit));
+    } catch (InterruptedException e) {
+      LOG.warn("Thread {} is interrupted while collecting garbage.", threadId);
+      Thread.currentThread().interrupt();
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
@@ -113,16 +206,113 @@ public final class RelationalGarbageCollector implements Closeable {
     }
   }
 
+  private void deleteInParallel(
+      String dataKind,
+      Map<Entity.EntityType, Integer> batchSizes,
+      Counter deletedRows,
+      Deletion deletion)
+      throws InterruptedException {
+    List<Callable<Void>> tasks = Lists.newArrayList();
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      tasks.add(
+          () -> {
+            deleteAll(dataKind, entityType, batchSizes, deletedRows, deletion);
+            return null;
+          });
+    }
+
+    drainingEntityTypes.addAndGet(tasks.size());
+    deletionPool.invokeAll(tasks);
+  }
+
+  private void deleteAll(
+      String dataKind,
+      Entity.EntityType entityType,
+      Map<Entity.EntityType, Integer> batchSizes,
+      Counter deletedRows,
+      Deletion deletion) {
+    LOG.debug("Try to delete {} data of type {}", dataKind, entityType);
+    int batchSize = batchSizes.getOrDefault(entityType, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+    try {
+      int deletedCount = Integer.MAX_VALUE;
+      while (deletedCount > 0 && !closed) {
+        waitForConnections();
+
+        long startNanos = System.nanoTime();
+        try (Timer.Context ignored = batchTimer.time()) {
+          deletedCount = deletion.delete(entityType, batchSize);
+        }
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        deletedRows.inc(deletedCount);
+        if (rateLimiter != null && deletedCount > 0) {
+          rateLimiter.acquire(deletedCount);
+        }
+        batchSize = adjustBatchSize(batchSize, deletedCount, latencyMs);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to delete {} data of type {}: ", dataKind, entityType, e);
+    } finally {
+      batchSizes.put(entityType, batchSize);
+      drainingEntityTypes.decrementAndGet();
+    }
+  }
+
+  private void waitForConnections() throws InterruptedException {
+    while (!closed && connectionUsage.getAsDouble() >= maxConnectionUsage) {
+      pauses.inc();
+      LOG.debug("The connection pool of the backend is saturated, pause the garbage collection");
+      Thread.sleep(PAUSE_INTERVAL_MS);
+    }
+  }
+
+  @VisibleForTesting
+  int adjustBatchSize(int batchSize, int deletedCount, long latencyMs) {
+    if (latencyMs > targetBatchLatencyMs) {
+      return Math.max(MIN_BATCH_SIZE, batchSize / 2);
+    }
+
+    // Only grow the batch size when the batch is full, which means there may be more garbage.
+    if (deletedCount >= batchSize && latencyMs * 2 < targetBatchLatencyMs) {
+      return Math.min(maxBatchSize, batchSize * 2);
+    }
+
+    return batchSize;
+  }
+
+  @VisibleForTesting
+  int drainingEntityTypes() {
+    return drainingEntityTypes.get();
+  }
+
   @Override
   public void close() throws IOException {
-    this.garbageCollectorPool.shutdown();
+    closed = true;
+    shutdown(garbageCollectorPool);
+    shutdown(deletionPool);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private static void shutdown(ExecutorService pool) {
+    pool.shutdown();
     try {
-      if (!this.garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS)) {
-        this.garbageCollectorPool.shutdownNow();
+      if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+        pool.shutdownNow();
       }
     } catch (InterruptedException ex) {
-      this.garbageCollectorPool.shutdownNow();
+      pool.shutdownNow();
       Thread.currentThread().interrupt();
     }
   }
+
+  @FunctionalInterface
+  private interface Deletion {
+    int delete(Entity.EntityType entityType, int limit) throws IOException;
+  }
 }
@@ -56,10 +56,22 @@ public class FilesetMetaSQLProviderFactory {
     return getProvider().listFilesetPOsBySchemaId(schemaId);
   }
 
+  public static String listFilesetPOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit) {
+    return getProvider().listFilesetPOsBySchemaIdAfterName(schemaId, afterName, limit);
+  }
+
   public static String listFilesetPOsByFilesetIds(@Param("filesetIds") List<Long> filesetIds) {
     return getProvider().listFilesetPOsByFilesetIds(filesetIds);
   }
 
+  public static String listFilesetPOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("filesetNames") List<String> filesetNames) {
+    return getProvider().listFilesetPOsBySchemaIdAndNames(schemaId, filesetNames);
+  }
+
   public static String selectFilesetIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("filesetName") String name) {
     return getProvider().selectFilesetIdBySchemaIdAndName(schemaId, name);
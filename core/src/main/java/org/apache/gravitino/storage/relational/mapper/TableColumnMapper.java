@@ -36,6 +36,9 @@ public interface TableColumnMapper {
   List<ColumnPO> listColumnPOsByTableIdAndVersion(
       @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
 
+  @SelectProvider(type = TableColumnSQLProviderFactory.class, method = "listColumnPOsByTableIds")
+  List<ColumnPO> listColumnPOsByTableIds(@Param("tableIds") List<Long> tableIds);
+
   @InsertProvider(type = TableColumnSQLProviderFactory.class, method = "insertColumnPOs")
   void insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs);
 
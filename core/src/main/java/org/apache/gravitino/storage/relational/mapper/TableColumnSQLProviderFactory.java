@@ -57,6 +57,10 @@ public class TableColumnSQLProviderFactory {
     return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
   }
 
+  public static String listColumnPOsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return getProvider().listColumnPOsByTableIds(tableIds);
+  }
+
   public static String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return getProvider().insertColumnPOs(columnPOs);
   }
@@ -59,6 +59,11 @@ public class TableMetaSQLProviderFactory {
     return getProvider().listTablePOsByTableIds(tableIds);
   }
 
+  public static String listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return getProvider().listTablePOsBySchemaIdAndNames(schemaId, tableNames);
+  }
+
   public static String selectTableIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name) {
     return getProvider().selectTableIdBySchemaIdAndName(schemaId, name);
@@ -36,6 +36,26 @@ public class SchemaMetaBaseSQLProvider {
         + " WHERE catalog_id = #{catalogId} AND deleted_at = 0";
   }
 
+  public String listSchemaPOsByCatalogIdAfterName(
+      @Param("catalogId") Long catalogId,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit) {
+    return "<script>"
+        + "SELECT schema_id as schemaId, schema_name as schemaName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_comment as schemaComment, properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE catalog_id = #{catalogId} AND deleted_at = 0"
+        + "<if test='afterName != null'>"
+        + " AND schema_name &gt; #{afterName}"
+        + "</if>"
+        + " ORDER BY schema_name LIMIT #{limit}"
+        + "</script>";
+  }
+
   public String listSchemaPOsBySchemaIds(@Param("schemaIds") List<Long> schemaIds) {
     return "<script>"
         + "SELECT schema_id as schemaId, schema_name as schemaName,"
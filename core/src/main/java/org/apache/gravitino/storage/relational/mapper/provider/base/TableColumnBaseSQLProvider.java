@@ -48,6 +48,27 @@ public class TableColumnBaseSQLProvider {
         + " AND t1.table_id = #{tableId}";
   }
 
+  public String listColumnPOsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + "SELECT column_id AS columnId, column_name AS columnName,"
+        + " column_position AS columnPosition,"
+        + " metalake_id AS metalakeId, catalog_id AS catalogId,"
+        + " schema_id AS schemaId, table_id AS tableId,"
+        + " table_version AS tableVersion, column_type AS columnType,"
+        + " column_comment AS columnComment, column_nullable AS nullable,"
+        + " column_auto_increment AS autoIncrement,"
+        + " column_default_value AS defaultValue, column_op_type AS columnOpType,"
+        + " deleted_at AS deletedAt, audit_info AS auditInfo"
+        + " FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " WHERE deleted_at = 0 AND table_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + ")"
+        + "</script>";
+  }
+
   public String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return "<script>"
         + "INSERT INTO "
@@ -19,8 +19,15 @@
 
 package org.apache.gravitino.storage.relational.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.storage.relational.helper.CatalogIds;
@@ -34,64 +41,99 @@ public class CommonMetaService {
     return INSTANCE;
   }
 
+  // The cache of namespace to the IDs along its path, null if it's disabled.
+  private volatile Cache<Namespace, Long[]> entityIdPathCache;
+
+  // Bumped by every invalidation, so that the IDs loaded before an invalidation are not cached.
+  private final AtomicLong entityIdPathGeneration = new AtomicLong();
+
   private CommonMetaService() {}
 
+  /**
+   * Initializes the ID path cache, which maps a namespace to the IDs of the metalake, catalog and
+   * schema along its path.
+   *
+   * @param config The configuration of the entity store
+   */
+  public void initialize(Config config) {
+    this.entityIdPathCache =
+        config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)
+            ? Caffeine.newBuilder()
+                .maximumSize(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_MAX_ENTRIES))
+                .expireAfterWrite(
+                    config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRATION_TIME),
+                    TimeUnit.MILLISECONDS)
+                .build()
+            : null;
+  }
+
+  public void close() {
+    Cache<Namespace, Long[]> cache = entityIdPathCache;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+    this.entityIdPathCache = null;
+  }
+
+  /**
+   * Invalidates the cached ID paths going through the given metalake, catalog or schema. It must
+   * be called when the entity is renamed, dropped or overwritten.
+   *
+   * @param ident The identifier of the metalake, catalog or schema
+   */
+  public void invalidateEntityIdPath(NameIdentifier ident) {
+    Cache<Namespace, Long[]> cache = entityIdPathCache;
+    if (cache == null) {
+      return;
+    }
+
+    entityIdPathGeneration.incrementAndGet();
+    String identStr = ident.toString();
+    cache
+        .asMap()
+        .keySet()
+        .removeIf(
+            namespace -> {
+              String namespaceStr = namespace.toString();
+              return namespaceStr.equals(identStr) || namespaceStr.startsWith(identStr + ".");
+            });
+  }
+
   public Long getParentEntityIdByNamespace(Namespace namespace) {
+    Long[] parentEntityIds = getParentEntityIdsByNamespace(namespace);
+    return parentEntityIds[parentEntityIds.length - 1];
+  }
+
+  public Long[] getParentEntityIdsByNamespace(Namespace namespace) {
     Preconditions.checkArgument(
         !namespace.isEmpty() && namespace.levels().length <= 3,
         "Namespace should not be empty and length should be less than or equal to 3.");
 
-    int length = namespace.levels().length;
-    Long parentEntityId;
-    switch (length) {
-      case 1:
-        // Parent is a metalake
-        parentEntityId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
-        if (parentEntityId == null) {
-          throw new NoSuchEntityException(
-              NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
-              Entity.EntityType.METALAKE.name().toLowerCase(),
-              namespace);
-        }
-
-        return parentEntityId;
-      case 2:
-        // Parent is a catalog
-        CatalogIds catalogIds =
-            CatalogMetaService.getInstance()
-                .getCatalogIdByMetalakeAndCatalogName(namespace.level(0), namespace.level(1));
-        parentEntityId = catalogIds == null ? null : catalogIds.getCatalogId();
-        if (parentEntityId == null) {
-          throw new NoSuchEntityException(
-              NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
-              Entity.EntityType.CATALOG.name().toLowerCase(),
-              namespace);
-        }
+    Cache<Namespace, Long[]> cache = entityIdPathCache;
+    if (cache == null) {
+      return loadParentEntityIdsByNamespace(namespace);
+    }
 
-        return parentEntityId;
-      case 3:
-        // Parent is a schema
-        SchemaIds schemaIds =
-            SchemaMetaService.getInstance()
-                .getSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
-                    namespace.level(0), namespace.level(1), namespace.level(2));
-        parentEntityId = schemaIds == null ? null : schemaIds.getSchemaId();
-        if (parentEntityId == null) {
-          throw new NoSuchEntityException(
-              NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
-              Entity.EntityType.SCHEMA.name().toLowerCase(),
-              namespace);
+    Long[] parentEntityIds = cache.getIfPresent(namespace);
+    if (parentEntityIds == null) {
+      // Don't load the IDs inside the cache computation to avoid blocking other namespaces while
+      // querying the backend. An entity on the path may be dropped or renamed while loading, so
+      // the loaded IDs are only cached if no invalidation happened since the load started, and are
+      // withdrawn if an invalidation slipped in between the check and the put.
+      long generation = entityIdPathGeneration.get();
+      parentEntityIds = loadParentEntityIdsByNamespace(namespace);
+      if (entityIdPathGeneration.get() == generation) {
+        cache.put(namespace, parentEntityIds);
+        if (entityIdPathGeneration.get() != generation) {
+          cache.asMap().remove(namespace, parentEntityIds);
         }
-        return parentEntityId;
-      default:
-        throw new IllegalArgumentException("Namespace length should be less than or equal to 3.");
+      }
     }
+
+    return parentEntityIds.clone();
   }
 
-  public Long[] getParentEntityIdsByNamespace(Namespace namespace) {
-    Preconditions.checkArgument(
-        !namespace.isEmpty() && namespace.levels().length <= 3,
-        "Namespace should not be empty and length should be less than or equal to 3.");
+  private Long[] loadParentEntityIdsByNamespace(Namespace namespace) {
     Long[] parentEntityIds = new Long[namespace.levels().length];
 
     int length = namespace.levels().length;
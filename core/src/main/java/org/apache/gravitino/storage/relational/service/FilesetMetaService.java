@@ -18,8 +18,11 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -56,6 +59,9 @@ public class FilesetMetaService {
 
   private static final Logger LOG = LoggerFactory.getLogger(FilesetMetaService.class);
 
+  // The max number of the names in the "IN" list of a batch query.
+  @VisibleForTesting static final int MAX_NAMES_PER_QUERY = 500;
+
   public static FilesetMetaService getInstance() {
     return INSTANCE;
   }
@@ -113,6 +119,28 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPO(filesetPO, identifier.namespace());
   }
 
+  public List<FilesetEntity> batchGetFilesetsByNamespaceAndNames(
+      Namespace namespace, List<String> filesetNames) {
+    NamespaceUtil.checkFileset(namespace);
+    if (filesetNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    // Query the names in chunks to keep the "IN" list under the bind parameter limits of the
+    // backends.
+    List<FilesetEntity> filesets = Lists.newArrayListWithCapacity(filesetNames.size());
+    for (List<String> names : Lists.partition(filesetNames, MAX_NAMES_PER_QUERY)) {
+      List<FilesetPO> filesetPOs =
+          SessionUtils.getWithoutCommit(
+              FilesetMetaMapper.class,
+              mapper -> mapper.listFilesetPOsBySchemaIdAndNames(schemaId, names));
+      filesets.addAll(POConverters.fromFilesetPOs(filesetPOs, namespace));
+    }
+    return filesets;
+  }
+
   public List<FilesetEntity> listFilesetsByNamespace(Namespace namespace) {
     NamespaceUtil.checkFileset(namespace);
 
@@ -125,6 +153,20 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPOs(filesetPOs, namespace);
   }
 
+  public List<FilesetEntity> listFilesetsByNamespace(
+      Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkFileset(namespace);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<FilesetPO> filesetPOs =
+        SessionUtils.getWithoutCommit(
+            FilesetMetaMapper.class,
+            mapper -> mapper.listFilesetPOsBySchemaIdAfterName(schemaId, afterName, limit));
+
+    return POConverters.fromFilesetPOs(filesetPOs, namespace);
+  }
+
   public void insertFileset(FilesetEntity filesetEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkFileset(filesetEntity.nameIdentifier());
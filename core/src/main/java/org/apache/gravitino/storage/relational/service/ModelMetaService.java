@@ -75,6 +75,19 @@ public class ModelMetaService {
     return modelPOs.stream().map(m -> POConverters.fromModelPO(m, ns)).collect(Collectors.toList());
   }
 
+  public List<ModelEntity> listModelsByNamespace(Namespace ns, String afterName, int limit) {
+    NamespaceUtil.checkModel(ns);
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(ns);
+
+    List<ModelPO> modelPOs =
+        SessionUtils.getWithoutCommit(
+            ModelMetaMapper.class,
+            mapper -> mapper.listModelPOsBySchemaIdAfterName(schemaId, afterName, limit));
+
+    return modelPOs.stream().map(m -> POConverters.fromModelPO(m, ns)).collect(Collectors.toList());
+  }
+
   public ModelEntity getModelByIdentifier(NameIdentifier ident) {
     ModelPO modelPO = getModelPOByIdentifier(ident);
     return POConverters.fromModelPO(modelPO, ident.namespace());
@@ -134,6 +134,19 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
+  public List<SchemaEntity> listSchemasByNamespace(
+      Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkSchema(namespace);
+
+    Long catalogId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    List<SchemaPO> schemaPOs =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper -> mapper.listSchemaPOsByCatalogIdAfterName(catalogId, afterName, limit));
+    return POConverters.fromSchemaPOs(schemaPOs, namespace);
+  }
+
   public void insertSchema(SchemaEntity schemaEntity, boolean overwrite) throws IOException {
     try {
       NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
@@ -19,7 +19,9 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -57,6 +59,46 @@ public class TableColumnMetaService {
         .collect(Collectors.toList());
   }
 
+  Map<Long, List<ColumnPO>> getColumnsByTableIdsAndVersions(Map<Long, Long> tableVersions) {
+    if (tableVersions.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    List<ColumnPO> columnPOs =
+        SessionUtils.getWithoutCommit(
+            TableColumnMapper.class,
+            mapper -> mapper.listColumnPOsByTableIds(Lists.newArrayList(tableVersions.keySet())));
+
+    // Keep the latest version of each column that is not newer than the table version, which is
+    // the same as what "listColumnPOsByTableIdAndVersion" does for a single table.
+    Map<Long, Map<Long, ColumnPO>> latestColumns = new LinkedHashMap<>();
+    for (ColumnPO columnPO : columnPOs) {
+      Long tableVersion = tableVersions.get(columnPO.getTableId());
+      if (tableVersion == null || columnPO.getTableVersion() > tableVersion) {
+        continue;
+      }
+
+      latestColumns
+          .computeIfAbsent(columnPO.getTableId(), k -> new LinkedHashMap<>())
+          .merge(
+              columnPO.getColumnId(),
+              columnPO,
+              (c1, c2) -> c1.getTableVersion() >= c2.getTableVersion() ? c1 : c2);
+    }
+
+    // Filter out the deleted columns
+    Map<Long, List<ColumnPO>> result = Maps.newHashMap();
+    for (Long tableId : tableVersions.keySet()) {
+      Map<Long, ColumnPO> columns = latestColumns.getOrDefault(tableId, Collections.emptyMap());
+      result.put(
+          tableId,
+          columns.values().stream()
+              .filter(c -> c.getColumnOpType() != ColumnPO.ColumnOpType.DELETE.value())
+              .collect(Collectors.toList()));
+    }
+    return result;
+  }
+
   Long getColumnIdByTableIdAndName(Long tableId, String columnName) {
     Long columnId =
         SessionUtils.getWithoutCommit(
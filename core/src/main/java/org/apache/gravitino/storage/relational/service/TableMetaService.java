@@ -18,13 +18,18 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
@@ -50,6 +55,9 @@ import org.apache.gravitino.utils.NamespaceUtil;
 public class TableMetaService {
   private static final TableMetaService INSTANCE = new TableMetaService();
 
+  // The max number of the names in the "IN" list of a batch query.
+  @VisibleForTesting static final int MAX_NAMES_PER_QUERY = 500;
+
   public static TableMetaService getInstance() {
     return INSTANCE;
   }
@@ -93,6 +101,38 @@ public class TableMetaService {
     return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, identifier.namespace());
   }
 
+  public List<TableEntity> batchGetTablesByNamespaceAndNames(
+      Namespace namespace, List<String> tableNames) {
+    NamespaceUtil.checkTable(namespace);
+    if (tableNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(namespace);
+
+    // Query the names in chunks to keep the "IN" lists of the table and column queries under the
+    // bind parameter limits of the backends.
+    List<TableEntity> tables = Lists.newArrayListWithCapacity(tableNames.size());
+    for (List<String> names : Lists.partition(tableNames, MAX_NAMES_PER_QUERY)) {
+      List<TablePO> tablePOs =
+          SessionUtils.getWithoutCommit(
+              TableMetaMapper.class,
+              mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, names));
+      Map<Long, Long> tableVersions =
+          tablePOs.stream()
+              .collect(Collectors.toMap(TablePO::getTableId, TablePO::getCurrentVersion));
+      Map<Long, List<ColumnPO>> columnPOs =
+          TableColumnMetaService.getInstance().getColumnsByTableIdsAndVersions(tableVersions);
+
+      tablePOs.forEach(
+          tablePO ->
+              tables.add(
+                  POConverters.fromTableAndColumnPOs(
+                      tablePO, columnPOs.get(tablePO.getTableId()), namespace)));
+    }
+    return tables;
+  }
+
   public List<TableEntity> listTablesByNamespace(Namespace namespace) {
     NamespaceUtil.checkTable(namespace);
 
@@ -125,6 +125,24 @@ public class SqlSessionFactoryHelper {
     return sqlSessionFactory;
   }
 
+  /**
+   * Returns the ratio of the active connections to the maximum connections of the data source,
+   * which are the same figures reported by {@link RelationDatasourceMetricsSource}.
+   *
+   * @return The connection usage in [0, 1], or 0 if the data source is not initialized.
+   */
+  public double getConnectionUsage() {
+    SqlSessionFactory factory = sqlSessionFactory;
+    if (factory == null) {
+      return 0;
+    }
+
+    BasicDataSource dataSource =
+        (BasicDataSource) factory.getConfiguration().getEnvironment().getDataSource();
+    int maxTotal = dataSource.getMaxTotal();
+    return maxTotal <= 0 ? 0 : (double) dataSource.getNumActive() / maxTotal;
+  }
+
   public void close() {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
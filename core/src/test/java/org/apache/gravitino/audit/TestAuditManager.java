@@ -22,14 +22,22 @@ package org.apache.gravitino.audit;
 import static org.apache.gravitino.audit.AuditLog.Operation;
 import static org.apache.gravitino.audit.AuditLog.Status;
 
+import com.google.common.collect.ImmutableMap;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.NameIdentifier;
@@ -40,6 +48,7 @@ import org.apache.gravitino.listener.EventBus;
 import org.apache.gravitino.listener.EventListenerManager;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.FailureEvent;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -143,11 +152,14 @@ public class TestAuditManager {
 
     FileAuditWriter fileAuditWriter = (FileAuditWriter) auditLogManager.getAuditLogWriter();
     String fileName = fileAuditWriter.fileName;
-    try {
-      fileAuditWriter.outWriter.flush();
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    // The audit log is written by the writer thread asynchronously
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(
+            () -> {
+              fileAuditWriter.flush();
+              return readAuditLog(fileName) != null;
+            });
 
     String auditLog = readAuditLog(fileName);
     Formatter formatter = fileAuditWriter.getFormatter();
@@ -176,15 +188,123 @@ public class TestAuditManager {
 
     FileAuditWriter fileAuditWriter = (FileAuditWriter) auditLogManager.getAuditLogWriter();
     String fileName = fileAuditWriter.fileName;
-    try {
-      fileAuditWriter.outWriter.flush();
-    } catch (IOException e) {
-      throw new RuntimeException(e);
-    }
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(
+            () -> {
+              fileAuditWriter.flush();
+              return getAuditSize(fileName) == EVENT_NUM;
+            });
     long auditSize = getAuditSize(fileName);
     Assertions.assertEquals(EVENT_NUM, auditSize);
   }
 
+  @Test
+  public void testRotateAndCompressAuditLog() throws IOException {
+    String rotatedFileName = "gravitino_audit_rotate.log";
+    Path logDir = logPath.getParent();
+    FileAuditWriter fileAuditWriter = new FileAuditWriter();
+    fileAuditWriter.init(
+        new SimpleFormatterV2(),
+        ImmutableMap.of(
+            "fileName",
+            rotatedFileName,
+            "append",
+            "false",
+            "immediateFlush",
+            "true",
+            "rotateSizeMB",
+            "1",
+            "compression",
+            "gzip"));
+    try {
+      Formatter formatter = fileAuditWriter.getFormatter();
+      for (int i = 0; i < 10 * EVENT_NUM; i++) {
+        fileAuditWriter.write(mockDummyEvent());
+      }
+
+      // The rotated files are compressed in the background
+      Awaitility.await()
+          .atMost(30, TimeUnit.SECONDS)
+          .until(() -> !listRotatedFiles(logDir, rotatedFileName, ".gz").isEmpty());
+
+      Path compressedFile = listRotatedFiles(logDir, rotatedFileName, ".gz").get(0);
+      try (BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(
+                  new GZIPInputStream(Files.newInputStream(compressedFile)),
+                  StandardCharsets.UTF_8))) {
+        // Skip the timestamp
+        String expected = formatter.format(mockDummyEvent()).toString();
+        String actual = reader.readLine();
+        Assertions.assertEquals(
+            expected.substring(expected.indexOf('\t')), actual.substring(actual.indexOf('\t')));
+      }
+    } finally {
+      fileAuditWriter.close();
+      for (Path file : listRotatedFiles(logDir, rotatedFileName, "")) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
+  @Test
+  public void testKeepWritingAfterFailedRotation() throws IOException {
+    String rotatedFileName = "gravitino_audit_failed_rotate.log";
+    Path logDir = logPath.getParent();
+    AtomicInteger moveAttempts = new AtomicInteger();
+    FileAuditWriter fileAuditWriter =
+        new FileAuditWriter() {
+          @Override
+          void moveFile(File source, File target) throws IOException {
+            // Fail the first rotation
+            if (moveAttempts.getAndIncrement() == 0) {
+              throw new IOException("Injected move failure");
+            }
+            super.moveFile(source, target);
+          }
+        };
+    fileAuditWriter.init(
+        new SimpleFormatterV2(),
+        ImmutableMap.of(
+            "fileName",
+            rotatedFileName,
+            "append",
+            "false",
+            "immediateFlush",
+            "true",
+            "rotateIntervalSecs",
+            "1"));
+    try {
+      fileAuditWriter.write(mockDummyEvent());
+      Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> moveAttempts.get() > 1);
+      fileAuditWriter.write(mockDummyEvent());
+
+      // No audit log is lost, the rotated file and the current file hold both of them. The files
+      // may be rotated while counting the lines.
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .ignoreExceptions()
+          .until(
+              () -> {
+                fileAuditWriter.flush();
+                long lines = 0;
+                for (Path file : listRotatedFiles(logDir, rotatedFileName, "")) {
+                  lines += getAuditSize(file.toString());
+                }
+                return lines == 2;
+              });
+      Assertions.assertTrue(listRotatedFiles(logDir, rotatedFileName, "").size() > 1);
+      // The failed rotation doesn't fail the written audit logs
+      Assertions.assertEquals(0, fileAuditWriter.writeFailureCount());
+    } finally {
+      fileAuditWriter.close();
+      for (Path file : listRotatedFiles(logDir, rotatedFileName, "")) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+
   @AfterEach
   public void cleanup() {
     try {
@@ -206,6 +326,19 @@ public class TestAuditManager {
     }
   }
 
+  private List<Path> listRotatedFiles(Path logDir, String fileName, String suffix)
+      throws IOException {
+    try (Stream<Path> files = Files.list(logDir)) {
+      return files
+          .filter(
+              file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(fileName) && name.endsWith(suffix);
+              })
+          .collect(Collectors.toList());
+    }
+  }
+
   private long getAuditSize(String fileName) {
     try (Stream<String> lines = Files.lines(Paths.get(fileName))) {
       return lines.count();
@@ -33,6 +33,7 @@ import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_READ_LOCK_STRIPES;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -138,10 +139,18 @@ public class TestAccessControlManager {
     Mockito.when(config.get(Configs.CACHE_WEIGHER_ENABLED)).thenReturn(true);
     Mockito.when(config.get(Configs.CACHE_STATS_ENABLED)).thenReturn(false);
     Mockito.when(config.get(Configs.CACHE_IMPLEMENTATION)).thenReturn("caffeine");
+    Mockito.when(config.get(Configs.CACHE_LOCK_STRIPES)).thenReturn(1);
+    Mockito.when(config.get(Configs.CACHE_NEGATIVE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(false);
+    Mockito.when(config.get(Configs.STORE_GC_PARALLELISM)).thenReturn(4);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(0L);
+    Mockito.when(config.get(Configs.STORE_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    Mockito.when(config.get(Configs.STORE_GC_MAX_CONNECTION_USAGE)).thenReturn(0.8);
 
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(1).when(config).get(TREE_LOCK_READ_LOCK_STRIPES);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
 
     entityStore = EntityStoreFactory.createEntityStore(config);
@@ -28,6 +28,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
@@ -1058,6 +1060,98 @@ public class TestCaffeineEntityCache {
                 null));
   }
 
+  @Test
+  void testStripeKeyOf() {
+    Assertions.assertNull(CaffeineEntityCache.stripeKeyOf(entity7.nameIdentifier()));
+    Assertions.assertEquals(
+        "metalake1.catalog1", CaffeineEntityCache.stripeKeyOf(entity6.nameIdentifier()));
+    Assertions.assertEquals(
+        "metalake1.catalog1", CaffeineEntityCache.stripeKeyOf(entity1.nameIdentifier()));
+    Assertions.assertEquals(
+        "metalake1.catalog1", CaffeineEntityCache.stripeKeyOf(entity3.nameIdentifier()));
+    Assertions.assertEquals(
+        "metalake1.system", CaffeineEntityCache.stripeKeyOf(entity8.nameIdentifier()));
+  }
+
+  @Test
+  void testInvalidateWithStripedLocks() {
+    EntityCache cache = getStripedCache();
+    TableEntity siblingCatalogTable =
+        TestUtil.getTestTableEntity(
+            14L, "table1", Namespace.of("metalake1", "catalog10", "schema1"));
+
+    cache.put(entity1);
+    cache.put(entity2);
+    cache.put(entity3);
+    cache.put(entity4);
+    cache.put(entity5);
+    cache.put(entity6);
+    cache.put(entity7);
+    cache.put(siblingCatalogTable);
+    Assertions.assertEquals(8, cache.size());
+
+    cache.invalidate(entity6.nameIdentifier(), entity6.type());
+    Assertions.assertEquals(4, cache.size());
+    Assertions.assertFalse(cache.contains(entity1.nameIdentifier(), entity1.type()));
+    Assertions.assertFalse(cache.contains(entity3.nameIdentifier(), entity3.type()));
+    Assertions.assertFalse(cache.contains(entity5.nameIdentifier(), entity5.type()));
+    Assertions.assertTrue(cache.contains(entity4.nameIdentifier(), entity4.type()));
+    Assertions.assertTrue(
+        cache.contains(siblingCatalogTable.nameIdentifier(), siblingCatalogTable.type()));
+
+    cache.invalidate(entity7.nameIdentifier(), entity7.type());
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertTrue(cache.contains(entity2.nameIdentifier(), entity2.type()));
+  }
+
+  @Test
+  void testStripedLocksDoNotBlockOtherCatalogs() throws Exception {
+    EntityCache cache = getStripedCache();
+    cache.put(entity3);
+    cache.put(entity4);
+
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread holder =
+        new Thread(
+            () -> {
+              try {
+                cache.withCacheLock(
+                    entity3.nameIdentifier(),
+                    () -> {
+                      locked.countDown();
+                      release.await();
+                      return null;
+                    });
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+    holder.start();
+
+    try {
+      Assertions.assertTrue(locked.await(10, TimeUnit.SECONDS));
+      CompletableFuture<Boolean> invalidated =
+          CompletableFuture.supplyAsync(
+              () -> cache.invalidate(entity4.nameIdentifier(), entity4.type()));
+      Assertions.assertTrue(invalidated.get(10, TimeUnit.SECONDS));
+      Assertions.assertTrue(cache.contains(entity3.nameIdentifier(), entity3.type()));
+    } finally {
+      release.countDown();
+      holder.join();
+    }
+  }
+
+  private EntityCache getStripedCache() {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_EXPIRATION_TIME, 0L);
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 1000000);
+    config.set(Configs.CACHE_LOCK_STRIPES, 16);
+
+    return new CaffeineEntityCache(config);
+  }
+
   private EntityCache getNormalCache() {
     Config config = new Config() {};
     config.set(Configs.CACHE_EXPIRATION_TIME, 0L);
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.TestUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestNegativeEntityCache {
+  private static final Namespace SCHEMA_NAMESPACE =
+      Namespace.of("metalake1", "catalog1", "schema1");
+
+  @Test
+  void testRecordAndInvalidateTombstone() {
+    NegativeEntityCache cache = new NegativeEntityCache(newConfig(false));
+    NameIdentifier ident = NameIdentifier.of(SCHEMA_NAMESPACE, "table1");
+
+    Assertions.assertFalse(cache.isAbsent(ident, Entity.EntityType.TABLE));
+
+    cache.recordAbsent(ident, Entity.EntityType.TABLE, cache.writeStamp());
+    Assertions.assertTrue(cache.isAbsent(ident, Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.isAbsent(ident, Entity.EntityType.FILESET));
+
+    cache.invalidate(ident, Entity.EntityType.TABLE);
+    Assertions.assertFalse(cache.isAbsent(ident, Entity.EntityType.TABLE));
+  }
+
+  @Test
+  void testInvalidateDescendants() {
+    NegativeEntityCache cache = new NegativeEntityCache(newConfig(false));
+    NameIdentifier table1 = NameIdentifier.of(SCHEMA_NAMESPACE, "table1");
+    NameIdentifier table2 = NameIdentifier.of("metalake1", "catalog1", "schema10", "table2");
+    cache.recordAbsent(table1, Entity.EntityType.TABLE, cache.writeStamp());
+    cache.recordAbsent(table2, Entity.EntityType.TABLE, cache.writeStamp());
+
+    SchemaEntity schema =
+        TestUtil.getTestSchemaEntity(
+            1L, "schema1", Namespace.of("metalake1", "catalog1"), "test_schema1");
+    cache.invalidate(schema.nameIdentifier(), schema.type());
+
+    Assertions.assertFalse(cache.isAbsent(table1, Entity.EntityType.TABLE));
+    Assertions.assertTrue(cache.isAbsent(table2, Entity.EntityType.TABLE));
+  }
+
+  @Test
+  void testBloomFilter() {
+    NegativeEntityCache cache = new NegativeEntityCache(newConfig(true));
+    TableEntity table1 = TestUtil.getTestTableEntity(1L, "table1", SCHEMA_NAMESPACE);
+    TableEntity table2 = TestUtil.getTestTableEntity(2L, "table2", SCHEMA_NAMESPACE);
+    NameIdentifier table3 = NameIdentifier.of(SCHEMA_NAMESPACE, "table3");
+
+    // Nothing is known before the namespace is listed
+    Assertions.assertFalse(cache.isAbsent(table3, Entity.EntityType.TABLE));
+
+    cache.recordListing(
+        SCHEMA_NAMESPACE,
+        Entity.EntityType.TABLE,
+        ImmutableList.of(table1, table2),
+        cache.writeStamp());
+    Assertions.assertFalse(cache.isAbsent(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.isAbsent(table2.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertTrue(cache.isAbsent(table3, Entity.EntityType.TABLE));
+
+    // Inserting an entity adds its name to the bloom filter
+    cache.invalidate(table3, Entity.EntityType.TABLE);
+    Assertions.assertFalse(cache.isAbsent(table3, Entity.EntityType.TABLE));
+
+    cache.clear();
+    Assertions.assertFalse(cache.isAbsent(table3, Entity.EntityType.TABLE));
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  void testSkipRecordingAfterInvalidation() {
+    NegativeEntityCache cache = new NegativeEntityCache(newConfig(true));
+    TableEntity table1 = TestUtil.getTestTableEntity(1L, "table1", SCHEMA_NAMESPACE);
+    NameIdentifier table2 = NameIdentifier.of(SCHEMA_NAMESPACE, "table2");
+
+    // The lookup misses table2 in the backend, then table2 is created before the miss is recorded.
+    long stamp = cache.writeStamp();
+    cache.invalidate(table2, Entity.EntityType.TABLE);
+    cache.recordAbsent(table2, Entity.EntityType.TABLE, stamp);
+    Assertions.assertFalse(cache.isAbsent(table2, Entity.EntityType.TABLE));
+
+    // The same for a listing which doesn't contain table2.
+    cache.recordListing(SCHEMA_NAMESPACE, Entity.EntityType.TABLE, ImmutableList.of(table1), stamp);
+    Assertions.assertFalse(cache.isAbsent(table2, Entity.EntityType.TABLE));
+  }
+
+  @Test
+  void testConcurrentPutAndGet() throws Exception {
+    NegativeEntityCache cache = new NegativeEntityCache(newConfig(false));
+    Set<NameIdentifier> backend = ConcurrentHashMap.newKeySet();
+    int entityCount = 200;
+    AtomicBoolean writing = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // The readers look up the entities the same way as the entity store does: take the stamp,
+      // read the backend, and record the miss.
+      List<Future<?>> readers = Lists.newArrayList();
+      for (int i = 0; i < 3; i++) {
+        readers.add(
+            executor.submit(
+                () -> {
+                  while (writing.get()) {
+                    for (int j = 0; j < entityCount; j++) {
+                      NameIdentifier ident = NameIdentifier.of(SCHEMA_NAMESPACE, "table" + j);
+                      long stamp = cache.writeStamp();
+                      if (!backend.contains(ident)) {
+                        cache.recordAbsent(ident, Entity.EntityType.TABLE, stamp);
+                      }
+                    }
+                  }
+                }));
+      }
+
+      // The writer puts the entities the same way as the entity store does: write the backend,
+      // then invalidate the negative entries.
+      executor
+          .submit(
+              () -> {
+                for (int j = 0; j < entityCount; j++) {
+                  NameIdentifier ident = NameIdentifier.of(SCHEMA_NAMESPACE, "table" + j);
+                  backend.add(ident);
+                  cache.invalidate(ident, Entity.EntityType.TABLE);
+                }
+              })
+          .get(30, TimeUnit.SECONDS);
+      writing.set(false);
+      for (Future<?> reader : readers) {
+        reader.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    for (int j = 0; j < entityCount; j++) {
+      NameIdentifier ident = NameIdentifier.of(SCHEMA_NAMESPACE, "table" + j);
+      Assertions.assertFalse(
+          cache.isAbsent(ident, Entity.EntityType.TABLE), ident + " is recorded as absent");
+    }
+  }
+
+  private Config newConfig(boolean bloomFilterEnabled) {
+    Config config = new Config() {};
+    config.set(Configs.CACHE_NEGATIVE_ENABLED, true);
+    config.set(Configs.CACHE_NEGATIVE_EXPIRATION_TIME, 60_000L);
+    config.set(Configs.CACHE_NEGATIVE_BLOOM_FILTER_ENABLED, bloomFilterEnabled);
+    return config;
+  }
+}
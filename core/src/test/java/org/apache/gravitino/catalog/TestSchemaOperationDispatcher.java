@@ -66,6 +66,7 @@ public class TestSchemaOperationDispatcher extends TestOperationDispatcher {
     doReturn(100000L).when(config).get(Configs.TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(Configs.TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(Configs.TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(1).when(config).get(Configs.TREE_LOCK_READ_LOCK_STRIPES);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
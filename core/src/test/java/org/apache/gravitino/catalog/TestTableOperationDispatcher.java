@@ -21,9 +21,13 @@ package org.apache.gravitino.catalog;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_READ_LOCK_STRIPES;
 import static org.apache.gravitino.Entity.EntityType.SCHEMA;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.StringIdentifier.ID_KEY;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY1;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY2;
+import static org.apache.gravitino.TestCatalog.PROPERTY_KEY5_PREFIX;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -45,6 +49,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
@@ -53,8 +58,10 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.TestCatalog;
 import org.apache.gravitino.TestColumn;
 import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.TestCatalogOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.ColumnEntity;
@@ -84,6 +91,7 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(1).when(config).get(TREE_LOCK_READ_LOCK_STRIPES);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
     FieldUtils.writeField(
         GravitinoEnv.getInstance(), "schemaDispatcher", schemaOperationDispatcher, true);
@@ -256,6 +264,66 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTable4.auditInfo().creator());
   }
 
+  @Test
+  public void testLoadTableWithTableCache() throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "catalog_with_table_cache");
+    Map<String, String> catalogProps =
+        ImmutableMap.of(
+            PROPERTY_KEY1,
+            "value1",
+            PROPERTY_KEY2,
+            "value2",
+            PROPERTY_KEY5_PREFIX + "1",
+            "value3",
+            BaseCatalog.TABLE_CACHE_ENABLED,
+            "true");
+    catalogManager.createCatalog(
+        catalogIdent, Catalog.Type.RELATIONAL, "test", "comment", catalogProps);
+
+    Namespace tableNs = Namespace.of(metalake, catalogIdent.name(), "schema52");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table12");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    // The second load is served from the cache
+    Table loadedTable1 = tableOperationDispatcher.loadTable(tableIdent);
+    Table loadedTable2 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertSame(loadedTable1, loadedTable2);
+
+    // The table altered through the dispatcher is invalidated
+    tableOperationDispatcher.alterTable(tableIdent, TableChange.setProperty("k3", "v3"));
+    Table loadedTable3 = tableOperationDispatcher.loadTable(tableIdent);
+    Assertions.assertNotSame(loadedTable1, loadedTable3);
+    Assertions.assertEquals("v3", loadedTable3.properties().get("k3"));
+    Assertions.assertSame(loadedTable3, tableOperationDispatcher.loadTable(tableIdent));
+
+    // The dropped table is invalidated
+    Assertions.assertTrue(tableOperationDispatcher.dropTable(tableIdent));
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> tableOperationDispatcher.loadTable(tableIdent));
+
+    // The catalog without the table cache always loads the table from the catalog
+    Namespace uncachedTableNs = Namespace.of(metalake, catalog, "schema52");
+    schemaOperationDispatcher.createSchema(
+        NameIdentifier.of(uncachedTableNs.levels()), "comment", props);
+    NameIdentifier uncachedTableIdent = NameIdentifier.of(uncachedTableNs, "table12");
+    tableOperationDispatcher.createTable(
+        uncachedTableIdent, columns, "comment", props, new Transform[0]);
+    Assertions.assertNotSame(
+        tableOperationDispatcher.loadTable(uncachedTableIdent),
+        tableOperationDispatcher.loadTable(uncachedTableIdent));
+  }
+
   @Test
   public void testCreateAndAlterTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema61");
@@ -0,0 +1,171 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.gravitino.metrics.source.CredentialCacheMetricsSource;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestCredentialCache {
+
+  // The credentials live 100 seconds, are refreshed after 1 second and expire after 50 seconds.
+  private static final long CREDENTIAL_LIFETIME_MS = 100_000L;
+  private static final Map<String, String> PROPERTIES =
+      ImmutableMap.of(
+          CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO,
+          "0.5",
+          CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+          "0.01");
+
+  private ExecutorService refreshExecutor;
+  private CredentialCache<String> credentialCache;
+
+  @BeforeEach
+  void setUp() {
+    refreshExecutor = Executors.newSingleThreadExecutor();
+    credentialCache = new CredentialCache<>();
+    credentialCache.initialize(
+        PROPERTIES, refreshExecutor, new CredentialCacheMetricsSource("metalake", "test"));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    refreshExecutor.shutdownNow();
+    credentialCache.close();
+  }
+
+  @Test
+  void testRefreshInBackground() {
+    AtomicInteger generated = new AtomicInteger();
+    CountDownLatch refreshLatch = new CountDownLatch(1);
+    Function<String, Credential> supplier =
+        key -> {
+          int count = generated.incrementAndGet();
+          if (count > 1) {
+            Uninterruptibles.awaitUninterruptibly(refreshLatch);
+          }
+          return new TestCredential("token-" + count);
+        };
+
+    Credential first = credentialCache.getCredential("key", supplier);
+    Assertions.assertEquals("token-1", first.credentialInfo().get("token"));
+    Assertions.assertSame(first, credentialCache.getCredential("key", supplier));
+    Assertions.assertEquals(1, generated.get());
+
+    // The cached credential is served while it is refreshed in the background
+    Uninterruptibles.sleepUninterruptibly(1200, TimeUnit.MILLISECONDS);
+    Assertions.assertSame(first, credentialCache.getCredential("key", supplier));
+    Assertions.assertSame(first, credentialCache.getCredential("key", supplier));
+    Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> generated.get() == 2);
+    Assertions.assertSame(first, credentialCache.getCredential("key", supplier));
+
+    refreshLatch.countDown();
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(() -> credentialCache.getCredential("key", supplier) != first);
+    Assertions.assertEquals(
+        "token-2", credentialCache.getCredential("key", supplier).credentialInfo().get("token"));
+    Assertions.assertEquals(0, credentialCache.refreshFailureCount());
+  }
+
+  @Test
+  void testRefreshFailure() {
+    AtomicInteger generated = new AtomicInteger();
+    Function<String, Credential> supplier =
+        key -> {
+          if (generated.incrementAndGet() > 1) {
+            throw new RuntimeException("Failed to generate the credential");
+          }
+          return new TestCredential("token-1");
+        };
+
+    Credential first = credentialCache.getCredential("key", supplier);
+    Uninterruptibles.sleepUninterruptibly(1200, TimeUnit.MILLISECONDS);
+
+    // The cached credential is kept if the refresh fails, and the next request retries it
+    Assertions.assertSame(first, credentialCache.getCredential("key", supplier));
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(() -> credentialCache.refreshFailureCount() == 1);
+    Assertions.assertSame(first, credentialCache.getCredential("key", supplier));
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(() -> credentialCache.refreshFailureCount() == 2);
+  }
+
+  @Test
+  void testDisableRefreshNotBeforeExpiration() throws Exception {
+    Assertions.assertEquals(0.01, credentialCache.refreshRatio());
+
+    Map<String, String> properties =
+        ImmutableMap.of(
+            CredentialConstants.CREDENTIAL_CACHE_EXPIRE_RATIO,
+            "0.5",
+            CredentialConstants.CREDENTIAL_CACHE_REFRESH_RATIO,
+            "0.5");
+    try (CredentialCache<String> cache = new CredentialCache<>()) {
+      cache.initialize(
+          properties, refreshExecutor, new CredentialCacheMetricsSource("metalake", "test"));
+      Assertions.assertEquals(0, cache.refreshRatio());
+    }
+  }
+
+  private static class TestCredential implements Credential {
+    private final String token;
+    private final long expireTimeInMs;
+
+    TestCredential(String token) {
+      this.token = token;
+      this.expireTimeInMs = System.currentTimeMillis() + CREDENTIAL_LIFETIME_MS;
+    }
+
+    @Override
+    public String credentialType() {
+      return "test";
+    }
+
+    @Override
+    public long expireTimeInMs() {
+      return expireTimeInMs;
+    }
+
+    @Override
+    public Map<String, String> credentialInfo() {
+      return ImmutableMap.of("token", token);
+    }
+
+    @Override
+    public void initialize(Map<String, String> credentialInfo, long expireTimeInMs) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
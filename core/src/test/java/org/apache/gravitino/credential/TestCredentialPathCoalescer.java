@@ -0,0 +1,100 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.credential;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCredentialPathCoalescer {
+
+  @Test
+  void testCoalescePaths() {
+    Assertions.assertEquals(
+        ImmutableSet.of("s3://bucket/"),
+        CredentialPathCoalescer.coalesce(
+            ImmutableSet.of("s3://bucket/db1/table1", "s3://bucket/db2/table2"), 0));
+    Assertions.assertEquals(
+        ImmutableSet.of("s3://bucket/db1/", "s3://bucket/db2/"),
+        CredentialPathCoalescer.coalesce(
+            ImmutableSet.of(
+                "s3://bucket/db1/table1", "s3://bucket/db1/table2", "s3://bucket/db2/table3"),
+            1));
+
+    // The prefixes under another prefix are dropped
+    Assertions.assertEquals(
+        ImmutableSet.of("s3://bucket/db1/", "s3://bucket/db1-bak/table1/"),
+        CredentialPathCoalescer.coalesce(
+            ImmutableSet.of(
+                "s3://bucket/db1", "s3://bucket/db1/table1/data", "s3://bucket/db1-bak/table1"),
+            2));
+
+    // The paths without a scheme or an authority are kept
+    Assertions.assertEquals(
+        ImmutableSet.of("/tmp/table1", "file:/tmp/table2"),
+        CredentialPathCoalescer.coalesce(ImmutableSet.of("/tmp/table1", "file:/tmp/table2"), 0));
+  }
+
+  @Test
+  void testCoalesceContext() {
+    CredentialPathCoalescer coalescer = new CredentialPathCoalescer(1, 1024);
+    PathBasedCredentialContext context1 =
+        new PathBasedCredentialContext(
+            "user", ImmutableSet.of("s3://bucket/db/table1"), Collections.emptySet());
+    PathBasedCredentialContext context2 =
+        new PathBasedCredentialContext(
+            "user", ImmutableSet.of("s3://bucket/db/table2/"), Collections.emptySet());
+
+    // The tables under the same prefix share the same cache key
+    CredentialContext coalesced = coalescer.coalesce(context1);
+    Assertions.assertEquals(coalesced, coalescer.coalesce(context2));
+    Assertions.assertEquals(
+        new CredentialCacheKey("s3-token", coalesced),
+        new CredentialCacheKey("s3-token", coalescer.coalesce(context2)));
+    Assertions.assertEquals(
+        ImmutableSet.of("s3://bucket/db/"),
+        ((PathBasedCredentialContext) coalesced).getWritePaths());
+
+    CatalogCredentialContext catalogContext = new CatalogCredentialContext("user");
+    Assertions.assertSame(catalogContext, coalescer.coalesce(catalogContext));
+  }
+
+  @Test
+  void testCoalesceToFitMaxLength() {
+    PathBasedCredentialContext context =
+        new PathBasedCredentialContext(
+            "user",
+            ImmutableSet.of("s3://bucket/db1/table1", "s3://bucket/db2/table2"),
+            ImmutableSet.of("s3://bucket/db3/table3"));
+
+    // The prefixes are shortened until they fit
+    PathBasedCredentialContext coalesced =
+        (PathBasedCredentialContext) new CredentialPathCoalescer(2, 60).coalesce(context);
+    Assertions.assertEquals(
+        ImmutableSet.of("s3://bucket/db1/", "s3://bucket/db2/"), coalesced.getWritePaths());
+    Assertions.assertEquals(ImmutableSet.of("s3://bucket/db3/"), coalesced.getReadPaths());
+
+    // The buckets are used if nothing fits
+    coalesced = (PathBasedCredentialContext) new CredentialPathCoalescer(2, 1).coalesce(context);
+    Assertions.assertEquals(ImmutableSet.of("s3://bucket/"), coalesced.getWritePaths());
+    Assertions.assertEquals(ImmutableSet.of("s3://bucket/"), coalesced.getReadPaths());
+  }
+}
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -117,6 +118,25 @@ public class DummyEventListener implements EventListenerPlugin {
     }
   }
 
+  public static class DummyBatchAsyncEventListener extends DummyAsyncEventListener {
+    @Getter private int batchCount = 0;
+
+    @Override
+    public synchronized void onPostEvent(Event event) {
+      super.onPostEvent(event);
+    }
+
+    @Override
+    public synchronized void onPostEvents(List<Event> events) {
+      batchCount++;
+      getPostEvents().addAll(events);
+    }
+
+    public synchronized List<Event> copyPostEvents() {
+      return new ArrayList<>(getPostEvents());
+    }
+  }
+
   public static class DummyAsyncIsolatedEventListener extends DummyAsyncEventListener {
     @Override
     public Mode mode() {
@@ -19,22 +19,28 @@
 
 package org.apache.gravitino.listener;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncEventListener;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncIsolatedEventListener;
+import org.apache.gravitino.listener.DummyEventListener.DummyBatchAsyncEventListener;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.OperationStatus;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -270,6 +276,101 @@ public class TestEventListenerManager {
     Assertions.assertEquals(2, ((CountingPreEvent) transformedEvent.get()).count());
   }
 
+  @Test
+  void testBatchedAsyncListenerWithMultipleDispatchers() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_NAMES, "batch");
+    properties.put(
+        "batch." + EventListenerManager.GRAVITINO_EVENT_LISTENER_CLASS,
+        DummyBatchAsyncEventListener.class.getName());
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS, "4");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_BATCH_SIZE, "16");
+
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    eventListenerManager.start();
+    EventBus eventBus = eventListenerManager.createEventBus();
+
+    int identifierCount = 8;
+    int eventsPerIdentifier = 50;
+    for (int i = 0; i < eventsPerIdentifier; i++) {
+      for (int j = 0; j < identifierCount; j++) {
+        eventBus.dispatchEvent(new DummyPostEvent("user" + i, NameIdentifier.of("a", "b" + j)));
+      }
+    }
+
+    AsyncQueueListener asyncQueueListener =
+        (AsyncQueueListener) eventBus.getEventListeners().get(0);
+    DummyBatchAsyncEventListener listener =
+        (DummyBatchAsyncEventListener)
+            ((EventListenerPluginWrapper) asyncQueueListener.getEventListeners().get(0))
+                .getUserEventListener();
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> listener.copyPostEvents().size() == identifierCount * eventsPerIdentifier);
+
+    // The events of the same identifier are dispatched by the same thread in order.
+    Map<NameIdentifier, List<String>> usersByIdentifier =
+        listener.copyPostEvents().stream()
+            .collect(
+                Collectors.groupingBy(
+                    Event::identifier, Collectors.mapping(Event::user, Collectors.toList())));
+    Assertions.assertEquals(identifierCount, usersByIdentifier.size());
+    List<String> expectedUsers =
+        IntStream.range(0, eventsPerIdentifier)
+            .mapToObj(i -> "user" + i)
+            .collect(Collectors.toList());
+    usersByIdentifier.values().forEach(users -> Assertions.assertEquals(expectedUsers, users));
+    Assertions.assertEquals(0, asyncQueueListener.getDroppedEventsCount());
+
+    eventListenerManager.stop();
+  }
+
+  @Test
+  void testAsyncQueueListenerOverflowPolicy() {
+    DummyPostEvent event1 = new DummyPostEvent("user1", NameIdentifier.of("a", "b"));
+    DummyPostEvent event2 = new DummyPostEvent("user2", NameIdentifier.of("a", "b"));
+    DummyPostEvent event3 = new DummyPostEvent("user3", NameIdentifier.of("a", "b"));
+
+    Map<AsyncQueueListener.OverflowPolicy, List<Event>> expectedEvents =
+        ImmutableMap.of(
+            AsyncQueueListener.OverflowPolicy.DROP_NEWEST,
+            ImmutableList.of(event1, event2),
+            AsyncQueueListener.OverflowPolicy.DROP_OLDEST,
+            ImmutableList.of(event2, event3),
+            AsyncQueueListener.OverflowPolicy.BLOCK,
+            ImmutableList.of(event1, event2));
+
+    expectedEvents.forEach(
+        (overflowPolicy, expected) -> {
+          DummyAsyncEventListener listener = new DummyAsyncEventListener();
+          AsyncQueueListener asyncQueueListener =
+              new AsyncQueueListener(
+                  ImmutableList.of(new EventListenerPluginWrapper("dummy", listener)),
+                  "overflow",
+                  2,
+                  3,
+                  1,
+                  1,
+                  overflowPolicy,
+                  10L);
+
+          // The dispatcher is not started yet, so the third event overflows the queue.
+          asyncQueueListener.onPostEvent(event1);
+          asyncQueueListener.onPostEvent(event2);
+          asyncQueueListener.onPostEvent(event3);
+          Assertions.assertEquals(1, asyncQueueListener.getDroppedEventsCount());
+          Assertions.assertTrue(asyncQueueListener.isHighWatermark());
+
+          asyncQueueListener.start();
+          Awaitility.await()
+              .atMost(20, TimeUnit.SECONDS)
+              .until(() -> listener.getPostEvents().size() == 2);
+          Assertions.assertEquals(expected, listener.getPostEvents());
+          asyncQueueListener.stop();
+        });
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
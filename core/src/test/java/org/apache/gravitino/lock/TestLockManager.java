@@ -22,6 +22,7 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_READ_LOCK_STRIPES;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -72,6 +73,7 @@ public class TestLockManager {
     Mockito.when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(100000L);
     Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1000L);
     Mockito.when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(60L);
+    Mockito.when(config.get(TREE_LOCK_READ_LOCK_STRIPES)).thenReturn(1);
     return config;
   }
 
@@ -412,9 +414,12 @@ public class TestLockManager {
     }
   }
 
-  @Test
-  void testConcurrentWrite() throws InterruptedException {
-    LockManager lockManager = new LockManager(getConfig());
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4})
+  void testConcurrentWrite(int readLockStripes) throws InterruptedException {
+    Config config = getConfig();
+    Mockito.when(config.get(TREE_LOCK_READ_LOCK_STRIPES)).thenReturn(readLockStripes);
+    LockManager lockManager = new LockManager(config);
     Map<String, Integer> stringMap = Maps.newHashMap();
     stringMap.put("total", 0);
 
@@ -449,6 +454,56 @@ public class TestLockManager {
     }
   }
 
+  @Test
+  void testStripedReadLocks() throws Exception {
+    Config config = getConfig();
+    Mockito.when(config.get(TREE_LOCK_READ_LOCK_STRIPES)).thenReturn(4);
+    LockManager lockManager = new LockManager(config);
+    CompletionService<Integer> service = createCompletionService();
+    NameIdentifier catalogIdent = NameIdentifier.of("a", "b");
+    NameIdentifier tableIdent = NameIdentifier.of("a", "b", "c", "d");
+
+    // Readers on different stripes hold the read lock of the catalog node at the same time.
+    CountDownLatch readLatch = new CountDownLatch(5);
+    CountDownLatch releaseLatch = new CountDownLatch(1);
+    List<Future<Integer>> readers = Lists.newArrayList();
+    for (int i = 0; i < 5; i++) {
+      readers.add(
+          service.submit(
+              () -> {
+                TreeLock treeLock = lockManager.createTreeLock(tableIdent);
+                treeLock.lock(LockType.READ);
+                try {
+                  readLatch.countDown();
+                  releaseLatch.await();
+                } finally {
+                  treeLock.unlock();
+                }
+                return 0;
+              }));
+    }
+    Assertions.assertTrue(readLatch.await(10, TimeUnit.SECONDS));
+
+    // The writer of the catalog node waits for all the readers.
+    Future<Integer> writer =
+        service.submit(
+            () -> {
+              TreeLock treeLock = lockManager.createTreeLock(catalogIdent);
+              treeLock.lock(LockType.WRITE);
+              treeLock.unlock();
+              return 0;
+            });
+    Thread.sleep(100);
+    Assertions.assertFalse(writer.isDone());
+
+    releaseLatch.countDown();
+    for (Future<Integer> reader : readers) {
+      reader.get(10, TimeUnit.SECONDS);
+    }
+    writer.get(10, TimeUnit.SECONDS);
+    checkReferenceCount(lockManager.treeLockRootNode);
+  }
+
   private NameIdentifier completeRandomNameIdentifier() {
     Random random = new Random();
 
@@ -571,11 +626,13 @@ public class TestLockManager {
     Mockito.when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(20000L);
     Mockito.when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(2000L);
     Mockito.when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(2000L);
+    Mockito.when(config.get(TREE_LOCK_READ_LOCK_STRIPES)).thenReturn(4);
 
     LockManager manager = new LockManager(config);
     Assertions.assertEquals(20000L, manager.maxTreeNodeInMemory);
     Assertions.assertEquals(2000L, manager.minTreeNodeInMemory);
     Assertions.assertEquals(2000L, manager.cleanTreeNodeIntervalInSecs);
+    Assertions.assertEquals(4, manager.readLockStripes);
   }
 
   @Test
@@ -109,5 +109,41 @@ public class TestExtractMetricNameAndLabel {
             + Collector.sanitizeMetricName(
                 MetricNames.ENTITY_STORE_RELATION_DATASOURCE_MAX_CONNECTIONS),
         ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.TABLE_CACHE_METRIC_NAME
+            + ".metalake1.catalog1."
+            + MetricNames.TABLE_CACHE_HIT,
+        Collector.sanitizeMetricName(MetricsSource.TABLE_CACHE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.TABLE_CACHE_HIT),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1"));
+
+    checkResult(
+        MetricsSource.EVENT_LISTENER_METRIC_NAME
+            + ".audit."
+            + MetricNames.EVENT_LISTENER_DROPPED_EVENTS,
+        Collector.sanitizeMetricName(MetricsSource.EVENT_LISTENER_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.EVENT_LISTENER_DROPPED_EVENTS),
+        ImmutableMap.of("listener", "audit"));
+
+    checkResult(
+        MetricsSource.HIVE_NOTIFICATION_SYNC_METRIC_NAME
+            + ".metalake1.catalog1."
+            + MetricNames.HIVE_NOTIFICATION_SYNC_LAG_EVENTS,
+        Collector.sanitizeMetricName(MetricsSource.HIVE_NOTIFICATION_SYNC_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.HIVE_NOTIFICATION_SYNC_LAG_EVENTS),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1"));
+
+    checkResult(
+        MetricsSource.CREDENTIAL_CACHE_METRIC_NAME
+            + ".metalake1.catalog1."
+            + MetricNames.CREDENTIAL_CACHE_HIT_RATIO,
+        Collector.sanitizeMetricName(MetricsSource.CREDENTIAL_CACHE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CREDENTIAL_CACHE_HIT_RATIO),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1"));
   }
 }
@@ -40,6 +40,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.File;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
@@ -57,11 +58,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -69,6 +73,7 @@ import org.apache.gravitino.authorization.AuthorizationUtils;
 import org.apache.gravitino.authorization.Privileges;
 import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
@@ -92,10 +97,13 @@ import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.CommonMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
 import org.apache.gravitino.storage.relational.service.RoleMetaService;
+import org.apache.gravitino.storage.relational.service.SchemaMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.AfterAll;
@@ -105,6 +113,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.condition.EnabledIf;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -151,6 +160,7 @@ public class TestJDBCBackend {
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER)).thenReturn("org.h2.Driver");
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS)).thenReturn(100);
     Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS)).thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(false);
 
     String backendName = config.get(ENTITY_RELATIONAL_STORE);
     String className =
@@ -548,6 +558,314 @@ public class TestJDBCBackend {
     backend.delete(metalake.nameIdentifier(), Entity.EntityType.METALAKE, false);
   }
 
+  @Test
+  void testEntityIdPathCache() throws IOException {
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_MAX_ENTRIES)).thenReturn(100);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRATION_TIME))
+        .thenReturn(60_000L);
+    CommonMetaService.getInstance().initialize(config);
+
+    try {
+      AuditInfo auditInfo =
+          AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+      BaseMetalake metalake =
+          createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+      backend.insert(metalake, false);
+      CatalogEntity catalog =
+          createCatalog(
+              RandomIdGenerator.INSTANCE.nextId(),
+              NamespaceUtil.ofCatalog("metalake"),
+              "catalog",
+              auditInfo);
+      backend.insert(catalog, false);
+      SchemaEntity schema =
+          createSchemaEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              NamespaceUtil.ofSchema("metalake", "catalog"),
+              "schema",
+              auditInfo);
+      backend.insert(schema, false);
+
+      Namespace tableNamespace = NamespaceUtil.ofTable("metalake", "catalog", "schema");
+      Long[] ids = CommonMetaService.getInstance().getParentEntityIdsByNamespace(tableNamespace);
+      assertEquals(metalake.id(), ids[0]);
+      assertEquals(catalog.id(), ids[1]);
+      assertEquals(schema.id(), ids[2]);
+      // The cached IDs must not be exposed to the callers.
+      ids[2] = -1L;
+      assertEquals(
+          schema.id(),
+          CommonMetaService.getInstance().getParentEntityIdByNamespace(tableNamespace));
+
+      // Renaming the catalog must invalidate the cached paths going through it.
+      backend.update(
+          catalog.nameIdentifier(),
+          Entity.EntityType.CATALOG,
+          e -> createCatalog(catalog.id(), catalog.namespace(), "catalog1", auditInfo));
+      assertThrows(
+          NoSuchEntityException.class,
+          () -> CommonMetaService.getInstance().getParentEntityIdsByNamespace(tableNamespace));
+      assertEquals(
+          schema.id(),
+          CommonMetaService.getInstance()
+              .getParentEntityIdByNamespace(
+                  NamespaceUtil.ofTable("metalake", "catalog1", "schema")));
+
+      // Dropping the schema must invalidate the cached path of its children.
+      backend.delete(
+          NameIdentifier.of("metalake", "catalog1", "schema"), Entity.EntityType.SCHEMA, true);
+      assertThrows(
+          NoSuchEntityException.class,
+          () ->
+              CommonMetaService.getInstance()
+                  .getParentEntityIdsByNamespace(
+                      NamespaceUtil.ofTable("metalake", "catalog1", "schema")));
+    } finally {
+      Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(false);
+      CommonMetaService.getInstance().initialize(config);
+    }
+  }
+
+  @Test
+  void testEntityIdPathCacheRaceWithDropAndRecreate() throws IOException {
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(true);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_MAX_ENTRIES)).thenReturn(100);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_EXPIRATION_TIME))
+        .thenReturn(60_000L);
+    CommonMetaService.getInstance().initialize(config);
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo),
+        false);
+    Namespace schemaNamespace = NamespaceUtil.ofSchema("metalake", "catalog");
+    SchemaEntity schema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(), schemaNamespace, "schema", auditInfo);
+    SchemaEntity recreatedSchema =
+        createSchemaEntity(
+            RandomIdGenerator.INSTANCE.nextId(), schemaNamespace, "schema", auditInfo);
+    backend.insert(schema, false);
+
+    // The schema is dropped and recreated after its IDs are loaded, but before they are cached.
+    SchemaMetaService spySchemaMetaService = Mockito.spy(SchemaMetaService.getInstance());
+    AtomicBoolean dropAndRecreate = new AtomicBoolean(true);
+    Mockito.doAnswer(
+            invocation -> {
+              Object schemaIds = invocation.callRealMethod();
+              if (dropAndRecreate.compareAndSet(true, false)) {
+                backend.delete(schema.nameIdentifier(), Entity.EntityType.SCHEMA, true);
+                backend.insert(recreatedSchema, false);
+              }
+              return schemaIds;
+            })
+        .when(spySchemaMetaService)
+        .getSchemaIdByMetalakeNameAndCatalogNameAndSchemaName(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+    Namespace tableNamespace = NamespaceUtil.ofTable("metalake", "catalog", "schema");
+    try (MockedStatic<SchemaMetaService> mockedStatic =
+        Mockito.mockStatic(SchemaMetaService.class)) {
+      mockedStatic.when(SchemaMetaService::getInstance).thenReturn(spySchemaMetaService);
+
+      // The racing lookup returns the IDs it loaded, but they must not be cached.
+      assertEquals(
+          schema.id(),
+          CommonMetaService.getInstance().getParentEntityIdByNamespace(tableNamespace));
+      assertEquals(
+          recreatedSchema.id(),
+          CommonMetaService.getInstance().getParentEntityIdByNamespace(tableNamespace));
+    } finally {
+      Mockito.when(config.get(Configs.ENTITY_RELATIONAL_ID_PATH_CACHE_ENABLED)).thenReturn(false);
+      CommonMetaService.getInstance().initialize(config);
+    }
+  }
+
+  @Test
+  void testListEntitiesByPage() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo),
+        false);
+
+    Namespace schemaNamespace = NamespaceUtil.ofSchema("metalake", "catalog");
+    for (String name : Lists.newArrayList("s3", "s1", "s5", "s2", "s4")) {
+      backend.insert(
+          createSchemaEntity(RandomIdGenerator.INSTANCE.nextId(), schemaNamespace, name, auditInfo),
+          false);
+    }
+    Namespace namespace = NamespaceUtil.ofFileset("metalake", "catalog", "s1");
+    for (String name : Lists.newArrayList("f3", "f1", "f5", "f2", "f4")) {
+      backend.insert(
+          createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, name, auditInfo),
+          false);
+    }
+    for (String name : Lists.newArrayList("m3", "m1", "m5", "m2", "m4")) {
+      backend.insert(
+          createModelEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              namespace,
+              name,
+              "",
+              0,
+              ImmutableMap.of(),
+              auditInfo),
+          false);
+    }
+    backend.delete(NameIdentifier.of(schemaNamespace, "s4"), Entity.EntityType.SCHEMA, false);
+    backend.delete(NameIdentifier.of(namespace, "f4"), Entity.EntityType.FILESET, false);
+    backend.delete(NameIdentifier.of(namespace, "m4"), Entity.EntityType.MODEL, false);
+
+    // The entities are listed in name order, and the dropped entities are skipped.
+    assertEquals(
+        Lists.newArrayList("s1", "s2", "s3", "s5"),
+        listByPage(schemaNamespace, Entity.EntityType.SCHEMA));
+    assertEquals(
+        Lists.newArrayList("f1", "f2", "f3", "f5"),
+        listByPage(namespace, Entity.EntityType.FILESET));
+    assertEquals(
+        Lists.newArrayList("m1", "m2", "m3", "m5"), listByPage(namespace, Entity.EntityType.MODEL));
+
+    assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            backend.list(
+                NamespaceUtil.ofFileset("metalake", "catalog", "s4"),
+                Entity.EntityType.FILESET,
+                null,
+                2));
+  }
+
+  private <E extends Entity & HasIdentifier> List<String> listByPage(
+      Namespace namespace, Entity.EntityType type) throws IOException {
+    List<String> names = new ArrayList<>();
+    String afterName = null;
+    while (true) {
+      List<E> page = backend.list(namespace, type, afterName, 2);
+      page.forEach(entity -> names.add(entity.name()));
+      if (page.size() < 2) {
+        return names;
+      }
+      afterName = page.get(page.size() - 1).name();
+    }
+  }
+
+  @Test
+  void testBatchGetAndExists() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    backend.insert(
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo), false);
+    backend.insert(
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo),
+        false);
+    for (String schema : Lists.newArrayList("schema1", "schema2")) {
+      backend.insert(
+          createSchemaEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              NamespaceUtil.ofSchema("metalake", "catalog"),
+              schema,
+              auditInfo),
+          false);
+    }
+
+    Namespace namespace1 = NamespaceUtil.ofTable("metalake", "catalog", "schema1");
+    Namespace namespace2 = NamespaceUtil.ofTable("metalake", "catalog", "schema2");
+    Namespace missingNamespace = NamespaceUtil.ofTable("metalake", "catalog", "schema3");
+    for (Namespace namespace : Lists.newArrayList(namespace1, namespace2)) {
+      for (String name : Lists.newArrayList("e1", "e2")) {
+        backend.insert(
+            createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, name, auditInfo),
+            false);
+        backend.insert(
+            createFilesetEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, name, auditInfo),
+            false);
+      }
+    }
+
+    List<NameIdentifier> idents =
+        Lists.newArrayList(
+            NameIdentifier.of(namespace1, "e1"),
+            NameIdentifier.of(namespace2, "e2"),
+            NameIdentifier.of(namespace1, "e2"),
+            NameIdentifier.of(namespace1, "e3"),
+            NameIdentifier.of(missingNamespace, "e1"));
+    List<TableEntity> tables = backend.batchGet(idents, Entity.EntityType.TABLE);
+    assertEquals(
+        Sets.newHashSet(idents.subList(0, 3)),
+        tables.stream().map(TableEntity::nameIdentifier).collect(Collectors.toSet()));
+    for (TableEntity table : tables) {
+      assertEquals(backend.get(table.nameIdentifier(), Entity.EntityType.TABLE), table);
+    }
+
+    List<FilesetEntity> filesets = backend.batchGet(idents, Entity.EntityType.FILESET);
+    assertEquals(
+        Sets.newHashSet(idents.subList(0, 3)),
+        filesets.stream().map(FilesetEntity::nameIdentifier).collect(Collectors.toSet()));
+    for (FilesetEntity fileset : filesets) {
+      assertEquals(backend.get(fileset.nameIdentifier(), Entity.EntityType.FILESET), fileset);
+    }
+
+    // The types without a batch query fall back to get them one by one.
+    List<SchemaEntity> schemas =
+        backend.batchGet(
+            Lists.newArrayList(
+                NameIdentifierUtil.ofSchema("metalake", "catalog", "schema1"),
+                NameIdentifierUtil.ofSchema("metalake", "catalog", "schema3")),
+            Entity.EntityType.SCHEMA);
+    assertEquals(1, schemas.size());
+    assertEquals("schema1", schemas.get(0).name());
+
+    assertTrue(backend.exists(NameIdentifier.of("metalake"), Entity.EntityType.METALAKE));
+    assertFalse(backend.exists(NameIdentifier.of("metalake1"), Entity.EntityType.METALAKE));
+    assertTrue(
+        backend.exists(
+            NameIdentifierUtil.ofCatalog("metalake", "catalog"), Entity.EntityType.CATALOG));
+    assertTrue(
+        backend.exists(
+            NameIdentifierUtil.ofSchema("metalake", "catalog", "schema2"),
+            Entity.EntityType.SCHEMA));
+    assertFalse(
+        backend.exists(
+            NameIdentifierUtil.ofSchema("metalake", "catalog", "schema3"),
+            Entity.EntityType.SCHEMA));
+    assertTrue(backend.exists(NameIdentifier.of(namespace1, "e1"), Entity.EntityType.TABLE));
+    assertTrue(backend.exists(NameIdentifier.of(namespace2, "e2"), Entity.EntityType.FILESET));
+    assertFalse(backend.exists(NameIdentifier.of(namespace1, "e3"), Entity.EntityType.TABLE));
+    assertFalse(
+        backend.exists(NameIdentifier.of(missingNamespace, "e1"), Entity.EntityType.FILESET));
+
+    backend.delete(NameIdentifier.of(namespace1, "e1"), Entity.EntityType.TABLE, false);
+    assertFalse(backend.exists(NameIdentifier.of(namespace1, "e1"), Entity.EntityType.TABLE));
+    assertEquals(
+        2,
+        backend
+            .batchGet(
+                Lists.newArrayList(
+                    NameIdentifier.of(namespace1, "e1"), NameIdentifier.of(namespace1, "e2")),
+                Entity.EntityType.FILESET)
+            .size());
+  }
+
   @Test
   void testUpdateCatalogWithNullableComment() throws IOException {
     AuditInfo auditInfo =
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.STORE_GC_MAX_CONNECTION_USAGE;
+import static org.apache.gravitino.Configs.STORE_GC_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.STORE_GC_PARALLELISM;
+import static org.apache.gravitino.Configs.STORE_GC_TARGET_BATCH_LATENCY_MS;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRelationalGarbageCollector {
+
+  private Config config;
+
+  @BeforeEach
+  public void setUp() {
+    config = Mockito.mock(Config.class);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    Mockito.when(config.get(STORE_GC_PARALLELISM)).thenReturn(4);
+    Mockito.when(config.get(STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(0L);
+    Mockito.when(config.get(STORE_GC_TARGET_BATCH_LATENCY_MS)).thenReturn(500L);
+    Mockito.when(config.get(STORE_GC_MAX_CONNECTION_USAGE)).thenReturn(0.8);
+  }
+
+  @Test
+  public void testAdjustBatchSize() throws Exception {
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    try (RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(backend, config, () -> 0)) {
+      // Fast and full batches grow the batch size
+      Assertions.assertEquals(200, collector.adjustBatchSize(100, 100, 10));
+      int maxBatchSize = RelationalGarbageCollector.MAX_BATCH_SIZE;
+      Assertions.assertEquals(
+          maxBatchSize, collector.adjustBatchSize(maxBatchSize, maxBatchSize, 10));
+
+      // A partial batch means the garbage is nearly drained, keep the batch size
+      Assertions.assertEquals(100, collector.adjustBatchSize(100, 50, 10));
+      Assertions.assertEquals(100, collector.adjustBatchSize(100, 100, 300));
+
+      // Slow batches shrink the batch size
+      Assertions.assertEquals(50, collector.adjustBatchSize(100, 100, 600));
+      Assertions.assertEquals(
+          RelationalGarbageCollector.MIN_BATCH_SIZE,
+          collector.adjustBatchSize(RelationalGarbageCollector.MIN_BATCH_SIZE, 10, 600));
+    }
+
+    // The batch size is capped by the deletion rate
+    Mockito.when(config.get(STORE_GC_MAX_ROWS_PER_SECOND)).thenReturn(150L);
+    try (RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(backend, config, () -> 0)) {
+      Assertions.assertEquals(150, collector.adjustBatchSize(100, 100, 10));
+    }
+  }
+
+  @Test
+  public void testCollectAndCleanDrainsAllEntityTypes() throws Exception {
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    AtomicInteger legacyTables = new AtomicInteger(250);
+    Mockito.when(backend.hardDeleteLegacyData(any(), anyLong(), anyInt())).thenReturn(0);
+    Mockito.when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              int limit = invocation.getArgument(2);
+              int deleted = Math.min(limit, legacyTables.get());
+              legacyTables.addAndGet(-deleted);
+              return deleted;
+            });
+    Mockito.when(backend.deleteOldVersionData(any(), anyLong(), anyInt())).thenReturn(0);
+
+    try (RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(backend, config, () -> 0)) {
+      collector.collectAndClean();
+
+      Assertions.assertEquals(0, legacyTables.get());
+      Assertions.assertEquals(0, collector.drainingEntityTypes());
+      for (Entity.EntityType entityType : Entity.EntityType.values()) {
+        Mockito.verify(backend, Mockito.atLeastOnce())
+            .hardDeleteLegacyData(eq(entityType), anyLong(), anyInt());
+        Mockito.verify(backend, Mockito.times(1))
+            .deleteOldVersionData(eq(entityType), eq(1L), anyInt());
+      }
+    }
+  }
+
+  @Test
+  public void testPauseWhenConnectionPoolIsSaturated() throws Exception {
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    Mockito.when(backend.hardDeleteLegacyData(any(), anyLong(), anyInt())).thenReturn(0);
+    Mockito.when(backend.deleteOldVersionData(any(), anyLong(), anyInt())).thenReturn(0);
+
+    // The pool is saturated for the first check only
+    AtomicInteger checks = new AtomicInteger();
+    try (RelationalGarbageCollector collector =
+        new RelationalGarbageCollector(
+            backend, config, () -> checks.getAndIncrement() == 0 ? 1.0 : 0.0)) {
+      collector.collectAndClean();
+
+      Assertions.assertTrue(checks.get() > 1);
+      Assertions.assertEquals(0, collector.drainingEntityTypes());
+      Mockito.verify(backend, Mockito.times(Entity.EntityType.values().length))
+          .hardDeleteLegacyData(any(), anyLong(), anyInt());
+    }
+  }
+}
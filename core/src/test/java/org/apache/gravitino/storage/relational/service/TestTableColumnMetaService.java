@@ -25,6 +25,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -534,6 +536,89 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         () -> TableColumnMetaService.getInstance().getColumnPOById(updatedColumn.id()));
   }
 
+  @Test
+  public void testBatchGetTablesWithColumns() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace namespace = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    List<ColumnEntity> columns = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column_" + i)
+              .withPosition(i)
+              .withComment("comment_" + i)
+              .withDataType(Types.StringType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+
+    TableEntity table1 =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(namespace)
+            .withColumns(columns)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity table2 =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table2", auditInfo);
+    TableMetaService.getInstance().insertTable(table1, false);
+    TableMetaService.getInstance().insertTable(table2, false);
+
+    // Drop a column and update another one to have multiple versions of the columns
+    ColumnEntity updatedColumn =
+        ColumnEntity.builder()
+            .withId(columns.get(1).id())
+            .withName("column_1_updated")
+            .withPosition(1)
+            .withComment("updated_comment")
+            .withDataType(Types.IntegerType.get())
+            .withNullable(false)
+            .withAutoIncrement(false)
+            .withAuditInfo(auditInfo)
+            .build();
+    TableEntity updatedTable1 =
+        TableEntity.builder()
+            .withId(table1.id())
+            .withName(table1.name())
+            .withNamespace(namespace)
+            .withColumns(Lists.newArrayList(columns.get(0), updatedColumn))
+            .withAuditInfo(auditInfo)
+            .build();
+    Function<TableEntity, TableEntity> updater = oldTable -> updatedTable1;
+    TableMetaService.getInstance().updateTable(table1.nameIdentifier(), updater);
+
+    List<TableEntity> tables =
+        TableMetaService.getInstance()
+            .batchGetTablesByNamespaceAndNames(
+                namespace, Lists.newArrayList("table1", "table2", "table3"));
+    Assertions.assertEquals(2, tables.size());
+    Map<String, TableEntity> tablesByName =
+        tables.stream().collect(Collectors.toMap(TableEntity::name, Function.identity()));
+    compareTwoColumns(updatedTable1.columns(), tablesByName.get("table1").columns());
+    Assertions.assertTrue(tablesByName.get("table2").columns().isEmpty());
+    Assertions.assertEquals(
+        TableMetaService.getInstance().getTableByIdentifier(table1.nameIdentifier()),
+        tablesByName.get("table1"));
+
+    // The names over the max number of a query are queried in chunks.
+    List<String> names = Lists.newArrayList("table1");
+    for (int i = 0; i < TableMetaService.MAX_NAMES_PER_QUERY; i++) {
+      names.add("missing_table_" + i);
+    }
+    names.add("table2");
+    tables = TableMetaService.getInstance().batchGetTablesByNamespaceAndNames(namespace, names);
+    Assertions.assertEquals(
+        new HashSet<>(Arrays.asList("table1", "table2")),
+        tables.stream().map(TableEntity::name).collect(Collectors.toSet()));
+  }
+
   private void compareTwoColumns(
       List<ColumnEntity> expectedColumns, List<ColumnEntity> actualColumns) {
     Assertions.assertEquals(expectedColumns.size(), actualColumns.size());
@@ -196,6 +196,32 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(1000);
 
+  public static final ConfigEntry<String> ICEBERG_METRICS_STORE_LOCAL_PATH =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_LOCAL_PATH)
+          .doc(
+              "The directory of the local Iceberg metrics store, a relative path is resolved "
+                  + "against `${GRAVITINO_HOME}`")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("data/iceberg-metrics");
+
+  public static final ConfigEntry<Long> ICEBERG_METRICS_STORE_BUCKET_INTERVAL_MS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_BUCKET_INTERVAL_MS)
+          .doc("The time bucket size in milliseconds to aggregate Iceberg metrics per table")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3600_000L);
+
+  public static final ConfigEntry<Long> ICEBERG_METRICS_STORE_FLUSH_INTERVAL_MS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_METRICS_STORE_FLUSH_INTERVAL_MS)
+          .doc("The interval in milliseconds to flush aggregated Iceberg metrics to local files")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60_000L);
+
   public static final ConfigEntry<String> CATALOG_BACKEND_NAME =
       new ConfigBuilder(IcebergConstants.CATALOG_BACKEND_NAME)
           .doc("The catalog name for Iceberg catalog backend")
@@ -210,6 +236,79 @@ public class IcebergConfig extends Config implements OverwriteDefaultConfig {
           .longConf()
           .createWithDefault(3600000L);
 
+  public static final ConfigEntry<Integer> ICEBERG_REST_TABLE_METADATA_CACHE_MAX_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_TABLE_METADATA_CACHE_MAX_SIZE)
+          .doc(
+              "The max number of tables whose parsed metadata is cached by the catalog, the "
+                  + "cached metadata is revalidated against the current metadata location on "
+                  + "each load. 0 means disabled")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  public static final ConfigEntry<Boolean> ICEBERG_REST_TABLE_COMMIT_COALESCING_ENABLED =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_TABLE_COMMIT_COALESCING_ENABLED)
+          .doc(
+              "Whether to coalesce the concurrent commits to the same table into one metadata "
+                  + "write")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ICEBERG_REST_TABLE_COMMIT_COALESCING_MAX_BATCH_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_TABLE_COMMIT_COALESCING_MAX_BATCH_SIZE)
+          .doc("The max number of commits to the same table coalesced into one metadata write")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Boolean> ICEBERG_REST_SCAN_PLANNING_ENABLED =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLANNING_ENABLED)
+          .doc("Whether to plan the table scans of the catalog on the server side")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ICEBERG_REST_SCAN_PLANNING_THREAD_POOL_SIZE =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLANNING_THREAD_POOL_SIZE)
+          .doc("The number of threads to read the manifests when planning a table scan")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Integer> ICEBERG_REST_SCAN_PLANNING_TASKS_PER_PLAN_TASK =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLANNING_TASKS_PER_PLAN_TASK)
+          .doc(
+              "The max number of file scan tasks returned in one response, the planned tasks "
+                  + "are split into plan tasks to fetch separately if exceeded")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Long> ICEBERG_REST_SCAN_PLANNING_CACHE_MAX_TASKS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLANNING_CACHE_MAX_TASKS)
+          .doc(
+              "The max number of file scan tasks of the planned scans to keep for sharing and "
+                  + "fetching plan tasks")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100000L);
+
+  public static final ConfigEntry<Long> ICEBERG_REST_SCAN_PLANNING_CACHE_EXPIRE_MS =
+      new ConfigBuilder(IcebergConstants.ICEBERG_REST_SCAN_PLANNING_CACHE_EXPIRE_MS)
+          .doc(
+              "The time in milliseconds to keep a planned scan, the plan tasks must be fetched "
+                  + "within it")
+          .version(ConfigConstants.VERSION_1_0_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(300000L);
+
   public static final ConfigEntry<String> ICEBERG_REST_CATALOG_CONFIG_PROVIDER =
       new ConfigBuilder(IcebergConstants.ICEBERG_REST_CATALOG_CONFIG_PROVIDER)
           .doc(
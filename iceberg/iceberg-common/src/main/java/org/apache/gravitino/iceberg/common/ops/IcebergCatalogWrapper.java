@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.iceberg.common.ops;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import java.sql.Driver;
 import java.sql.DriverManager;
@@ -33,13 +35,18 @@ import org.apache.gravitino.iceberg.common.utils.IcebergCatalogUtil;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.security.UserGroupInformation;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.Transaction;
+import org.apache.iceberg.UpdateRequirement;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.SupportsNamespaces;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.catalog.ViewCatalog;
 import org.apache.iceberg.rest.CatalogHandlers;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.CreateViewRequest;
@@ -70,6 +77,10 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   private final IcebergCatalogBackend catalogBackend;
   private String catalogUri = null;
   private Map<String, String> catalogPropertiesMap;
+  // Loaded tables keyed by identifier, null if the table metadata cache is disabled.
+  private final Cache<TableIdentifier, BaseTable> tableCache;
+  // Null if commit coalescing is disabled.
+  private final IcebergTableCommitCoalescer commitCoalescer;
 
   public IcebergCatalogWrapper(IcebergConfig icebergConfig) {
     this.catalogBackend =
@@ -91,6 +102,17 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     }
 
     this.catalogPropertiesMap = icebergConfig.getIcebergCatalogProperties();
+
+    int tableCacheSize =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_TABLE_METADATA_CACHE_MAX_SIZE);
+    this.tableCache =
+        tableCacheSize > 0 ? Caffeine.newBuilder().maximumSize(tableCacheSize).build() : null;
+    int commitBatchSize =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_TABLE_COMMIT_COALESCING_MAX_BATCH_SIZE);
+    this.commitCoalescer =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_TABLE_COMMIT_COALESCING_ENABLED)
+            ? new IcebergTableCommitCoalescer(catalog, commitBatchSize)
+            : null;
   }
 
   private void validateNamespace(Optional<Namespace> namespace) {
@@ -167,15 +189,41 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public void dropTable(TableIdentifier tableIdentifier) {
+    invalidateTableCache(tableIdentifier);
     CatalogHandlers.dropTable(catalog, tableIdentifier);
   }
 
   public void purgeTable(TableIdentifier tableIdentifier) {
+    invalidateTableCache(tableIdentifier);
     CatalogHandlers.purgeTable(catalog, tableIdentifier);
   }
 
   public LoadTableResponse loadTable(TableIdentifier tableIdentifier) {
-    return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    if (tableCache == null) {
+      return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    }
+
+    BaseTable table = loadTableWithCache(tableIdentifier);
+    if (table == null) {
+      return CatalogHandlers.loadTable(catalog, tableIdentifier);
+    }
+    return LoadTableResponse.builder().withTableMetadata(table.operations().current()).build();
+  }
+
+  /**
+   * Loads the Iceberg table, which is served by the table metadata cache if it's enabled.
+   *
+   * @param tableIdentifier The identifier of the table.
+   * @return The Iceberg table.
+   */
+  public Table loadIcebergTable(TableIdentifier tableIdentifier) {
+    if (tableCache != null) {
+      BaseTable table = loadTableWithCache(tableIdentifier);
+      if (table != null) {
+        return table;
+      }
+    }
+    return catalog.loadTable(tableIdentifier);
   }
 
   public boolean tableExists(TableIdentifier tableIdentifier) {
@@ -187,12 +235,22 @@ public class IcebergCatalogWrapper implements AutoCloseable {
   }
 
   public void renameTable(RenameTableRequest renameTableRequest) {
+    invalidateTableCache(renameTableRequest.source());
     CatalogHandlers.renameTable(catalog, renameTableRequest);
   }
 
   public LoadTableResponse updateTable(
       TableIdentifier tableIdentifier, UpdateTableRequest updateTableRequest) {
-    return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    // The commit of a staged table creation creates the table, it's never coalesced.
+    if (commitCoalescer == null || isCreateTableCommit(updateTableRequest)) {
+      return CatalogHandlers.updateTable(catalog, tableIdentifier, updateTableRequest);
+    }
+    return commitCoalescer.commit(tableIdentifier, updateTableRequest);
+  }
+
+  public void commitTransaction(CommitTransactionRequest commitTransactionRequest) {
+    commitTransactionRequest.validate();
+    CatalogHandlers.commitTransaction(catalog, commitTransactionRequest);
   }
 
   public LoadTableResponse updateTable(IcebergTableChange icebergTableChange) {
@@ -236,8 +294,57 @@ public class IcebergCatalogWrapper implements AutoCloseable {
     return catalog instanceof ViewCatalog;
   }
 
+  /**
+   * Loads the table from the cache if present. Refreshing the table operations only asks the
+   * catalog backend for the current metadata location and re-reads the metadata file if the
+   * location changed, so a hit never serves stale metadata and skips parsing the metadata file if
+   * the table is unchanged.
+   *
+   * @return The refreshed table, or null if the table is not a {@link BaseTable}.
+   */
+  private BaseTable loadTableWithCache(TableIdentifier tableIdentifier) {
+    BaseTable cachedTable = tableCache.getIfPresent(tableIdentifier);
+    if (cachedTable != null) {
+      TableMetadata tableMetadata = null;
+      try {
+        synchronized (cachedTable) {
+          tableMetadata = cachedTable.operations().refresh();
+        }
+      } catch (RuntimeException e) {
+        LOG.debug("Failed to refresh the cached Iceberg table: {}", tableIdentifier, e);
+      }
+      if (tableMetadata != null) {
+        return cachedTable;
+      }
+      // The table may be dropped, renamed or recreated by other engines, load it again.
+      tableCache.invalidate(tableIdentifier);
+    }
+
+    Table table = catalog.loadTable(tableIdentifier);
+    if (!(table instanceof BaseTable)) {
+      return null;
+    }
+    BaseTable baseTable = (BaseTable) table;
+    tableCache.put(tableIdentifier, baseTable);
+    return baseTable;
+  }
+
+  private static boolean isCreateTableCommit(UpdateTableRequest updateTableRequest) {
+    return updateTableRequest.requirements().stream()
+        .anyMatch(UpdateRequirement.AssertTableDoesNotExist.class::isInstance);
+  }
+
+  private void invalidateTableCache(TableIdentifier tableIdentifier) {
+    if (tableCache != null) {
+      tableCache.invalidate(tableIdentifier);
+    }
+  }
+
   @Override
   public void close() throws Exception {
+    if (tableCache != null) {
+      tableCache.invalidateAll();
+    }
     if (catalog instanceof AutoCloseable) {
       // JdbcCatalog and WrappedHiveCatalog need close.
       ((AutoCloseable) catalog).close();
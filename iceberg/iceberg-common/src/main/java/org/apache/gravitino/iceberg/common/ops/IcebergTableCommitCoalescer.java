@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataOperations;
+import org.apache.iceberg.EnvironmentContext;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotRef;
+import org.apache.iceberg.SnapshotRefType;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.catalog.Catalog;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.encryption.EncryptionManager;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces the concurrent commits to the same table into one metadata write.
+ *
+ * <p>The commits to a table are queued, the first committer takes the lock of the table and
+ * commits the queued requests as a batch, while the other committers wait for the lock and find
+ * their requests committed. The requests of a batch are applied in order on top of each other, a
+ * request whose requirements don't hold against the metadata produced by the previous requests
+ * fails with {@link CommitFailedException} like it would if committed alone, without failing the
+ * rest of the batch. The batch is retried on the refreshed metadata if the metadata write conflicts
+ * with a commit outside of this server.
+ *
+ * <p>Only the commits of the same user are coalesced, a batch is committed by one of its committers
+ * under its identity, so it must not carry the requests of other users.
+ *
+ * <p>Concurrent writers appending to the same branch assert the same parent snapshot, so only the
+ * first of them would hold. A request which only appends a snapshot of data files to a branch is
+ * rebased onto the current head of the branch instead: the appended data files are committed in a
+ * new snapshot whose parent is the head, as long as the asserted parent is still an ancestor of the
+ * head and none of the appended files has been added since. The snapshot of the request is then
+ * not part of the table, and the writer leaves its manifests behind as orphan files.
+ */
+public class IcebergTableCommitCoalescer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergTableCommitCoalescer.class);
+
+  private final Catalog catalog;
+  private final int maxBatchSize;
+  // The commit queues of the tables and the users, only kept while there are committers
+  // referencing them.
+  private final Cache<Pair<TableIdentifier, String>, CommitQueue> commitQueues =
+      Caffeine.newBuilder().weakValues().build();
+
+  public IcebergTableCommitCoalescer(Catalog catalog, int maxBatchSize) {
+    this.catalog = catalog;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Commits the changes of a table, possibly together with the concurrent commits to the same
+   * table.
+   *
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param request The request containing the requirements and the updates of the table.
+   * @return The table metadata after the commit.
+   */
+  public LoadTableResponse commit(TableIdentifier tableIdentifier, UpdateTableRequest request) {
+    PendingCommit pendingCommit = new PendingCommit(request);
+    CommitQueue commitQueue = commitQueues.get(queueKey(tableIdentifier), key -> new CommitQueue());
+    commitQueue.pendingCommits.add(pendingCommit);
+
+    commitQueue.lock.lock();
+    try {
+      while (!pendingCommit.result.isDone()) {
+        List<PendingCommit> batch = commitQueue.drain(maxBatchSize);
+        try {
+          commitBatch(tableIdentifier, batch);
+        } catch (Throwable t) {
+          // Don't leave the other committers of the batch waiting forever on an error, the state
+          // of their commits is unknown.
+          CommitStateUnknownException failure = new CommitStateUnknownException(t);
+          batch.forEach(pending -> pending.result.completeExceptionally(failure));
+          throw t;
+        }
+      }
+    } finally {
+      commitQueue.lock.unlock();
+    }
+
+    try {
+      return pendingCommit.result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @VisibleForTesting
+  int pendingCommitCount(TableIdentifier tableIdentifier) {
+    CommitQueue commitQueue = commitQueues.getIfPresent(queueKey(tableIdentifier));
+    return commitQueue == null ? 0 : commitQueue.pendingCommits.size();
+  }
+
+  private static Pair<TableIdentifier, String> queueKey(TableIdentifier tableIdentifier) {
+    return Pair.of(tableIdentifier, PrincipalUtils.getCurrentUserName());
+  }
+
+  private void commitBatch(TableIdentifier tableIdentifier, List<PendingCommit> batch) {
+    try {
+      Table table = catalog.loadTable(tableIdentifier);
+      if (!(table instanceof BaseTable)) {
+        throw new IllegalStateException("Cannot wrap catalog that does not produce BaseTable");
+      }
+      TableOperations ops = ((BaseTable) table).operations();
+      TableMetadata current = ops.current();
+
+      // The requests rejected by the last attempt, an attempt may accept a request rejected by the
+      // previous one after refreshing the metadata.
+      Map<PendingCommit, RuntimeException> rejectedCommits = new HashMap<>();
+      AtomicBoolean isRetry = new AtomicBoolean(false);
+      Tasks.foreach(ops)
+          .retry(
+              current.propertyAsInt(
+                  TableProperties.COMMIT_NUM_RETRIES, TableProperties.COMMIT_NUM_RETRIES_DEFAULT))
+          .exponentialBackoff(
+              current.propertyAsInt(
+                  TableProperties.COMMIT_MIN_RETRY_WAIT_MS,
+                  TableProperties.COMMIT_MIN_RETRY_WAIT_MS_DEFAULT),
+              current.propertyAsInt(
+                  TableProperties.COMMIT_MAX_RETRY_WAIT_MS,
+                  TableProperties.COMMIT_MAX_RETRY_WAIT_MS_DEFAULT),
+              current.propertyAsInt(
+                  TableProperties.COMMIT_TOTAL_RETRY_TIME_MS,
+                  TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT),
+              2.0 /* exponential */)
+          .onlyRetryOn(CommitFailedException.class)
+          .run(
+              taskOps -> {
+                TableMetadata base = isRetry.get() ? taskOps.refresh() : taskOps.current();
+                isRetry.set(true);
+                rejectedCommits.clear();
+
+                TableMetadata updated = base;
+                for (PendingCommit pendingCommit : batch) {
+                  try {
+                    updated =
+                        apply(taskOps, tableIdentifier.toString(), updated, pendingCommit.request);
+                  } catch (RuntimeException e) {
+                    rejectedCommits.put(pendingCommit, e);
+                  }
+                }
+
+                // Nothing to commit if all the requests are rejected or don't change the table.
+                if (updated != base) {
+                  taskOps.commit(base, updated);
+                }
+              });
+
+      LoadTableResponse response =
+          LoadTableResponse.builder().withTableMetadata(ops.current()).build();
+      for (PendingCommit pendingCommit : batch) {
+        RuntimeException rejection = rejectedCommits.get(pendingCommit);
+        if (rejection != null) {
+          pendingCommit.result.completeExceptionally(rejection);
+        } else {
+          pendingCommit.result.complete(response);
+        }
+      }
+      if (batch.size() > 1) {
+        LOG.info(
+            "Coalesced {} commits of Iceberg table: {}, rejected: {}",
+            batch.size(),
+            tableIdentifier,
+            rejectedCommits.size());
+      }
+    } catch (RuntimeException e) {
+      batch.forEach(pendingCommit -> pendingCommit.result.completeExceptionally(e));
+    }
+  }
+
+  private static TableMetadata apply(
+      TableOperations ops, String tableName, TableMetadata base, UpdateTableRequest request) {
+    AppendCommit appendCommit = AppendCommit.of(request);
+    if (appendCommit != null && !appendCommit.holds(base)) {
+      return rebase(ops, tableName, base, request, appendCommit);
+    }
+
+    for (UpdateRequirement requirement : request.requirements()) {
+      requirement.validate(base);
+    }
+    if (request.updates().isEmpty()) {
+      return base;
+    }
+
+    TableMetadata.Builder builder = TableMetadata.buildFrom(base);
+    for (MetadataUpdate update : request.updates()) {
+      update.applyTo(builder);
+    }
+    return builder.build();
+  }
+
+  private static TableMetadata rebase(
+      TableOperations ops,
+      String tableName,
+      TableMetadata base,
+      UpdateTableRequest request,
+      AppendCommit appendCommit) {
+    for (UpdateRequirement requirement : request.requirements()) {
+      if (requirement != appendCommit.parentRequirement) {
+        requirement.validate(base);
+      }
+    }
+
+    Snapshot snapshot = appendCommit.snapshot;
+    if (snapshot.addedDeleteFiles(ops.io()).iterator().hasNext()) {
+      throw new CommitFailedException(
+          "Cannot rebase snapshot %s onto branch %s: it adds delete files",
+          snapshot.snapshotId(), appendCommit.branch);
+    }
+    List<DataFile> dataFiles = new ArrayList<>();
+    Set<String> dataFileLocations = new HashSet<>();
+    for (DataFile dataFile : snapshot.addedDataFiles(ops.io())) {
+      dataFiles.add(dataFile.copy());
+      dataFileLocations.add(dataFile.location());
+    }
+
+    // Walk back from the head to the asserted parent, the appended files must not conflict with
+    // the files added in between.
+    SnapshotRef head = base.ref(appendCommit.branch);
+    Long snapshotId = head == null ? null : head.snapshotId();
+    while (!Objects.equals(snapshotId, snapshot.parentId())) {
+      Snapshot ancestor = snapshotId == null ? null : base.snapshot(snapshotId);
+      if (ancestor == null) {
+        throw new CommitFailedException(
+            "Cannot rebase snapshot %s onto branch %s: parent %s is not an ancestor of the head",
+            snapshot.snapshotId(), appendCommit.branch, snapshot.parentId());
+      }
+      for (DataFile dataFile : ancestor.addedDataFiles(ops.io())) {
+        if (dataFileLocations.contains(dataFile.location())) {
+          throw new CommitFailedException(
+              "Cannot rebase snapshot %s onto branch %s: file %s was added by snapshot %s",
+              snapshot.snapshotId(),
+              appendCommit.branch,
+              dataFile.location(),
+              ancestor.snapshotId());
+        }
+      }
+      snapshotId = ancestor.parentId();
+    }
+
+    StagedTableOperations stagedOps = new StagedTableOperations(ops, base);
+    AppendFiles append =
+        new BaseTable(stagedOps, tableName, report -> {})
+            .newFastAppend()
+            .toBranch(appendCommit.branch);
+    dataFiles.forEach(append::appendFile);
+    // Keep the properties set by the writer, e.g. the checkpoint of a streaming writer, the ones
+    // derived from the files are computed again on top of the head.
+    snapshot.summary().entrySet().stream()
+        .filter(property -> !isComputedSummaryProperty(property.getKey()))
+        .forEach(property -> append.set(property.getKey(), property.getValue()));
+    append.commit();
+    return stagedOps.current();
+  }
+
+  private static boolean isComputedSummaryProperty(String key) {
+    return key.startsWith("added-")
+        || key.startsWith("deleted-")
+        || key.startsWith("removed-")
+        || key.startsWith("total-")
+        || key.startsWith("partitions.")
+        || key.equals("changed-partition-count")
+        || key.equals("partition-summaries-included")
+        || EnvironmentContext.get().containsKey(key);
+  }
+
+  /** A request which only appends one snapshot to a branch asserting its parent as the head. */
+  private static class AppendCommit {
+    private final String branch;
+    private final Snapshot snapshot;
+    private final UpdateRequirement parentRequirement;
+
+    private AppendCommit(String branch, Snapshot snapshot, UpdateRequirement parentRequirement) {
+      this.branch = branch;
+      this.snapshot = snapshot;
+      this.parentRequirement = parentRequirement;
+    }
+
+    private static AppendCommit of(UpdateTableRequest request) {
+      if (request.updates().size() != 2
+          || !(request.updates().get(0) instanceof MetadataUpdate.AddSnapshot)
+          || !(request.updates().get(1) instanceof MetadataUpdate.SetSnapshotRef)) {
+        return null;
+      }
+      Snapshot snapshot = ((MetadataUpdate.AddSnapshot) request.updates().get(0)).snapshot();
+      MetadataUpdate.SetSnapshotRef setRef =
+          (MetadataUpdate.SetSnapshotRef) request.updates().get(1);
+      if (!DataOperations.APPEND.equals(snapshot.operation())
+          || setRef.type() != SnapshotRefType.BRANCH
+          || setRef.snapshotId() != snapshot.snapshotId()
+          || setRef.minSnapshotsToKeep() != null
+          || setRef.maxSnapshotAgeMs() != null
+          || setRef.maxRefAgeMs() != null) {
+        return null;
+      }
+
+      for (UpdateRequirement requirement : request.requirements()) {
+        if (requirement instanceof UpdateRequirement.AssertRefSnapshotId) {
+          UpdateRequirement.AssertRefSnapshotId assertRef =
+              (UpdateRequirement.AssertRefSnapshotId) requirement;
+          if (assertRef.refName().equals(setRef.name())
+              && Objects.equals(assertRef.snapshotId(), snapshot.parentId())) {
+            return new AppendCommit(setRef.name(), snapshot, requirement);
+          }
+        }
+      }
+      return null;
+    }
+
+    private boolean holds(TableMetadata base) {
+      SnapshotRef head = base.ref(branch);
+      return Objects.equals(head == null ? null : head.snapshotId(), snapshot.parentId());
+    }
+  }
+
+  /** Table operations committing to the in-memory metadata of a batch. */
+  private static class StagedTableOperations implements TableOperations {
+    private final TableOperations ops;
+    private TableMetadata current;
+
+    StagedTableOperations(TableOperations ops, TableMetadata base) {
+      this.ops = ops;
+      this.current = base;
+    }
+
+    @Override
+    public TableMetadata current() {
+      return current;
+    }
+
+    @Override
+    public TableMetadata refresh() {
+      return current;
+    }
+
+    @Override
+    public void commit(TableMetadata base, TableMetadata metadata) {
+      if (base != current) {
+        throw new CommitFailedException("Staged metadata changed during the commit");
+      }
+      this.current = metadata;
+    }
+
+    @Override
+    public FileIO io() {
+      return ops.io();
+    }
+
+    @Override
+    public EncryptionManager encryption() {
+      return ops.encryption();
+    }
+
+    @Override
+    public String metadataFileLocation(String fileName) {
+      return ops.metadataFileLocation(fileName);
+    }
+
+    @Override
+    public LocationProvider locationProvider() {
+      return ops.locationProvider();
+    }
+
+    @Override
+    public long newSnapshotId() {
+      return ops.newSnapshotId();
+    }
+  }
+
+  private static class PendingCommit {
+    private final UpdateTableRequest request;
+    private final CompletableFuture<LoadTableResponse> result = new CompletableFuture<>();
+
+    PendingCommit(UpdateTableRequest request) {
+      this.request = request;
+    }
+  }
+
+  private static class CommitQueue {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<PendingCommit> pendingCommits = new ConcurrentLinkedQueue<>();
+
+    private List<PendingCommit> drain(int maxSize) {
+      List<PendingCommit> batch = new ArrayList<>();
+      PendingCommit pendingCommit;
+      while (batch.size() < maxSize && (pendingCommit = pendingCommits.poll()) != null) {
+        batch.add(pendingCommit);
+      }
+      return batch;
+    }
+  }
+}
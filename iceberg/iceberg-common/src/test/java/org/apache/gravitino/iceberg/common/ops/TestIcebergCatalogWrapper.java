@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
+import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
+import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.RenameTableRequest;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types.NestedField;
+import org.apache.iceberg.types.Types.StringType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergCatalogWrapper {
+
+  private static final Schema tableSchema =
+      new Schema(NestedField.of(1, false, "foo_string", StringType.get()));
+
+  @Test
+  public void testLoadTableWithMetadataCache() throws Exception {
+    IcebergConfig icebergConfig =
+        new IcebergConfig(
+            ImmutableMap.of(IcebergConstants.ICEBERG_REST_TABLE_METADATA_CACHE_MAX_SIZE, "10"));
+    try (IcebergCatalogWrapper catalogWrapper = new IcebergCatalogWrapper(icebergConfig)) {
+      Namespace namespace = Namespace.of("cache_db");
+      TableIdentifier identifier = TableIdentifier.of(namespace, "cache_table");
+      catalogWrapper.createNamespace(
+          CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      catalogWrapper.createTable(
+          namespace,
+          CreateTableRequest.builder().withName("cache_table").withSchema(tableSchema).build());
+
+      LoadTableResponse response = catalogWrapper.loadTable(identifier);
+      Assertions.assertEquals(
+          response.metadataLocation(), catalogWrapper.loadTable(identifier).metadataLocation());
+
+      // Changes committed by other engines are visible through the cached table.
+      catalogWrapper.getCatalog().loadTable(identifier).updateProperties().set("k", "v").commit();
+      LoadTableResponse updatedResponse = catalogWrapper.loadTable(identifier);
+      Assertions.assertNotEquals(response.metadataLocation(), updatedResponse.metadataLocation());
+      Assertions.assertEquals("v", updatedResponse.tableMetadata().property("k", null));
+
+      // The tables to scan are served by the cache as well.
+      Table table = catalogWrapper.loadIcebergTable(identifier);
+      Assertions.assertSame(table, catalogWrapper.loadIcebergTable(identifier));
+      Assertions.assertEquals("v", table.properties().get("k"));
+
+      // Tables dropped by other engines are not served from the cache.
+      catalogWrapper.getCatalog().dropTable(identifier);
+      Assertions.assertThrows(
+          NoSuchTableException.class, () -> catalogWrapper.loadTable(identifier));
+
+      // Tables recreated by other engines are loaded again.
+      catalogWrapper.createTable(
+          namespace,
+          CreateTableRequest.builder().withName("cache_table").withSchema(tableSchema).build());
+      LoadTableResponse recreatedResponse = catalogWrapper.loadTable(identifier);
+      Assertions.assertNotEquals(
+          response.tableMetadata().uuid(), recreatedResponse.tableMetadata().uuid());
+
+      TableIdentifier newIdentifier = TableIdentifier.of(namespace, "cache_table_new");
+      catalogWrapper.renameTable(
+          RenameTableRequest.builder()
+              .withSource(identifier)
+              .withDestination(newIdentifier)
+              .build());
+      Assertions.assertThrows(
+          NoSuchTableException.class, () -> catalogWrapper.loadTable(identifier));
+      Assertions.assertEquals(
+          recreatedResponse.tableMetadata().uuid(),
+          catalogWrapper.loadTable(newIdentifier).tableMetadata().uuid());
+    }
+  }
+
+  @Test
+  public void testCommitTransaction() throws Exception {
+    try (IcebergCatalogWrapper catalogWrapper = new IcebergCatalogWrapper(new IcebergConfig())) {
+      Namespace namespace = Namespace.of("txn_db");
+      catalogWrapper.createNamespace(
+          CreateNamespaceRequest.builder().withNamespace(namespace).build());
+      TableIdentifier table1 = TableIdentifier.of(namespace, "txn_table1");
+      TableIdentifier table2 = TableIdentifier.of(namespace, "txn_table2");
+      String uuid1 = createTable(catalogWrapper, table1);
+      String uuid2 = createTable(catalogWrapper, table2);
+
+      // No table is committed if the requirements of any table don't hold.
+      Assertions.assertThrows(
+          CommitFailedException.class,
+          () ->
+              catalogWrapper.commitTransaction(
+                  new CommitTransactionRequest(
+                      ImmutableList.of(
+                          setPropertyRequest(table1, uuid1), setPropertyRequest(table2, "x")))));
+      Assertions.assertNull(catalogWrapper.loadTable(table1).tableMetadata().property("k", null));
+
+      catalogWrapper.commitTransaction(
+          new CommitTransactionRequest(
+              ImmutableList.of(
+                  setPropertyRequest(table1, uuid1), setPropertyRequest(table2, uuid2))));
+      Assertions.assertEquals(
+          "v", catalogWrapper.loadTable(table1).tableMetadata().property("k", null));
+      Assertions.assertEquals(
+          "v", catalogWrapper.loadTable(table2).tableMetadata().property("k", null));
+    }
+  }
+
+  private static String createTable(IcebergCatalogWrapper catalogWrapper, TableIdentifier table) {
+    LoadTableResponse response =
+        catalogWrapper.createTable(
+            table.namespace(),
+            CreateTableRequest.builder().withName(table.name()).withSchema(tableSchema).build());
+    return response.tableMetadata().uuid();
+  }
+
+  private static UpdateTableRequest setPropertyRequest(TableIdentifier table, String uuid) {
+    return UpdateTableRequest.create(
+        table,
+        ImmutableList.of(new UpdateRequirement.AssertTableUUID(uuid)),
+        ImmutableList.of(new MetadataUpdate.SetProperties(ImmutableMap.of("k", "v"))));
+  }
+}
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.common.ops;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.MetadataUpdate;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.UpdateRequirement;
+import org.apache.iceberg.UpdateRequirements;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.LocationProvider;
+import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types.NestedField;
+import org.apache.iceberg.types.Types.StringType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergTableCommitCoalescer {
+
+  private static final Schema tableSchema =
+      new Schema(NestedField.of(1, false, "foo_string", StringType.get()));
+
+  private static final TableIdentifier tableIdentifier = TableIdentifier.of("db", "coalesce");
+
+  private InMemoryCatalog catalog;
+  private IcebergTableCommitCoalescer commitCoalescer;
+
+  @BeforeEach
+  void setUp() {
+    catalog = new InMemoryCatalog();
+    catalog.initialize("memory", ImmutableMap.of());
+    catalog.createNamespace(Namespace.of("db"));
+    commitCoalescer = new IcebergTableCommitCoalescer(catalog, 100);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    catalog.close();
+  }
+
+  @Test
+  void testConcurrentCommits() throws Exception {
+    Table table = catalog.createTable(tableIdentifier, tableSchema);
+    int commitCount = 16;
+    ExecutorService executor = Executors.newFixedThreadPool(commitCount);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Future<LoadTableResponse>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < commitCount; i++) {
+        UpdateTableRequest request = setPropertyRequest(table.uuid().toString(), "k" + i);
+        results.add(
+            executor.submit(
+                () -> {
+                  startLatch.await();
+                  return commitCoalescer.commit(tableIdentifier, request);
+                }));
+      }
+      startLatch.countDown();
+      for (Future<LoadTableResponse> result : results) {
+        Assertions.assertNotNull(result.get().tableMetadata());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Table updatedTable = catalog.loadTable(tableIdentifier);
+    for (int i = 0; i < commitCount; i++) {
+      Assertions.assertEquals("v", updatedTable.properties().get("k" + i));
+    }
+  }
+
+  @Test
+  void testRejectCommitWithUnsatisfiedRequirements() {
+    Table table = catalog.createTable(tableIdentifier, tableSchema);
+    Assertions.assertThrows(
+        CommitFailedException.class,
+        () -> commitCoalescer.commit(tableIdentifier, setPropertyRequest("wrong-uuid", "k1")));
+
+    LoadTableResponse response =
+        commitCoalescer.commit(tableIdentifier, setPropertyRequest(table.uuid().toString(), "k2"));
+    Assertions.assertNull(response.tableMetadata().property("k1", null));
+    Assertions.assertEquals("v", response.tableMetadata().property("k2", null));
+  }
+
+  @Test
+  void testCompleteBatchOnError() throws Exception {
+    Table table = catalog.createTable(tableIdentifier, tableSchema);
+    CountDownLatch firstLoadLatch = new CountDownLatch(1);
+    CountDownLatch releaseLatch = new CountDownLatch(1);
+    AtomicInteger loadCount = new AtomicInteger();
+    // The first batch waits until the next one is queued, the next one fails with an error.
+    InMemoryCatalog failingCatalog =
+        new InMemoryCatalog() {
+          @Override
+          public Table loadTable(TableIdentifier identifier) {
+            int load = loadCount.incrementAndGet();
+            if (load == 1) {
+              firstLoadLatch.countDown();
+              try {
+                releaseLatch.await();
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            } else if (load == 2) {
+              throw new AssertionError("Failed to load the table");
+            }
+            return catalog.loadTable(identifier);
+          }
+        };
+    IcebergTableCommitCoalescer failingCoalescer =
+        new IcebergTableCommitCoalescer(failingCatalog, 100);
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Future<LoadTableResponse> first =
+          executor.submit(
+              () ->
+                  failingCoalescer.commit(
+                      tableIdentifier, setPropertyRequest(table.uuid().toString(), "k0")));
+      firstLoadLatch.await();
+      List<Future<LoadTableResponse>> results = new ArrayList<>();
+      for (int i = 1; i <= 2; i++) {
+        UpdateTableRequest request = setPropertyRequest(table.uuid().toString(), "k" + i);
+        results.add(executor.submit(() -> failingCoalescer.commit(tableIdentifier, request)));
+      }
+      while (failingCoalescer.pendingCommitCount(tableIdentifier) < 2) {
+        Thread.sleep(10);
+      }
+      releaseLatch.countDown();
+      Assertions.assertNotNull(first.get(30, TimeUnit.SECONDS).tableMetadata());
+
+      // Both commits of the failed batch complete, instead of waiting for the batch forever.
+      Set<Class<?>> failures = new HashSet<>();
+      for (Future<LoadTableResponse> result : results) {
+        ExecutionException e =
+            Assertions.assertThrows(
+                ExecutionException.class, () -> result.get(30, TimeUnit.SECONDS));
+        failures.add(e.getCause().getClass());
+      }
+      Assertions.assertEquals(
+          ImmutableSet.of(AssertionError.class, CommitStateUnknownException.class), failures);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testRebaseConcurrentAppends() throws Exception {
+    Table table = catalog.createTable(tableIdentifier, tableSchema);
+    table.newFastAppend().appendFile(dataFile("a")).commit();
+    table.refresh();
+    long parentId = table.currentSnapshot().snapshotId();
+
+    // Both writers append on top of the same parent snapshot.
+    UpdateTableRequest appendB = appendRequest(table, "b", "checkpoint-id", "1");
+    UpdateTableRequest appendC = appendRequest(table, "c", "checkpoint-id", "2");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    try {
+      List<Future<LoadTableResponse>> results = new ArrayList<>();
+      for (UpdateTableRequest request : ImmutableList.of(appendB, appendC)) {
+        results.add(
+            executor.submit(
+                () -> {
+                  startLatch.await();
+                  return commitCoalescer.commit(tableIdentifier, request);
+                }));
+      }
+      startLatch.countDown();
+      for (Future<LoadTableResponse> result : results) {
+        Assertions.assertNotNull(result.get().tableMetadata());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Table updatedTable = catalog.loadTable(tableIdentifier);
+    Assertions.assertEquals(ImmutableSet.of("a", "b", "c"), dataFileLocations(updatedTable));
+    Snapshot head = updatedTable.currentSnapshot();
+    Snapshot previous = updatedTable.snapshot(head.parentId());
+    Assertions.assertEquals(parentId, previous.parentId());
+    Assertions.assertEquals("3", head.summary().get("total-data-files"));
+    Assertions.assertEquals(
+        ImmutableSet.of("1", "2"),
+        ImmutableSet.of(
+            head.summary().get("checkpoint-id"), previous.summary().get("checkpoint-id")));
+  }
+
+  @Test
+  void testRejectRebasingConflictingAppend() {
+    Table table = catalog.createTable(tableIdentifier, tableSchema);
+    table.newFastAppend().appendFile(dataFile("a")).commit();
+    table.refresh();
+
+    UpdateTableRequest appendB = appendRequest(table, "b", "k", "v1");
+    UpdateTableRequest appendAgainB = appendRequest(table, "b", "k", "v2");
+    commitCoalescer.commit(tableIdentifier, appendB);
+    Assertions.assertThrows(
+        CommitFailedException.class, () -> commitCoalescer.commit(tableIdentifier, appendAgainB));
+
+    Table updatedTable = catalog.loadTable(tableIdentifier);
+    Assertions.assertEquals(ImmutableSet.of("a", "b"), dataFileLocations(updatedTable));
+    Assertions.assertEquals("v1", updatedTable.currentSnapshot().summary().get("k"));
+  }
+
+  private static UpdateTableRequest appendRequest(
+      Table table, String location, String summaryKey, String summaryValue) {
+    // Append through operations which stage the commit instead of writing it, like a REST client
+    // sending its changes to the server.
+    StagingTableOperations stagingOps =
+        new StagingTableOperations(((HasTableOperations) table).operations());
+    new BaseTable(stagingOps, table.name())
+        .newFastAppend()
+        .appendFile(dataFile(location))
+        .set(summaryKey, summaryValue)
+        .commit();
+    List<MetadataUpdate> updates = stagingOps.staged.changes();
+    return UpdateTableRequest.create(
+        tableIdentifier, UpdateRequirements.forUpdateTable(stagingOps.base, updates), updates);
+  }
+
+  private static DataFile dataFile(String location) {
+    return DataFiles.builder(PartitionSpec.unpartitioned())
+        .withPath(location)
+        .withFileSizeInBytes(10)
+        .withRecordCount(1)
+        .build();
+  }
+
+  private static Set<String> dataFileLocations(Table table) throws Exception {
+    Set<String> locations = new HashSet<>();
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      tasks.forEach(task -> locations.add(task.file().location()));
+    }
+    return locations;
+  }
+
+  private static UpdateTableRequest setPropertyRequest(String tableUuid, String key) {
+    return UpdateTableRequest.create(
+        tableIdentifier,
+        ImmutableList.of(new UpdateRequirement.AssertTableUUID(tableUuid)),
+        ImmutableList.of(new MetadataUpdate.SetProperties(ImmutableMap.of(key, "v"))));
+  }
+
+  private static class StagingTableOperations implements TableOperations {
+    private final TableOperations ops;
+    private final TableMetadata base;
+    private TableMetadata staged;
+
+    StagingTableOperations(TableOperations ops) {
+      this.ops = ops;
+      this.base = ops.current();
+    }
+
+    @Override
+    public TableMetadata current() {
+      return staged == null ? base : staged;
+    }
+
+    @Override
+    public TableMetadata refresh() {
+      return current();
+    }
+
+    @Override
+    public void commit(TableMetadata base, TableMetadata metadata) {
+      this.staged = metadata;
+    }
+
+    @Override
+    public FileIO io() {
+      return ops.io();
+    }
+
+    @Override
+    public String metadataFileLocation(String fileName) {
+      return ops.metadataFileLocation(fileName);
+    }
+
+    @Override
+    public LocationProvider locationProvider() {
+      return ops.locationProvider();
+    }
+  }
+}
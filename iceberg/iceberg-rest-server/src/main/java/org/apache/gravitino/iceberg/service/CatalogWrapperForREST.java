@@ -45,7 +45,11 @@ import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.ServiceUnavailableException;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 
 /** Process Iceberg REST specific operations, like credential vending. */
 public class CatalogWrapperForREST extends IcebergCatalogWrapper {
@@ -54,6 +58,9 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
 
   private final Map<String, String> catalogConfigToClients;
 
+  // Null if scan planning is disabled for the catalog.
+  private final IcebergScanPlanner scanPlanner;
+
   private static final Set<String> catalogPropertiesToClientKeys =
       ImmutableSet.of(
           IcebergConstants.IO_IMPL,
@@ -70,6 +77,10 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
           GCSProperties.GRAVITINO_GCS_SERVICE_ACCOUNT_FILE);
 
   public CatalogWrapperForREST(String catalogName, IcebergConfig config) {
+    this(IcebergConstants.ICEBERG_REST_DEFAULT_METALAKE, catalogName, config);
+  }
+
+  public CatalogWrapperForREST(String metalakeName, String catalogName, IcebergConfig config) {
     super(config);
     this.catalogConfigToClients =
         MapUtils.getFilteredMap(
@@ -78,7 +89,12 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     // To be compatible with old properties
     Map<String, String> catalogProperties =
         checkForCompatibility(config.getAllConfig(), deprecatedProperties);
-    this.catalogCredentialManager = new CatalogCredentialManager(catalogName, catalogProperties);
+    this.catalogCredentialManager =
+        new CatalogCredentialManager(metalakeName, catalogName, catalogProperties);
+    this.scanPlanner =
+        config.get(IcebergConfig.ICEBERG_REST_SCAN_PLANNING_ENABLED)
+            ? new IcebergScanPlanner(catalogName, config)
+            : null;
   }
 
   public LoadTableResponse createTable(
@@ -99,17 +115,44 @@ public class CatalogWrapperForREST extends IcebergCatalogWrapper {
     return loadTableResponse;
   }
 
+  public boolean supportsScanPlanning() {
+    return scanPlanner != null;
+  }
+
+  public PlanTableScanResponse planTableScan(
+      TableIdentifier identifier, PlanTableScanRequest request) {
+    return getScanPlanner().planTableScan(identifier, loadIcebergTable(identifier), request);
+  }
+
+  public FetchScanTasksResponse fetchScanTasks(
+      TableIdentifier identifier, FetchScanTasksRequest request) {
+    return getScanPlanner().fetchScanTasks(identifier, request);
+  }
+
   @Override
   public void close() {
     if (catalogCredentialManager != null) {
       catalogCredentialManager.close();
     }
+    if (scanPlanner != null) {
+      scanPlanner.close();
+    }
   }
 
   public Map<String, String> getCatalogConfigToClient() {
     return catalogConfigToClients;
   }
 
+  private IcebergScanPlanner getScanPlanner() {
+    if (scanPlanner == null) {
+      throw new UnsupportedOperationException(
+          "Scan planning is not enabled, please set "
+              + IcebergConstants.ICEBERG_REST_SCAN_PLANNING_ENABLED
+              + " to true for the catalog");
+    }
+    return scanPlanner;
+  }
+
   private LoadTableResponse injectCredentialConfig(
       TableIdentifier tableIdentifier, LoadTableResponse loadTableResponse) {
     TableMetadata tableMetadata = loadTableResponse.tableMetadata();
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -48,6 +49,49 @@ public class IcebergRestUtils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  public static <T> Response ok(T t, EntityTag etag) {
+    if (etag == null) {
+      return ok(t);
+    }
+    return Response.status(Response.Status.OK)
+        .entity(t)
+        .type(MediaType.APPLICATION_JSON)
+        .tag(etag)
+        .build();
+  }
+
+  public static Response notModified(EntityTag etag) {
+    return Response.notModified(etag).build();
+  }
+
+  /**
+   * Checks whether the value of an If-None-Match header matches the entity tag, weak validators
+   * are compared by their opaque value.
+   *
+   * @param ifNoneMatch The If-None-Match header value, may be null.
+   * @param etag The current entity tag.
+   * @return true if the client already has the current representation.
+   */
+  public static boolean matchesETag(String ifNoneMatch, EntityTag etag) {
+    if (StringUtils.isBlank(ifNoneMatch)) {
+      return false;
+    }
+    String expected = "\"" + etag.getValue() + "\"";
+    for (String tag : ifNoneMatch.split(",")) {
+      String value = tag.trim();
+      if ("*".equals(value)) {
+        return true;
+      }
+      if (value.startsWith("W/")) {
+        value = value.substring(2);
+      }
+      if (expected.equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public static Response okWithoutContent() {
     return Response.status(Response.Status.OK).build();
   }
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.CombinedScanTask;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Scan;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.expressions.ExpressionParser;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans Iceberg table scans on the server side, so that the clients don't need to read the
+ * manifests themselves.
+ *
+ * <p>The manifests are read in parallel by a thread pool shared by the scans of the catalog. The
+ * planned file scan tasks are kept for a while and shared by the clients planning the same scan of
+ * the same snapshot. If a scan has more file scan tasks than a response should carry, the tasks are
+ * split into plan tasks which are fetched separately by the clients. The planned scans are bounded
+ * by the total number of their file scan tasks, and expire after the lifetime of the plan tasks.
+ */
+public class IcebergScanPlanner implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IcebergScanPlanner.class);
+
+  private static final String PLAN_TASK_SEPARATOR = ":";
+
+  private final int tasksPerPlanTask;
+  private final long cacheMaxTasks;
+  private final ExecutorService planExecutor;
+  // The planned scans keyed by the scan definition, used to share planning work between clients.
+  private final Cache<String, CompletableFuture<PlannedScan>> plannedScans;
+  // The planned scans keyed by plan id, used to serve the plan tasks.
+  private final Cache<String, PlannedScan> plannedScansById;
+
+  public IcebergScanPlanner(String catalogName, IcebergConfig icebergConfig) {
+    this.tasksPerPlanTask =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_SCAN_PLANNING_TASKS_PER_PLAN_TASK);
+    this.cacheMaxTasks =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_SCAN_PLANNING_CACHE_MAX_TASKS);
+    long cacheExpireMs =
+        icebergConfig.get(IcebergConfig.ICEBERG_REST_SCAN_PLANNING_CACHE_EXPIRE_MS);
+    // A scan being planned weighs 1, it's weighed again by its tasks once it's planned.
+    this.plannedScans =
+        Caffeine.newBuilder()
+            .maximumWeight(cacheMaxTasks)
+            .<String, CompletableFuture<PlannedScan>>weigher(
+                (scanKey, future) ->
+                    future.isDone() && !future.isCompletedExceptionally()
+                        ? Math.max(1, future.join().taskCount)
+                        : 1)
+            .expireAfterWrite(cacheExpireMs, TimeUnit.MILLISECONDS)
+            .build();
+    this.plannedScansById =
+        Caffeine.newBuilder()
+            .maximumWeight(cacheMaxTasks)
+            .<String, PlannedScan>weigher((planId, plannedScan) -> plannedScan.taskCount)
+            .expireAfterWrite(cacheExpireMs, TimeUnit.MILLISECONDS)
+            .build();
+    this.planExecutor =
+        Executors.newFixedThreadPool(
+            icebergConfig.get(IcebergConfig.ICEBERG_REST_SCAN_PLANNING_THREAD_POOL_SIZE),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Iceberg-scan-planner-" + catalogName + "-%d")
+                .setUncaughtExceptionHandler(
+                    (t, e) -> LOG.error("Uncaught exception in thread {}.", t, e))
+                .build());
+  }
+
+  /**
+   * Plans a scan of the table.
+   *
+   * @param tableIdentifier The identifier of the table, the plan tasks can only be fetched by it.
+   * @param table The Iceberg table to scan.
+   * @param request The scan planning request.
+   * @return The file scan tasks if they fit in one response, or the plan tasks to fetch them.
+   */
+  public PlanTableScanResponse planTableScan(
+      TableIdentifier tableIdentifier, Table table, PlanTableScanRequest request) {
+    request.validate();
+    // An incremental scan ends at the end snapshot, the scan is at the current snapshot if the
+    // snapshot isn't specified.
+    Long snapshotId =
+        request.startSnapshotId() != null ? request.endSnapshotId() : request.snapshotId();
+    if (snapshotId == null) {
+      Snapshot currentSnapshot = table.currentSnapshot();
+      if (currentSnapshot == null) {
+        // The table has no data
+        return PlanTableScanResponse.builder()
+            .withPlanStatus(PlanStatus.COMPLETED)
+            .withFileScanTasks(new ArrayList<>())
+            .withSpecsById(table.specs())
+            .build();
+      }
+      snapshotId = currentSnapshot.snapshotId();
+    }
+
+    PlannedScan plannedScan = getOrPlanScan(tableIdentifier, table, snapshotId, request);
+    // The plan tasks of a scan with more tasks than the cache could hold couldn't be fetched, so
+    // all the tasks are returned at once.
+    if (plannedScan.taskGroups.size() <= 1 || plannedScan.taskCount > cacheMaxTasks) {
+      List<FileScanTask> tasks = new ArrayList<>(plannedScan.taskCount);
+      plannedScan.taskGroups.forEach(tasks::addAll);
+      return PlanTableScanResponse.builder()
+          .withPlanStatus(PlanStatus.COMPLETED)
+          .withFileScanTasks(tasks)
+          .withDeleteFiles(deleteFiles(tasks))
+          .withSpecsById(plannedScan.specsById)
+          .build();
+    }
+
+    // Keep the plan tasks available for the lifetime of the plan tasks since this request.
+    plannedScansById.put(plannedScan.planId, plannedScan);
+    List<String> planTasks = new ArrayList<>(plannedScan.taskGroups.size());
+    for (int i = 0; i < plannedScan.taskGroups.size(); i++) {
+      planTasks.add(plannedScan.planId + PLAN_TASK_SEPARATOR + i);
+    }
+    return PlanTableScanResponse.builder()
+        .withPlanStatus(PlanStatus.COMPLETED)
+        .withPlanTasks(planTasks)
+        .withSpecsById(plannedScan.specsById)
+        .build();
+  }
+
+  /**
+   * Fetches the file scan tasks of a plan task returned by {@link #planTableScan}.
+   *
+   * @param tableIdentifier The identifier of the table the plan task is planned for.
+   * @param request The request to fetch the file scan tasks.
+   * @return The file scan tasks of the plan task.
+   * @throws NotFoundException If the plan task doesn't exist, is expired, or isn't planned for the
+   *     table.
+   */
+  public FetchScanTasksResponse fetchScanTasks(
+      TableIdentifier tableIdentifier, FetchScanTasksRequest request) {
+    request.validate();
+    String planTask = request.planTask();
+    int index = planTask.lastIndexOf(PLAN_TASK_SEPARATOR);
+    PlannedScan plannedScan =
+        index > 0 ? plannedScansById.getIfPresent(planTask.substring(0, index)) : null;
+    int taskGroup = index > 0 ? parseTaskGroup(planTask.substring(index + 1)) : -1;
+    // A plan task of another table is treated as nonexistent, so that it can't be fetched through
+    // a table the client may access.
+    if (plannedScan == null
+        || !plannedScan.tableIdentifier.equals(tableIdentifier)
+        || taskGroup < 0
+        || taskGroup >= plannedScan.taskGroups.size()) {
+      throw new NotFoundException("Plan task %s doesn't exist or is expired", planTask);
+    }
+
+    List<FileScanTask> tasks = plannedScan.taskGroups.get(taskGroup);
+    return FetchScanTasksResponse.builder()
+        .withFileScanTasks(tasks)
+        .withDeleteFiles(deleteFiles(tasks))
+        .withSpecsById(plannedScan.specsById)
+        .build();
+  }
+
+  @Override
+  public void close() {
+    planExecutor.shutdownNow();
+    plannedScans.invalidateAll();
+    plannedScansById.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long plannedScanCount() {
+    plannedScansById.cleanUp();
+    return plannedScansById.estimatedSize();
+  }
+
+  private PlannedScan getOrPlanScan(
+      TableIdentifier tableIdentifier,
+      Table table,
+      long snapshotId,
+      PlanTableScanRequest request) {
+    String scanKey = scanKey(tableIdentifier, table, snapshotId, request);
+    CompletableFuture<PlannedScan> newFuture = new CompletableFuture<>();
+    CompletableFuture<PlannedScan> future = plannedScans.asMap().putIfAbsent(scanKey, newFuture);
+    if (future != null) {
+      // The same scan is planned or being planned by another request.
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    try {
+      PlannedScan plannedScan = planScan(tableIdentifier, table, snapshotId, request);
+      newFuture.complete(plannedScan);
+      // Weigh the planned scan by its tasks.
+      plannedScans.asMap().replace(scanKey, newFuture, newFuture);
+      return plannedScan;
+    } catch (RuntimeException e) {
+      plannedScans.invalidate(scanKey);
+      newFuture.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private PlannedScan planScan(
+      TableIdentifier tableIdentifier,
+      Table table,
+      long snapshotId,
+      PlanTableScanRequest request) {
+    long startTime = System.currentTimeMillis();
+    List<FileScanTask> tasks = new ArrayList<>();
+    try (CloseableIterable<FileScanTask> fileScanTasks = planFiles(table, snapshotId, request)) {
+      fileScanTasks.forEach(tasks::add);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to plan the scan of table " + table.name(), e);
+    }
+
+    LOG.info(
+        "Planned the scan of table: {}, snapshot: {}, file scan tasks: {}, cost: {} ms",
+        table.name(),
+        snapshotId,
+        tasks.size(),
+        System.currentTimeMillis() - startTime);
+    return new PlannedScan(
+        UUID.randomUUID().toString(),
+        tableIdentifier,
+        Lists.partition(tasks, tasksPerPlanTask),
+        table.specs());
+  }
+
+  private CloseableIterable<FileScanTask> planFiles(
+      Table table, long snapshotId, PlanTableScanRequest request) {
+    if (request.startSnapshotId() != null) {
+      return configureScan(
+              table
+                  .newIncrementalAppendScan()
+                  .fromSnapshotExclusive(request.startSnapshotId())
+                  .toSnapshot(snapshotId),
+              request)
+          .planFiles();
+    }
+    return configureScan(table.newScan().useSnapshot(snapshotId), request).planFiles();
+  }
+
+  private <T extends Scan<T, FileScanTask, CombinedScanTask>> T configureScan(
+      T scan, PlanTableScanRequest request) {
+    T configuredScan = scan.caseSensitive(request.caseSensitive()).planWith(planExecutor);
+    if (request.select() != null) {
+      configuredScan = configuredScan.select(request.select());
+    }
+    if (request.filter() != null) {
+      configuredScan = configuredScan.filter(request.filter());
+    }
+    if (request.statsFields() != null) {
+      configuredScan = configuredScan.includeColumnStats(request.statsFields());
+    }
+    return configuredScan;
+  }
+
+  private static String scanKey(
+      TableIdentifier tableIdentifier,
+      Table table,
+      long snapshotId,
+      PlanTableScanRequest request) {
+    return Joiner.on("|")
+        .useForNull("")
+        .join(
+            tableIdentifier,
+            table.uuid(),
+            request.startSnapshotId(),
+            snapshotId,
+            request.select(),
+            request.filter() == null ? null : ExpressionParser.toJson(request.filter()),
+            request.caseSensitive(),
+            request.statsFields());
+  }
+
+  // Delete files are shared by the file scan tasks, they are returned once and referenced by the
+  // tasks.
+  private static List<DeleteFile> deleteFiles(List<FileScanTask> tasks) {
+    Map<String, DeleteFile> deleteFiles = new LinkedHashMap<>();
+    for (FileScanTask task : tasks) {
+      for (DeleteFile deleteFile : task.deletes()) {
+        deleteFiles.putIfAbsent(deleteFile.location(), deleteFile);
+      }
+    }
+    return new ArrayList<>(deleteFiles.values());
+  }
+
+  private static int parseTaskGroup(String taskGroup) {
+    try {
+      return Integer.parseInt(taskGroup);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static class PlannedScan {
+    private final String planId;
+    private final TableIdentifier tableIdentifier;
+    private final List<List<FileScanTask>> taskGroups;
+    private final int taskCount;
+    private final Map<Integer, PartitionSpec> specsById;
+
+    PlannedScan(
+        String planId,
+        TableIdentifier tableIdentifier,
+        List<List<FileScanTask>> taskGroups,
+        Map<Integer, PartitionSpec> specsById) {
+      this.planId = planId;
+      this.tableIdentifier = tableIdentifier;
+      this.taskGroups = taskGroups;
+      this.taskCount = taskGroups.stream().mapToInt(List::size).sum();
+      this.specsById = specsById;
+    }
+  }
+}
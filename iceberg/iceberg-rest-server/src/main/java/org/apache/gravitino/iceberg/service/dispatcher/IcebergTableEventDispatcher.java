@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.iceberg.service.dispatcher;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
@@ -48,11 +50,16 @@ import org.apache.gravitino.listener.api.event.IcebergUpdateTableFailureEvent;
 import org.apache.gravitino.listener.api.event.IcebergUpdateTablePreEvent;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 
 /**
  * {@code IcebergTableEventDispatcher} is a decorator for {@link IcebergTableOperationExecutor} that
@@ -230,4 +237,61 @@ public class IcebergTableEventDispatcher implements IcebergTableOperationDispatc
     eventBus.dispatchEvent(
         new IcebergRenameTableEvent(context, gravitinoNameIdentifier, renameTableRequest));
   }
+
+  // The changes of each table dispatch the same events as updating the table alone.
+  @Override
+  public void commitTransaction(
+      IcebergRequestContext context, CommitTransactionRequest commitTransactionRequest) {
+    List<NameIdentifier> gravitinoNameIdentifiers = new ArrayList<>();
+    List<UpdateTableRequest> updateTableRequests = new ArrayList<>();
+    for (UpdateTableRequest updateTableRequest : commitTransactionRequest.tableChanges()) {
+      NameIdentifier gravitinoNameIdentifier =
+          IcebergRestUtils.getGravitinoNameIdentifier(
+              metalakeName, context.catalogName(), updateTableRequest.identifier());
+      Optional<BaseEvent> transformedEvent =
+          eventBus.dispatchEvent(
+              new IcebergUpdateTablePreEvent(context, gravitinoNameIdentifier, updateTableRequest));
+      gravitinoNameIdentifiers.add(gravitinoNameIdentifier);
+      updateTableRequests.add(
+          ((IcebergUpdateTablePreEvent) transformedEvent.get()).updateTableRequest());
+    }
+
+    try {
+      icebergTableOperationDispatcher.commitTransaction(
+          context, new CommitTransactionRequest(updateTableRequests));
+    } catch (Exception e) {
+      for (int i = 0; i < updateTableRequests.size(); i++) {
+        eventBus.dispatchEvent(
+            new IcebergUpdateTableFailureEvent(
+                context, gravitinoNameIdentifiers.get(i), updateTableRequests.get(i), e));
+      }
+      throw e;
+    }
+    for (int i = 0; i < updateTableRequests.size(); i++) {
+      UpdateTableRequest updateTableRequest = updateTableRequests.get(i);
+      LoadTableResponse loadTableResponse =
+          icebergTableOperationDispatcher.loadTable(context, updateTableRequest.identifier());
+      eventBus.dispatchEvent(
+          new IcebergUpdateTableEvent(
+              context, gravitinoNameIdentifiers.get(i), updateTableRequest, loadTableResponse));
+    }
+  }
+
+  @Override
+  public PlanTableScanResponse planTableScan(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      PlanTableScanRequest planTableScanRequest) {
+    return icebergTableOperationDispatcher.planTableScan(
+        context, tableIdentifier, planTableScanRequest);
+  }
+
+  @Override
+  public FetchScanTasksResponse fetchScanTasks(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      FetchScanTasksRequest fetchScanTasksRequest) {
+    return icebergTableOperationDispatcher.fetchScanTasks(
+        context, tableIdentifier, fetchScanTasksRequest);
+  }
 }
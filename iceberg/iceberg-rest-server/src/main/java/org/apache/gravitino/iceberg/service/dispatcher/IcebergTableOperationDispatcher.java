@@ -22,11 +22,16 @@ package org.apache.gravitino.iceberg.service.dispatcher;
 import org.apache.gravitino.listener.api.event.IcebergRequestContext;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 
 /**
  * The {@code IcebergTableOperationDispatcher} interface defines the public API for managing Iceberg
@@ -102,4 +107,41 @@ public interface IcebergTableOperationDispatcher {
    * @param renameTableRequest Rename table request information.
    */
   void renameTable(IcebergRequestContext context, RenameTableRequest renameTableRequest);
+
+  /**
+   * Commits the changes of multiple Iceberg tables, the changes are validated before any of them
+   * is committed.
+   *
+   * @param context Iceberg REST request context information.
+   * @param commitTransactionRequest The request object containing the changes of the tables.
+   */
+  void commitTransaction(
+      IcebergRequestContext context, CommitTransactionRequest commitTransactionRequest);
+
+  /**
+   * Plans a scan of an Iceberg table on the server side.
+   *
+   * @param context Iceberg REST request context information.
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param planTableScanRequest The request object containing the details of the scan.
+   * @return A {@link PlanTableScanResponse} object containing the file scan tasks or the plan
+   *     tasks to fetch them.
+   */
+  PlanTableScanResponse planTableScan(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      PlanTableScanRequest planTableScanRequest);
+
+  /**
+   * Fetches the file scan tasks of a plan task.
+   *
+   * @param context Iceberg REST request context information.
+   * @param tableIdentifier The Iceberg table identifier.
+   * @param fetchScanTasksRequest The request object containing the plan task.
+   * @return A {@link FetchScanTasksResponse} object containing the file scan tasks.
+   */
+  FetchScanTasksResponse fetchScanTasks(
+      IcebergRequestContext context,
+      TableIdentifier tableIdentifier,
+      FetchScanTasksRequest fetchScanTasksRequest);
 }
@@ -23,6 +23,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -31,6 +32,7 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,13 +46,15 @@ public class IcebergMetricsManager {
   private static final ImmutableMap<String, String> ICEBERG_METRICS_STORE_NAMES =
       ImmutableMap.of(
           DummyMetricsStore.ICEBERG_METRICS_STORE_DUMMY_NAME,
-          DummyMetricsStore.class.getCanonicalName());
+          DummyMetricsStore.class.getCanonicalName(),
+          LocalMetricsStore.ICEBERG_METRICS_STORE_LOCAL_NAME,
+          LocalMetricsStore.class.getCanonicalName());
 
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
 
-  private BlockingQueue<MetricsReport> queue;
+  private BlockingQueue<TableMetricsReport> queue;
   private Thread metricsWriterThread;
   private volatile boolean isClosed = false;
   private Optional<ScheduledExecutorService> metricsCleanerExecutor = Optional.empty();
@@ -108,12 +112,20 @@ public class IcebergMetricsManager {
                 TimeUnit.HOURS));
   }
 
-  public void recordMetric(MetricsReport metricsReport) {
+  /**
+   * Record the metrics report of a table asynchronously.
+   *
+   * @param catalog the Gravitino catalog of the table
+   * @param tableIdentifier the Iceberg table identifier in the catalog
+   * @param metricsReport the metrics report from the client
+   */
+  public void recordMetric(
+      String catalog, TableIdentifier tableIdentifier, MetricsReport metricsReport) {
     if (isClosed) {
       logMetrics("Drop Iceberg metrics because Iceberg Metrics Manager is closed.", metricsReport);
       return;
     }
-    if (!queue.offer(metricsReport)) {
+    if (!queue.offer(new TableMetricsReport(catalog, tableIdentifier, metricsReport))) {
       logMetrics("Drop Iceberg metrics because metrics queue is full.", metricsReport);
     }
   }
@@ -122,6 +134,16 @@ public class IcebergMetricsManager {
     isClosed = true;
     metricsCleanerExecutor.ifPresent(executorService -> executorService.shutdownNow());
 
+    // Stop the metrics writer thread first, so the store is not written after it's closed.
+    if (metricsWriterThread != null) {
+      metricsWriterThread.interrupt();
+      try {
+        metricsWriterThread.join();
+      } catch (InterruptedException e) {
+        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
+      }
+    }
+
     if (icebergMetricsStore != null) {
       try {
         icebergMetricsStore.close();
@@ -129,15 +151,29 @@ public class IcebergMetricsManager {
         LOG.warn("Close Iceberg metrics store failed.", e);
       }
     }
+  }
 
-    if (metricsWriterThread != null) {
-      metricsWriterThread.interrupt();
-      try {
-        metricsWriterThread.join();
-      } catch (InterruptedException e) {
-        LOG.warn("Iceberg metrics manager is interrupted while join metrics writer thread.");
-      }
+  /**
+   * Query the aggregated metrics of a table, only supported by the local metrics store.
+   *
+   * @param catalog the Gravitino catalog of the table
+   * @param tableIdentifier the Iceberg table identifier in the catalog
+   * @param startTime the start of the time range, inclusive
+   * @param endTime the end of the time range, exclusive
+   * @return the buckets ordered by bucket start time
+   * @throws IOException if IO error happens
+   */
+  public List<TableMetricsBucket> queryTableMetrics(
+      String catalog, TableIdentifier tableIdentifier, Instant startTime, Instant endTime)
+      throws IOException {
+    if (!(icebergMetricsStore instanceof LocalMetricsStore)) {
+      throw new UnsupportedOperationException(
+          "Iceberg metrics store "
+              + icebergMetricsStore.getClass().getSimpleName()
+              + " doesn't support querying metrics");
     }
+    return ((LocalMetricsStore) icebergMetricsStore)
+        .queryMetrics(catalog, tableIdentifier.toString(), startTime, endTime);
   }
 
   @VisibleForTesting
@@ -147,22 +183,24 @@ public class IcebergMetricsManager {
 
   private void writeMetrics() {
     while (!Thread.currentThread().isInterrupted()) {
-      MetricsReport metricsReport;
+      TableMetricsReport tableMetricsReport;
       try {
-        metricsReport = queue.take();
+        tableMetricsReport = queue.take();
       } catch (InterruptedException e) {
         LOG.warn("Iceberg Metrics writer thread is interrupted.");
         break;
       }
-      if (metricsReport != null) {
-        doRecordMetric(metricsReport);
+      if (tableMetricsReport != null) {
+        doRecordMetric(tableMetricsReport);
       }
     }
 
-    MetricsReport metricsReport = queue.poll();
-    while (metricsReport != null) {
-      logMetrics("Drop Iceberg metrics because it's time to close metrics store.", metricsReport);
-      metricsReport = queue.poll();
+    TableMetricsReport tableMetricsReport = queue.poll();
+    while (tableMetricsReport != null) {
+      logMetrics(
+          "Drop Iceberg metrics because it's time to close metrics store.",
+          tableMetricsReport.metricsReport);
+      tableMetricsReport = queue.poll();
     }
   }
 
@@ -187,11 +225,28 @@ public class IcebergMetricsManager {
     LOG.info("{} {}.", message, icebergMetricsFormatter.toPrintableString(metricsReport));
   }
 
-  private void doRecordMetric(MetricsReport metricsReport) {
+  private void doRecordMetric(TableMetricsReport tableMetricsReport) {
     try {
-      icebergMetricsStore.recordMetric(metricsReport);
+      icebergMetricsStore.recordMetric(
+          tableMetricsReport.catalog,
+          tableMetricsReport.tableIdentifier,
+          tableMetricsReport.metricsReport);
     } catch (Exception e) {
       LOG.warn("Write Iceberg metrics failed.", e);
     }
   }
+
+  // A metrics report with the catalog and the identifier of the table it's reported to.
+  private static class TableMetricsReport {
+    private final String catalog;
+    private final TableIdentifier tableIdentifier;
+    private final MetricsReport metricsReport;
+
+    private TableMetricsReport(
+        String catalog, TableIdentifier tableIdentifier, MetricsReport metricsReport) {
+      this.catalog = catalog;
+      this.tableIdentifier = tableIdentifier;
+      this.metricsReport = metricsReport;
+    }
+  }
 }
@@ -21,6 +21,7 @@ package org.apache.gravitino.iceberg.service.metrics;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.MetricsReport;
 
 /** A store API to save Apache Iceberg metrics. */
@@ -42,6 +43,21 @@ public interface IcebergMetricsStore {
    */
   void recordMetric(MetricsReport metricsReport) throws IOException;
 
+  /**
+   * Record metrics report of a table, the table name of the report is the one of the client,
+   * which may be prefixed by any catalog name.
+   *
+   * @param catalog the Gravitino catalog of the table
+   * @param tableIdentifier the identifier of the table in the catalog
+   * @param metricsReport the metrics to be saved
+   * @throws IOException if IO error happens
+   */
+  default void recordMetric(
+      String catalog, TableIdentifier tableIdentifier, MetricsReport metricsReport)
+      throws IOException {
+    recordMetric(metricsReport);
+  }
+
   /**
    * Clean the expired Iceberg metrics
    *
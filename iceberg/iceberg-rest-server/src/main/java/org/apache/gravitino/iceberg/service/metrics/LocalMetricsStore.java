@@ -0,0 +1,368 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Triple;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.ScanReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An Iceberg metrics store which aggregates scan and commit reports into per-table time buckets
+ * and saves them to local files, one JSON line per bucket and one file per UTC day.
+ *
+ * <p>Reports are aggregated in memory and the buckets are appended to the files by a background
+ * thread every {@link IcebergConfig#ICEBERG_METRICS_STORE_FLUSH_INTERVAL_MS}, so a bucket may be
+ * saved in several lines, which are merged when querying.
+ */
+public class LocalMetricsStore implements IcebergMetricsStore {
+  public static final String ICEBERG_METRICS_STORE_LOCAL_NAME = "local";
+
+  private static final Logger LOG = LoggerFactory.getLogger(LocalMetricsStore.class);
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String METRICS_FILE_PREFIX = "metrics-";
+  private static final String METRICS_FILE_SUFFIX = ".json";
+
+  // The buckets which are not flushed to the files yet, keyed by catalog, table name and bucket
+  // start.
+  private final Map<Triple<String, String, Long>, TableMetricsBucket> pendingBuckets =
+      new HashMap<>();
+  // Flush and clean hold the write lock, so a query never sees a bucket twice or not at all.
+  private final ReadWriteLock fileLock = new ReentrantReadWriteLock();
+
+  private Path storePath;
+  private long bucketIntervalMs;
+  private ScheduledExecutorService metricsFlushExecutor;
+
+  @Override
+  public void init(Map<String, String> properties) throws IOException {
+    IcebergConfig icebergConfig = new IcebergConfig(properties);
+    this.storePath =
+        resolveStorePath(icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_LOCAL_PATH));
+    this.bucketIntervalMs =
+        icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_BUCKET_INTERVAL_MS);
+    Files.createDirectories(storePath);
+    LOG.info("Save Iceberg metrics to {}.", storePath);
+
+    long flushIntervalMs =
+        icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE_FLUSH_INTERVAL_MS);
+    this.metricsFlushExecutor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Iceberg-metrics-flusher")
+                .setUncaughtExceptionHandler(
+                    (t, e) -> LOG.error("Uncaught exception in thread {}.", t, e))
+                .build());
+    metricsFlushExecutor.scheduleWithFixedDelay(
+        () -> {
+          try {
+            flush();
+          } catch (Exception e) {
+            LOG.warn("Flush Iceberg metrics failed.", e);
+          }
+        },
+        flushIntervalMs,
+        flushIntervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void recordMetric(MetricsReport metricsReport) {
+    record(null, null, metricsReport);
+  }
+
+  /**
+   * Record metrics report of a table, the report is saved in the bucket of the catalog and the
+   * table identifier, rather than the table name of the report.
+   */
+  @Override
+  public void recordMetric(
+      String catalog, TableIdentifier tableIdentifier, MetricsReport metricsReport) {
+    record(catalog, tableIdentifier.toString(), metricsReport);
+  }
+
+  /**
+   * Query the metrics buckets which start in the time range.
+   *
+   * @param catalog the catalog of the tables, null means all catalogs
+   * @param tableName the table name of the buckets, null means all tables
+   * @param startTime the start of the time range, inclusive
+   * @param endTime the end of the time range, exclusive
+   * @return the buckets ordered by catalog, table name and bucket start time
+   * @throws IOException if IO error happens
+   */
+  public List<TableMetricsBucket> queryMetrics(
+      String catalog, String tableName, Instant startTime, Instant endTime) throws IOException {
+    long startMs = startTime.toEpochMilli();
+    long endMs = endTime.toEpochMilli();
+    Map<Triple<String, String, Long>, TableMetricsBucket> buckets = new TreeMap<>();
+    fileLock.readLock().lock();
+    try {
+      LocalDate endDay = toDay(endMs);
+      for (LocalDate day = toDay(startMs); !day.isAfter(endDay); day = day.plusDays(1)) {
+        Path metricsFile = storePath.resolve(metricsFileName(day));
+        if (!Files.exists(metricsFile)) {
+          continue;
+        }
+        try (BufferedReader reader =
+            Files.newBufferedReader(metricsFile, StandardCharsets.UTF_8)) {
+          String line;
+          while ((line = reader.readLine()) != null) {
+            if (StringUtils.isNotBlank(line)) {
+              TableMetricsBucket bucket = MAPPER.readValue(line, TableMetricsBucket.class);
+              mergeIfMatched(buckets, bucket, catalog, tableName, startMs, endMs);
+            }
+          }
+        }
+      }
+      synchronized (pendingBuckets) {
+        pendingBuckets
+            .values()
+            .forEach(
+                bucket -> mergeIfMatched(buckets, bucket, catalog, tableName, startMs, endMs));
+      }
+    } finally {
+      fileLock.readLock().unlock();
+    }
+    return new ArrayList<>(buckets.values());
+  }
+
+  @Override
+  public void clean(Instant expireTime) throws IOException {
+    long expireMs = expireTime.toEpochMilli();
+    LocalDate expireDay = toDay(expireMs);
+    fileLock.writeLock().lock();
+    try {
+      synchronized (pendingBuckets) {
+        pendingBuckets
+            .values()
+            .removeIf(bucket -> bucket.getBucketStartMs() + bucketIntervalMs <= expireMs);
+      }
+      // Only remove the files of the days before the expire day, the buckets of the expire day
+      // are kept until the whole day expires.
+      List<Path> expiredFiles = new ArrayList<>();
+      try (Stream<Path> files = Files.list(storePath)) {
+        files.forEach(
+            file -> {
+              LocalDate day = parseDay(file.getFileName().toString());
+              if (day != null && day.isBefore(expireDay)) {
+                expiredFiles.add(file);
+              }
+            });
+      }
+      for (Path file : expiredFiles) {
+        LOG.info("Delete expired Iceberg metrics file {}.", file);
+        Files.deleteIfExists(file);
+      }
+    } finally {
+      fileLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (metricsFlushExecutor != null) {
+      metricsFlushExecutor.shutdownNow();
+      try {
+        metricsFlushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (storePath != null) {
+      flush();
+    }
+  }
+
+  @VisibleForTesting
+  void flush() throws IOException {
+    fileLock.writeLock().lock();
+    try {
+      List<TableMetricsBucket> buckets;
+      synchronized (pendingBuckets) {
+        if (pendingBuckets.isEmpty()) {
+          return;
+        }
+        buckets = new ArrayList<>(pendingBuckets.values());
+        pendingBuckets.clear();
+      }
+
+      Map<LocalDate, List<TableMetricsBucket>> bucketsByDay = new TreeMap<>();
+      buckets.forEach(
+          bucket ->
+              bucketsByDay
+                  .computeIfAbsent(toDay(bucket.getBucketStartMs()), k -> new ArrayList<>())
+                  .add(bucket));
+      try {
+        for (Map.Entry<LocalDate, List<TableMetricsBucket>> entry : bucketsByDay.entrySet()) {
+          appendBuckets(storePath.resolve(metricsFileName(entry.getKey())), entry.getValue());
+        }
+      } catch (IOException e) {
+        // Put the buckets back to retry in the next flush, a bucket may be saved twice if a file
+        // is partially written, which is acceptable for metrics.
+        synchronized (pendingBuckets) {
+          buckets.forEach(
+              bucket ->
+                  getOrCreateBucket(
+                          bucket.getCatalog(), bucket.getTableName(), bucket.getBucketStartMs())
+                      .merge(bucket));
+        }
+        throw e;
+      }
+    } finally {
+      fileLock.writeLock().unlock();
+    }
+  }
+
+  // The table name of the report is used if the table name is null.
+  private void record(String catalog, String tableName, MetricsReport metricsReport) {
+    long now = System.currentTimeMillis();
+    long bucketStartMs = now - now % bucketIntervalMs;
+    synchronized (pendingBuckets) {
+      if (metricsReport instanceof ScanReport) {
+        ScanReport scanReport = (ScanReport) metricsReport;
+        String bucketTableName = tableName == null ? scanReport.tableName() : tableName;
+        getOrCreateBucket(catalog, bucketTableName, bucketStartMs).add(scanReport);
+      } else if (metricsReport instanceof CommitReport) {
+        CommitReport commitReport = (CommitReport) metricsReport;
+        String bucketTableName = tableName == null ? commitReport.tableName() : tableName;
+        getOrCreateBucket(catalog, bucketTableName, bucketStartMs).add(commitReport);
+      } else {
+        LOG.debug("Skip unsupported Iceberg metrics report {}.", metricsReport);
+      }
+    }
+  }
+
+  // Must be called with the lock of pendingBuckets held.
+  private TableMetricsBucket getOrCreateBucket(
+      String catalog, String tableName, long bucketStartMs) {
+    return pendingBuckets.computeIfAbsent(
+        Triple.of(catalog, tableName, bucketStartMs),
+        k -> new TableMetricsBucket(catalog, tableName, bucketStartMs));
+  }
+
+  private static void appendBuckets(Path metricsFile, List<TableMetricsBucket> buckets)
+      throws IOException {
+    try (BufferedWriter writer =
+        Files.newBufferedWriter(
+            metricsFile,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND)) {
+      for (TableMetricsBucket bucket : buckets) {
+        writer.write(MAPPER.writeValueAsString(bucket));
+        writer.newLine();
+      }
+    }
+  }
+
+  private static void mergeIfMatched(
+      Map<Triple<String, String, Long>, TableMetricsBucket> buckets,
+      TableMetricsBucket bucket,
+      String catalog,
+      String tableName,
+      long startMs,
+      long endMs) {
+    if (catalog != null && !catalog.equals(bucket.getCatalog())) {
+      return;
+    }
+    if (tableName != null && !tableName.equals(bucket.getTableName())) {
+      return;
+    }
+    if (bucket.getBucketStartMs() < startMs || bucket.getBucketStartMs() >= endMs) {
+      return;
+    }
+    Triple<String, String, Long> key =
+        Triple.of(bucket.getCatalog(), bucket.getTableName(), bucket.getBucketStartMs());
+    TableMetricsBucket existing = buckets.get(key);
+    if (existing == null) {
+      buckets.put(key, bucket.copy());
+    } else {
+      existing.merge(bucket);
+    }
+  }
+
+  private static Path resolveStorePath(String path) {
+    Path storePath = Paths.get(path);
+    String gravitinoHome = System.getenv("GRAVITINO_HOME");
+    if (!storePath.isAbsolute() && gravitinoHome != null) {
+      storePath = Paths.get(gravitinoHome).resolve(storePath);
+    }
+    return storePath;
+  }
+
+  private static LocalDate toDay(long epochMs) {
+    return Instant.ofEpochMilli(epochMs).atZone(ZoneOffset.UTC).toLocalDate();
+  }
+
+  private static String metricsFileName(LocalDate day) {
+    return METRICS_FILE_PREFIX
+        + day.format(DateTimeFormatter.ISO_LOCAL_DATE)
+        + METRICS_FILE_SUFFIX;
+  }
+
+  private static LocalDate parseDay(String fileName) {
+    if (!fileName.startsWith(METRICS_FILE_PREFIX) || !fileName.endsWith(METRICS_FILE_SUFFIX)) {
+      return null;
+    }
+    String day =
+        fileName.substring(
+            METRICS_FILE_PREFIX.length(), fileName.length() - METRICS_FILE_SUFFIX.length());
+    try {
+      return LocalDate.parse(day, DateTimeFormatter.ISO_LOCAL_DATE);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.iceberg.metrics.CommitMetricsResult;
+import org.apache.iceberg.metrics.CommitReport;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.ScanMetricsResult;
+import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.metrics.TimerResult;
+
+/**
+ * The aggregated scan and commit metrics of a table in a time bucket. All the values are sums or
+ * maximums, so buckets of the same table and time could be merged in any order.
+ */
+public class TableMetricsBucket {
+
+  @JsonProperty("catalog")
+  private String catalog;
+
+  @JsonProperty("table-name")
+  private String tableName;
+
+  @JsonProperty("bucket-start-ms")
+  private long bucketStartMs;
+
+  @JsonProperty("scan-count")
+  private long scanCount;
+
+  @JsonProperty("scan-planning-duration-ms")
+  private long scanPlanningDurationMs;
+
+  @JsonProperty("max-scan-planning-duration-ms")
+  private long maxScanPlanningDurationMs;
+
+  @JsonProperty("scanned-data-files")
+  private long scannedDataFiles;
+
+  @JsonProperty("skipped-data-files")
+  private long skippedDataFiles;
+
+  @JsonProperty("scanned-bytes")
+  private long scannedBytes;
+
+  @JsonProperty("commit-count")
+  private long commitCount;
+
+  @JsonProperty("commit-duration-ms")
+  private long commitDurationMs;
+
+  @JsonProperty("max-commit-duration-ms")
+  private long maxCommitDurationMs;
+
+  @JsonProperty("commit-attempts")
+  private long commitAttempts;
+
+  @JsonProperty("added-data-files")
+  private long addedDataFiles;
+
+  @JsonProperty("added-records")
+  private long addedRecords;
+
+  @JsonProperty("added-bytes")
+  private long addedBytes;
+
+  // For Jackson deserialization.
+  TableMetricsBucket() {}
+
+  TableMetricsBucket(String catalog, String tableName, long bucketStartMs) {
+    this.catalog = catalog;
+    this.tableName = tableName;
+    this.bucketStartMs = bucketStartMs;
+  }
+
+  void add(ScanReport scanReport) {
+    ScanMetricsResult scanMetrics = scanReport.scanMetrics();
+    long planningDurationMs = durationMs(scanMetrics.totalPlanningDuration());
+    scanCount++;
+    scanPlanningDurationMs += planningDurationMs;
+    maxScanPlanningDurationMs = Math.max(maxScanPlanningDurationMs, planningDurationMs);
+    scannedDataFiles += value(scanMetrics.resultDataFiles());
+    skippedDataFiles += value(scanMetrics.skippedDataFiles());
+    scannedBytes += value(scanMetrics.totalFileSizeInBytes());
+  }
+
+  void add(CommitReport commitReport) {
+    CommitMetricsResult commitMetrics = commitReport.commitMetrics();
+    long durationMs = durationMs(commitMetrics.totalDuration());
+    commitCount++;
+    commitDurationMs += durationMs;
+    maxCommitDurationMs = Math.max(maxCommitDurationMs, durationMs);
+    commitAttempts += value(commitMetrics.attempts());
+    addedDataFiles += value(commitMetrics.addedDataFiles());
+    addedRecords += value(commitMetrics.addedRecords());
+    addedBytes += value(commitMetrics.addedFilesSizeInBytes());
+  }
+
+  void merge(TableMetricsBucket other) {
+    scanCount += other.scanCount;
+    scanPlanningDurationMs += other.scanPlanningDurationMs;
+    maxScanPlanningDurationMs =
+        Math.max(maxScanPlanningDurationMs, other.maxScanPlanningDurationMs);
+    scannedDataFiles += other.scannedDataFiles;
+    skippedDataFiles += other.skippedDataFiles;
+    scannedBytes += other.scannedBytes;
+    commitCount += other.commitCount;
+    commitDurationMs += other.commitDurationMs;
+    maxCommitDurationMs = Math.max(maxCommitDurationMs, other.maxCommitDurationMs);
+    commitAttempts += other.commitAttempts;
+    addedDataFiles += other.addedDataFiles;
+    addedRecords += other.addedRecords;
+    addedBytes += other.addedBytes;
+  }
+
+  TableMetricsBucket copy() {
+    TableMetricsBucket bucket = new TableMetricsBucket(catalog, tableName, bucketStartMs);
+    bucket.merge(this);
+    return bucket;
+  }
+
+  public String getCatalog() {
+    return catalog;
+  }
+
+  public String getTableName() {
+    return tableName;
+  }
+
+  public long getBucketStartMs() {
+    return bucketStartMs;
+  }
+
+  public long getScanCount() {
+    return scanCount;
+  }
+
+  public long getScanPlanningDurationMs() {
+    return scanPlanningDurationMs;
+  }
+
+  public long getMaxScanPlanningDurationMs() {
+    return maxScanPlanningDurationMs;
+  }
+
+  public long getScannedDataFiles() {
+    return scannedDataFiles;
+  }
+
+  public long getSkippedDataFiles() {
+    return skippedDataFiles;
+  }
+
+  public long getScannedBytes() {
+    return scannedBytes;
+  }
+
+  public long getCommitCount() {
+    return commitCount;
+  }
+
+  public long getCommitDurationMs() {
+    return commitDurationMs;
+  }
+
+  public long getMaxCommitDurationMs() {
+    return maxCommitDurationMs;
+  }
+
+  public long getCommitAttempts() {
+    return commitAttempts;
+  }
+
+  public long getAddedDataFiles() {
+    return addedDataFiles;
+  }
+
+  public long getAddedRecords() {
+    return addedRecords;
+  }
+
+  public long getAddedBytes() {
+    return addedBytes;
+  }
+
+  @JsonIgnore
+  public double getAvgScanPlanningDurationMs() {
+    return scanCount == 0 ? 0 : (double) scanPlanningDurationMs / scanCount;
+  }
+
+  @JsonIgnore
+  public double getAvgCommitDurationMs() {
+    return commitCount == 0 ? 0 : (double) commitDurationMs / commitCount;
+  }
+
+  private static long durationMs(TimerResult timerResult) {
+    return timerResult == null ? 0 : timerResult.totalDuration().toMillis();
+  }
+
+  private static long value(CounterResult counterResult) {
+    return counterResult == null ? 0 : counterResult.value();
+  }
+}
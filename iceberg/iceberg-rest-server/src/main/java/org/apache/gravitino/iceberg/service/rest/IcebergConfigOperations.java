@@ -88,6 +88,12 @@ public class IcebergConfigOperations {
           .add(Endpoint.V1_VIEW_EXISTS)
           .build();
 
+  private static final List<Endpoint> SCAN_PLANNING_ENDPOINTS =
+      ImmutableList.<Endpoint>builder()
+          .add(Endpoint.create("POST", "/v1/{prefix}/namespaces/{namespace}/tables/{table}/plan"))
+          .add(Endpoint.create("POST", "/v1/{prefix}/namespaces/{namespace}/tables/{table}/tasks"))
+          .build();
+
   @Inject
   public IcebergConfigOperations(IcebergCatalogWrapperManager catalogWrapperManager) {
     this.catalogWrapperManager = catalogWrapperManager;
@@ -100,20 +106,30 @@ public class IcebergConfigOperations {
   public Response getConfig(@DefaultValue("") @QueryParam("warehouse") String warehouse) {
     String catalogName = getCatalogName(warehouse);
     boolean supportsView = supportsViewOperations(catalogName);
+    boolean supportsScanPlanning = getCatalogWrapper(catalogName).supportsScanPlanning();
     ConfigResponse.Builder builder = ConfigResponse.builder();
-    builder.withDefaults(getDefaultConfig(catalogName)).withEndpoints(getEndpoints(supportsView));
+    builder
+        .withDefaults(getDefaultConfig(catalogName))
+        .withEndpoints(getEndpoints(supportsView, supportsScanPlanning));
     if (StringUtils.isNotBlank(warehouse)) {
       builder.withDefault("prefix", warehouse);
     }
     return IcebergRestUtils.ok(builder.build());
   }
 
-  private List<Endpoint> getEndpoints(boolean supportsViewOperations) {
-    if (!supportsViewOperations) {
+  private List<Endpoint> getEndpoints(
+      boolean supportsViewOperations, boolean supportsScanPlanning) {
+    if (!supportsViewOperations && !supportsScanPlanning) {
       return DEFAULT_ENDPOINTS;
     }
-    return Stream.concat(DEFAULT_ENDPOINTS.stream(), DEFAULT_VIEW_ENDPOINTS.stream())
-        .collect(Collectors.toList());
+    Stream<Endpoint> endpoints = DEFAULT_ENDPOINTS.stream();
+    if (supportsViewOperations) {
+      endpoints = Stream.concat(endpoints, DEFAULT_VIEW_ENDPOINTS.stream());
+    }
+    if (supportsScanPlanning) {
+      endpoints = Stream.concat(endpoints, SCAN_PLANNING_ENDPOINTS.stream());
+    }
+    return endpoints.collect(Collectors.toList());
   }
 
   private Map<String, String> getCatalogConfig(String catalogName) {
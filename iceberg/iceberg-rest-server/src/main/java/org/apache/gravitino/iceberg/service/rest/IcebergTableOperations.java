@@ -23,6 +23,12 @@ import com.codahale.metrics.annotation.Timed;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -38,6 +44,8 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
@@ -46,17 +54,23 @@ import org.apache.gravitino.iceberg.service.IcebergObjectMapper;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
 import org.apache.gravitino.iceberg.service.dispatcher.IcebergTableOperationDispatcher;
 import org.apache.gravitino.iceberg.service.metrics.IcebergMetricsManager;
+import org.apache.gravitino.iceberg.service.metrics.TableMetricsBucket;
 import org.apache.gravitino.listener.api.event.IcebergRequestContext;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.server.web.Utils;
+import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.rest.RESTUtil;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +84,9 @@ public class IcebergTableOperations {
   @VisibleForTesting
   public static final String X_ICEBERG_ACCESS_DELEGATION = "X-Iceberg-Access-Delegation";
 
+  private static final String SNAPSHOTS_ALL = "all";
+  private static final String SNAPSHOTS_REFS = "refs";
+
   private IcebergMetricsManager icebergMetricsManager;
 
   private ObjectMapper icebergObjectMapper;
@@ -223,8 +240,9 @@ public class IcebergTableOperations {
       @PathParam("prefix") String prefix,
       @Encoded() @PathParam("namespace") String namespace,
       @PathParam("table") String table,
-      @DefaultValue("all") @QueryParam("snapshots") String snapshots,
-      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation) {
+      @DefaultValue(SNAPSHOTS_ALL) @QueryParam("snapshots") String snapshots,
+      @HeaderParam(X_ICEBERG_ACCESS_DELEGATION) String accessDelegation,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
     String catalogName = IcebergRestUtils.getCatalogName(prefix);
     Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
     boolean isCredentialVending = isCredentialVending(accessDelegation);
@@ -236,8 +254,8 @@ public class IcebergTableOperations {
         table,
         accessDelegation,
         isCredentialVending);
-    // todo support snapshots
     try {
+      boolean refsOnly = isRefsOnlySnapshots(snapshots);
       return Utils.doAs(
           httpRequest,
           () -> {
@@ -246,7 +264,17 @@ public class IcebergTableOperations {
                 new IcebergRequestContext(httpServletRequest(), catalogName, isCredentialVending);
             LoadTableResponse loadTableResponse =
                 tableOperationDispatcher.loadTable(context, tableIdentifier);
-            return IcebergRestUtils.ok(loadTableResponse);
+            // Vended credentials are short-lived, so the response is never validated by ETag to
+            // make sure the client always gets fresh credentials.
+            EntityTag etag =
+                isCredentialVending ? null : loadTableETag(loadTableResponse, refsOnly);
+            if (etag != null && IcebergRestUtils.matchesETag(ifNoneMatch, etag)) {
+              return IcebergRestUtils.notModified(etag);
+            }
+            if (refsOnly) {
+              loadTableResponse = suppressHistoricalSnapshots(loadTableResponse);
+            }
+            return IcebergRestUtils.ok(loadTableResponse, etag);
           });
     } catch (Exception e) {
       return IcebergExceptionMapper.toRESTResponse(e);
@@ -309,7 +337,8 @@ public class IcebergTableOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
-            icebergMetricsManager.recordMetric(request.report());
+            icebergMetricsManager.recordMetric(
+                catalogName, TableIdentifier.of(icebergNS, table), request.report());
             return IcebergRestUtils.noContent();
           });
     } catch (Exception e) {
@@ -317,6 +346,117 @@ public class IcebergTableOperations {
     }
   }
 
+  @GET
+  @Path("{table}/metrics")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "query-table-metrics." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "query-table-metrics", absolute = true)
+  public Response queryTableMetrics(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      @QueryParam("startTimeMs") Long startTimeMs,
+      @QueryParam("endTimeMs") Long endTimeMs) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Query Iceberg table metrics, catalog: {}, namespace: {}, table: {}",
+        catalogName,
+        icebergNS,
+        table);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            // Query the metrics of the last day by default.
+            Instant endTime = endTimeMs == null ? Instant.now() : Instant.ofEpochMilli(endTimeMs);
+            Instant startTime =
+                startTimeMs == null
+                    ? endTime.minus(1, ChronoUnit.DAYS)
+                    : Instant.ofEpochMilli(startTimeMs);
+            List<TableMetricsBucket> buckets =
+                icebergMetricsManager.queryTableMetrics(
+                    catalogName, TableIdentifier.of(icebergNS, table), startTime, endTime);
+            return IcebergRestUtils.ok(ImmutableMap.of("buckets", buckets));
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  @POST
+  @Path("{table}/plan")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "plan-table-scan." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "plan-table-scan", absolute = true)
+  public Response planTableScan(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      PlanTableScanRequest planTableScanRequest) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.info(
+        "Plan Iceberg table scan, catalog: {}, namespace: {}, table: {}, snapshot: {}, "
+            + "start snapshot: {}, end snapshot: {}",
+        catalogName,
+        icebergNS,
+        table,
+        planTableScanRequest.snapshotId(),
+        planTableScanRequest.startSnapshotId(),
+        planTableScanRequest.endSnapshotId());
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            PlanTableScanResponse planTableScanResponse =
+                tableOperationDispatcher.planTableScan(
+                    context, tableIdentifier, planTableScanRequest);
+            return IcebergRestUtils.ok(planTableScanResponse);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
+  @POST
+  @Path("{table}/tasks")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Timed(name = "fetch-scan-tasks." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "fetch-scan-tasks", absolute = true)
+  public Response fetchScanTasks(
+      @PathParam("prefix") String prefix,
+      @Encoded() @PathParam("namespace") String namespace,
+      @PathParam("table") String table,
+      FetchScanTasksRequest fetchScanTasksRequest) {
+    String catalogName = IcebergRestUtils.getCatalogName(prefix);
+    Namespace icebergNS = RESTUtil.decodeNamespace(namespace);
+    LOG.debug(
+        "Fetch Iceberg table scan tasks, catalog: {}, namespace: {}, table: {}, plan task: {}",
+        catalogName,
+        icebergNS,
+        table,
+        fetchScanTasksRequest.planTask());
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            TableIdentifier tableIdentifier = TableIdentifier.of(icebergNS, table);
+            IcebergRequestContext context =
+                new IcebergRequestContext(httpServletRequest(), catalogName);
+            FetchScanTasksResponse fetchScanTasksResponse =
+                tableOperationDispatcher.fetchScanTasks(
+                    context, tableIdentifier, fetchScanTasksRequest);
+            return IcebergRestUtils.ok(fetchScanTasksResponse);
+          });
+    } catch (Exception e) {
+      return IcebergExceptionMapper.toRESTResponse(e);
+    }
+  }
+
   // HTTP request is null in Jersey test, override with a mock request when testing.
   @VisibleForTesting
   HttpServletRequest httpServletRequest() {
@@ -332,6 +472,45 @@ public class IcebergTableOperations {
     }
   }
 
+  private boolean isRefsOnlySnapshots(String snapshots) {
+    if (SNAPSHOTS_ALL.equalsIgnoreCase(snapshots)) {
+      return false;
+    }
+    if (SNAPSHOTS_REFS.equalsIgnoreCase(snapshots)) {
+      return true;
+    }
+    throw new IllegalArgumentException(
+        "snapshots: " + snapshots + " is illegal, supported values: [all,refs]");
+  }
+
+  // The metadata location changes on every commit, so it identifies the table metadata version.
+  private static EntityTag loadTableETag(LoadTableResponse response, boolean refsOnly) {
+    String metadataLocation = response.metadataLocation();
+    if (metadataLocation == null) {
+      return null;
+    }
+    String snapshots = refsOnly ? SNAPSHOTS_REFS : SNAPSHOTS_ALL;
+    String hash =
+        Hashing.sha256()
+            .hashString(metadataLocation + "#" + snapshots, StandardCharsets.UTF_8)
+            .toString();
+    return new EntityTag(hash);
+  }
+
+  private static LoadTableResponse suppressHistoricalSnapshots(LoadTableResponse response) {
+    TableMetadata metadata = response.tableMetadata();
+    TableMetadata refsMetadata =
+        TableMetadata.buildFrom(metadata)
+            .withMetadataLocation(metadata.metadataFileLocation())
+            .suppressHistoricalSnapshots()
+            .discardChanges()
+            .build();
+    return LoadTableResponse.builder()
+        .withTableMetadata(refsMetadata)
+        .addAllConfig(response.config())
+        .build();
+  }
+
   private boolean isCredentialVending(String accessDelegation) {
     if (StringUtils.isBlank(accessDelegation)) {
       return false;
@@ -0,0 +1,223 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ASF licenses this file
+ *  to you under the Apache License, Version 2.0 (the
+ *  "License"); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.apache.gravitino.iceberg.service;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.inmemory.InMemoryCatalog;
+import org.apache.iceberg.rest.PlanStatus;
+import org.apache.iceberg.rest.requests.FetchScanTasksRequest;
+import org.apache.iceberg.rest.requests.PlanTableScanRequest;
+import org.apache.iceberg.rest.responses.FetchScanTasksResponse;
+import org.apache.iceberg.rest.responses.PlanTableScanResponse;
+import org.apache.iceberg.types.Types.NestedField;
+import org.apache.iceberg.types.Types.StringType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestIcebergScanPlanner {
+
+  private static final Schema tableSchema =
+      new Schema(NestedField.of(1, false, "foo_string", StringType.get()));
+
+  private InMemoryCatalog catalog;
+  private IcebergScanPlanner scanPlanner;
+
+  @BeforeEach
+  void setUp() {
+    catalog = new InMemoryCatalog();
+    catalog.initialize("memory", ImmutableMap.of());
+    catalog.createNamespace(Namespace.of("db"));
+    IcebergConfig icebergConfig =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.ICEBERG_REST_SCAN_PLANNING_TASKS_PER_PLAN_TASK, "2",
+                IcebergConstants.ICEBERG_REST_SCAN_PLANNING_THREAD_POOL_SIZE, "2"));
+    scanPlanner = new IcebergScanPlanner("memory", icebergConfig);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scanPlanner.close();
+    catalog.close();
+  }
+
+  @Test
+  void testPlanEmptyTable() {
+    TableIdentifier ident = TableIdentifier.of("db", "empty_table");
+    Table table = catalog.createTable(ident, tableSchema);
+    PlanTableScanResponse response =
+        scanPlanner.planTableScan(ident, table, PlanTableScanRequest.builder().build());
+    Assertions.assertEquals(PlanStatus.COMPLETED, response.planStatus());
+    Assertions.assertTrue(response.fileScanTasks().isEmpty());
+    Assertions.assertNull(response.planTasks());
+  }
+
+  @Test
+  void testPlanTableScan() {
+    TableIdentifier ident = TableIdentifier.of("db", "inline_table");
+    Table table = createTableWithFiles(ident, 2);
+    PlanTableScanResponse response =
+        scanPlanner.planTableScan(ident, table, PlanTableScanRequest.builder().build());
+    Assertions.assertEquals(PlanStatus.COMPLETED, response.planStatus());
+    Assertions.assertEquals(2, response.fileScanTasks().size());
+    Assertions.assertNull(response.planTasks());
+  }
+
+  @Test
+  void testPlanTableScanWithPlanTasks() {
+    TableIdentifier ident = TableIdentifier.of("db", "paged_table");
+    Table table = createTableWithFiles(ident, 5);
+    PlanTableScanResponse response =
+        scanPlanner.planTableScan(ident, table, PlanTableScanRequest.builder().build());
+    Assertions.assertEquals(PlanStatus.COMPLETED, response.planStatus());
+    Assertions.assertNull(response.fileScanTasks());
+    Assertions.assertEquals(3, response.planTasks().size());
+
+    List<String> paths = new ArrayList<>();
+    for (String planTask : response.planTasks()) {
+      FetchScanTasksResponse fetchResponse =
+          scanPlanner.fetchScanTasks(ident, new FetchScanTasksRequest(planTask));
+      for (FileScanTask task : fetchResponse.fileScanTasks()) {
+        paths.add(task.file().location());
+      }
+    }
+    Assertions.assertEquals(5, paths.size());
+    Assertions.assertEquals(5, paths.stream().distinct().count());
+
+    // The same scan is shared by the following requests.
+    PlanTableScanResponse sharedResponse =
+        scanPlanner.planTableScan(ident, table, PlanTableScanRequest.builder().build());
+    Assertions.assertEquals(response.planTasks(), sharedResponse.planTasks());
+    Assertions.assertEquals(1, scanPlanner.plannedScanCount());
+
+    // A new snapshot is planned again.
+    appendFiles(table, 1);
+    PlanTableScanResponse newResponse =
+        scanPlanner.planTableScan(ident, table, PlanTableScanRequest.builder().build());
+    Assertions.assertEquals(3, newResponse.planTasks().size());
+    Assertions.assertNotEquals(response.planTasks(), newResponse.planTasks());
+  }
+
+  @Test
+  void testPlannedScansBoundedByTasks() {
+    IcebergConfig icebergConfig =
+        new IcebergConfig(
+            ImmutableMap.of(
+                IcebergConstants.ICEBERG_REST_SCAN_PLANNING_TASKS_PER_PLAN_TASK, "2",
+                IcebergConstants.ICEBERG_REST_SCAN_PLANNING_CACHE_MAX_TASKS, "4"));
+    try (IcebergScanPlanner boundedPlanner = new IcebergScanPlanner("memory", icebergConfig)) {
+      // The tasks of a scan larger than the cache are returned at once.
+      TableIdentifier largeIdent = TableIdentifier.of("db", "large_table");
+      Table largeTable = createTableWithFiles(largeIdent, 5);
+      PlanTableScanResponse response =
+          boundedPlanner.planTableScan(
+              largeIdent, largeTable, PlanTableScanRequest.builder().build());
+      Assertions.assertEquals(5, response.fileScanTasks().size());
+      Assertions.assertNull(response.planTasks());
+      Assertions.assertEquals(0, boundedPlanner.plannedScanCount());
+
+      // The planned scans are evicted once their tasks exceed the cache.
+      for (String name : ImmutableList.of("table1", "table2")) {
+        TableIdentifier ident = TableIdentifier.of("db", name);
+        Table table = createTableWithFiles(ident, 3);
+        response =
+            boundedPlanner.planTableScan(ident, table, PlanTableScanRequest.builder().build());
+        Assertions.assertEquals(2, response.planTasks().size());
+      }
+      Assertions.assertEquals(1, boundedPlanner.plannedScanCount());
+    }
+  }
+
+  @Test
+  void testFetchInvalidPlanTask() {
+    TableIdentifier ident = TableIdentifier.of("db", "paged_table");
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () -> scanPlanner.fetchScanTasks(ident, new FetchScanTasksRequest("invalid")));
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () -> scanPlanner.fetchScanTasks(ident, new FetchScanTasksRequest("invalid:1")));
+  }
+
+  @Test
+  void testFetchPlanTaskOfAnotherTable() {
+    TableIdentifier ident = TableIdentifier.of("db", "paged_table");
+    Table table = createTableWithFiles(ident, 5);
+    TableIdentifier otherIdent = TableIdentifier.of("db", "other_table");
+    createTableWithFiles(otherIdent, 1);
+    PlanTableScanResponse response =
+        scanPlanner.planTableScan(ident, table, PlanTableScanRequest.builder().build());
+    String planTask = response.planTasks().get(0);
+
+    // The plan task can't be fetched through another table.
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () -> scanPlanner.fetchScanTasks(otherIdent, new FetchScanTasksRequest(planTask)));
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () ->
+            scanPlanner.fetchScanTasks(
+                TableIdentifier.of("db", "missing_table"), new FetchScanTasksRequest(planTask)));
+    Assertions.assertEquals(
+        2,
+        scanPlanner
+            .fetchScanTasks(ident, new FetchScanTasksRequest(planTask))
+            .fileScanTasks()
+            .size());
+  }
+
+  private Table createTableWithFiles(TableIdentifier ident, int fileCount) {
+    Table table = catalog.createTable(ident, tableSchema);
+    appendFiles(table, fileCount);
+    return table;
+  }
+
+  private void appendFiles(Table table, int fileCount) {
+    table.refresh();
+    AppendFiles append = table.newAppend();
+    for (int i = 0; i < fileCount; i++) {
+      append.appendFile(
+          DataFiles.builder(PartitionSpec.unpartitioned())
+              .withPath(table.location() + "/data/" + System.nanoTime() + "-" + i + ".parquet")
+              .withFormat(FileFormat.PARQUET)
+              .withFileSizeInBytes(10)
+              .withRecordCount(1)
+              .build());
+    }
+    append.commit();
+  }
+}
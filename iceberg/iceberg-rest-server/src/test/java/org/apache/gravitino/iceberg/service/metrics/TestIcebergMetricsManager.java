@@ -22,10 +22,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.testcontainers.shaded.org.awaitility.Awaitility.await;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
+import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
 import org.apache.iceberg.metrics.ImmutableCommitReport;
 import org.apache.iceberg.metrics.MetricsReport;
@@ -35,11 +45,15 @@ import org.junit.jupiter.api.Test;
 public class TestIcebergMetricsManager {
 
   private MetricsReport createMetricsReport() {
+    return createMetricsReport("a");
+  }
+
+  private MetricsReport createMetricsReport(String tableName) {
     ImmutableCommitMetricsResult commitMetricsResult =
         ImmutableCommitMetricsResult.builder().build();
     MetricsReport metricsReport =
         ImmutableCommitReport.builder()
-            .tableName("a")
+            .tableName(tableName)
             .snapshotId(1)
             .sequenceNumber(1)
             .operation("select")
@@ -64,7 +78,7 @@ public class TestIcebergMetricsManager {
     icebergMetricsManager.start();
 
     MetricsReport metricsReport = createMetricsReport();
-    icebergMetricsManager.recordMetric(metricsReport);
+    icebergMetricsManager.recordMetric("catalog", TableIdentifier.of("db", "a"), metricsReport);
     Assertions.assertDoesNotThrow(
         () -> (DummyMetricsStore) icebergMetricsManager.getIcebergMetricsStore());
     icebergMetricsManager.close();
@@ -90,7 +104,7 @@ public class TestIcebergMetricsManager {
     icebergMetricsManager.start();
 
     MetricsReport metricsReport = createMetricsReport();
-    icebergMetricsManager.recordMetric(metricsReport);
+    icebergMetricsManager.recordMetric("catalog", TableIdentifier.of("db", "a"), metricsReport);
     MemoryMetricsStore memoryMetricsStore =
         (MemoryMetricsStore) icebergMetricsManager.getIcebergMetricsStore();
     Assertions.assertEquals(metricsReport, tryGetIcebergMetrics(memoryMetricsStore));
@@ -98,4 +112,61 @@ public class TestIcebergMetricsManager {
 
     icebergMetricsManager.close();
   }
+
+  @Test
+  void testQueryTableMetrics() throws IOException {
+    IcebergMetricsManager dummyMetricsManager = new IcebergMetricsManager(new IcebergConfig());
+    Instant now = Instant.now();
+    Assertions.assertThrowsExactly(
+        UnsupportedOperationException.class,
+        () ->
+            dummyMetricsManager.queryTableMetrics(
+                "c1", TableIdentifier.of("db", "a"), now.minus(1, ChronoUnit.DAYS), now));
+    dummyMetricsManager.close();
+
+    Path storePath = Files.createTempDirectory("iceberg-metrics-manager");
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE,
+            LocalMetricsStore.ICEBERG_METRICS_STORE_LOCAL_NAME,
+            IcebergConstants.ICEBERG_METRICS_STORE_LOCAL_PATH,
+            storePath.toString());
+    IcebergMetricsManager icebergMetricsManager =
+        new IcebergMetricsManager(new IcebergConfig(properties));
+    try {
+      icebergMetricsManager.start();
+      // The reported table name is prefixed by the catalog name of the client.
+      TableIdentifier tableIdentifier = TableIdentifier.of("db", "a");
+      icebergMetricsManager.recordMetric("c1", tableIdentifier, createMetricsReport("rest.db.a"));
+      icebergMetricsManager.recordMetric(
+          "c1", TableIdentifier.of("db", "b"), createMetricsReport("rest.db.b"));
+      icebergMetricsManager.recordMetric("c2", tableIdentifier, createMetricsReport("other.db.a"));
+      icebergMetricsManager.recordMetric("c1", tableIdentifier, createMetricsReport("rest.db.a"));
+
+      await()
+          .atMost(20, TimeUnit.SECONDS)
+          .pollInterval(100, TimeUnit.MILLISECONDS)
+          .untilAsserted(
+              () -> {
+                List<TableMetricsBucket> buckets =
+                    icebergMetricsManager.queryTableMetrics(
+                        "c1",
+                        tableIdentifier,
+                        Instant.now().minus(1, ChronoUnit.DAYS),
+                        Instant.now().plus(1, ChronoUnit.DAYS));
+                Assertions.assertEquals(
+                    2, buckets.stream().mapToLong(TableMetricsBucket::getCommitCount).sum());
+                buckets.forEach(
+                    bucket -> {
+                      Assertions.assertEquals("c1", bucket.getCatalog());
+                      Assertions.assertEquals("db.a", bucket.getTableName());
+                    });
+              });
+    } finally {
+      icebergMetricsManager.close();
+      try (Stream<Path> paths = Files.walk(storePath)) {
+        paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+      }
+    }
+  }
 }
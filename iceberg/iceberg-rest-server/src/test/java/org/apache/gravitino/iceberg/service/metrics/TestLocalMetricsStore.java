@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.iceberg.service.metrics;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.gravitino.catalog.lakehouse.iceberg.IcebergConstants;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.metrics.CounterResult;
+import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
+import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.metrics.ImmutableScanMetricsResult;
+import org.apache.iceberg.metrics.ImmutableScanReport;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.MetricsReport;
+import org.apache.iceberg.metrics.TimerResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestLocalMetricsStore {
+
+  private Path storePath;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    storePath = Files.createTempDirectory("iceberg-local-metrics-store");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(storePath)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  private LocalMetricsStore createStore() throws IOException {
+    Map<String, String> properties =
+        ImmutableMap.of(
+            IcebergConstants.ICEBERG_METRICS_STORE_LOCAL_PATH,
+            storePath.toString(),
+            IcebergConstants.ICEBERG_METRICS_STORE_BUCKET_INTERVAL_MS,
+            String.valueOf(TimeUnit.DAYS.toMillis(1)),
+            IcebergConstants.ICEBERG_METRICS_STORE_FLUSH_INTERVAL_MS,
+            String.valueOf(TimeUnit.HOURS.toMillis(1)));
+    LocalMetricsStore store = new LocalMetricsStore();
+    store.init(properties);
+    return store;
+  }
+
+  private MetricsReport createScanReport(String tableName, long planningMs, long dataFiles) {
+    return ImmutableScanReport.builder()
+        .tableName(tableName)
+        .snapshotId(1)
+        .filter(Expressions.alwaysTrue())
+        .schemaId(0)
+        .projectedFieldIds(ImmutableList.of(1))
+        .projectedFieldNames(ImmutableList.of("id"))
+        .scanMetrics(
+            ImmutableScanMetricsResult.builder()
+                .totalPlanningDuration(
+                    TimerResult.of(TimeUnit.NANOSECONDS, Duration.ofMillis(planningMs), 1))
+                .resultDataFiles(CounterResult.of(MetricsContext.Unit.COUNT, dataFiles))
+                .build())
+        .build();
+  }
+
+  private MetricsReport createCommitReport(String tableName, long durationMs) {
+    return ImmutableCommitReport.builder()
+        .tableName(tableName)
+        .snapshotId(1)
+        .sequenceNumber(1)
+        .operation("append")
+        .commitMetrics(
+            ImmutableCommitMetricsResult.builder()
+                .totalDuration(
+                    TimerResult.of(TimeUnit.NANOSECONDS, Duration.ofMillis(durationMs), 1))
+                .attempts(CounterResult.of(MetricsContext.Unit.COUNT, 2))
+                .addedRecords(CounterResult.of(MetricsContext.Unit.COUNT, 100))
+                .build())
+        .build();
+  }
+
+  private List<TableMetricsBucket> queryToday(LocalMetricsStore store, String tableName)
+      throws IOException {
+    Instant now = Instant.now();
+    return store.queryMetrics(
+        null, tableName, now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS));
+  }
+
+  @Test
+  void testAggregateAndQueryMetrics() throws IOException {
+    LocalMetricsStore store = createStore();
+    store.recordMetric(createScanReport("a", 100, 10));
+    store.recordMetric(createScanReport("a", 300, 20));
+    store.recordMetric(createCommitReport("a", 50));
+    store.recordMetric(createScanReport("b", 10, 1));
+
+    List<TableMetricsBucket> buckets = queryToday(store, "a");
+    Assertions.assertEquals(1, buckets.size());
+    TableMetricsBucket bucket = buckets.get(0);
+    Assertions.assertEquals("a", bucket.getTableName());
+    Assertions.assertEquals(2, bucket.getScanCount());
+    Assertions.assertEquals(400, bucket.getScanPlanningDurationMs());
+    Assertions.assertEquals(300, bucket.getMaxScanPlanningDurationMs());
+    Assertions.assertEquals(200.0, bucket.getAvgScanPlanningDurationMs());
+    Assertions.assertEquals(30, bucket.getScannedDataFiles());
+    Assertions.assertEquals(1, bucket.getCommitCount());
+    Assertions.assertEquals(50, bucket.getCommitDurationMs());
+    Assertions.assertEquals(2, bucket.getCommitAttempts());
+    Assertions.assertEquals(100, bucket.getAddedRecords());
+    Assertions.assertEquals(2, queryToday(store, null).size());
+
+    // The flushed buckets are merged with the pending buckets of the same time.
+    store.flush();
+    store.recordMetric(createScanReport("a", 500, 5));
+    bucket = queryToday(store, "a").get(0);
+    Assertions.assertEquals(3, bucket.getScanCount());
+    Assertions.assertEquals(500, bucket.getMaxScanPlanningDurationMs());
+    Assertions.assertEquals(35, bucket.getScannedDataFiles());
+    store.close();
+
+    // The metrics are kept after restarting.
+    store = createStore();
+    bucket = queryToday(store, "a").get(0);
+    Assertions.assertEquals(3, bucket.getScanCount());
+    Assertions.assertEquals(900, bucket.getScanPlanningDurationMs());
+    Assertions.assertEquals(1, queryToday(store, "b").get(0).getScanCount());
+    Instant tomorrow = Instant.now().plus(1, ChronoUnit.DAYS);
+    Assertions.assertTrue(
+        store.queryMetrics(null, "a", tomorrow, tomorrow.plus(1, ChronoUnit.DAYS)).isEmpty());
+    store.close();
+  }
+
+  @Test
+  void testQueryMetricsByCatalog() throws IOException {
+    LocalMetricsStore store = createStore();
+    TableIdentifier tableIdentifier = TableIdentifier.of("db", "a");
+    store.recordMetric("c1", tableIdentifier, createScanReport("rest.db.a", 100, 10));
+    store.recordMetric("c2", tableIdentifier, createScanReport("rest.db.a", 100, 10));
+    store.recordMetric("c1", tableIdentifier, createCommitReport("other.db.a", 50));
+    store.flush();
+
+    Instant now = Instant.now();
+    List<TableMetricsBucket> buckets =
+        store.queryMetrics(
+            "c1", "db.a", now.minus(1, ChronoUnit.DAYS), now.plus(1, ChronoUnit.DAYS));
+    Assertions.assertEquals(1, buckets.size());
+    Assertions.assertEquals("c1", buckets.get(0).getCatalog());
+    Assertions.assertEquals("db.a", buckets.get(0).getTableName());
+    Assertions.assertEquals(1, buckets.get(0).getScanCount());
+    Assertions.assertEquals(1, buckets.get(0).getCommitCount());
+    Assertions.assertEquals(2, queryToday(store, "db.a").size());
+    Assertions.assertTrue(queryToday(store, "rest.db.a").isEmpty());
+    store.close();
+  }
+
+  @Test
+  void testCleanMetrics() throws IOException {
+    LocalMetricsStore store = createStore();
+    store.recordMetric(createScanReport("a", 100, 10));
+    store.flush();
+
+    store.clean(Instant.now().minus(1, ChronoUnit.DAYS));
+    Assertions.assertEquals(1, queryToday(store, "a").size());
+
+    store.recordMetric(createScanReport("a", 100, 10));
+    store.clean(Instant.now().plus(2, ChronoUnit.DAYS));
+    Assertions.assertTrue(queryToday(store, "a").isEmpty());
+    store.close();
+  }
+}
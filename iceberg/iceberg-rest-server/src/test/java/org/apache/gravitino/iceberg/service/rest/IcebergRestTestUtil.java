@@ -76,6 +76,7 @@ public class IcebergRestTestUtil {
   public static final String VIEW_PATH =
       NAMESPACE_PATH + "/" + RESTUtil.encodeNamespace(TEST_NAMESPACE_NAME) + "/views";
   public static final String RENAME_TABLE_PATH = V_1 + "/tables/rename";
+  public static final String COMMIT_TRANSACTION_PATH = V_1 + "/transactions/commit";
 
   public static final String RENAME_VIEW_PATH = V_1 + "/views/rename";
   public static final String REPORT_METRICS_POSTFIX = "metrics";
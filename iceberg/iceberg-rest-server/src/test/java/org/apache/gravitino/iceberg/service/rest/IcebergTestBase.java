@@ -47,18 +47,27 @@ public class IcebergTestBase extends JerseyTest {
     return getIcebergClientBuilder(IcebergRestTestUtil.RENAME_TABLE_PATH, Optional.empty());
   }
 
+  public Invocation.Builder getCommitTransactionClientBuilder() {
+    return getIcebergClientBuilder(IcebergRestTestUtil.COMMIT_TRANSACTION_PATH, Optional.empty());
+  }
+
   public Invocation.Builder getRenameViewClientBuilder() {
     return getIcebergClientBuilder(IcebergRestTestUtil.RENAME_VIEW_PATH, Optional.empty());
   }
 
   public Invocation.Builder getTableClientBuilder(Namespace ns, Optional<String> name) {
+    return getTableClientBuilder(ns, name, Optional.empty());
+  }
+
+  public Invocation.Builder getTableClientBuilder(
+      Namespace ns, Optional<String> name, Optional<Map<String, String>> queryParams) {
     String path =
         Joiner.on("/")
             .skipNulls()
             .join(
                 IcebergRestTestUtil.NAMESPACE_PATH + "/" + RESTUtil.encodeNamespace(ns) + "/tables",
                 name.orElseGet(() -> null));
-    return getIcebergClientBuilder(path, Optional.empty());
+    return getIcebergClientBuilder(path, queryParams);
   }
 
   public Invocation.Builder getViewClientBuilder(Namespace ns) {
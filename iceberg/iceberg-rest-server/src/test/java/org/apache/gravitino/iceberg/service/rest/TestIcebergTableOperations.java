@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.iceberg.service.rest;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.Arrays;
 import java.util.List;
@@ -28,6 +29,8 @@ import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -64,6 +67,7 @@ import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.metrics.CommitReport;
 import org.apache.iceberg.metrics.ImmutableCommitMetricsResult;
 import org.apache.iceberg.metrics.ImmutableCommitReport;
+import org.apache.iceberg.rest.requests.CommitTransactionRequest;
 import org.apache.iceberg.rest.requests.CreateTableRequest;
 import org.apache.iceberg.rest.requests.RenameTableRequest;
 import org.apache.iceberg.rest.requests.ReportMetricsRequest;
@@ -99,6 +103,7 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     // create namespace before each table test
     resourceConfig.register(MockIcebergNamespaceOperations.class);
     resourceConfig.register(MockIcebergTableRenameOperations.class);
+    resourceConfig.register(MockIcebergTransactionOperations.class);
 
     // register a mock HttpServletRequest with user info
     resourceConfig.register(
@@ -149,6 +154,51 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     Assertions.assertTrue(dummyEventListener.popPostEvent() instanceof IcebergLoadTableEvent);
   }
 
+  @ParameterizedTest
+  @MethodSource("org.apache.gravitino.iceberg.service.rest.IcebergRestTestUtil#testNamespaces")
+  void testLoadTableWithETag(Namespace namespace) {
+    verifyCreateNamespaceSucc(namespace);
+    verifyCreateTableSucc(namespace, "etag_foo1");
+
+    Response response = doLoadTable(namespace, "etag_foo1");
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    EntityTag etag = response.getEntityTag();
+    Assertions.assertNotNull(etag);
+    TableMetadata metadata = response.readEntity(LoadTableResponse.class).tableMetadata();
+
+    response = doLoadTable(namespace, "etag_foo1", "all", etag.toString());
+    Assertions.assertEquals(Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    Assertions.assertEquals(etag, response.getEntityTag());
+
+    // The ETag of the trimmed response is different from the full one.
+    response = doLoadTable(namespace, "etag_foo1", "refs", etag.toString());
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotEquals(etag, response.getEntityTag());
+
+    // A new metadata location is generated after the table is updated.
+    verifyUpdateSucc(namespace, "etag_foo1", metadata);
+    response = doLoadTable(namespace, "etag_foo1", "all", etag.toString());
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    Assertions.assertNotEquals(etag, response.getEntityTag());
+  }
+
+  @ParameterizedTest
+  @MethodSource("org.apache.gravitino.iceberg.service.rest.IcebergRestTestUtil#testNamespaces")
+  void testLoadTableWithSnapshots(Namespace namespace) {
+    verifyCreateNamespaceSucc(namespace);
+    verifyCreateTableSucc(namespace, "snapshots_foo1");
+
+    Response response = doLoadTable(namespace, "snapshots_foo1", "refs", null);
+    Assertions.assertEquals(Status.OK.getStatusCode(), response.getStatus());
+    LoadTableResponse loadTableResponse = response.readEntity(LoadTableResponse.class);
+    Assertions.assertEquals(
+        tableSchema.columns(), loadTableResponse.tableMetadata().schema().columns());
+    Assertions.assertNotNull(loadTableResponse.metadataLocation());
+
+    response = doLoadTable(namespace, "snapshots_foo1", "invalid", null);
+    Assertions.assertEquals(Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+  }
+
   @ParameterizedTest
   @MethodSource("org.apache.gravitino.iceberg.service.rest.IcebergRestTestUtil#testNamespaces")
   void testDropTable(Namespace namespace) {
@@ -194,6 +244,30 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     verifyUpdateTableFail(namespace, "update_foo1", 404, metadata);
   }
 
+  @ParameterizedTest
+  @MethodSource("org.apache.gravitino.iceberg.service.rest.IcebergRestTestUtil#testNamespaces")
+  void testCommitTransaction(Namespace namespace) {
+    verifyCreateNamespaceSucc(namespace);
+    verifyCreateTableSucc(namespace, "transaction_foo1");
+    TableMetadata metadata = getTableMeta(namespace, "transaction_foo1");
+
+    dummyEventListener.clearEvent();
+    Response response = doCommitTransaction(namespace, "transaction_foo1", metadata);
+    Assertions.assertEquals(Status.NO_CONTENT.getStatusCode(), response.getStatus());
+    Assertions.assertTrue(dummyEventListener.popPreEvent() instanceof IcebergUpdateTablePreEvent);
+    Assertions.assertTrue(dummyEventListener.popPostEvent() instanceof IcebergUpdateTableEvent);
+    Assertions.assertEquals(
+        newTableSchema.columns(),
+        getTableMeta(namespace, "transaction_foo1").schema().columns());
+
+    dummyEventListener.clearEvent();
+    response = doCommitTransaction(namespace, "transaction_foo1", metadata);
+    Assertions.assertEquals(409, response.getStatus());
+    Assertions.assertTrue(dummyEventListener.popPreEvent() instanceof IcebergUpdateTablePreEvent);
+    Assertions.assertTrue(
+        dummyEventListener.popPostEvent() instanceof IcebergUpdateTableFailureEvent);
+  }
+
   @ParameterizedTest
   @MethodSource(
       "org.apache.gravitino.iceberg.service.rest.IcebergRestTestUtil#testPrefixesAndNamespaces")
@@ -290,6 +364,10 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
             .post(Entity.entity(request, MediaType.APPLICATION_JSON_TYPE));
 
     Assertions.assertEquals(Status.NO_CONTENT.getStatusCode(), response.getStatus());
+
+    // The default metrics store doesn't support querying metrics.
+    response = getReportMetricsClientBuilder("metrics_foo1", namespace).get();
+    Assertions.assertEquals(406, response.getStatus());
   }
 
   @ParameterizedTest
@@ -374,6 +452,13 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
     return getTableClientBuilder(ns, Optional.of(name)).get();
   }
 
+  private Response doLoadTable(Namespace ns, String name, String snapshots, String ifNoneMatch) {
+    return getTableClientBuilder(
+            ns, Optional.of(name), Optional.of(ImmutableMap.of("snapshots", snapshots)))
+        .header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)
+        .get();
+  }
+
   private Response doUpdateTable(Namespace ns, String name, TableMetadata base) {
     TableMetadata newMetadata = base.updateSchema(newTableSchema);
     List<MetadataUpdate> metadataUpdates = newMetadata.changes();
@@ -383,6 +468,19 @@ public class TestIcebergTableOperations extends IcebergNamespaceTestBase {
         .post(Entity.entity(updateTableRequest, MediaType.APPLICATION_JSON_TYPE));
   }
 
+  private Response doCommitTransaction(Namespace ns, String name, TableMetadata base) {
+    TableMetadata newMetadata = base.updateSchema(newTableSchema);
+    List<MetadataUpdate> metadataUpdates = newMetadata.changes();
+    List<UpdateRequirement> requirements = UpdateRequirements.forUpdateTable(base, metadataUpdates);
+    CommitTransactionRequest commitTransactionRequest =
+        new CommitTransactionRequest(
+            Arrays.asList(
+                UpdateTableRequest.create(
+                    TableIdentifier.of(ns, name), requirements, metadataUpdates)));
+    return getCommitTransactionClientBuilder()
+        .post(Entity.entity(commitTransactionRequest, MediaType.APPLICATION_JSON_TYPE));
+  }
+
   private TableMetadata getTableMeta(Namespace ns, String tableName) {
     Response response = doLoadTable(ns, tableName);
     LoadTableResponse loadTableResponse = response.readEntity(LoadTableResponse.class);
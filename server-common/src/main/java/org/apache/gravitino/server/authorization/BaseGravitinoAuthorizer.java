@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Arrays;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The base class of the {@link GravitinoAuthorizer} implementations storing the privileges in the
+ * entity store. The checks which don't depend on how the privileges are evaluated, such as the
+ * owner permission, are built on top of {@link #authorize} and {@link #isOwner}.
+ */
+public abstract class BaseGravitinoAuthorizer implements GravitinoAuthorizer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BaseGravitinoAuthorizer.class);
+
+  @Override
+  public boolean isServiceAdmin() {
+    return GravitinoEnv.getInstance()
+        .accessControlDispatcher()
+        .isServiceAdmin(PrincipalUtils.getCurrentUserName());
+  }
+
+  @Override
+  public boolean isMetalakeUser(String metalake) {
+    String currentUserName = PrincipalUtils.getCurrentUserName();
+    if (StringUtils.isBlank(currentUserName)) {
+      return false;
+    }
+    try {
+      return GravitinoEnv.getInstance()
+              .entityStore()
+              .get(
+                  NameIdentifierUtil.ofUser(metalake, currentUserName),
+                  Entity.EntityType.USER,
+                  UserEntity.class)
+          != null;
+    } catch (Exception e) {
+      LOG.warn("Can not get user {} in metalake {}", currentUserName, metalake, e);
+      return false;
+    }
+  }
+
+  @Override
+  public boolean hasSetOwnerPermission(String metalake, String type, String fullName) {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject metalakeObject =
+        MetadataObjects.of(ImmutableList.of(metalake), MetadataObject.Type.METALAKE);
+    // metalake owner can set owner in metalake.
+    if (isOwner(currentPrincipal, metalake, metalakeObject)) {
+      return true;
+    }
+    MetadataObject.Type metadataType = MetadataObject.Type.valueOf(type.toUpperCase());
+    MetadataObject metadataObject =
+        MetadataObjects.of(Arrays.asList(fullName.split("\\.")), metadataType);
+    do {
+      if (isOwner(currentPrincipal, metalake, metadataObject)) {
+        MetadataObject.Type tempType = metadataObject.type();
+        if (tempType == MetadataObject.Type.SCHEMA) {
+          // schema owner need use catalog privilege
+          boolean hasCatalogUseCatalog =
+              authorize(
+                  currentPrincipal,
+                  metalake,
+                  MetadataObjects.parent(metadataObject),
+                  Privilege.Name.USE_CATALOG);
+          boolean hasMetalakeUseCatalog =
+              authorize(currentPrincipal, metalake, metalakeObject, Privilege.Name.USE_CATALOG);
+          return hasCatalogUseCatalog || hasMetalakeUseCatalog;
+        }
+        if (tempType == MetadataObject.Type.TABLE
+            || tempType == MetadataObject.Type.TOPIC
+            || tempType == MetadataObject.Type.FILESET
+            || tempType == MetadataObject.Type.MODEL) {
+          // table owner need use_catalog and use_schema privileges
+          boolean hasMetalakeUseSchema =
+              authorize(currentPrincipal, metalake, metalakeObject, Privilege.Name.USE_SCHEMA);
+          MetadataObject schemaObject = MetadataObjects.parent(metadataObject);
+          boolean hasCatalogUseSchema =
+              authorize(
+                  currentPrincipal,
+                  metalake,
+                  MetadataObjects.parent(schemaObject),
+                  Privilege.Name.USE_SCHEMA);
+          boolean hasSchemaUseSchema =
+              authorize(currentPrincipal, metalake, schemaObject, Privilege.Name.USE_SCHEMA);
+          return hasMetalakeUseSchema || hasCatalogUseSchema || hasSchemaUseSchema;
+        }
+        return true;
+      }
+      // metadata parent owner can set owner.
+    } while ((metadataObject = MetadataObjects.parent(metadataObject)) != null);
+    return false;
+  }
+
+  @Override
+  public boolean hasMetadataPrivilegePermission(String metalake, String type, String fullName) {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject metalakeMetadataObject =
+        MetadataObjects.of(ImmutableList.of(metalake), MetadataObject.Type.METALAKE);
+    return authorize(
+            currentPrincipal, metalake, metalakeMetadataObject, Privilege.Name.MANAGE_GRANTS)
+        || hasSetOwnerPermission(metalake, type, fullName);
+  }
+
+  protected static UserEntity getUserEntity(String username, String metalake) throws IOException {
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    UserEntity userEntity =
+        entityStore.get(
+            NameIdentifierUtil.ofUser(metalake, username),
+            Entity.EntityType.USER,
+            UserEntity.class);
+    return userEntity;
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+
+/**
+ * MemoizedGravitinoAuthorizer wraps a {@link GravitinoAuthorizer} and memoizes the results of the
+ * authorization checks. It's meant to live for one request only: when filtering a list of metadata,
+ * the checks on the common parents, such as `USE_CATALOG` on the catalog of every table, are
+ * identical, so they are performed once rather than for every metadata.
+ *
+ * <p>Closing it doesn't close the wrapped authorizer.
+ */
+public class MemoizedGravitinoAuthorizer implements GravitinoAuthorizer {
+
+  private final GravitinoAuthorizer delegate;
+
+  private final Map<List<Object>, Boolean> results = new ConcurrentHashMap<>();
+
+  public MemoizedGravitinoAuthorizer(GravitinoAuthorizer delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void initialize() {}
+
+  @Override
+  public boolean authorize(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege) {
+    return memoize(
+        () -> delegate.authorize(principal, metalake, metadataObject, privilege),
+        "authorize",
+        principal,
+        metalake,
+        metadataObject,
+        privilege);
+  }
+
+  @Override
+  public boolean[] authorizeAll(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    return delegate.authorizeAll(principal, metalake, metadataObjects, privilege);
+  }
+
+  @Override
+  public boolean deny(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege) {
+    return memoize(
+        () -> delegate.deny(principal, metalake, metadataObject, privilege),
+        "deny",
+        principal,
+        metalake,
+        metadataObject,
+        privilege);
+  }
+
+  @Override
+  public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+    return memoize(
+        () -> delegate.isOwner(principal, metalake, metadataObject),
+        "isOwner",
+        principal,
+        metalake,
+        metadataObject);
+  }
+
+  @Override
+  public boolean isServiceAdmin() {
+    return memoize(delegate::isServiceAdmin, "isServiceAdmin");
+  }
+
+  @Override
+  public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
+    return memoize(() -> delegate.isSelf(type, nameIdentifier), "isSelf", type, nameIdentifier);
+  }
+
+  @Override
+  public boolean isMetalakeUser(String metalake) {
+    return memoize(() -> delegate.isMetalakeUser(metalake), "isMetalakeUser", metalake);
+  }
+
+  @Override
+  public boolean hasSetOwnerPermission(String metalake, String type, String fullName) {
+    return memoize(
+        () -> delegate.hasSetOwnerPermission(metalake, type, fullName),
+        "hasSetOwnerPermission",
+        metalake,
+        type,
+        fullName);
+  }
+
+  @Override
+  public boolean hasMetadataPrivilegePermission(String metalake, String type, String fullName) {
+    return memoize(
+        () -> delegate.hasMetadataPrivilegePermission(metalake, type, fullName),
+        "hasMetadataPrivilegePermission",
+        metalake,
+        type,
+        fullName);
+  }
+
+  @Override
+  public void handleRolePrivilegeChange(Long roleId) {
+    results.clear();
+    delegate.handleRolePrivilegeChange(roleId);
+  }
+
+  @Override
+  public void handleRolePrivilegeChange(String metalake, String roleName) {
+    results.clear();
+    delegate.handleRolePrivilegeChange(metalake, roleName);
+  }
+
+  @Override
+  public void handleMetadataOwnerChange(
+      String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
+    results.clear();
+    delegate.handleMetadataOwnerChange(metalake, oldOwnerId, nameIdentifier, type);
+  }
+
+  @Override
+  public void close() throws IOException {
+    results.clear();
+  }
+
+  private boolean memoize(Supplier<Boolean> check, Object... key) {
+    // Some arguments may be null, so use a list of them as the key.
+    return results.computeIfAbsent(Lists.newArrayList(key), k -> check.get());
+  }
+}
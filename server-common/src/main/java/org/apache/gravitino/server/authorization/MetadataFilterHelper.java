@@ -21,12 +21,16 @@ import java.lang.reflect.Array;
 import java.security.Principal;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.authorization.Privilege;
@@ -62,14 +66,16 @@ public class MetadataFilterHelper {
     GravitinoAuthorizer gravitinoAuthorizer =
         GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    return Arrays.stream(metadataList)
-        .filter(
-            metaDataName ->
-                gravitinoAuthorizer.authorize(
-                    currentPrincipal,
-                    metalake,
-                    NameIdentifierUtil.toMetadataObject(metaDataName, entityType),
-                    Privilege.Name.valueOf(privilege)))
+    List<MetadataObject> metadataObjects =
+        Arrays.stream(metadataList)
+            .map(metaDataName -> NameIdentifierUtil.toMetadataObject(metaDataName, entityType))
+            .collect(Collectors.toList());
+    boolean[] results =
+        gravitinoAuthorizer.authorizeAll(
+            currentPrincipal, metalake, metadataObjects, Privilege.Name.valueOf(privilege));
+    return IntStream.range(0, metadataList.length)
+        .filter(i -> results[i])
+        .mapToObj(i -> metadataList[i])
         .toArray(NameIdentifier[]::new);
   }
 
@@ -87,17 +93,19 @@ public class MetadataFilterHelper {
       String expression,
       Entity.EntityType entityType,
       NameIdentifier[] nameIdentifiers) {
-    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
-        new AuthorizationExpressionEvaluator(expression);
     if (!enableAuthorization()) {
       return nameIdentifiers;
     }
+    AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
+        new AuthorizationExpressionEvaluator(expression);
+    GravitinoAuthorizer gravitinoAuthorizer = newMemoizedAuthorizer();
     return Arrays.stream(nameIdentifiers)
         .filter(
             metaDataName -> {
               Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
                   spiltMetadataNames(metalake, entityType, metaDataName);
-              return authorizationExpressionEvaluator.evaluate(nameIdentifierMap);
+              return authorizationExpressionEvaluator.evaluate(
+                  nameIdentifierMap, new HashMap<>(), gravitinoAuthorizer);
             })
         .toArray(NameIdentifier[]::new);
   }
@@ -124,13 +132,15 @@ public class MetadataFilterHelper {
     }
     AuthorizationExpressionEvaluator authorizationExpressionEvaluator =
         new AuthorizationExpressionEvaluator(expression);
+    GravitinoAuthorizer gravitinoAuthorizer = newMemoizedAuthorizer();
     return Arrays.stream(entities)
         .filter(
             entity -> {
               NameIdentifier nameIdentifier = toNameIdentifier.apply(entity);
               Map<Entity.EntityType, NameIdentifier> nameIdentifierMap =
                   spiltMetadataNames(metalake, entityType, nameIdentifier);
-              return authorizationExpressionEvaluator.evaluate(nameIdentifierMap);
+              return authorizationExpressionEvaluator.evaluate(
+                  nameIdentifierMap, new HashMap<>(), gravitinoAuthorizer);
             })
         .toArray(size -> (E[]) Array.newInstance(entities.getClass().getComponentType(), size));
   }
@@ -210,6 +220,15 @@ public class MetadataFilterHelper {
     return nameIdentifierMap;
   }
 
+  /**
+   * The checks on the parents of the filtered metadata, such as `USE_CATALOG` on the catalog, are
+   * the same for all metadata of a list, so memoize them for the duration of the filtering.
+   */
+  private static GravitinoAuthorizer newMemoizedAuthorizer() {
+    return new MemoizedGravitinoAuthorizer(
+        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer());
+  }
+
   private static boolean enableAuthorization() {
     Config config = GravitinoEnv.getInstance().config();
     return config != null && config.get(Configs.ENABLE_AUTHORIZATION);
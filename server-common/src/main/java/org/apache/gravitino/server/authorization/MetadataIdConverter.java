@@ -22,14 +22,23 @@ package org.apache.gravitino.server.authorization;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.CapabilityHelpers;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.connector.capability.Capability;
@@ -46,10 +55,14 @@ import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** It is used to convert MetadataObject to MetadataId */
 public class MetadataIdConverter {
 
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataIdConverter.class);
+
   // Maps metadata type to entity type
   private static final Map<MetadataObject.Type, Entity.EntityType> METADATA_TO_ENTITY_TYPE_MAPPING =
       ImmutableMap.of(
@@ -71,6 +84,22 @@ public class MetadataIdConverter {
           MetadataObject.Type.FILESET, Capability.Scope.FILESET,
           MetadataObject.Type.TOPIC, Capability.Scope.TOPIC,
           MetadataObject.Type.COLUMN, Capability.Scope.COLUMN);
+  // The entity types whose ids can be resolved in batch by listing their namespace.
+  private static final Set<Entity.EntityType> LISTABLE_ENTITY_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.CATALOG,
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.MODEL,
+          Entity.EntityType.TOPIC);
+  // The entity types which the entity store gets by names in batch, their ids are resolved by
+  // querying only the requested names.
+  private static final Set<Entity.EntityType> BATCH_GETTABLE_ENTITY_TYPES =
+      ImmutableSet.of(Entity.EntityType.TABLE, Entity.EntityType.FILESET);
+  // The number of the objects under a namespace from which the namespace is listed rather than
+  // queried by names, since they're likely most of the namespace.
+  @VisibleForTesting static final int LIST_NAMESPACE_THRESHOLD = 5000;
   // Maps entity type to entity class.
   private static final Map<Entity.EntityType, Class<?>> ENTITY_CLASS_MAPPING =
       ImmutableMap.<Entity.EntityType, Class<?>>builder()
@@ -103,13 +132,8 @@ public class MetadataIdConverter {
     EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
     CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
 
-    MetadataObject.Type metadataType = metadataObject.type();
-    NameIdentifier ident = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
-
-    NameIdentifier normalizedIdent =
-        normalizeCaseSensitive(ident, METADATA_SCOPE_MAPPING.get(metadataType), catalogManager);
-
-    Entity.EntityType entityType = getEntityType(metadataType);
+    NameIdentifier normalizedIdent = toNormalizedIdent(metadataObject, metalake, catalogManager);
+    Entity.EntityType entityType = getEntityType(metadataObject.type());
 
     Entity entity;
     try {
@@ -122,6 +146,108 @@ public class MetadataIdConverter {
     return extractIdFromEntity(entity);
   }
 
+  /**
+   * Converts the given metadata objects to metadata ids. The metadata objects of the same type
+   * under the same parent, such as the tables of a schema to filter, are resolved together: the
+   * tables and filesets by querying their names in batch, or by listing the parent if there are
+   * lots of them, and the other types by listing the parent.
+   *
+   * @param metadataObjects The metadata objects to convert.
+   * @param metalake The metalake name.
+   * @return The metadata ids keyed by the metadata objects, the objects which don't exist are
+   *     absent.
+   */
+  public static Map<MetadataObject, Long> getIDs(
+      List<MetadataObject> metadataObjects, String metalake) {
+    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+    CatalogManager catalogManager = GravitinoEnv.getInstance().catalogManager();
+
+    Map<Pair<Namespace, Entity.EntityType>, Map<MetadataObject, NameIdentifier>> groups =
+        new HashMap<>();
+    for (MetadataObject metadataObject : metadataObjects) {
+      Preconditions.checkArgument(metadataObject != null, "Metadata object cannot be null");
+      NameIdentifier normalizedIdent;
+      try {
+        normalizedIdent = toNormalizedIdent(metadataObject, metalake, catalogManager);
+      } catch (Exception e) {
+        LOG.debug("Can not normalize the name of {}", metadataObject.fullName(), e);
+        continue;
+      }
+      groups
+          .computeIfAbsent(
+              Pair.of(normalizedIdent.namespace(), getEntityType(metadataObject.type())),
+              k -> new LinkedHashMap<>())
+          .put(metadataObject, normalizedIdent);
+    }
+
+    Map<MetadataObject, Long> ids = new HashMap<>();
+    groups.forEach(
+        (group, idents) -> {
+          Entity.EntityType entityType = group.getRight();
+          if (idents.size() == 1 || !LISTABLE_ENTITY_TYPES.contains(entityType)) {
+            idents.forEach(
+                (metadataObject, ident) -> {
+                  try {
+                    Entity entity = entityStore.get(ident, entityType, getEntityClass(entityType));
+                    ids.put(metadataObject, extractIdFromEntity(entity));
+                  } catch (Exception e) {
+                    LOG.debug("Can not get the id of {}", metadataObject.fullName(), e);
+                  }
+                });
+            return;
+          }
+
+          try {
+            Map<String, Long> idsByName =
+                BATCH_GETTABLE_ENTITY_TYPES.contains(entityType)
+                        && idents.size() < LIST_NAMESPACE_THRESHOLD
+                    ? batchGetIdsByName(entityStore, idents.values(), entityType)
+                    : listIdsByName(entityStore, group.getLeft(), entityType);
+            idents.forEach(
+                (metadataObject, ident) -> {
+                  Long id = idsByName.get(ident.name());
+                  if (id != null) {
+                    ids.put(metadataObject, id);
+                  }
+                });
+          } catch (Exception e) {
+            LOG.debug("Can not get the ids of the {} under {}", entityType, group.getLeft(), e);
+          }
+        });
+    return ids;
+  }
+
+  private static <E extends Entity & HasIdentifier> Map<String, Long> batchGetIdsByName(
+      EntityStore entityStore, Collection<NameIdentifier> idents, Entity.EntityType entityType)
+      throws IOException {
+    Class<E> entityClass = getEntityClass(entityType);
+    List<E> entities = entityStore.batchGet(new ArrayList<>(idents), entityType, entityClass);
+    Map<String, Long> idsByName = new HashMap<>();
+    for (E entity : entities) {
+      idsByName.put(entity.name(), entity.id());
+    }
+    return idsByName;
+  }
+
+  private static <E extends Entity & HasIdentifier> Map<String, Long> listIdsByName(
+      EntityStore entityStore, Namespace namespace, Entity.EntityType entityType)
+      throws IOException {
+    Class<E> entityClass = getEntityClass(entityType);
+    List<E> entities = entityStore.list(namespace, entityClass, entityType);
+    Map<String, Long> idsByName = new HashMap<>();
+    for (E entity : entities) {
+      idsByName.put(entity.name(), entity.id());
+    }
+    return idsByName;
+  }
+
+  private static NameIdentifier toNormalizedIdent(
+      MetadataObject metadataObject, String metalake, CatalogManager catalogManager) {
+    NameIdentifier ident = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+    return normalizeCaseSensitive(
+        ident, METADATA_SCOPE_MAPPING.get(metadataObject.type()), catalogManager);
+  }
+
   @VisibleForTesting
   static NameIdentifier normalizeCaseSensitive(
       NameIdentifier ident, Capability.Scope scope, CatalogManager catalogManager) {
@@ -19,6 +19,8 @@ package org.apache.gravitino.server.authorization;
 
 import java.io.IOException;
 import java.security.Principal;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
@@ -43,6 +45,17 @@ public class PassThroughAuthorizer implements GravitinoAuthorizer {
     return true;
   }
 
+  @Override
+  public boolean[] authorizeAll(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    Arrays.fill(results, true);
+    return results;
+  }
+
   @Override
   public boolean deny(
       Principal principal,
@@ -21,8 +21,10 @@ import java.security.Principal;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
@@ -37,7 +39,16 @@ import org.apache.gravitino.utils.PrincipalUtils;
 /** Evaluate the runtime result of the AuthorizationExpression. */
 public class AuthorizationExpressionEvaluator {
 
-  private final String ognlAuthorizationExpression;
+  private static final Set<String> METADATA_TYPES =
+      Arrays.stream(MetadataObject.Type.values()).map(Enum::name).collect(Collectors.toSet());
+
+  /**
+   * The PARSED_EXPRESSION_CACHE caches the parsed tree of OGNL expressions, so that an expression
+   * is parsed only once rather than for every evaluation.
+   */
+  private static final Map<String, Object> PARSED_EXPRESSION_CACHE = new ConcurrentHashMap<>();
+
+  private final Object ognlAuthorizationExpression;
 
   /**
    * Use {@link AuthorizationExpressionConverter} to convert the authorization expression into an
@@ -47,7 +58,15 @@ public class AuthorizationExpressionEvaluator {
    */
   public AuthorizationExpressionEvaluator(String expression) {
     this.ognlAuthorizationExpression =
-        AuthorizationExpressionConverter.convertToOgnlExpression(expression);
+        PARSED_EXPRESSION_CACHE.computeIfAbsent(
+            AuthorizationExpressionConverter.convertToOgnlExpression(expression),
+            ognlExpression -> {
+              try {
+                return Ognl.parseExpression(ognlExpression);
+              } catch (OgnlException e) {
+                throw new IllegalArgumentException("ognl parse error: " + ognlExpression, e);
+              }
+            });
   }
 
   /**
@@ -71,9 +90,28 @@ public class AuthorizationExpressionEvaluator {
    */
   public boolean evaluate(
       Map<Entity.EntityType, NameIdentifier> metadataNames, Map<String, Object> pathParams) {
+    return evaluate(
+        metadataNames,
+        pathParams,
+        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer());
+  }
+
+  /**
+   * Use OGNL expressions to invoke the given GravitinoAuthorizer for authorizing multiple types of
+   * metadata IDs. It's used to share a {@link
+   * org.apache.gravitino.server.authorization.MemoizedGravitinoAuthorizer} between the evaluations
+   * of one request.
+   *
+   * @param metadataNames key-metadata type, value-metadata NameIdentifier
+   * @param pathParams params from request path
+   * @param gravitinoAuthorizer the authorizer to perform the authorization
+   * @return authorization result
+   */
+  public boolean evaluate(
+      Map<Entity.EntityType, NameIdentifier> metadataNames,
+      Map<String, Object> pathParams,
+      GravitinoAuthorizer gravitinoAuthorizer) {
     Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    GravitinoAuthorizer gravitinoAuthorizer =
-        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
     OgnlContext ognlContext = Ognl.createDefaultContext(null);
     ognlContext.put("principal", currentPrincipal);
     ognlContext.put("authorizer", gravitinoAuthorizer);
@@ -91,7 +129,8 @@ public class AuthorizationExpressionEvaluator {
     ognlContext.put(
         "METALAKE_NAME", Optional.ofNullable(nameIdentifier).map(NameIdentifier::name).orElse(""));
     try {
-      Object value = Ognl.getValue(ognlAuthorizationExpression, ognlContext);
+      Object value =
+          Ognl.getValue(ognlAuthorizationExpression, ognlContext, ognlContext.getRoot());
       return (boolean) value;
     } catch (OgnlException e) {
       throw new RuntimeException("ognl evaluate error", e);
@@ -99,7 +138,6 @@ public class AuthorizationExpressionEvaluator {
   }
 
   private static boolean isMetadataType(Entity.EntityType type) {
-    return Arrays.stream(MetadataObject.Type.values())
-        .anyMatch(e -> Objects.equals(e.name(), type.name()));
+    return METADATA_TYPES.contains(type.name());
   }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization.index;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.server.authorization.MetadataIdConverter;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * An immutable index of the privileges granted on metadata objects. For each metadata object, the
+ * allowed and the denied privileges are stored as bitsets indexed by the ordinal of {@link
+ * Privilege.Name}. It's built for a role, and the index of a user is the union of the indexes of
+ * its roles.
+ */
+final class PrivilegeIndex {
+
+  static final PrivilegeIndex EMPTY = new PrivilegeIndex(ImmutableMap.of(), ImmutableMap.of());
+
+  static {
+    Preconditions.checkState(
+        Privilege.Name.values().length <= Long.SIZE,
+        "The privileges can't be stored in a bitset of long");
+  }
+
+  private final Map<ObjectKey, Long> allowed;
+
+  private final Map<ObjectKey, Long> denied;
+
+  private PrivilegeIndex(Map<ObjectKey, Long> allowed, Map<ObjectKey, Long> denied) {
+    this.allowed = allowed;
+    this.denied = denied;
+  }
+
+  /**
+   * Builds the index of the privileges of a role.
+   *
+   * @param roleEntity the role with its securable objects
+   * @return the privilege index of the role
+   */
+  static PrivilegeIndex of(RoleEntity roleEntity) {
+    String metalake = NameIdentifierUtil.getMetalake(roleEntity.nameIdentifier());
+    // Resolve the ids of all the securable objects together, the securable objects which don't
+    // exist anymore grant nothing.
+    Map<MetadataObject, Long> ids =
+        MetadataIdConverter.getIDs(new ArrayList<>(roleEntity.securableObjects()), metalake);
+    Map<ObjectKey, Long> allowed = new HashMap<>();
+    Map<ObjectKey, Long> denied = new HashMap<>();
+    for (SecurableObject securableObject : roleEntity.securableObjects()) {
+      Long id = ids.get(securableObject);
+      if (id == null) {
+        continue;
+      }
+      ObjectKey key = new ObjectKey(securableObject.type(), id);
+      for (Privilege privilege : securableObject.privileges()) {
+        Map<ObjectKey, Long> bitsets =
+            AuthConstants.DENY.equalsIgnoreCase(privilege.condition().name()) ? denied : allowed;
+        bitsets.merge(key, bitOf(privilege.name()), (a, b) -> a | b);
+      }
+    }
+    return new PrivilegeIndex(ImmutableMap.copyOf(allowed), ImmutableMap.copyOf(denied));
+  }
+
+  /**
+   * Merges the indexes of several roles.
+   *
+   * @param indexes the indexes to merge
+   * @return the union of the indexes
+   */
+  static PrivilegeIndex merge(Collection<PrivilegeIndex> indexes) {
+    if (indexes.isEmpty()) {
+      return EMPTY;
+    }
+    if (indexes.size() == 1) {
+      return indexes.iterator().next();
+    }
+
+    Map<ObjectKey, Long> allowed = new HashMap<>();
+    Map<ObjectKey, Long> denied = new HashMap<>();
+    for (PrivilegeIndex index : indexes) {
+      index.allowed.forEach((key, bitset) -> allowed.merge(key, bitset, (a, b) -> a | b));
+      index.denied.forEach((key, bitset) -> denied.merge(key, bitset, (a, b) -> a | b));
+    }
+    return new PrivilegeIndex(ImmutableMap.copyOf(allowed), ImmutableMap.copyOf(denied));
+  }
+
+  /**
+   * Whether the privilege is allowed on the metadata object, a denied privilege takes precedence
+   * over an allowed one.
+   */
+  boolean isAllowed(MetadataObject.Type type, long metadataId, Privilege.Name privilege) {
+    ObjectKey key = new ObjectKey(type, metadataId);
+    long bit = bitOf(privilege);
+    return (allowed.getOrDefault(key, 0L) & bit) != 0 && (denied.getOrDefault(key, 0L) & bit) == 0;
+  }
+
+  /** Whether the privilege is denied on the metadata object. */
+  boolean isDenied(MetadataObject.Type type, long metadataId, Privilege.Name privilege) {
+    return (denied.getOrDefault(new ObjectKey(type, metadataId), 0L) & bitOf(privilege)) != 0;
+  }
+
+  private static long bitOf(Privilege.Name privilege) {
+    return 1L << privilege.ordinal();
+  }
+
+  /** The key of a metadata object, the ids are only unique for the same metadata type. */
+  static final class ObjectKey {
+    private final MetadataObject.Type type;
+    private final long id;
+
+    ObjectKey(MetadataObject.Type type, long id) {
+      this.type = type;
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ObjectKey)) {
+        return false;
+      }
+      ObjectKey that = (ObjectKey) o;
+      return id == that.id && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, id);
+    }
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.server.authorization.BaseGravitinoAuthorizer;
+import org.apache.gravitino.server.authorization.MetadataIdConverter;
+import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A GravitinoAuthorizer backed by an immutable privilege index per user, as an alternative to the
+ * {@link org.apache.gravitino.server.authorization.jcasbin.JcasbinAuthorizer} whose enforcers are
+ * synchronized globally.
+ *
+ * <p>The privileges of a role are compiled into a {@link PrivilegeIndex} and the index of a user is
+ * the union of the indexes of its roles. The indexes are never mutated, so the authorization reads
+ * them without any lock. When the privileges of a role change, only the index of the role is
+ * rebuilt, the indexes of the users are merged again from the indexes of their roles. The users are
+ * evicted after {@link Configs#AUTHORIZATION_PRIVILEGE_INDEX_EXPIRATION_TIME} of inactivity.
+ *
+ * <p>It's enabled by setting {@code gravitino.authorization.impl} to this class.
+ */
+public class PrivilegeIndexAuthorizer extends BaseGravitinoAuthorizer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PrivilegeIndexAuthorizer.class);
+
+  private static final long NO_OWNER = -1L;
+
+  /** The privileges of the users, keyed by metalake and user name. */
+  private Cache<Pair<String, String>, UserPrivileges> userPrivileges;
+
+  /** The privilege indexes of the roles, keyed by role id. */
+  private Cache<Long, PrivilegeIndex> rolePrivileges;
+
+  /** The id of the user owning a metadata object, or {@link #NO_OWNER}. */
+  private Cache<PrivilegeIndex.ObjectKey, Long> owners;
+
+  /**
+   * The version of the privileges, it's increased on every change so that an index built
+   * concurrently with a change is not published.
+   */
+  private final AtomicLong version = new AtomicLong();
+
+  @Override
+  public void initialize() {
+    int maxEntries = getConfig(Configs.AUTHORIZATION_PRIVILEGE_INDEX_MAX_ENTRIES);
+    long expirationTime = getConfig(Configs.AUTHORIZATION_PRIVILEGE_INDEX_EXPIRATION_TIME);
+    this.userPrivileges =
+        Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(expirationTime, TimeUnit.MILLISECONDS)
+            .build();
+    this.rolePrivileges = Caffeine.newBuilder().maximumSize(maxEntries).build();
+    this.owners = Caffeine.newBuilder().maximumSize(maxEntries).build();
+  }
+
+  @Override
+  public boolean authorize(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege) {
+    UserPrivileges user = loadUserPrivileges(principal.getName(), metalake);
+    Long metadataId = user == null ? null : getMetadataId(metadataObject, metalake);
+    boolean result =
+        metadataId != null && user.index.isAllowed(metadataObject.type(), metadataId, privilege);
+    LOG.debug(
+        "principal {},metalake {},metadata object {},privilege {}, result {}",
+        principal,
+        metalake,
+        metadataObject,
+        privilege,
+        result);
+    return result;
+  }
+
+  @Override
+  public boolean[] authorizeAll(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    boolean[] results = new boolean[metadataObjects.size()];
+    UserPrivileges user = loadUserPrivileges(principal.getName(), metalake);
+    if (user == null) {
+      return results;
+    }
+
+    Map<MetadataObject, Long> metadataIds = MetadataIdConverter.getIDs(metadataObjects, metalake);
+    for (int i = 0; i < results.length; i++) {
+      MetadataObject metadataObject = metadataObjects.get(i);
+      Long metadataId = metadataIds.get(metadataObject);
+      results[i] =
+          metadataId != null && user.index.isAllowed(metadataObject.type(), metadataId, privilege);
+    }
+    return results;
+  }
+
+  @Override
+  public boolean deny(
+      Principal principal,
+      String metalake,
+      MetadataObject metadataObject,
+      Privilege.Name privilege) {
+    UserPrivileges user = loadUserPrivileges(principal.getName(), metalake);
+    Long metadataId = user == null ? null : getMetadataId(metadataObject, metalake);
+    boolean result =
+        metadataId != null && user.index.isDenied(metadataObject.type(), metadataId, privilege);
+    LOG.debug(
+        "principal {},metalake {},metadata object {},privilege {},deny result {}",
+        principal,
+        metalake,
+        metadataObject,
+        privilege,
+        result);
+    return result;
+  }
+
+  @Override
+  public boolean isOwner(Principal principal, String metalake, MetadataObject metadataObject) {
+    UserPrivileges user = loadUserPrivileges(principal.getName(), metalake);
+    Long metadataId = user == null ? null : getMetadataId(metadataObject, metalake);
+    return metadataId != null && loadOwner(metalake, metadataObject, metadataId) == user.userId;
+  }
+
+  @Override
+  public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
+    String metalake = nameIdentifier.namespace().level(0);
+    String currentUserName = PrincipalUtils.getCurrentUserName();
+    if (Entity.EntityType.USER == type) {
+      return Objects.equals(nameIdentifier.name(), currentUserName);
+    } else if (Entity.EntityType.ROLE == type) {
+      UserPrivileges user = loadUserPrivileges(currentUserName, metalake);
+      Long roleId =
+          user == null
+              ? null
+              : getMetadataId(NameIdentifierUtil.toMetadataObject(nameIdentifier, type), metalake);
+      return roleId != null && user.roleIds.contains(roleId);
+    }
+    throw new UnsupportedOperationException("Unsupported Entity Type.");
+  }
+
+  @Override
+  public void handleRolePrivilegeChange(Long roleId) {
+    version.incrementAndGet();
+    rolePrivileges.invalidate(roleId);
+    invalidateUsersWithRole(roleId);
+  }
+
+  @Override
+  public void handleRolePrivilegeChange(String metalake, String roleName) {
+    NameIdentifier roleIdent = NameIdentifierUtil.ofRole(metalake, roleName);
+    RoleEntity role;
+    try {
+      role =
+          GravitinoEnv.getInstance()
+              .entityStore()
+              .get(roleIdent, Entity.EntityType.ROLE, RoleEntity.class);
+    } catch (Exception e) {
+      throw new RuntimeException("Can not get Role Entity", e);
+    }
+
+    version.incrementAndGet();
+    rolePrivileges.invalidate(role.id());
+    invalidateUsersWithRole(role.id());
+    // The change may be a grant of the role to the users who don't have it in their privileges
+    // yet, their privileges are merged again from the unchanged indexes of their other roles.
+    try {
+      List<UserEntity> users =
+          GravitinoEnv.getInstance()
+              .entityStore()
+              .relationOperations()
+              .listEntitiesByRelation(
+                  SupportsRelationOperations.Type.ROLE_USER_REL,
+                  roleIdent,
+                  Entity.EntityType.ROLE);
+      users.forEach(user -> userPrivileges.invalidate(Pair.of(metalake, user.name())));
+    } catch (Exception e) {
+      LOG.warn("Can not list the users of role {} in metalake {}", roleName, metalake, e);
+      userPrivileges.invalidateAll();
+    }
+  }
+
+  @Override
+  public void handleMetadataOwnerChange(
+      String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
+    version.incrementAndGet();
+    MetadataObject metadataObject = NameIdentifierUtil.toMetadataObject(nameIdentifier, type);
+    Long metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+    owners.invalidate(new PrivilegeIndex.ObjectKey(metadataObject.type(), metadataId));
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (userPrivileges != null) {
+      userPrivileges.invalidateAll();
+    }
+    if (rolePrivileges != null) {
+      rolePrivileges.invalidateAll();
+    }
+    if (owners != null) {
+      owners.invalidateAll();
+    }
+  }
+
+  /**
+   * Invalidates the cached privileges of the users having the role. Only the roles granted to the
+   * users are indexed, so there are no privileges of the groups to invalidate.
+   */
+  private void invalidateUsersWithRole(long roleId) {
+    userPrivileges.asMap().entrySet().removeIf(entry -> entry.getValue().roleIds.contains(roleId));
+  }
+
+  private UserPrivileges loadUserPrivileges(String username, String metalake) {
+    Pair<String, String> key = Pair.of(metalake, username);
+    UserPrivileges user = userPrivileges.getIfPresent(key);
+    if (user != null) {
+      return user;
+    }
+
+    long currentVersion = version.get();
+    try {
+      UserEntity userEntity = getUserEntity(username, metalake);
+      EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
+      List<RoleEntity> roles =
+          entityStore
+              .relationOperations()
+              .listEntitiesByRelation(
+                  SupportsRelationOperations.Type.ROLE_USER_REL,
+                  NameIdentifierUtil.ofUser(metalake, username),
+                  Entity.EntityType.USER);
+
+      ImmutableSet.Builder<Long> roleIds = ImmutableSet.builder();
+      List<PrivilegeIndex> indexes = new ArrayList<>(roles.size());
+      for (RoleEntity role : roles) {
+        roleIds.add(role.id());
+        indexes.add(loadRolePrivileges(metalake, role, currentVersion));
+      }
+      user = new UserPrivileges(userEntity.id(), roleIds.build(), PrivilegeIndex.merge(indexes));
+    } catch (Exception e) {
+      LOG.debug("Can not load the privileges of user {} in metalake {}", username, metalake, e);
+      return null;
+    }
+
+    publish(userPrivileges, key, user, currentVersion);
+    return user;
+  }
+
+  private PrivilegeIndex loadRolePrivileges(String metalake, RoleEntity role, long currentVersion)
+      throws IOException {
+    PrivilegeIndex index = rolePrivileges.getIfPresent(role.id());
+    if (index != null) {
+      return index;
+    }
+
+    // The roles listed by relation may not contain the securable objects.
+    RoleEntity roleEntity =
+        GravitinoEnv.getInstance()
+            .entityStore()
+            .get(
+                NameIdentifierUtil.ofRole(metalake, role.name()),
+                Entity.EntityType.ROLE,
+                RoleEntity.class);
+    index = PrivilegeIndex.of(roleEntity);
+    publish(rolePrivileges, role.id(), index, currentVersion);
+    return index;
+  }
+
+  private long loadOwner(String metalake, MetadataObject metadataObject, long metadataId) {
+    PrivilegeIndex.ObjectKey key = new PrivilegeIndex.ObjectKey(metadataObject.type(), metadataId);
+    Long ownerId = owners.getIfPresent(key);
+    if (ownerId != null) {
+      return ownerId;
+    }
+
+    long currentVersion = version.get();
+    long owner = NO_OWNER;
+    try {
+      NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
+      List<? extends Entity> ownerEntities =
+          GravitinoEnv.getInstance()
+              .entityStore()
+              .relationOperations()
+              .listEntitiesByRelation(
+                  SupportsRelationOperations.Type.OWNER_REL,
+                  entityIdent,
+                  Entity.EntityType.valueOf(metadataObject.type().name()));
+      for (Entity ownerEntity : ownerEntities) {
+        if (ownerEntity instanceof UserEntity) {
+          owner = ((UserEntity) ownerEntity).id();
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn("Can not load metadata owner", e);
+      return NO_OWNER;
+    }
+
+    publish(owners, key, owner, currentVersion);
+    return owner;
+  }
+
+  /** Caches the value unless the privileges changed while it was built. */
+  private <K, V> void publish(Cache<K, V> cache, K key, V value, long builtVersion) {
+    if (version.get() != builtVersion) {
+      return;
+    }
+
+    cache.put(key, value);
+    // A change may happen between the check and the put.
+    if (version.get() != builtVersion) {
+      cache.invalidate(key);
+    }
+  }
+
+  private static Long getMetadataId(MetadataObject metadataObject, String metalake) {
+    try {
+      return MetadataIdConverter.getID(metadataObject, metalake);
+    } catch (Exception e) {
+      LOG.debug("Can not get entity id", e);
+      return null;
+    }
+  }
+
+  private static <T> T getConfig(ConfigEntry<T> entry) {
+    Config config = GravitinoEnv.getInstance().config();
+    return config == null ? entry.getDefaultValue() : config.get(entry);
+  }
+
+  private static final class UserPrivileges {
+    private final long userId;
+    private final Set<Long> roleIds;
+    private final PrivilegeIndex index;
+
+    private UserPrivileges(long userId, Set<Long> roleIds, PrivilegeIndex index) {
+      this.userId = userId;
+      this.roleIds = roleIds;
+      this.index = index;
+    }
+  }
+}
@@ -23,26 +23,26 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
-import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.auth.AuthConstants;
-import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.authorization.SecurableObject;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.server.authorization.BaseGravitinoAuthorizer;
 import org.apache.gravitino.server.authorization.MetadataIdConverter;
 import org.apache.gravitino.utils.MetadataObjectUtil;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -54,7 +54,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** The Jcasbin implementation of GravitinoAuthorizer. */
-public class JcasbinAuthorizer implements GravitinoAuthorizer {
+public class JcasbinAuthorizer extends BaseGravitinoAuthorizer {
 
   private static final Logger LOG = LoggerFactory.getLogger(JcasbinAuthorizer.class);
 
@@ -115,6 +115,27 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return result;
   }
 
+  @Override
+  public boolean[] authorizeAll(
+      Principal principal,
+      String metalake,
+      List<MetadataObject> metadataObjects,
+      Privilege.Name privilege) {
+    boolean[] results =
+        allowInternalAuthorizer.authorizeAllInternal(
+            principal, metalake, metadataObjects, privilege.name());
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+          "principal {},metalake {},metadata objects {},privilege {}, results {}",
+          principal,
+          metalake,
+          metadataObjects,
+          privilege,
+          Arrays.toString(results));
+    }
+    return results;
+  }
+
   @Override
   public boolean deny(
       Principal principal,
@@ -149,33 +170,6 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     return result;
   }
 
-  @Override
-  public boolean isServiceAdmin() {
-    return GravitinoEnv.getInstance()
-        .accessControlDispatcher()
-        .isServiceAdmin(PrincipalUtils.getCurrentUserName());
-  }
-
-  @Override
-  public boolean isMetalakeUser(String metalake) {
-    String currentUserName = PrincipalUtils.getCurrentUserName();
-    if (StringUtils.isBlank(currentUserName)) {
-      return false;
-    }
-    try {
-      return GravitinoEnv.getInstance()
-              .entityStore()
-              .get(
-                  NameIdentifierUtil.ofUser(metalake, currentUserName),
-                  Entity.EntityType.USER,
-                  UserEntity.class)
-          != null;
-    } catch (Exception e) {
-      LOG.warn("Can not get user {} in metalake {}", currentUserName, metalake, e);
-      return false;
-    }
-  }
-
   @Override
   public boolean isSelf(Entity.EntityType type, NameIdentifier nameIdentifier) {
     String metalake = nameIdentifier.namespace().level(0);
@@ -199,68 +193,6 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     throw new UnsupportedOperationException("Unsupported Entity Type.");
   }
 
-  @Override
-  public boolean hasSetOwnerPermission(String metalake, String type, String fullName) {
-    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    MetadataObject metalakeObject =
-        MetadataObjects.of(ImmutableList.of(metalake), MetadataObject.Type.METALAKE);
-    // metalake owner can set owner in metalake.
-    if (isOwner(currentPrincipal, metalake, metalakeObject)) {
-      return true;
-    }
-    MetadataObject.Type metadataType = MetadataObject.Type.valueOf(type.toUpperCase());
-    MetadataObject metadataObject =
-        MetadataObjects.of(Arrays.asList(fullName.split("\\.")), metadataType);
-    do {
-      if (isOwner(currentPrincipal, metalake, metadataObject)) {
-        MetadataObject.Type tempType = metadataObject.type();
-        if (tempType == MetadataObject.Type.SCHEMA) {
-          // schema owner need use catalog privilege
-          boolean hasCatalogUseCatalog =
-              authorize(
-                  currentPrincipal,
-                  metalake,
-                  MetadataObjects.parent(metadataObject),
-                  Privilege.Name.USE_CATALOG);
-          boolean hasMetalakeUseCatalog =
-              authorize(currentPrincipal, metalake, metalakeObject, Privilege.Name.USE_CATALOG);
-          return hasCatalogUseCatalog || hasMetalakeUseCatalog;
-        }
-        if (tempType == MetadataObject.Type.TABLE
-            || tempType == MetadataObject.Type.TOPIC
-            || tempType == MetadataObject.Type.FILESET
-            || tempType == MetadataObject.Type.MODEL) {
-          // table owner need use_catalog and use_schema privileges
-          boolean hasMetalakeUseSchema =
-              authorize(currentPrincipal, metalake, metalakeObject, Privilege.Name.USE_SCHEMA);
-          MetadataObject schemaObject = MetadataObjects.parent(metadataObject);
-          boolean hasCatalogUseSchema =
-              authorize(
-                  currentPrincipal,
-                  metalake,
-                  MetadataObjects.parent(schemaObject),
-                  Privilege.Name.USE_SCHEMA);
-          boolean hasSchemaUseSchema =
-              authorize(currentPrincipal, metalake, schemaObject, Privilege.Name.USE_SCHEMA);
-          return hasMetalakeUseSchema || hasCatalogUseSchema || hasSchemaUseSchema;
-        }
-        return true;
-      }
-      // metadata parent owner can set owner.
-    } while ((metadataObject = MetadataObjects.parent(metadataObject)) != null);
-    return false;
-  }
-
-  @Override
-  public boolean hasMetadataPrivilegePermission(String metalake, String type, String fullName) {
-    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
-    MetadataObject metalakeMetadataObject =
-        MetadataObjects.of(ImmutableList.of(metalake), MetadataObject.Type.METALAKE);
-    return authorize(
-            currentPrincipal, metalake, metalakeMetadataObject, Privilege.Name.MANAGE_GRANTS)
-        || hasSetOwnerPermission(metalake, type, fullName);
-  }
-
   @Override
   public void handleRolePrivilegeChange(Long roleId) {
     loadedRoles.remove(roleId);
@@ -316,6 +248,43 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       return authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
     }
 
+    /**
+     * Authorize a list of metadata objects, the user and its roles are loaded once and the ids of
+     * the metadata objects are converted in batch.
+     */
+    private boolean[] authorizeAllInternal(
+        Principal principal,
+        String metalake,
+        List<MetadataObject> metadataObjects,
+        String privilege) {
+      boolean[] results = new boolean[metadataObjects.size()];
+      String username = principal.getName();
+      Long userId;
+      try {
+        UserEntity userEntity = getUserEntity(username, metalake);
+        userId = userEntity.id();
+      } catch (Exception e) {
+        LOG.debug("Can not get entity id", e);
+        return results;
+      }
+
+      try {
+        loadRolePrivilege(metalake, username, userId);
+      } catch (Exception e) {
+        LOG.error(e.getMessage(), e);
+      }
+
+      Map<MetadataObject, Long> metadataIds = MetadataIdConverter.getIDs(metadataObjects, metalake);
+      for (int i = 0; i < results.length; i++) {
+        MetadataObject metadataObject = metadataObjects.get(i);
+        Long metadataId = metadataIds.get(metadataObject);
+        results[i] =
+            metadataId != null
+                && authorizeByJcasbin(userId, metadataObject, metadataId, privilege);
+      }
+      return results;
+    }
+
     private boolean authorizeByJcasbin(
         Long userId, MetadataObject metadataObject, Long metadataId, String privilege) {
       return enforcer.enforce(
@@ -326,16 +295,6 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     }
   }
 
-  private static UserEntity getUserEntity(String username, String metalake) throws IOException {
-    EntityStore entityStore = GravitinoEnv.getInstance().entityStore();
-    UserEntity userEntity =
-        entityStore.get(
-            NameIdentifierUtil.ofUser(metalake, username),
-            Entity.EntityType.USER,
-            UserEntity.class);
-    return userEntity;
-  }
-
   private void loadPrivilege(
       String metalake,
       String username,
@@ -411,22 +370,30 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
   private void loadPolicyByRoleEntity(RoleEntity roleEntity) {
     String metalake = NameIdentifierUtil.getMetalake(roleEntity.nameIdentifier());
     List<SecurableObject> securableObjects = roleEntity.securableObjects();
+    // Resolve the ids of all the securable objects together, the securable objects which don't
+    // exist anymore grant nothing.
+    Map<MetadataObject, Long> ids =
+        MetadataIdConverter.getIDs(new ArrayList<>(securableObjects), metalake);
 
     for (SecurableObject securableObject : securableObjects) {
+      Long id = ids.get(securableObject);
+      if (id == null) {
+        continue;
+      }
       for (Privilege privilege : securableObject.privileges()) {
         Privilege.Condition condition = privilege.condition();
         if (AuthConstants.DENY.equalsIgnoreCase(condition.name())) {
           denyEnforcer.addPolicy(
               String.valueOf(roleEntity.id()),
               securableObject.type().name(),
-              String.valueOf(MetadataIdConverter.getID(securableObject, metalake)),
+              String.valueOf(id),
               privilege.name().name().toUpperCase(),
               AuthConstants.ALLOW);
         }
         allowEnforcer.addPolicy(
             String.valueOf(roleEntity.id()),
             securableObject.type().name(),
-            String.valueOf(MetadataIdConverter.getID(securableObject, metalake)),
+            String.valueOf(id),
             privilege.name().name().toUpperCase(),
             condition.name().toLowerCase());
       }
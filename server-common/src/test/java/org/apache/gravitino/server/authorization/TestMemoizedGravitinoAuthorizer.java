@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.security.Principal;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.GravitinoAuthorizer;
+import org.apache.gravitino.authorization.Privilege;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Test of {@link MemoizedGravitinoAuthorizer} */
+public class TestMemoizedGravitinoAuthorizer {
+
+  @Test
+  public void testMemoize() throws IOException {
+    GravitinoAuthorizer delegate = mock(GravitinoAuthorizer.class);
+    when(delegate.authorize(any(), any(), any(), any())).thenReturn(true);
+    when(delegate.isMetalakeUser(any())).thenReturn(false);
+
+    Principal principal = new UserPrincipal("tester");
+    MetadataObject catalog = MetadataObjects.of(null, "catalog", MetadataObject.Type.CATALOG);
+    MetadataObject catalog2 = MetadataObjects.of(null, "catalog2", MetadataObject.Type.CATALOG);
+
+    try (MemoizedGravitinoAuthorizer authorizer = new MemoizedGravitinoAuthorizer(delegate)) {
+      for (int i = 0; i < 10; i++) {
+        Assertions.assertTrue(
+            authorizer.authorize(principal, "metalake", catalog, Privilege.Name.USE_CATALOG));
+        Assertions.assertFalse(authorizer.isMetalakeUser("metalake"));
+      }
+      verify(delegate, times(1))
+          .authorize(principal, "metalake", catalog, Privilege.Name.USE_CATALOG);
+      verify(delegate, times(1)).isMetalakeUser("metalake");
+
+      Assertions.assertTrue(
+          authorizer.authorize(principal, "metalake", catalog2, Privilege.Name.USE_CATALOG));
+      Assertions.assertTrue(
+          authorizer.authorize(principal, "metalake", catalog, Privilege.Name.USE_SCHEMA));
+      verify(delegate, times(3)).authorize(any(), any(), any(), any());
+
+      // A privilege change must drop the memoized results.
+      authorizer.handleRolePrivilegeChange(1L);
+      authorizer.authorize(principal, "metalake", catalog, Privilege.Name.USE_CATALOG);
+      verify(delegate, times(2))
+          .authorize(principal, "metalake", catalog, Privilege.Name.USE_CATALOG);
+    }
+
+    verify(delegate, times(0)).close();
+  }
+}
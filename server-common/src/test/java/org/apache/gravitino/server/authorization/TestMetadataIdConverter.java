@@ -20,15 +20,20 @@
 package org.apache.gravitino.server.authorization;
 
 import static org.mockito.Answers.CALLS_REAL_METHODS;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Map;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Entity;
@@ -190,6 +195,73 @@ public class TestMetadataIdConverter {
     }
   }
 
+  @Test
+  void testConvertInBatch() throws IOException, IllegalAccessException {
+    CatalogManager mockCatalogManager = mock(CatalogManager.class);
+    Object originalCatalogManager =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "catalogManager", true);
+    Object originalEntityStore =
+        FieldUtils.readDeclaredField(GravitinoEnv.getInstance(), "entityStore", true);
+
+    FieldUtils.writeDeclaredField(
+        GravitinoEnv.getInstance(), "catalogManager", mockCatalogManager, true);
+    FieldUtils.writeDeclaredField(GravitinoEnv.getInstance(), "entityStore", mockStore, true);
+
+    Namespace tableNamespace = Namespace.of("metalake", "catalog", "schema");
+    TableEntity table2 = getTestTableEntity(8L, "table2", tableNamespace);
+    when(mockStore.batchGet(
+            ImmutableList.of(
+                NameIdentifier.of("metalake", "catalog", "schema", "table"),
+                NameIdentifier.of("metalake", "catalog", "schema", "table2"),
+                NameIdentifier.of("metalake", "catalog", "schema", "table3")),
+            Entity.EntityType.TABLE,
+            TableEntity.class))
+        .thenReturn(ImmutableList.of(entity4, table2));
+
+    try (MockedStatic<MetadataIdConverter> mockedStatic =
+        mockStatic(MetadataIdConverter.class, CALLS_REAL_METHODS)) {
+      mockedStatic
+          .when(() -> MetadataIdConverter.normalizeCaseSensitive(any(), any(), any()))
+          .thenAnswer(invocation -> invocation.getArgument(0));
+
+      MetadataObject catalog =
+          MetadataObjects.of(ImmutableList.of("catalog"), MetadataObject.Type.CATALOG);
+      MetadataObject table =
+          MetadataObjects.of(
+              ImmutableList.of("catalog", "schema", "table"), MetadataObject.Type.TABLE);
+      MetadataObject tableTwo =
+          MetadataObjects.of(
+              ImmutableList.of("catalog", "schema", "table2"), MetadataObject.Type.TABLE);
+      MetadataObject missingTable =
+          MetadataObjects.of(
+              ImmutableList.of("catalog", "schema", "table3"), MetadataObject.Type.TABLE);
+
+      Map<MetadataObject, Long> ids =
+          MetadataIdConverter.getIDs(
+              ImmutableList.of(catalog, table, tableTwo, missingTable), "metalake");
+
+      Assertions.assertEquals(3, ids.size());
+      Assertions.assertEquals(2L, ids.get(catalog));
+      Assertions.assertEquals(4L, ids.get(table));
+      Assertions.assertEquals(8L, ids.get(tableTwo));
+      Assertions.assertFalse(ids.containsKey(missingTable));
+      // The tables of the schema are resolved by one batch query of their names.
+      verify(mockStore, times(1))
+          .batchGet(any(), eq(Entity.EntityType.TABLE), eq(TableEntity.class));
+      verify(mockStore, never()).list(tableNamespace, TableEntity.class, Entity.EntityType.TABLE);
+      verify(mockStore, never())
+          .get(
+              NameIdentifier.of("metalake", "catalog", "schema", "table2"),
+              Entity.EntityType.TABLE,
+              TableEntity.class);
+    } finally {
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "catalogManager", originalCatalogManager, true);
+      FieldUtils.writeDeclaredField(
+          GravitinoEnv.getInstance(), "entityStore", originalEntityStore, true);
+    }
+  }
+
   private void initTestNameIdentifier() {
     ident1 = NameIdentifier.of("metalake");
     ident2 = NameIdentifier.of("metalake", "catalog");
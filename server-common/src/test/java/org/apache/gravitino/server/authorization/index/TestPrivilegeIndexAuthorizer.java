@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.server.authorization.index;
+
+import static org.apache.gravitino.authorization.Privilege.Name.USE_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.authorization.Privilege;
+import org.apache.gravitino.authorization.Privileges;
+import org.apache.gravitino.authorization.SecurableObject;
+import org.apache.gravitino.authorization.SecurableObjects;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.server.authorization.MetadataIdConverter;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+/** Test of {@link PrivilegeIndexAuthorizer} */
+public class TestPrivilegeIndexAuthorizer {
+
+  private static final Long USER_ID = 2L;
+
+  private static final Long ALLOW_ROLE_ID = 3L;
+
+  private static final Long CATALOG_ID = 4L;
+
+  private static final Long DENY_ROLE_ID = 5L;
+
+  private static final String USERNAME = "tester";
+
+  private static final String METALAKE = "testMetalake";
+
+  private static final MetadataObject CATALOG =
+      MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG);
+
+  private static EntityStore entityStore = mock(EntityStore.class);
+
+  private static GravitinoEnv gravitinoEnv = mock(GravitinoEnv.class);
+
+  private static SupportsRelationOperations supportsRelationOperations =
+      mock(SupportsRelationOperations.class);
+
+  private static MockedStatic<PrincipalUtils> principalUtilsMockedStatic;
+
+  private static MockedStatic<GravitinoEnv> gravitinoEnvMockedStatic;
+
+  private static MockedStatic<MetadataIdConverter> metadataIdConverterMockedStatic;
+
+  private static PrivilegeIndexAuthorizer authorizer;
+
+  @BeforeAll
+  public static void setup() throws IOException {
+    principalUtilsMockedStatic = mockStatic(PrincipalUtils.class);
+    metadataIdConverterMockedStatic = mockStatic(MetadataIdConverter.class);
+    gravitinoEnvMockedStatic = mockStatic(GravitinoEnv.class);
+    gravitinoEnvMockedStatic.when(GravitinoEnv::getInstance).thenReturn(gravitinoEnv);
+    principalUtilsMockedStatic
+        .when(PrincipalUtils::getCurrentPrincipal)
+        .thenReturn(new UserPrincipal(USERNAME));
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getID(any(), eq(METALAKE)))
+        .thenReturn(CATALOG_ID);
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getIDs(any(), eq(METALAKE)))
+        .thenAnswer(
+            invocation -> {
+              List<MetadataObject> metadataObjects = invocation.getArgument(0);
+              return metadataObjects.stream()
+                  .collect(
+                      Collectors.toMap(Function.identity(), object -> CATALOG_ID, (a, b) -> a));
+            });
+    when(gravitinoEnv.entityStore()).thenReturn(entityStore);
+    when(entityStore.relationOperations()).thenReturn(supportsRelationOperations);
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
+            eq(Entity.EntityType.USER),
+            eq(UserEntity.class)))
+        .thenReturn(getUserEntity());
+
+    authorizer = new PrivilegeIndexAuthorizer();
+    authorizer.initialize();
+  }
+
+  @AfterAll
+  public static void stop() throws IOException {
+    if (authorizer != null) {
+      authorizer.close();
+    }
+    if (principalUtilsMockedStatic != null) {
+      principalUtilsMockedStatic.close();
+    }
+    if (metadataIdConverterMockedStatic != null) {
+      metadataIdConverterMockedStatic.close();
+    }
+    if (gravitinoEnvMockedStatic != null) {
+      gravitinoEnvMockedStatic.close();
+    }
+  }
+
+  @Test
+  public void testAuthorize() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    RoleEntity allowRole =
+        mockRole(ALLOW_ROLE_ID, "allowRole", catalogObject(Privileges.UseCatalog.allow()));
+    RoleEntity denyRole =
+        mockRole(DENY_ROLE_ID, "denyRole", catalogObject(Privileges.UseCatalog.deny()));
+
+    mockUserRoles();
+    mockRoleUsers(allowRole, getUserEntity());
+    authorizer.handleRolePrivilegeChange(METALAKE, allowRole.name());
+    assertFalse(authorizer.authorize(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+
+    // The privileges are cached until a role of the user changes.
+    mockUserRoles(allowRole);
+    assertFalse(authorizer.authorize(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+    authorizer.handleRolePrivilegeChange(DENY_ROLE_ID);
+    assertFalse(authorizer.authorize(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+
+    // Granting the role to the user rebuilds the privileges of the user.
+    authorizer.handleRolePrivilegeChange(METALAKE, allowRole.name());
+    assertTrue(authorizer.authorize(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+    assertFalse(authorizer.deny(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+
+    // The deny privilege of a role takes precedence over the allow privilege of another role.
+    mockUserRoles(allowRole, denyRole);
+    mockRoleUsers(denyRole, getUserEntity());
+    authorizer.handleRolePrivilegeChange(METALAKE, denyRole.name());
+    assertFalse(authorizer.authorize(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+    assertTrue(authorizer.deny(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+
+    // Revoking the deny role rebuilds the privileges of the users which had it.
+    mockUserRoles(allowRole);
+    mockRoleUsers(denyRole);
+    authorizer.handleRolePrivilegeChange(METALAKE, denyRole.name());
+    assertTrue(authorizer.authorize(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+
+    // The privileges of a changed role are loaded again.
+    mockRole(ALLOW_ROLE_ID, "allowRole");
+    authorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+    assertFalse(authorizer.authorize(currentPrincipal, METALAKE, CATALOG, USE_CATALOG));
+  }
+
+  @Test
+  public void testAuthorizeAll() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject otherCatalog =
+        MetadataObjects.of(null, "otherCatalog", MetadataObject.Type.CATALOG);
+    MetadataObject missingCatalog =
+        MetadataObjects.of(null, "missingCatalog", MetadataObject.Type.CATALOG);
+    List<MetadataObject> catalogs = ImmutableList.of(CATALOG, otherCatalog, missingCatalog);
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getIDs(eq(catalogs), eq(METALAKE)))
+        .thenReturn(ImmutableMap.of(CATALOG, CATALOG_ID, otherCatalog, -2L));
+
+    RoleEntity allowRole =
+        mockRole(ALLOW_ROLE_ID, "allowRole", catalogObject(Privileges.UseCatalog.allow()));
+    mockUserRoles(allowRole);
+    mockRoleUsers(allowRole, getUserEntity());
+    authorizer.handleRolePrivilegeChange(METALAKE, allowRole.name());
+
+    boolean[] results = authorizer.authorizeAll(currentPrincipal, METALAKE, catalogs, USE_CATALOG);
+    // The missing catalog can't be resolved to an id, so it's not authorized.
+    assertArrayEquals(new boolean[] {true, false, false}, results);
+  }
+
+  @Test
+  public void testIsOwner() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    NameIdentifier catalogIdent = NameIdentifierUtil.ofCatalog(METALAKE, CATALOG.name());
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(ImmutableList.of(getUserEntity()));
+    authorizer.handleMetadataOwnerChange(METALAKE, null, catalogIdent, Entity.EntityType.CATALOG);
+    assertTrue(authorizer.isOwner(currentPrincipal, METALAKE, CATALOG));
+
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.OWNER_REL),
+            eq(catalogIdent),
+            eq(Entity.EntityType.CATALOG)))
+        .thenReturn(new ArrayList<>());
+    // The owner is cached until it changes.
+    assertTrue(authorizer.isOwner(currentPrincipal, METALAKE, CATALOG));
+    authorizer.handleMetadataOwnerChange(
+        METALAKE, USER_ID, catalogIdent, Entity.EntityType.CATALOG);
+    assertFalse(authorizer.isOwner(currentPrincipal, METALAKE, CATALOG));
+  }
+
+  private static void mockUserRoles(RoleEntity... roles) throws IOException {
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.copyOf(roles));
+  }
+
+  private static void mockRoleUsers(RoleEntity role, UserEntity... users) throws IOException {
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofRole(METALAKE, role.name())),
+            eq(Entity.EntityType.ROLE)))
+        .thenReturn(ImmutableList.copyOf(users));
+  }
+
+  private static RoleEntity mockRole(
+      Long roleId, String roleName, SecurableObject... securableObjects) throws IOException {
+    RoleEntity role =
+        RoleEntity.builder()
+            .withNamespace(NamespaceUtil.ofRole(METALAKE))
+            .withId(roleId)
+            .withName(roleName)
+            .withAuditInfo(AuditInfo.EMPTY)
+            .withSecurableObjects(ImmutableList.copyOf(securableObjects))
+            .build();
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, roleName)),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(role);
+    return role;
+  }
+
+  private static SecurableObject catalogObject(Privilege privilege) {
+    return SecurableObjects.ofCatalog(CATALOG.name(), ImmutableList.of(privilege));
+  }
+
+  private static UserEntity getUserEntity() {
+    return UserEntity.builder()
+        .withId(USER_ID)
+        .withName(USERNAME)
+        .withAuditInfo(AuditInfo.EMPTY)
+        .build();
+  }
+}
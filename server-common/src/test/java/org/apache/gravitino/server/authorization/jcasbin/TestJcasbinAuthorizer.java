@@ -18,6 +18,7 @@
 package org.apache.gravitino.server.authorization.jcasbin;
 
 import static org.apache.gravitino.authorization.Privilege.Name.USE_CATALOG;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,10 +30,12 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
@@ -109,6 +112,15 @@ public class TestJcasbinAuthorizer {
     metadataIdConverterMockedStatic
         .when(() -> MetadataIdConverter.getID(any(), eq(METALAKE)))
         .thenReturn(CATALOG_ID);
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getIDs(any(), eq(METALAKE)))
+        .thenAnswer(
+            invocation -> {
+              List<MetadataObject> metadataObjects = invocation.getArgument(0);
+              return metadataObjects.stream()
+                  .collect(
+                      Collectors.toMap(Function.identity(), object -> CATALOG_ID, (a, b) -> a));
+            });
     when(gravitinoEnv.entityStore()).thenReturn(entityStore);
     when(entityStore.relationOperations()).thenReturn(supportsRelationOperations);
     when(entityStore.get(
@@ -228,6 +240,40 @@ public class TestJcasbinAuthorizer {
     assertFalse(doAuthorizeOwner(currentPrincipal));
   }
 
+  @Test
+  public void testAuthorizeAll() throws IOException {
+    Principal currentPrincipal = PrincipalUtils.getCurrentPrincipal();
+    MetadataObject catalog = MetadataObjects.of(null, "testCatalog", MetadataObject.Type.CATALOG);
+    MetadataObject otherCatalog =
+        MetadataObjects.of(null, "otherCatalog", MetadataObject.Type.CATALOG);
+    MetadataObject missingCatalog =
+        MetadataObjects.of(null, "missingCatalog", MetadataObject.Type.CATALOG);
+    List<MetadataObject> catalogs = ImmutableList.of(catalog, otherCatalog, missingCatalog);
+    metadataIdConverterMockedStatic
+        .when(() -> MetadataIdConverter.getIDs(eq(catalogs), eq(METALAKE)))
+        .thenReturn(ImmutableMap.of(catalog, CATALOG_ID, otherCatalog, -2L));
+
+    RoleEntity allowRole =
+        getRoleEntity(ALLOW_ROLE_ID, "allowRole", ImmutableList.of(getAllowSecurableObject()));
+    when(entityStore.get(
+            eq(NameIdentifierUtil.ofRole(METALAKE, allowRole.name())),
+            eq(Entity.EntityType.ROLE),
+            eq(RoleEntity.class)))
+        .thenReturn(allowRole);
+    when(supportsRelationOperations.listEntitiesByRelation(
+            eq(SupportsRelationOperations.Type.ROLE_USER_REL),
+            eq(NameIdentifierUtil.ofUser(METALAKE, USERNAME)),
+            eq(Entity.EntityType.USER)))
+        .thenReturn(ImmutableList.of(allowRole));
+    jcasbinAuthorizer.handleRolePrivilegeChange(ALLOW_ROLE_ID);
+    jcasbinAuthorizer.handleRolePrivilegeChange(DENY_ROLE_ID);
+
+    boolean[] results =
+        jcasbinAuthorizer.authorizeAll(currentPrincipal, METALAKE, catalogs, USE_CATALOG);
+    // The missing catalog can't be resolved to an id, so it's not authorized.
+    assertArrayEquals(new boolean[] {true, false, false}, results);
+  }
+
   private boolean doAuthorize(Principal currentPrincipal) {
     return jcasbinAuthorizer.authorize(
         currentPrincipal,
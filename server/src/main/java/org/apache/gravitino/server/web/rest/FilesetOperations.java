@@ -22,10 +22,12 @@ import static org.apache.gravitino.file.Fileset.LOCATION_NAME_UNKNOWN;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -49,8 +51,10 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.catalog.FilesetDispatcher;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -58,6 +62,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FileInfoListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.FileInfo;
@@ -79,6 +84,9 @@ public class FilesetOperations {
 
   private static final Logger LOG = LoggerFactory.getLogger(FilesetOperations.class);
 
+  // The page size of a recursive or filtered file listing if the client doesn't set it.
+  private static final int DEFAULT_LIST_FILES_PAGE_SIZE = 1000;
+
   private final FilesetDispatcher dispatcher;
 
   private static final String loadFilesetAuthorizationExpression =
@@ -101,22 +109,29 @@ public class FilesetOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
 
     try {
       LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
       return Utils.doAs(
           httpRequest,
           () -> {
+            Preconditions.checkArgument(
+                pageToken == null || pageSize != null, "pageSize must be set with pageToken");
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
-            idents =
+            Page<NameIdentifier> page =
+                pageSize == null
+                    ? Page.of(Arrays.asList(dispatcher.listFilesets(filesetNS)), null)
+                    : dispatcher.listFilesets(filesetNS, pageToken, pageSize);
+            NameIdentifier[] idents =
                 MetadataFilterHelper.filterByExpression(
                     metalake,
                     loadFilesetAuthorizationExpression,
                     Entity.EntityType.FILESET,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    page.items().toArray(new NameIdentifier[0]));
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
                 idents.length,
@@ -234,16 +249,23 @@ public class FilesetOperations {
       @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
       @PathParam("fileset") @AuthorizationMetadata(type = Entity.EntityType.FILESET) String fileset,
       @QueryParam("sub_path") @DefaultValue("/") String subPath,
-      @QueryParam("location_name") String locationName)
+      @QueryParam("location_name") String locationName,
+      @QueryParam("recursive") @DefaultValue("false") boolean recursive,
+      @QueryParam("glob") String glob,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize)
       throws UnsupportedEncodingException {
     LOG.info(
-        "Received list files request: {}.{}.{}.{}, subPath: {}, locationName:{}",
+        "Received list files request: {}.{}.{}.{}, subPath: {}, locationName:{}, recursive: {}, "
+            + "glob: {}",
         metalake,
         catalog,
         schema,
         fileset,
         subPath,
-        locationName);
+        locationName,
+        recursive,
+        glob);
 
     final String decodedSubPath =
         StringUtils.isNotBlank(subPath)
@@ -256,8 +278,28 @@ public class FilesetOperations {
           () -> {
             NameIdentifier filesetIdent =
                 NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
-            FileInfo[] files = dispatcher.listFiles(filesetIdent, locationName, decodedSubPath);
-            Response response = Utils.ok(new FileInfoListResponse(DTOConverters.toDTO(files)));
+            Preconditions.checkArgument(
+                pageToken == null || pageSize != null, "pageSize must be set with pageToken");
+            Response response;
+            if (pageSize == null && !recursive && glob == null) {
+              FileInfo[] files = dispatcher.listFiles(filesetIdent, locationName, decodedSubPath);
+              response = Utils.ok(new FileInfoListResponse(DTOConverters.toDTO(files)));
+            } else {
+              Page<FileInfo> page =
+                  dispatcher.listFiles(
+                      filesetIdent,
+                      locationName,
+                      decodedSubPath,
+                      recursive,
+                      glob,
+                      pageToken,
+                      pageSize == null ? DEFAULT_LIST_FILES_PAGE_SIZE : pageSize);
+              response =
+                  Utils.ok(
+                      new FileInfoListResponse(
+                          DTOConverters.toDTO(page.items().toArray(new FileInfo[0])),
+                          page.nextPageToken()));
+            }
             LOG.info(
                 "Files listed for fileset: {}.{}.{}.{}, subPath: {}, locationName:{}",
                 metalake,
@@ -402,4 +444,53 @@ public class FilesetOperations {
       CallerContext.CallerContextHolder.remove();
     }
   }
+
+  @POST
+  @Path("{fileset}/locations")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-file-locations." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-file-locations", absolute = true)
+  @AuthorizationExpression(
+      expression = loadFilesetAuthorizationExpression,
+      accessMetadataType = MetadataObject.Type.FILESET)
+  public Response getFileLocations(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalake,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @PathParam("fileset") @AuthorizationMetadata(type = Entity.EntityType.FILESET) String fileset,
+      FileLocationsRequest request) {
+    LOG.info(
+        "Received get file locations request: {}.{}.{}.{}, sub path count:{}, location name:{}",
+        metalake,
+        catalog,
+        schema,
+        fileset,
+        request.getSubPaths() == null ? 0 : request.getSubPaths().length,
+        request.getLocationName());
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+            Map<String, String> filteredAuditHeaders = Utils.filterFilesetAuditHeaders(httpRequest);
+            // set the audit info into the thread local context
+            if (!filteredAuditHeaders.isEmpty()) {
+              CallerContext context =
+                  CallerContext.builder().withContext(filteredAuditHeaders).build();
+              CallerContext.CallerContextHolder.set(context);
+            }
+            String[] actualFileLocations =
+                dispatcher.getFileLocations(
+                    ident, request.getSubPaths(), request.getLocationName());
+            return Utils.ok(new FileLocationsResponse(actualFileLocations));
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleFilesetException(OperationType.GET, fileset, schema, e);
+    } finally {
+      // Clear the caller context
+      CallerContext.CallerContextHolder.remove();
+    }
+  }
 }
@@ -20,6 +20,7 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,6 +43,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.ModelDispatcher;
 import org.apache.gravitino.dto.requests.ModelRegisterRequest;
 import org.apache.gravitino.dto.requests.ModelUpdateRequest;
@@ -98,7 +100,9 @@ public class ModelOperations {
   public Response listModels(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info("Received list models request for schema: {}.{}.{}", metalake, catalog, schema);
     Namespace modelNs = NamespaceUtil.ofModel(metalake, catalog, schema);
 
@@ -106,13 +110,23 @@ public class ModelOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
-            NameIdentifier[] modelIds = modelDispatcher.listModels(modelNs);
+            Preconditions.checkArgument(
+                pageToken == null || pageSize != null, "pageSize must be set with pageToken");
+            String nextPageToken = null;
+            NameIdentifier[] modelIds;
+            if (pageSize == null) {
+              modelIds = modelDispatcher.listModels(modelNs);
+            } else {
+              Page<NameIdentifier> page = modelDispatcher.listModels(modelNs, pageToken, pageSize);
+              modelIds = page.items().toArray(new NameIdentifier[0]);
+              nextPageToken = page.nextPageToken();
+            }
             modelIds = modelIds == null ? new NameIdentifier[0] : modelIds;
             modelIds =
                 MetadataFilterHelper.filterByExpression(
                     metalake, loadModelAuthorizationExpression, Entity.EntityType.MODEL, modelIds);
             LOG.info("List {} models under schema {}", modelIds.length, modelNs);
-            return Utils.ok(new EntityListResponse(modelIds));
+            return Utils.ok(new EntityListResponse(modelIds, nextPageToken));
           });
 
     } catch (Exception e) {
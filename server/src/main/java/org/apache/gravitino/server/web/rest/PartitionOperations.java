@@ -37,6 +37,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
 import org.apache.gravitino.dto.requests.AddPartitionsRequest;
@@ -72,7 +73,10 @@ public class PartitionOperations {
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("filter") String filter,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info(
         "Received list partition {} request for table: {}.{}.{}.{}",
         verbose ? "infos" : "names",
@@ -84,8 +88,26 @@ public class PartitionOperations {
       return Utils.doAs(
           httpRequest,
           () -> {
+            Preconditions.checkArgument(
+                pageToken == null || pageSize != null, "pageSize must be set with pageToken");
             NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
-            if (verbose) {
+            // A filtered listing without a page size is returned as a single page.
+            boolean paged = pageSize != null || filter != null;
+            int size = pageSize == null ? Integer.MAX_VALUE : pageSize;
+            if (verbose && paged) {
+              Page<Partition> page = dispatcher.listPartitions(tableIdent, filter, pageToken, size);
+              Partition[] partitions = page.items().toArray(new Partition[0]);
+              Response response =
+                  Utils.ok(new PartitionListResponse(toDTOs(partitions), page.nextPageToken()));
+              LOG.info(
+                  "List {} partitions in table {}.{}.{}.{}",
+                  partitions.length,
+                  metalake,
+                  catalog,
+                  schema,
+                  table);
+              return response;
+            } else if (verbose) {
               Partition[] partitions = dispatcher.listPartitions(tableIdent);
               Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
               LOG.info(
@@ -96,6 +118,20 @@ public class PartitionOperations {
                   schema,
                   table);
               return response;
+            } else if (paged) {
+              Page<String> page =
+                  dispatcher.listPartitionNames(tableIdent, filter, pageToken, size);
+              String[] partitionNames = page.items().toArray(new String[0]);
+              Response response =
+                  Utils.ok(new PartitionNameListResponse(partitionNames, page.nextPageToken()));
+              LOG.info(
+                  "List {} partition names in table {}.{}.{}.{}",
+                  partitionNames.length,
+                  metalake,
+                  catalog,
+                  schema,
+                  table);
+              return response;
             } else {
               String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
               Response response = Utils.ok(new PartitionNameListResponse((partitionNames)));
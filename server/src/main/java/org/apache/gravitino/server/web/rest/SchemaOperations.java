@@ -20,6 +20,8 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -39,6 +41,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.catalog.SchemaDispatcher;
@@ -84,18 +87,29 @@ public class SchemaOperations {
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
   public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
+            Preconditions.checkArgument(
+                pageToken == null || pageSize != null, "pageSize must be set with pageToken");
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents = dispatcher.listSchemas(schemaNS);
-            idents =
+            Page<NameIdentifier> page =
+                pageSize == null
+                    ? Page.of(Arrays.asList(dispatcher.listSchemas(schemaNS)), null)
+                    : dispatcher.listSchemas(schemaNS, pageToken, pageSize);
+            NameIdentifier[] idents =
                 MetadataFilterHelper.filterByExpression(
-                    metalake, loadSchemaAuthorizationExpression, Entity.EntityType.SCHEMA, idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    metalake,
+                    loadSchemaAuthorizationExpression,
+                    Entity.EntityType.SCHEMA,
+                    page.items().toArray(new NameIdentifier[0]));
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
             return response;
           });
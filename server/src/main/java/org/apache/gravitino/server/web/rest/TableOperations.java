@@ -23,6 +23,8 @@ import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
@@ -40,6 +42,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
@@ -86,18 +89,28 @@ public class TableOperations {
   public Response listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
+      @PathParam("schema") String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
+            Preconditions.checkArgument(
+                pageToken == null || pageSize != null, "pageSize must be set with pageToken");
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listTables(tableNS);
-            idents =
+            Page<NameIdentifier> page =
+                pageSize == null
+                    ? Page.of(Arrays.asList(dispatcher.listTables(tableNS)), null)
+                    : dispatcher.listTables(tableNS, pageToken, pageSize);
+            NameIdentifier[] idents =
                 MetadataFilterHelper.filterByExpression(
-                    metalake, loadTableAuthorizationExpression, Entity.EntityType.TABLE, idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    metalake,
+                    loadTableAuthorizationExpression,
+                    Entity.EntityType.TABLE,
+                    page.items().toArray(new NameIdentifier[0]));
+            Response response = Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
             return response;
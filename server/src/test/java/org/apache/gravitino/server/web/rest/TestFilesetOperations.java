@@ -21,6 +21,7 @@ package org.apache.gravitino.server.web.rest;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_READ_LOCK_STRIPES;
 import static org.apache.gravitino.file.Fileset.LOCATION_NAME_UNKNOWN;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -43,13 +44,16 @@ import org.apache.gravitino.Audit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.audit.FilesetAuditConstants;
 import org.apache.gravitino.audit.FilesetDataOperation;
 import org.apache.gravitino.audit.InternalClientType;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
+import org.apache.gravitino.dto.file.FileInfoDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
+import org.apache.gravitino.dto.requests.FileLocationsRequest;
 import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
@@ -57,7 +61,9 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.FileInfoListResponse;
 import org.apache.gravitino.dto.responses.FileLocationResponse;
+import org.apache.gravitino.dto.responses.FileLocationsResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -100,6 +106,7 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(1).when(config).get(TREE_LOCK_READ_LOCK_STRIPES);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -669,6 +676,107 @@ public class TestFilesetOperations extends BaseOperationsTest {
     Assertions.assertNull(CallerContext.CallerContextHolder.get());
   }
 
+  @Test
+  public void testGetFileLocations() {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    String[] subPaths = new String[] {"/test/1", "/test/2"};
+    String[] locations = new String[] {"hdfs://host/test/1", "hdfs://host/test/2"};
+    when(dispatcher.getFileLocations(fullIdentifier, subPaths, "location1")).thenReturn(locations);
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(subPaths, "location1"),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileLocationsResponse locationsResponse = resp.readEntity(FileLocationsResponse.class);
+    Assertions.assertEquals(0, locationsResponse.getCode());
+    Assertions.assertArrayEquals(locations, locationsResponse.getFileLocations());
+
+    // Test empty sub paths
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(new String[0], null),
+                    MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+
+    // Test throw NoSuchFilesetException
+    doThrow(new NoSuchFilesetException("no found"))
+        .when(dispatcher)
+        .getFileLocations(fullIdentifier, subPaths, null);
+    Response resp2 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/locations")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(
+                    new FileLocationsRequest(subPaths, null), MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp2.getStatus());
+
+    ErrorResponse errorResp = resp2.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchFilesetException.class.getSimpleName(), errorResp.getType());
+  }
+
+  @Test
+  public void testListFilesWithPagination() throws IOException {
+    NameIdentifier fullIdentifier = NameIdentifier.of(metalake, catalog, schema, "fileset1");
+    FileInfoDTO file =
+        FileInfoDTO.builder()
+            .name("test.txt")
+            .isDir(false)
+            .size(10L)
+            .lastModified(1L)
+            .path("/fileset/catalog1/schema1/fileset1/dir")
+            .build();
+    when(dispatcher.listFiles(fullIdentifier, null, "/", true, "*.txt", "token1", 1))
+        .thenReturn(Page.of(ImmutableList.of(file), "token2"));
+    Response resp =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("recursive", true)
+            .queryParam("glob", "*.txt")
+            .queryParam("pageToken", "token1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    FileInfoListResponse listResp = resp.readEntity(FileInfoListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(new FileInfoDTO[] {file}, listResp.getFiles());
+    Assertions.assertEquals("token2", listResp.getNextPageToken());
+
+    // Test page token without page size
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("pageToken", "token1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+
+    // Test recursive listing without page size is paginated by the default page size
+    when(dispatcher.listFiles(fullIdentifier, null, "/", true, null, null, 1000))
+        .thenReturn(Page.of(ImmutableList.of(file), "token3"));
+    Response resp2 =
+        target(filesetPath(metalake, catalog, schema) + "fileset1/files")
+            .queryParam("recursive", true)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    Assertions.assertEquals(
+        "token3", resp2.readEntity(FileInfoListResponse.class).getNextPageToken());
+  }
+
   private void assertUpdateFileset(FilesetUpdatesRequest req, Fileset updatedFileset) {
     when(dispatcher.alterFileset(any(), any(FilesetChange.class))).thenReturn(updatedFileset);
 
@@ -21,11 +21,15 @@ package org.apache.gravitino.server.web.rest;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_READ_LOCK_STRIPES;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
@@ -36,6 +40,7 @@ import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.Page;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.catalog.PartitionOperationDispatcher;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
@@ -104,6 +109,7 @@ public class TestPartitionOperations extends JerseyTest {
     Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    Mockito.doReturn(1).when(config).get(TREE_LOCK_READ_LOCK_STRIPES);
     FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
   }
 
@@ -174,6 +180,48 @@ public class TestPartitionOperations extends JerseyTest {
     Assertions.assertTrue(errorResp2.getMessage().contains("test exception"));
   }
 
+  @Test
+  public void testListPartitionNamesByPage() {
+    when(dispatcher.listPartitionNames(any(), eq("p > 1"), isNull(), eq(1)))
+        .thenReturn(Page.of(ImmutableList.of(partitionNames[0]), "token"));
+    when(dispatcher.listPartitionNames(any(), eq("p > 1"), eq("token"), eq(1)))
+        .thenReturn(Page.of(ImmutableList.of(partitionNames[1]), null));
+
+    Response resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "p > 1")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    PartitionNameListResponse listResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {partitionNames[0]}, listResp.partitionNames());
+    Assertions.assertEquals("token", listResp.nextPageToken());
+
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("filter", "p > 1")
+            .queryParam("pageToken", "token")
+            .queryParam("pageSize", 1)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    listResp = resp.readEntity(PartitionNameListResponse.class);
+    Assertions.assertArrayEquals(new String[] {partitionNames[1]}, listResp.partitionNames());
+    Assertions.assertNull(listResp.nextPageToken());
+
+    // The page token requires the page size
+    resp =
+        target(partitionPath(metalake, catalog, schema, table))
+            .queryParam("pageToken", "token")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+  }
+
   @Test
   public void testListPartitions() {
     when(dispatcher.listPartitions(any())).thenReturn(partitions);